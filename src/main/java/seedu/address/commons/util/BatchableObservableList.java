@@ -0,0 +1,146 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose changes can be grouped into batches.
+ *
+ * Changes made between {@link #beginBatch()} and the matching {@link #endBatch()} are reported to listeners as one
+ * change, with a sub-change for each affected range, instead of one change per mutation. Lists derived from this
+ * one, such as a {@code SortedList} or {@code FilteredList}, and the views showing them then only update once.
+ * Batches may be nested, in which case the changes are reported when the outermost batch ends.
+ * Listeners are not notified during a batch, so lists derived from this one are out of date until it ends.
+ *
+ * @param <E> the type of elements in the list
+ */
+public class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Starts a batch of changes, which are reported when the matching {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch started by the last unmatched {@link #beginBatch()}, reporting its changes if it is the
+     * outermost one.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Replaces all the elements of the list in a single change, without removing them one by one.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        requireNonNull(replacement);
+        if (elements.isEmpty() && replacement.isEmpty()) {
+            return true;
+        }
+        beginChange();
+        try {
+            List<E> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(replacement);
+            modCount++;
+            nextReplace(0, elements.size(), removed);
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        setAll(List.of());
+    }
+
+    /**
+     * Removes all the elements contained in {@code toRemove} in a single pass over the list.
+     */
+    @Override
+    public boolean removeAll(Collection<?> toRemove) {
+        requireNonNull(toRemove);
+        beginChange();
+        try {
+            int kept = 0;
+            for (E element : elements) {
+                if (toRemove.contains(element)) {
+                    // Removals are reported in order, each at its position after the earlier removals.
+                    nextRemove(kept, element);
+                } else {
+                    elements.set(kept++, element);
+                }
+            }
+            boolean isChanged = kept < elements.size();
+            elements.subList(kept, elements.size()).clear();
+            if (isChanged) {
+                modCount++;
+            }
+            return isChanged;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} inclusive to {@code toIndex} exclusive, shifting the elements after
+     * them only once rather than once for each element removed.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        beginChange();
+        try {
+            List<E> range = elements.subList(fromIndex, toIndex);
+            List<E> removed = new ArrayList<>(range);
+            range.clear();
+            modCount++;
+            nextRemove(fromIndex, removed);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void remove(int fromIndex, int toIndex) {
+        removeRange(fromIndex, toIndex);
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
@@ -0,0 +1,404 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative ints, stored as a compressed bitmap.
+ *
+ * Values are split into chunks of 65536 by their upper 16 bits. A chunk holding few values keeps them as a sorted
+ * array of their lower 16 bits, and a chunk holding many keeps a plain bitmap of 1024 words, so that both sparse and
+ * dense sets take little space, and intersections, unions and differences of dense sets are done a word at a time.
+ *
+ * The results of {@link #and}, {@link #or} and {@link #andNot} are new bitmaps, and never share chunks with their
+ * operands.
+ */
+public class CompressedBitmap {
+
+    /** The largest number of values kept by a chunk as an array, above which a plain bitmap is smaller. */
+    private static final int MAX_ARRAY_SIZE = 4096;
+    private static final int CHUNK_BITS = 16;
+    private static final int LOW_MASK = (1 << CHUNK_BITS) - 1;
+    private static final int WORDS_PER_CHUNK = (1 << CHUNK_BITS) / Long.SIZE;
+
+    private final TreeMap<Integer, Chunk> chunks = new TreeMap<>();
+
+    /**
+     * Creates an empty bitmap.
+     */
+    public CompressedBitmap() {}
+
+    /**
+     * Creates a bitmap holding the given values.
+     */
+    public static CompressedBitmap of(int... values) {
+        requireNonNull(values);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds {@code value} to this bitmap.
+     */
+    public void add(int value) {
+        checkArgument(value >= 0, "Values must not be negative");
+        Chunk chunk = chunks.computeIfAbsent(value >>> CHUNK_BITS, key -> new Chunk());
+        chunk.add((char) (value & LOW_MASK));
+    }
+
+    /**
+     * Removes {@code value} from this bitmap, if it is there.
+     */
+    public void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        Chunk chunk = chunks.get(value >>> CHUNK_BITS);
+        if (chunk == null) {
+            return;
+        }
+        chunk.remove((char) (value & LOW_MASK));
+        if (chunk.cardinality == 0) {
+            chunks.remove(value >>> CHUNK_BITS);
+        }
+    }
+
+    /**
+     * Removes every value from this bitmap.
+     */
+    public void clear() {
+        chunks.clear();
+    }
+
+    /**
+     * Returns true if this bitmap holds {@code value}.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        Chunk chunk = chunks.get(value >>> CHUNK_BITS);
+        return chunk != null && chunk.contains((char) (value & LOW_MASK));
+    }
+
+    /**
+     * Gives the number of values in this bitmap.
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (Chunk chunk : chunks.values()) {
+            cardinality += chunk.cardinality;
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return chunks.isEmpty();
+    }
+
+    /**
+     * Calls {@code action} with each value of this bitmap, in increasing order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (Map.Entry<Integer, Chunk> entry : chunks.entrySet()) {
+            entry.getValue().forEach(entry.getKey() << CHUNK_BITS, action);
+        }
+    }
+
+    /**
+     * Gives the values of this bitmap in increasing order.
+     */
+    public int[] toArray() {
+        int[] values = new int[getCardinality()];
+        int[] count = {0};
+        forEach(value -> values[count[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Gives a copy of this bitmap, which can be changed independently of it.
+     */
+    public CompressedBitmap copy() {
+        CompressedBitmap copy = new CompressedBitmap();
+        chunks.forEach((key, chunk) -> copy.chunks.put(key, chunk.copy()));
+        return copy;
+    }
+
+    /**
+     * Gives the values in both {@code bitmap} and {@code other}.
+     */
+    public static CompressedBitmap and(CompressedBitmap bitmap, CompressedBitmap other) {
+        requireNonNull(bitmap);
+        requireNonNull(other);
+        CompressedBitmap result = new CompressedBitmap();
+        for (Map.Entry<Integer, Chunk> entry : bitmap.chunks.entrySet()) {
+            Chunk otherChunk = other.chunks.get(entry.getKey());
+            if (otherChunk == null) {
+                continue;
+            }
+            Chunk chunk = Chunk.and(entry.getValue(), otherChunk);
+            if (chunk.cardinality > 0) {
+                result.chunks.put(entry.getKey(), chunk);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gives the values in either {@code bitmap} or {@code other}.
+     */
+    public static CompressedBitmap or(CompressedBitmap bitmap, CompressedBitmap other) {
+        requireNonNull(bitmap);
+        requireNonNull(other);
+        CompressedBitmap result = other.copy();
+        for (Map.Entry<Integer, Chunk> entry : bitmap.chunks.entrySet()) {
+            Chunk otherChunk = other.chunks.get(entry.getKey());
+            result.chunks.put(entry.getKey(), otherChunk == null
+                    ? entry.getValue().copy()
+                    : Chunk.or(entry.getValue(), otherChunk));
+        }
+        return result;
+    }
+
+    /**
+     * Gives the values in {@code bitmap} but not in {@code other}.
+     */
+    public static CompressedBitmap andNot(CompressedBitmap bitmap, CompressedBitmap other) {
+        requireNonNull(bitmap);
+        requireNonNull(other);
+        CompressedBitmap result = new CompressedBitmap();
+        for (Map.Entry<Integer, Chunk> entry : bitmap.chunks.entrySet()) {
+            Chunk otherChunk = other.chunks.get(entry.getKey());
+            Chunk chunk = otherChunk == null
+                    ? entry.getValue().copy()
+                    : Chunk.andNot(entry.getValue(), otherChunk);
+            if (chunk.cardinality > 0) {
+                result.chunks.put(entry.getKey(), chunk);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompressedBitmap)) {
+            return false;
+        }
+
+        CompressedBitmap otherBitmap = (CompressedBitmap) other;
+        return Arrays.equals(toArray(), otherBitmap.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * The values of a bitmap sharing their upper 16 bits, kept either as a sorted array of their lower 16 bits or,
+     * once there are more than {@link #MAX_ARRAY_SIZE} of them, as a plain bitmap.
+     */
+    private static class Chunk {
+        private char[] array = new char[4];
+        private long[] words;
+        private int cardinality;
+
+        boolean contains(char value) {
+            if (words != null) {
+                return (words[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(array, 0, cardinality, value) >= 0;
+        }
+
+        void add(char value) {
+            if (words != null) {
+                long word = words[value >>> 6];
+                words[value >>> 6] = word | (1L << value);
+                cardinality += (word & (1L << value)) == 0 ? 1 : 0;
+                return;
+            }
+            int position = Arrays.binarySearch(array, 0, cardinality, value);
+            if (position >= 0) {
+                return;
+            }
+            if (cardinality == MAX_ARRAY_SIZE) {
+                toWords();
+                add(value);
+                return;
+            }
+            int insertionPoint = -position - 1;
+            if (cardinality == array.length) {
+                array = Arrays.copyOf(array, Math.min(MAX_ARRAY_SIZE, array.length * 2));
+            }
+            System.arraycopy(array, insertionPoint, array, insertionPoint + 1, cardinality - insertionPoint);
+            array[insertionPoint] = value;
+            cardinality++;
+        }
+
+        void remove(char value) {
+            if (words != null) {
+                long word = words[value >>> 6];
+                words[value >>> 6] = word & ~(1L << value);
+                cardinality -= (word & (1L << value)) == 0 ? 0 : 1;
+                if (cardinality <= MAX_ARRAY_SIZE) {
+                    toArray();
+                }
+                return;
+            }
+            int position = Arrays.binarySearch(array, 0, cardinality, value);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(array, position + 1, array, position, cardinality - position - 1);
+            cardinality--;
+        }
+
+        void forEach(int base, IntConsumer action) {
+            if (words == null) {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(base | array[i]);
+                }
+                return;
+            }
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        Chunk copy() {
+            Chunk copy = new Chunk();
+            copy.array = array == null ? null : Arrays.copyOf(array, Math.max(cardinality, 1));
+            copy.words = words == null ? null : words.clone();
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        static Chunk and(Chunk chunk, Chunk other) {
+            if (chunk.words == null || other.words == null) {
+                // Testing the values of the array against the other chunk is cheaper than any word operation.
+                Chunk small = chunk.words == null ? chunk : other;
+                Chunk large = small == chunk ? other : chunk;
+                Chunk result = new Chunk();
+                result.array = new char[Math.max(small.cardinality, 1)];
+                for (int i = 0; i < small.cardinality; i++) {
+                    if (large.contains(small.array[i])) {
+                        result.array[result.cardinality++] = small.array[i];
+                    }
+                }
+                return result;
+            }
+            long[] words = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = chunk.words[i] & other.words[i];
+            }
+            return ofWords(words);
+        }
+
+        static Chunk or(Chunk chunk, Chunk other) {
+            long[] words = chunk.wordsCopy();
+            if (other.words == null) {
+                for (int i = 0; i < other.cardinality; i++) {
+                    words[other.array[i] >>> 6] |= 1L << other.array[i];
+                }
+            } else {
+                for (int i = 0; i < words.length; i++) {
+                    words[i] |= other.words[i];
+                }
+            }
+            return ofWords(words);
+        }
+
+        static Chunk andNot(Chunk chunk, Chunk other) {
+            if (chunk.words == null) {
+                Chunk result = new Chunk();
+                result.array = new char[Math.max(chunk.cardinality, 1)];
+                for (int i = 0; i < chunk.cardinality; i++) {
+                    if (!other.contains(chunk.array[i])) {
+                        result.array[result.cardinality++] = chunk.array[i];
+                    }
+                }
+                return result;
+            }
+            long[] words = chunk.words.clone();
+            if (other.words == null) {
+                for (int i = 0; i < other.cardinality; i++) {
+                    words[other.array[i] >>> 6] &= ~(1L << other.array[i]);
+                }
+            } else {
+                for (int i = 0; i < words.length; i++) {
+                    words[i] &= ~other.words[i];
+                }
+            }
+            return ofWords(words);
+        }
+
+        /**
+         * Gives a chunk of the values set in {@code words}, kept as an array if there are few enough of them.
+         */
+        private static Chunk ofWords(long[] words) {
+            Chunk chunk = new Chunk();
+            chunk.array = null;
+            chunk.words = words;
+            for (long word : words) {
+                chunk.cardinality += Long.bitCount(word);
+            }
+            if (chunk.cardinality <= MAX_ARRAY_SIZE) {
+                chunk.toArray();
+            }
+            return chunk;
+        }
+
+        private long[] wordsCopy() {
+            if (words != null) {
+                return words.clone();
+            }
+            long[] copy = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < cardinality; i++) {
+                copy[array[i] >>> 6] |= 1L << array[i];
+            }
+            return copy;
+        }
+
+        private void toWords() {
+            words = wordsCopy();
+            array = null;
+        }
+
+        private void toArray() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            array = values;
+            words = null;
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 1 << 16;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +84,54 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * @see #writeToFile(Path, byte[])
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes given bytes to a file, creating it if it does not exist yet.
+     * @see #writeToFile(Path, ContentWriter)
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        writeToFile(file, out -> out.write(content));
+    }
+
+    /**
+     * Writes what {@code content} writes to a buffered stream into a file, creating it if it does not exist yet.
+     * The content is written to a temporary file next to it, which is then moved over the file, so the file always
+     * holds either its old content or all of the new content.
+     */
+    public static void writeToFile(Path file, ContentWriter content) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            content.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+        moveReplacing(tempFile, file);
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically if the file system supports it.
+     */
+    public static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream, which it must not close.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
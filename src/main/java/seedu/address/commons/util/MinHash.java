@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes MinHash signatures of sets of hashed shingles, and groups them into locality-sensitive hashing buckets.
+ *
+ * The fraction of positions in which the signatures of two sets agree estimates the Jaccard similarity of the sets.
+ * Signatures are split into bands of rows, and two sets fall into the same bucket of a band if their signatures
+ * agree on every row of it. Sets with a Jaccard similarity well above {@link #getThreshold()} are then likely to
+ * share a bucket in some band, and sets well below it are not, so similar sets are found by reading the buckets
+ * instead of comparing every pair of sets.
+ */
+public class MinHash {
+
+    private static final long SEED = 0x5DEECE66DL;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int bands;
+    private final int rows;
+    private final long[] salts;
+
+    /**
+     * Creates a {@code MinHash} with signatures of {@code bands * rows} values.
+     */
+    public MinHash(int bands, int rows) {
+        checkArgument(bands > 0 && rows > 0, "Bands and rows must be positive");
+        this.bands = bands;
+        this.rows = rows;
+        this.salts = new long[bands * rows];
+        long state = SEED;
+        for (int i = 0; i < salts.length; i++) {
+            state = mix(state + i);
+            salts[i] = state;
+        }
+    }
+
+    /**
+     * Gives the Jaccard similarity around which sets start sharing a bucket, i.e. {@code (1 / bands)^(1 / rows)}.
+     */
+    public double getThreshold() {
+        return Math.pow(1.0 / bands, 1.0 / rows);
+    }
+
+    /**
+     * Gives the signature of the set of hashed {@code shingles}, or an array of {@code Long.MAX_VALUE} if the set is
+     * empty. Repeated shingles do not change the signature.
+     */
+    public long[] signatureOf(int[] shingles) {
+        requireNonNull(shingles);
+        long[] signature = new long[salts.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int shingle : shingles) {
+            // The shingle is scrambled once, and then hashed by each function with a cheap multiplicative hash.
+            long scrambled = mix(shingle);
+            for (int i = 0; i < salts.length; i++) {
+                long hash = (scrambled ^ salts[i]) * GOLDEN_GAMMA;
+                signature[i] = Math.min(signature[i], hash ^ (hash >>> 32));
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimates the Jaccard similarity of the sets with the given signatures.
+     */
+    public static double estimateSimilarity(long[] signature, long[] otherSignature) {
+        checkArgument(signature.length == otherSignature.length, "Signatures must be of the same length");
+        int agreeing = 0;
+        for (int i = 0; i < signature.length; i++) {
+            if (signature[i] == otherSignature[i]) {
+                agreeing++;
+            }
+        }
+        return (double) agreeing / signature.length;
+    }
+
+    /**
+     * Groups the positions of {@code signatures} into buckets, in every band, and gives the buckets holding more than
+     * one position. A position may be in one bucket per band.
+     * Buckets are keyed by a 64-bit hash of the rows of the band, so signatures that differ in a band share its
+     * bucket only in the rare case of a hash collision.
+     */
+    public List<List<Integer>> bucketsOf(List<long[]> signatures) {
+        requireNonNull(signatures);
+        List<List<Integer>> buckets = new ArrayList<>();
+        for (int band = 0; band < bands; band++) {
+            Map<Long, List<Integer>> bucketsOfBand = new HashMap<>();
+            for (int position = 0; position < signatures.size(); position++) {
+                long[] signature = signatures.get(position);
+                long key = band;
+                for (int row = band * rows; row < (band + 1) * rows; row++) {
+                    key = mix(key ^ signature[row]);
+                }
+                bucketsOfBand.computeIfAbsent(key, k -> new ArrayList<>()).add(position);
+            }
+            for (List<Integer> bucket : bucketsOfBand.values()) {
+                if (bucket.size() > 1) {
+                    buckets.add(bucket);
+                }
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Scrambles the bits of {@code value}, using the finalizer of SplitMix64.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,447 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map backed by a hash array mapped trie.
+ *
+ * Every "modification" returns a new map that shares all untouched branches of the trie with the original,
+ * so adding, replacing or removing a single entry only copies the nodes along one path from the root.
+ * Lookups and modifications take time proportional to the depth of the trie, which is at most 7.
+ * The map does not permit null keys or values. Iteration order depends only on the hashes of the keys.
+ * Since maps derived from one another share branches, the keys changed between them can be found without visiting
+ * the shared branches.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+    private final BitmapNode<K, V> root;
+    private final int size;
+
+    private PersistentMap(BitmapNode<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public V get(Object key) {
+        if (root == null || key == null) {
+            return null;
+        }
+        return root.get(key, hash(key), 0);
+    }
+
+    /**
+     * Returns a map with the same entries as this map, except that {@code key} is mapped to {@code value}.
+     * Returns this map if {@code key} is already mapped to {@code value}.
+     */
+    public PersistentMap<K, V> plus(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        V oldValue = get(key);
+        if (oldValue == value) {
+            return this;
+        }
+        BitmapNode<K, V> base = root == null ? BitmapNode.empty() : root;
+        BitmapNode<K, V> newRoot = base.put(new Leaf<>(key, value, hash(key)), 0);
+        return new PersistentMap<>(newRoot, oldValue == null ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map with the same entries as this map, except that {@code key} is not mapped to any value.
+     * Returns this map if {@code key} is not in this map.
+     */
+    public PersistentMap<K, V> minus(Object key) {
+        if (!containsKey(key)) {
+            return this;
+        }
+        BitmapNode<K, V> newRoot = root.remove(key, hash(key), 0);
+        return newRoot == null ? empty() : new PersistentMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Returns the keys mapped to different values in this map and in {@code other}, including the keys mapped in
+     * only one of them. Values are compared by identity.
+     * Branches shared by both maps are skipped, so this takes time proportional to the number of entries changed
+     * since one map was derived from the other, rather than to the sizes of the maps.
+     */
+    public Set<K> getKeysChangedFrom(PersistentMap<K, V> other) {
+        requireNonNull(other);
+        Set<K> keys = new HashSet<>();
+        collectChangedKeys(other.root, root, keys);
+        return keys;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Spreads the higher bits of the hash code downwards, since only the lower bits are used near the root.
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * Adds the keys whose entries differ between the two slots at the same position of two tries to {@code keys}.
+     * Either slot may be null if the position is empty.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> void collectChangedKeys(Object oldSlot, Object newSlot, Set<K> keys) {
+        if (oldSlot == newSlot) {
+            return;
+        }
+        if (oldSlot instanceof BitmapNode && newSlot instanceof BitmapNode) {
+            BitmapNode<K, V> oldNode = (BitmapNode<K, V>) oldSlot;
+            BitmapNode<K, V> newNode = (BitmapNode<K, V>) newSlot;
+            int bits = oldNode.bitmap | newNode.bitmap;
+            while (bits != 0) {
+                int bit = Integer.lowestOneBit(bits);
+                bits &= ~bit;
+                collectChangedKeys(oldNode.slotAt(bit), newNode.slotAt(bit), keys);
+            }
+            return;
+        }
+
+        // The slots no longer have the same shape, so compare the entries below them directly.
+        Map<K, V> oldEntries = new HashMap<>();
+        Map<K, V> newEntries = new HashMap<>();
+        addEntries(oldSlot, oldEntries);
+        addEntries(newSlot, newEntries);
+        oldEntries.forEach((key, value) -> {
+            if (newEntries.get(key) != value) {
+                keys.add(key);
+            }
+        });
+        newEntries.keySet().stream().filter(key -> !oldEntries.containsKey(key)).forEach(keys::add);
+    }
+
+    /**
+     * Adds all the entries below {@code slot}, which may be null, to {@code entries}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> void addEntries(Object slot, Map<K, V> entries) {
+        if (slot instanceof Leaf) {
+            Leaf<K, V> leaf = (Leaf<K, V>) slot;
+            entries.put(leaf.getKey(), leaf.getValue());
+        } else if (slot instanceof CollisionNode) {
+            for (Object leaf : ((CollisionNode<K, V>) slot).leaves) {
+                addEntries(leaf, entries);
+            }
+        } else if (slot instanceof BitmapNode) {
+            for (Object child : ((BitmapNode<K, V>) slot).slots) {
+                addEntries(child, entries);
+            }
+        }
+    }
+
+    /**
+     * An entry of the map, stored at the leaves of the trie.
+     */
+    private static final class Leaf<K, V> extends SimpleImmutableEntry<K, V> {
+        private final int hash;
+
+        Leaf(K key, V value, int hash) {
+            super(key, value);
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * A node holding the leaves of keys whose hashes are all equal.
+     */
+    private static final class CollisionNode<K, V> {
+        private final int hash;
+        private final Object[] leaves;
+
+        CollisionNode(int hash, Object[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+
+        @SuppressWarnings("unchecked")
+        V get(Object key) {
+            for (Object leaf : leaves) {
+                if (((Leaf<K, V>) leaf).getKey().equals(key)) {
+                    return ((Leaf<K, V>) leaf).getValue();
+                }
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        CollisionNode<K, V> put(Leaf<K, V> newLeaf) {
+            for (int i = 0; i < leaves.length; i++) {
+                if (((Leaf<K, V>) leaves[i]).getKey().equals(newLeaf.getKey())) {
+                    Object[] newLeaves = leaves.clone();
+                    newLeaves[i] = newLeaf;
+                    return new CollisionNode<>(hash, newLeaves);
+                }
+            }
+            Object[] newLeaves = new Object[leaves.length + 1];
+            System.arraycopy(leaves, 0, newLeaves, 0, leaves.length);
+            newLeaves[leaves.length] = newLeaf;
+            return new CollisionNode<>(hash, newLeaves);
+        }
+
+        /**
+         * Returns the remaining leaf if only one is left after the removal, otherwise the new collision node.
+         */
+        @SuppressWarnings("unchecked")
+        Object remove(Object key) {
+            int index = 0;
+            while (!((Leaf<K, V>) leaves[index]).getKey().equals(key)) {
+                index++;
+            }
+            if (leaves.length == 2) {
+                return leaves[1 - index];
+            }
+            Object[] newLeaves = new Object[leaves.length - 1];
+            System.arraycopy(leaves, 0, newLeaves, 0, index);
+            System.arraycopy(leaves, index + 1, newLeaves, index, leaves.length - index - 1);
+            return new CollisionNode<>(hash, newLeaves);
+        }
+    }
+
+    /**
+     * A node of the trie. Each set bit of the bitmap marks an occupied slot, which holds a {@link Leaf},
+     * a {@link CollisionNode} or a child {@code BitmapNode}.
+     */
+    private static final class BitmapNode<K, V> {
+        private static final BitmapNode<?, ?> EMPTY_NODE = new BitmapNode<>(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <K, V> BitmapNode<K, V> empty() {
+            return (BitmapNode<K, V>) EMPTY_NODE;
+        }
+
+        private int slotIndex(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        /**
+         * Returns the slot marked by {@code bit}, or null if it is empty.
+         */
+        private Object slotAt(int bit) {
+            return (bitmap & bit) == 0 ? null : slots[slotIndex(bit)];
+        }
+
+        @SuppressWarnings("unchecked")
+        V get(Object key, int hash, int shift) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[slotIndex(bit)];
+            if (slot instanceof Leaf) {
+                Leaf<K, V> leaf = (Leaf<K, V>) slot;
+                return leaf.hash == hash && leaf.getKey().equals(key) ? leaf.getValue() : null;
+            } else if (slot instanceof CollisionNode) {
+                CollisionNode<K, V> collision = (CollisionNode<K, V>) slot;
+                return collision.hash == hash ? collision.get(key) : null;
+            }
+            return ((BitmapNode<K, V>) slot).get(key, hash, shift + BITS_PER_LEVEL);
+        }
+
+        @SuppressWarnings("unchecked")
+        BitmapNode<K, V> put(Leaf<K, V> newLeaf, int shift) {
+            int bit = bitFor(newLeaf.hash, shift);
+            int index = slotIndex(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = newLeaf;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                return new BitmapNode<>(bitmap | bit, newSlots);
+            }
+
+            Object slot = slots[index];
+            Object newSlot;
+            if (slot instanceof Leaf) {
+                Leaf<K, V> leaf = (Leaf<K, V>) slot;
+                if (leaf.hash == newLeaf.hash && leaf.getKey().equals(newLeaf.getKey())) {
+                    newSlot = newLeaf;
+                } else {
+                    newSlot = merge(slot, leaf.hash, newLeaf, shift + BITS_PER_LEVEL);
+                }
+            } else if (slot instanceof CollisionNode) {
+                CollisionNode<K, V> collision = (CollisionNode<K, V>) slot;
+                newSlot = collision.hash == newLeaf.hash
+                        ? collision.put(newLeaf)
+                        : merge(slot, collision.hash, newLeaf, shift + BITS_PER_LEVEL);
+            } else {
+                newSlot = ((BitmapNode<K, V>) slot).put(newLeaf, shift + BITS_PER_LEVEL);
+            }
+            Object[] newSlots = slots.clone();
+            newSlots[index] = newSlot;
+            return new BitmapNode<>(bitmap, newSlots);
+        }
+
+        /**
+         * Returns the node after removing {@code key}, or null if the node becomes empty.
+         * The key must be present in this node.
+         */
+        @SuppressWarnings("unchecked")
+        BitmapNode<K, V> remove(Object key, int hash, int shift) {
+            int bit = bitFor(hash, shift);
+            int index = slotIndex(bit);
+            Object slot = slots[index];
+            Object newSlot;
+            if (slot instanceof Leaf) {
+                newSlot = null;
+            } else if (slot instanceof CollisionNode) {
+                newSlot = ((CollisionNode<K, V>) slot).remove(key);
+            } else {
+                newSlot = ((BitmapNode<K, V>) slot).remove(key, hash, shift + BITS_PER_LEVEL);
+            }
+
+            if (newSlot != null) {
+                Object[] newSlots = slots.clone();
+                newSlots[index] = newSlot;
+                return new BitmapNode<>(bitmap, newSlots);
+            }
+            if (slots.length == 1) {
+                return null;
+            }
+            Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+            return new BitmapNode<>(bitmap & ~bit, newSlots);
+        }
+
+        /**
+         * Combines an existing slot with a new leaf whose key differs, at the given depth.
+         */
+        private static <K, V> Object merge(Object slot, int slotHash, Leaf<K, V> newLeaf, int shift) {
+            if (slotHash == newLeaf.hash) {
+                return new CollisionNode<K, V>(slotHash, new Object[] {slot, newLeaf});
+            }
+            int slotBit = bitFor(slotHash, shift);
+            int newBit = bitFor(newLeaf.hash, shift);
+            if (slotBit == newBit) {
+                return new BitmapNode<K, V>(slotBit, new Object[] {merge(slot, slotHash, newLeaf,
+                        shift + BITS_PER_LEVEL)});
+            }
+            Object[] newSlots = Integer.compareUnsigned(slotBit, newBit) < 0
+                    ? new Object[] {slot, newLeaf}
+                    : new Object[] {newLeaf, slot};
+            return new BitmapNode<K, V>(slotBit | newBit, newSlots);
+        }
+    }
+
+    /**
+     * Walks the trie depth-first, yielding the leaves in slot order.
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+        private final Deque<Object[]> arrays = new ArrayDeque<>();
+        private final Deque<Integer> positions = new ArrayDeque<>();
+        private Leaf<K, V> next;
+
+        EntryIterator(BitmapNode<K, V> root) {
+            if (root != null) {
+                arrays.push(root.slots);
+                positions.push(0);
+            }
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (next == null && !arrays.isEmpty()) {
+                Object[] array = arrays.peek();
+                int position = positions.pop();
+                if (position == array.length) {
+                    arrays.pop();
+                    continue;
+                }
+                positions.push(position + 1);
+                Object slot = array[position];
+                if (slot instanceof Leaf) {
+                    next = (Leaf<K, V>) slot;
+                } else {
+                    arrays.push(slot instanceof CollisionNode
+                            ? ((CollisionNode<K, V>) slot).leaves
+                            : ((BitmapNode<K, V>) slot).slots);
+                    positions.push(0);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Leaf<K, V> current = next;
+            advance();
+            return current;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only observable view of another list, whose source list can be switched.
+ *
+ * Changes of the current source are passed on to the listeners of this view as they are. Switching the source is
+ * reported as a single replacement of all the elements, so lists derived from this view, such as a
+ * {@code FilteredList} or {@code SortedList}, can be kept while the list they show changes, without being recreated.
+ *
+ * @param <E> the type of elements in the list
+ */
+public class SwitchableObservableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::forwardChange;
+
+    private ObservableList<E> source;
+
+    /**
+     * Creates a view of {@code source}.
+     */
+    public SwitchableObservableList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(sourceListener);
+    }
+
+    /**
+     * Returns the list this view currently shows.
+     */
+    public ObservableList<E> getSource() {
+        return source;
+    }
+
+    /**
+     * Shows {@code newSource} instead of the current source. Nothing is reported if it is already the source.
+     */
+    public void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+        // The old source stays unchanged while listeners are notified, so it serves as the list of removed elements.
+        ObservableList<E> oldSource = source;
+        oldSource.removeListener(sourceListener);
+        source = newSource;
+        newSource.addListener(sourceListener);
+
+        beginChange();
+        try {
+            nextReplace(0, newSource.size(), oldSource);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    private void forwardChange(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        try {
+            while (change.next()) {
+                int from = change.getFrom();
+                int to = change.getTo();
+                if (change.wasPermutated()) {
+                    int[] permutation = new int[to - from];
+                    for (int i = from; i < to; i++) {
+                        permutation[i - from] = change.getPermutation(i);
+                    }
+                    nextPermutation(from, to, permutation);
+                } else if (change.wasUpdated()) {
+                    for (int i = from; i < to; i++) {
+                        nextUpdate(i);
+                    }
+                } else {
+                    if (change.wasRemoved()) {
+                        nextRemove(from, change.getRemoved());
+                    }
+                    if (change.wasAdded()) {
+                        nextAdd(from, to);
+                    }
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from the trigrams (substrings of length 3) of texts to the values those texts belong to.
+ *
+ * Every text containing a fragment also contains all the trigrams of the fragment, so intersecting their posting
+ * lists gives a small superset of the values whose text contains the fragment. Callers must still check the
+ * candidates against the fragment. Fragments shorter than a trigram cannot be looked up.
+ *
+ * @param <V> the type of values indexed
+ */
+public class TrigramIndex<V> {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<V>> postings = new HashMap<>();
+
+    /**
+     * Returns true if {@code fragment} is long enough to be looked up in the index.
+     */
+    public static boolean canLookUp(String fragment) {
+        return fragment.length() >= GRAM_LENGTH;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}.
+     */
+    public static Set<String> trigramsOf(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Adds {@code value} to the posting lists of the trigrams of {@code text}.
+     */
+    public void add(String text, V value) {
+        requireNonNull(value);
+        for (String trigram : trigramsOf(text)) {
+            postings.computeIfAbsent(trigram, t -> new HashSet<>()).add(value);
+        }
+    }
+
+    /**
+     * Removes {@code value} from the posting lists of the trigrams of {@code text}.
+     * {@code text} must be the text that the value was added with.
+     */
+    public void remove(String text, V value) {
+        for (String trigram : trigramsOf(text)) {
+            Set<V> values = postings.get(trigram);
+            if (values == null) {
+                continue;
+            }
+            values.remove(value);
+            if (values.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes all values from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Gives the values whose text may contain {@code fragment}, i.e. which have all its trigrams.
+     * The fragment must be long enough to be looked up.
+     */
+    public Set<V> getCandidates(String fragment) {
+        if (!canLookUp(fragment)) {
+            throw new IllegalArgumentException("Fragment is shorter than a trigram: " + fragment);
+        }
+
+        Set<V> candidates = null;
+        for (String trigram : trigramsOf(fragment)) {
+            Set<V> values = postings.getOrDefault(trigram, Collections.emptySet());
+            if (candidates == null) {
+                candidates = new HashSet<>(values);
+            } else {
+                candidates.retainAll(values);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Gives an upper bound on the number of candidates for {@code fragment}, without intersecting posting lists.
+     * The fragment must be long enough to be looked up.
+     */
+    public int estimateCandidates(String fragment) {
+        return trigramsOf(fragment).stream()
+                .mapToInt(trigram -> postings.getOrDefault(trigram, Collections.emptySet()).size())
+                .min()
+                .orElseThrow(() -> new IllegalArgumentException("Fragment is shorter than a trigram: " + fragment));
+    }
+
+    /**
+     * Gives the total number of entries in all posting lists, which dominates the memory used by the index.
+     */
+    public long getPostingCount() {
+        return postings.values().stream().mapToLong(Set::size).sum();
+    }
+}
@@ -10,6 +10,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.jobapplication.ApplicationStatistics;
 import seedu.address.model.jobapplication.JobApplication;
 
 /**
@@ -47,6 +48,18 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered and sorted list of applications. */
     ObservableList<JobApplication> getDisplayedApplicationList();
 
+    /**
+     * Returns the counts of applications by stage and status.
+     *
+     * @see seedu.address.model.Model#getApplicationStatistics()
+     */
+    ApplicationStatistics getApplicationStatistics();
+
+    /**
+     * Returns the number of commands after which the address book was saved, and after which saving was skipped.
+     */
+    SaveMetrics getSaveMetrics();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -17,6 +17,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactListSnapshot;
+import seedu.address.model.jobapplication.ApplicationStatistics;
 import seedu.address.model.jobapplication.JobApplication;
 import seedu.address.storage.Storage;
 
@@ -34,6 +36,9 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AppParser appParser;
+    private final SaveMetrics saveMetrics = new SaveMetrics();
+    /** The contacts that were last saved, or null if nothing was saved yet. */
+    private ContactListSnapshot savedContacts = null;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -51,9 +56,13 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = appParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        model.commitAddressBook();
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saveIfChanged();
+            if (commandResult.isSaveNow()) {
+                storage.flush();
+            }
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -85,6 +94,16 @@ public class LogicManager implements Logic {
         return model.getDisplayedApplicationList();
     }
 
+    @Override
+    public ApplicationStatistics getApplicationStatistics() {
+        return model.getApplicationStatistics();
+    }
+
+    @Override
+    public SaveMetrics getSaveMetrics() {
+        return saveMetrics;
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -99,4 +118,20 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * Saves the address book, unless its contacts are known to be the same as those last saved, which is checked in
+     * constant time by comparing snapshots. Changes that cancel out, such as a change that was undone, are not saved.
+     * The data is always saved after the first command, as it may not have come from the data file.
+     */
+    private void saveIfChanged() throws IOException {
+        ContactListSnapshot contacts = model.getAddressBookSnapshot();
+        if (savedContacts != null && contacts.isSameAs(savedContacts)) {
+            saveMetrics.recordSkipped();
+            return;
+        }
+        storage.saveAddressBook(model.getAddressBook());
+        savedContacts = contacts;
+        saveMetrics.recordSaved();
+    }
 }
@@ -111,6 +111,15 @@ public class Messages {
         return builder.toString();
     }
 
+    /**
+     * Formats the names and ids of the given {@code contacts} for display to the user, in a single line.
+     */
+    public static String formatIdentities(List<Contact> contacts) {
+        return contacts.stream()
+                .map(c -> c.getName() + " (" + c.getId() + ")")
+                .collect(Collectors.joining(", "));
+    }
+
     /**
      * Formats the given {@code childrenContacts} for display to the user.
      */
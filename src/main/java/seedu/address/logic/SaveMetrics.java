@@ -0,0 +1,39 @@
+package seedu.address.logic;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The number of commands after which the address book was saved, and after which saving was skipped as the data had
+ * not changed since the last save.
+ */
+public class SaveMetrics {
+
+    private final AtomicLong savedCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+
+    void recordSaved() {
+        savedCount.incrementAndGet();
+    }
+
+    void recordSkipped() {
+        skippedCount.incrementAndGet();
+    }
+
+    public long getSavedCount() {
+        return savedCount.get();
+    }
+
+    public long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("savedCount", getSavedCount())
+                .add("skippedCount", getSkippedCount())
+                .toString();
+    }
+}
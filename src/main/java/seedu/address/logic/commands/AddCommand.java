@@ -161,9 +161,11 @@ public abstract class AddCommand extends Command {
         if (model.hasContact(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_CONTACT);
         }
+        String warnings = DuplicateKeyChecker.check(model, toAdd, null);
 
         model.addContact(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.getType(), Messages.format(toAdd)));
+        String message = String.format(MESSAGE_SUCCESS, toAdd.getType(), Messages.format(toAdd));
+        return new CommandResult(warnings.isEmpty() ? message : message + "\n" + warnings);
     }
 
     protected abstract Contact createContact();
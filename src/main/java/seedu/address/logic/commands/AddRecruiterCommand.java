@@ -11,7 +11,6 @@ import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.Email;
 import seedu.address.model.contact.Id;
 import seedu.address.model.contact.Name;
-import seedu.address.model.contact.Organization;
 import seedu.address.model.contact.Phone;
 import seedu.address.model.contact.Recruiter;
 import seedu.address.model.contact.Type;
@@ -27,7 +26,6 @@ public class AddRecruiterCommand extends AddCommand {
             "The organization id you supplied does not match any organization in the address book.";
 
     protected final Id oid;
-    private Organization organization;
 
     /**
      * Creates an AddCommand to add a {@code Recruiter} to the address book with the given parameters.
@@ -44,7 +42,6 @@ public class AddRecruiterCommand extends AddCommand {
     ) {
         super(name, id, phone, email, url, address, tags);
         this.oid = oid;
-        this.organization = null;
     }
 
     @Override
@@ -58,15 +55,12 @@ public class AddRecruiterCommand extends AddCommand {
             throw new CommandException(MESSAGE_INVALID_ORGANIZATION);
         }
 
-        organization = (Organization) contact;
-        assert organization.getId().equals(oid);
-
         return super.execute(model);
     }
 
     @Override
     protected Recruiter createContact() {
-        return new Recruiter(name, id, phone, email, url, address, tags, organization);
+        return new Recruiter(name, id, phone, email, url, address, tags, oid);
     }
 
     @Override
@@ -88,8 +82,7 @@ public class AddRecruiterCommand extends AddCommand {
                 && Objects.equals(address, otherAddCommand.address)
                 && Objects.equals(url, otherAddCommand.url)
                 && tags.equals(otherAddCommand.tags)
-                && Objects.equals(oid, otherAddCommand.oid)
-                && Objects.equals(organization, otherAddCommand.organization);
+                && Objects.equals(oid, otherAddCommand.oid);
     }
 
     @Override
@@ -102,7 +95,6 @@ public class AddRecruiterCommand extends AddCommand {
                 .add("url", url)
                 .add("address", address)
                 .add("tags", tags)
-                .add("oid", oid)
-                .add("organization", organization);
+                .add("oid", oid);
     }
 }
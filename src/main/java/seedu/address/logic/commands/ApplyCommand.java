@@ -122,7 +122,6 @@ public class ApplyCommand extends Command {
         if (org.hasJobApplication(ja)) {
             throw new CommandException(MESSAGE_DUPLICATE_APPLICATION);
         }
-        org.addJobApplication(ja);
         model.addApplication(ja);
         return new CommandResult(String.format(MESSAGE_APPLY_SUCCESS, ja, org));
     }
@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Id;
+import seedu.address.model.contact.NearDuplicateFinder;
+
+/**
+ * Lists the clusters of contacts that are probably duplicates of each other, even if their fields differ slightly.
+ *
+ * @see NearDuplicateFinder
+ */
+public class DedupeCommand extends Command {
+
+    public static final String COMMAND_WORD = "dedupe";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the groups of contacts that are probably duplicates, "
+            + "such as those with nearly the same name and email.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_CLUSTERS = "No probable duplicates found.";
+    public static final String MESSAGE_CLUSTERS_FOUND = "%1$d groups of probable duplicates found:";
+
+    private final NearDuplicateFinder finder = new NearDuplicateFinder();
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<List<Contact>> clusters = finder.findClusters(model.getAddressBook().getContactList());
+        if (clusters.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CLUSTERS);
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_CLUSTERS_FOUND, clusters.size()));
+        Set<Id> clusteredIds = new HashSet<>();
+        for (List<Contact> cluster : clusters) {
+            message.append("\n").append(Messages.formatIdentities(cluster));
+            cluster.forEach(contact -> clusteredIds.add(contact.getId()));
+        }
+        model.updateFilteredContactList(clusteredIds);
+        return new CommandResult(message.toString());
+    }
+}
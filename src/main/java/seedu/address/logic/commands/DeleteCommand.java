@@ -145,8 +145,10 @@ public class DeleteCommand extends Command {
         if (contactToDelete == null) {
             throw commandException;
         }
-        model.deleteContact(contactToDelete);
-        handleChildren(model, contactToDelete);
+        model.batch(() -> {
+            model.deleteContact(contactToDelete);
+            handleChildren(model, contactToDelete);
+        });
         return new CommandResult(String.format(MESSAGE_DELETE_CONTACT_SUCCESS,
                 contactToDelete.getType(), Messages.format(contactToDelete)));
     }
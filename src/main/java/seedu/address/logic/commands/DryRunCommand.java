@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Previews another command by executing it and then discarding its changes.
+ *
+ * A snapshot of the contacts is taken before the command runs, which takes constant time, and restored afterwards,
+ * which only restores the contacts the command changed. What is displayed is restored as well, and the data is left
+ * at the same version, so a dry run is not saved. Commands that only change what is shown, or act on the application
+ * itself, cannot be previewed.
+ */
+public class DryRunCommand extends Command {
+
+    public static final String OPTION = "--dry-run";
+
+    public static final String MESSAGE_PREVIEW = "[Dry run - no changes were saved] %1$s";
+    public static final String MESSAGE_CANNOT_PREVIEW = "Undo and redo cannot be previewed.";
+    public static final String MESSAGE_NOTHING_TO_PREVIEW = "Only commands that change the data can be previewed.";
+
+    /** Commands that do not change the data, so there is nothing for a dry run to discard. */
+    private static final Set<Class<? extends Command>> VIEW_ONLY_COMMANDS = Set.of(
+            ListCommand.class, FindCommand.class, SortCommand.class, ReminderCommand.class, StatsCommand.class,
+            DuplicatesCommand.class, DedupeCommand.class, HelpCommand.class, ExitCommand.class, SaveCommand.class,
+            DryRunCommand.class);
+
+    private final Command command;
+
+    /**
+     * Creates a {@code DryRunCommand} to preview {@code command}.
+     */
+    public DryRunCommand(Command command) {
+        requireNonNull(command);
+        this.command = command;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (command instanceof UndoCommand || command instanceof RedoCommand) {
+            throw new CommandException(MESSAGE_CANNOT_PREVIEW);
+        }
+        if (VIEW_ONLY_COMMANDS.contains(command.getClass())) {
+            throw new CommandException(MESSAGE_NOTHING_TO_PREVIEW);
+        }
+
+        CommandResult[] result = new CommandResult[1];
+        model.preview(() -> result[0] = command.execute(model));
+        return new CommandResult(String.format(MESSAGE_PREVIEW, result[0].getFeedbackToUser()),
+                result[0].isShowHelp(), result[0].isExit(), result[0].isSaveNow());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DryRunCommand)) {
+            return false;
+        }
+
+        DryRunCommand otherDryRunCommand = (DryRunCommand) other;
+        return command.equals(otherDryRunCommand.command);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("command", command)
+                .toString();
+    }
+}
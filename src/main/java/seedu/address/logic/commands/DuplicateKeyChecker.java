@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactKeyIndex;
+import seedu.address.model.contact.DuplicatePolicy;
+
+/**
+ * Checks a contact about to be added or edited against the other contacts sharing its email or phone number,
+ * according to the {@code DuplicatePolicy} of each key in the user prefs.
+ */
+class DuplicateKeyChecker {
+
+    public static final String MESSAGE_DUPLICATE_KEY = "Another contact already has this %1$s: %2$s";
+    public static final String MESSAGE_DUPLICATE_KEY_WARNING = "Warning: other contacts also have this %1$s: %2$s";
+
+    private DuplicateKeyChecker() {}
+
+    /**
+     * Checks {@code contact}, which is to replace {@code replaced} if that is not null, against the contacts in
+     * {@code model} sharing its keys, and gives the warnings to show the user, one per line. Keys left unchanged from
+     * {@code replaced} are not checked, so that editing other fields of a contact is not held up by older duplicates.
+     * The contacts sharing a key are found from the key index of the address book, without scanning every contact.
+     *
+     * @throws CommandException if a key of {@code contact} is shared and its policy rejects duplicates.
+     */
+    static String check(Model model, Contact contact, Contact replaced) throws CommandException {
+        requireAllNonNull(model, contact);
+        List<String> warnings = new ArrayList<>();
+        for (ContactKeyIndex.Key key : ContactKeyIndex.Key.values()) {
+            DuplicatePolicy policy = model.getUserPrefs().getDuplicatePolicy(key);
+            boolean isKeyUnchanged = replaced != null
+                    && ContactKeyIndex.keyOf(replaced, key).equals(ContactKeyIndex.keyOf(contact, key));
+            if (policy == DuplicatePolicy.ALLOW || isKeyUnchanged) {
+                continue;
+            }
+
+            List<Contact> sharing = model.getContactsSharingKey(key, contact).stream()
+                    .filter(other -> replaced == null || !other.getId().equals(replaced.getId()))
+                    .collect(Collectors.toList());
+            if (sharing.isEmpty()) {
+                continue;
+            }
+
+            String keyName = key.toString().toLowerCase(Locale.ROOT);
+            if (policy == DuplicatePolicy.REJECT) {
+                throw new CommandException(
+                        String.format(MESSAGE_DUPLICATE_KEY, keyName, Messages.formatIdentities(sharing)));
+            }
+            warnings.add(String.format(MESSAGE_DUPLICATE_KEY_WARNING, keyName, Messages.formatIdentities(sharing)));
+        }
+        return String.join("\n", warnings);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactKeyIndex;
+import seedu.address.model.contact.Id;
+
+/**
+ * Lists the contacts that share an email or phone number with another contact.
+ * The groups of contacts sharing a key are read from the key index of the address book, so finding them takes
+ * linear rather than quadratic time in the number of contacts.
+ */
+public class DuplicatesCommand extends Command {
+
+    public static final String COMMAND_WORD = "duplicates";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the contacts that share an email or phone number with another contact.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_DUPLICATES = "No contacts share an email or phone number.";
+    public static final String MESSAGE_DUPLICATES_FOUND = "%1$d contacts share an email or phone number:";
+    public static final String MESSAGE_DUPLICATE_GROUP = "Same %1$s %2$s: %3$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        StringBuilder groups = new StringBuilder();
+        Set<Id> duplicateIds = new HashSet<>();
+        for (ContactKeyIndex.Key key : ContactKeyIndex.Key.values()) {
+            for (List<Contact> duplicates : model.getDuplicates(key)) {
+                String keyName = key.toString().toLowerCase(Locale.ROOT);
+                String value = ContactKeyIndex.keyOf(duplicates.get(0), key).orElseThrow();
+                groups.append("\n").append(String.format(MESSAGE_DUPLICATE_GROUP,
+                        keyName, value, Messages.formatIdentities(duplicates)));
+                duplicates.forEach(contact -> duplicateIds.add(contact.getId()));
+            }
+        }
+
+        if (duplicateIds.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_DUPLICATES);
+        }
+        model.updateFilteredContactList(duplicateIds);
+        return new CommandResult(String.format(MESSAGE_DUPLICATES_FOUND, duplicateIds.size()) + groups);
+    }
+}
@@ -12,7 +12,6 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.contact.Id;
-import seedu.address.model.contact.Name;
 import seedu.address.model.jobapplication.ApplicationStage;
 import seedu.address.model.jobapplication.Deadline;
 import seedu.address.model.jobapplication.JobApplication;
@@ -84,7 +83,6 @@ public class EditApplicationCommand extends EditCommand {
         Objects.requireNonNull(editApplicationDescriptor);
 
         Id oid = jobApplication.getOrganizationId();
-        Name name = jobApplication.getOrgName();
         JobTitle jobTitle = editApplicationDescriptor.getTitle().orElse(jobApplication.getJobTitle());
         JobDescription jobDescription =
                 editApplicationDescriptor.getDescription().orElse(jobApplication.getJobDescription()
@@ -93,7 +91,7 @@ public class EditApplicationCommand extends EditCommand {
         ApplicationStage stage = editApplicationDescriptor.getStage().orElse(jobApplication.getApplicationStage());
         Deadline deadline = editApplicationDescriptor.getDeadline().orElse(jobApplication.getDeadline());
 
-        return new JobApplication(oid, name, jobTitle, jobDescription, deadline, status, stage, new LastUpdatedTime());
+        return new JobApplication(oid, jobTitle, jobDescription, deadline, status, stage, new LastUpdatedTime());
     }
 
     /**
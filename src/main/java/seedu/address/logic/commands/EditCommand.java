@@ -48,7 +48,6 @@ import seedu.address.model.contact.Recruiter;
 import seedu.address.model.contact.Type;
 import seedu.address.model.contact.Url;
 import seedu.address.model.jobapplication.ApplicationStage;
-import seedu.address.model.jobapplication.JobApplication;
 import seedu.address.model.jobapplication.JobStatus;
 import seedu.address.model.tag.Tag;
 
@@ -223,15 +222,19 @@ public class EditCommand extends Command {
         if (!contactToEdit.isSameContact(editedContact) && model.hasContact(editedContact)) {
             throw new CommandException(MESSAGE_DUPLICATE_CONTACT);
         }
+        String warnings = DuplicateKeyChecker.check(model, editedContact, contactToEdit);
 
-        if (editedContact.getType() == Type.ORGANIZATION) {
-            updateLinkedRecruiters(model, (Organization) contactToEdit, (Organization) editedContact);
-        }
-
-        model.setContact(contactToEdit, editedContact);
+        model.batch(() -> {
+            if (editedContact.getType() == Type.ORGANIZATION
+                    && !editedContact.getId().equals(contactToEdit.getId())) {
+                updateLinkedRecruiters(model, (Organization) contactToEdit, (Organization) editedContact);
+            }
+            model.setContact(contactToEdit, editedContact);
+        });
         model.updateFilteredContactList(PREDICATE_SHOW_ALL_CONTACTS);
-        return new CommandResult(String.format(MESSAGE_EDIT_CONTACT_SUCCESS,
-                editedContact.getType(), Messages.format(editedContact)));
+        String message = String.format(MESSAGE_EDIT_CONTACT_SUCCESS,
+                editedContact.getType(), Messages.format(editedContact));
+        return new CommandResult(warnings.isEmpty() ? message : message + "\n" + warnings);
     }
 
     /**
@@ -259,27 +262,24 @@ public class EditCommand extends Command {
 
         // TODO: Refactor into two methods to handle the two cases.
         if (contactToEdit.getType() == Type.ORGANIZATION) {
-            Organization org = (Organization) contactToEdit;
-            List<JobApplication> applications = Arrays.asList(org.getJobApplications());
-
-            return new Organization(updatedName, updatedId, updatedPhone, updatedEmail,
-                    updatedUrl, updatedAddress, updatedTags, applications);
+            return ((Organization) contactToEdit).withDetails(updatedName, updatedId, updatedPhone, updatedEmail,
+                    updatedUrl, updatedAddress, updatedTags);
 
         } else if (contactToEdit.getType() == Type.RECRUITER) {
             Optional<Id> updatedOid = editContactDescriptor
                     .getOrganizationId()
                     .or(() -> ((Recruiter) contactToEdit).getOrganizationId());
 
-            Organization linkedOrganization = (Organization) updatedOid.map(model::getContactById)
+            boolean isLinkedToOrganization = updatedOid.map(model::getContactById)
                     .filter(c -> c.getType() == Type.ORGANIZATION)
-                    .orElse(null);
+                    .isPresent();
 
-            if (updatedOid.isPresent() && linkedOrganization == null) {
+            if (updatedOid.isPresent() && !isLinkedToOrganization) {
                 throw new CommandException(MESSAGE_INVALID_ORGANIZATION);
             }
 
             return new Recruiter(updatedName, updatedId, updatedPhone, updatedEmail, updatedUrl,
-                    updatedAddress, updatedTags, linkedOrganization);
+                    updatedAddress, updatedTags, updatedOid.orElse(null));
         }
 
         throw new IllegalStateException("Contact being edited should be of type Recruiter or Organization");
@@ -287,6 +287,7 @@ public class EditCommand extends Command {
 
     /**
      * Updates all recruiters linked to the {@code oldOrganization} to link to the {@code updatedOrganization}.
+     * Recruiters refer to their organization by id, so this is only needed when the id changes.
      */
     private static void updateLinkedRecruiters(Model model,
                                                Organization oldOrganization,
@@ -298,7 +299,7 @@ public class EditCommand extends Command {
             Recruiter updatedRecruiter = new Recruiter(
                     child.getName(), child.getId(), child.getPhone().orElse(null),
                     child.getEmail().orElse(null), child.getUrl().orElse(null),
-                    child.getAddress().orElse(null), child.getTags(), updatedOrganization
+                    child.getAddress().orElse(null), child.getTags(), updatedOrganization.getId()
             );
             model.setContact(child, updatedRecruiter);
         }
@@ -5,31 +5,39 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.contact.ContactFilter;
+import seedu.address.model.contact.ContactQuery;
 
 /**
- * Finds and lists all contacts in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all contacts in address book matching a query.
+ * By default, contacts whose name or id contains any of the argument keywords are found. Keywords may also be scoped
+ * to a field and negated. Keyword matching is case insensitive, and is answered from the token index of the
+ * address book.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all contacts whose names contain any of "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all contacts whose names or ids contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Keywords of the form FIELD:KEYWORD only match that field, and must all match. "
+            + "Fields are name, id, phone, email, address and tag. "
+            + "Prefix a keyword with - to exclude its matches, or with \\ to search for it as typed, "
+            + "and use * to match any characters.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " name:acme tag:fintech -email:gmail.com phone:9*";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final ContactQuery query;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+    public FindCommand(ContactQuery query) {
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredContactList(predicate);
+        model.updateFilteredContactList(ContactFilter.matching(query));
         return new CommandResult(
                 String.format(Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW,
                         model.getDisplayedContactList().size()));
@@ -47,13 +55,13 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return query.equals(otherFindCommand.query);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("predicate", predicate)
+                .add("query", query)
                 .toString();
     }
 }
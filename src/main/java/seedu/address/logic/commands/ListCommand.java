@@ -4,55 +4,116 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.FLAG_NOT_APPLIED;
 import static seedu.address.logic.parser.CliSyntax.FLAG_ORGANIZATION;
 import static seedu.address.logic.parser.CliSyntax.FLAG_RECRUITER;
+import static seedu.address.logic.parser.CliSyntax.FLAG_STAGE;
+import static seedu.address.logic.parser.CliSyntax.FLAG_STATUS;
+import static seedu.address.logic.parser.CliSyntax.FLAG_TAG;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_NOT_APPLIED_ORGANIZATIONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ONLY_ORGANIZATIONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ONLY_RECRUITERS;
 
-import java.util.function.Predicate;
+import java.util.Arrays;
+import java.util.Objects;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.autocomplete.AutocompleteSupplier;
+import seedu.address.logic.autocomplete.components.AutocompleteItemSet;
 import seedu.address.model.Model;
-import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactFilter;
+import seedu.address.model.jobapplication.ApplicationFilter;
+import seedu.address.model.jobapplication.ApplicationStage;
+import seedu.address.model.jobapplication.JobStatus;
 
 /**
  * Lists all contacts in the address book to the user.
+ *
+ * The contacts shown can be narrowed down by type, by whether organizations have been applied to, and by tags, which
+ * must all hold. The filter is evaluated as a combination of bitmaps from the bitmap index of the address book.
+ *
+ * The applications shown can also be narrowed down to those at a stage and with a status. These are found from the
+ * stage and status buckets of the applications, and found again whenever an application changes, so applications
+ * that are edited or marked stay listed as long as they still match.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
-    public static final AutocompleteSupplier AUTOCOMPLETE_SUPPLIER = AutocompleteSupplier.fromUniqueFlags(
-            FLAG_ORGANIZATION, FLAG_RECRUITER, FLAG_NOT_APPLIED
-    );
+    public static final AutocompleteSupplier AUTOCOMPLETE_SUPPLIER = AutocompleteSupplier.from(
+            AutocompleteItemSet.onceForEachOf(
+                    FLAG_ORGANIZATION, FLAG_RECRUITER, FLAG_NOT_APPLIED, FLAG_STAGE, FLAG_STATUS
+            ),
+            AutocompleteItemSet.anyNumberOf(FLAG_TAG)
+    ).configureValueMap(map -> {
+        map.put(FLAG_STAGE, (command, model)
+                -> Arrays.stream(ApplicationStage.values())
+                .map(ApplicationStage::toString));
+
+        map.put(FLAG_STATUS, (command, model)
+                -> Arrays.stream(JobStatus.values())
+                .map(JobStatus::toString));
+
+        map.put(FLAG_TAG, (command, model)
+                -> model.getAddressBook().getContactList().stream()
+                .flatMap(contact -> contact.getTags().stream())
+                .map(tag -> tag.tagName)
+                .distinct());
+    });
 
     public static final String MESSAGE_SUCCESS_ALL_CONTACTS = "Listed all contacts";
     public static final String MESSAGE_SUCCESS_ORGANIZATIONS = "Listed all organizations";
     public static final String MESSAGE_SUCCESS_RECRUITERS = "Listed all recruiters";
     public static final String MESSAGE_SUCCESS_TO_APPLY = "Listed all organizations that have not been applied to.";
+    public static final String MESSAGE_SUCCESS_APPLICATIONS = "Listed %1$d applications at stage %2$s with status %3$s";
+    public static final String ANY_VALUE = "any";
 
-    private final Predicate<Contact> predicate;
+    private final ContactFilter filter;
+    private final ApplicationStage stage;
+    private final JobStatus status;
 
     /**
-     * Creates a ListCommand listing the {@code Contact} entries of the specified type.
-     * @param predicate the predicate determining the type of {@code Contact} to be listed
+     * Creates a ListCommand listing the {@code Contact} entries matching the given filter.
+     * @param filter the filter determining the {@code Contact} entries to be listed
      */
-    public ListCommand(Predicate<Contact> predicate) {
-        requireNonNull(predicate);
-        this.predicate = predicate;
+    public ListCommand(ContactFilter filter) {
+        this(filter, null, null);
+    }
+
+    /**
+     * Creates a ListCommand listing the {@code Contact} entries matching the given filter, and only the
+     * {@code JobApplication} entries at the given stage and with the given status.
+     * @param filter the filter determining the {@code Contact} entries to be listed
+     * @param stage the stage of the applications to be listed, or null for applications at any stage
+     * @param status the status of the applications to be listed, or null for applications with any status
+     */
+    public ListCommand(ContactFilter filter, ApplicationStage stage, JobStatus status) {
+        requireNonNull(filter);
+        this.filter = filter;
+        this.stage = stage;
+        this.status = status;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredContactList(predicate);
-        if (predicate.equals(PREDICATE_SHOW_ONLY_ORGANIZATIONS)) {
+        model.updateFilteredContactList(filter);
+        if (stage != null || status != null) {
+            // Only applications to the listed organizations are kept, as when listing without a stage or status.
+            model.updateFilteredApplicationList(ApplicationFilter.withStageAndStatus(stage, status));
+            return new CommandResult(String.format(MESSAGE_SUCCESS_APPLICATIONS,
+                    model.getDisplayedApplicationList().size(),
+                    stage == null ? ANY_VALUE : stage, status == null ? ANY_VALUE : status));
+        }
+        if (filter.equals(PREDICATE_SHOW_ALL_CONTACTS)) {
+            return new CommandResult(MESSAGE_SUCCESS_ALL_CONTACTS);
+        } else if (filter.equals(PREDICATE_SHOW_ONLY_ORGANIZATIONS)) {
             return new CommandResult(MESSAGE_SUCCESS_ORGANIZATIONS);
-        } else if (predicate.equals(PREDICATE_SHOW_ONLY_RECRUITERS)) {
+        } else if (filter.equals(PREDICATE_SHOW_ONLY_RECRUITERS)) {
             return new CommandResult(MESSAGE_SUCCESS_RECRUITERS);
-        } else if (predicate.equals(PREDICATE_SHOW_NOT_APPLIED_ORGANIZATIONS)) {
+        } else if (filter.equals(PREDICATE_SHOW_NOT_APPLIED_ORGANIZATIONS)) {
             return new CommandResult(MESSAGE_SUCCESS_TO_APPLY);
         }
-        return new CommandResult(MESSAGE_SUCCESS_ALL_CONTACTS);
+        return new CommandResult(String.format(Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW,
+                model.getDisplayedContactList().size()));
     }
 
     @Override
@@ -67,6 +128,8 @@ public class ListCommand extends Command {
         }
 
         ListCommand otherListCommand = (ListCommand) other;
-        return predicate.equals(otherListCommand.predicate);
+        return filter.equals(otherListCommand.filter)
+                && Objects.equals(stage, otherListCommand.stage)
+                && Objects.equals(status, otherListCommand.status);
     }
 }
@@ -3,22 +3,43 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.FLAG_EARLIEST;
 import static seedu.address.logic.parser.CliSyntax.FLAG_LATEST;
+import static seedu.address.logic.parser.CliSyntax.FLAG_STALE;
+import static seedu.address.logic.parser.CliSyntax.FLAG_TOP;
+import static seedu.address.logic.parser.CliSyntax.FLAG_WITHIN;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.autocomplete.AutocompleteSupplier;
+import seedu.address.logic.autocomplete.components.AutocompleteConstraint;
 import seedu.address.logic.autocomplete.components.AutocompleteItemSet;
 import seedu.address.model.Model;
+import seedu.address.model.jobapplication.ApplicationFilter;
 import seedu.address.model.jobapplication.JobApplication;
 
 /**
  * Reminds the user of urgent or stale applications, similar to the usage of {@code SortCommand}.
+ *
+ * Besides sorting all applications by deadline, it can show only the applications due within some days, or the
+ * least recently updated applications that have not been updated for some days. These are shown through
+ * {@code ApplicationFilter}s, found from the deadline and last updated time indexes of the applications and found
+ * again as applications change, so changed applications are shown or hidden as they match, and no more than the
+ * number of stale applications asked for are shown.
  */
 public class ReminderCommand extends Command {
     public static final String COMMAND_WORD = "remind";
 
     public static final AutocompleteSupplier AUTOCOMPLETE_SUPPLIER = AutocompleteSupplier.from(
             AutocompleteItemSet.oneAmongAllOf(
-                    FLAG_EARLIEST, FLAG_LATEST
-            )
+                    FLAG_EARLIEST, FLAG_LATEST, FLAG_WITHIN, FLAG_STALE
+            ).addDependents(
+                    AutocompleteItemSet.onceForEachOf(FLAG_TOP)
+            ).addConstraints(List.of(
+                    AutocompleteConstraint.where(FLAG_STALE)
+                            .isPrerequisiteFor(FLAG_TOP)
+            ))
     ).configureValueMap(map -> {
         // Disable value autocompletion for:
         map.put(null /* preamble */, null);
@@ -26,30 +47,85 @@ public class ReminderCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Reminds the user of applications based on the specified flag.\n"
-            + "Parameters: " + FLAG_EARLIEST + "/" + FLAG_LATEST + "\n"
+            + "Parameters: " + FLAG_EARLIEST + "/" + FLAG_LATEST + "/"
+            + FLAG_WITHIN + " DAYS/" + FLAG_STALE + " DAYS [" + FLAG_TOP + " COUNT]\n"
             + "Example 1: " + COMMAND_WORD + " --earliest\n"
-            + "Example 2: " + COMMAND_WORD + " --latest\n";
+            + "Example 2: " + COMMAND_WORD + " --latest\n"
+            + "Example 3: " + COMMAND_WORD + " --within 7\n"
+            + "Example 4: " + COMMAND_WORD + " --stale 30 --top 20\n";
 
     public static final String MESSAGE_REMINDED_EARLIEST = "Reminded user of high priority applications";
     public static final String MESSAGE_REMINDED_LATEST = "Reminded user of low priority applications";
-    private final Boolean isUrgent;
+    public static final String MESSAGE_REMINDED_WITHIN = "Reminded user of %1$d applications due within %2$d days";
+    public static final String MESSAGE_REMINDED_STALE =
+            "Reminded user of %1$d applications not updated for %2$d days";
+
+    /**
+     * The kinds of reminders.
+     */
+    private enum Mode {
+        EARLIEST, LATEST, WITHIN, STALE
+    }
+
+    private final Mode mode;
+    private final int days;
+    private final int limit;
 
     /**
      * Creates a ReminderCommand sorting the {@code JobApplication} entries by deadline.
      * @param isUrgent checks if the {@code ReminderCommand} should display urgent or stale applications.
      */
     public ReminderCommand(Boolean isUrgent) {
-        this.isUrgent = isUrgent;
+        this(isUrgent ? Mode.EARLIEST : Mode.LATEST, 0, 0);
     }
+
+    private ReminderCommand(Mode mode, int days, int limit) {
+        this.mode = mode;
+        this.days = days;
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a ReminderCommand showing the {@code JobApplication} entries due from today to {@code days} days
+     * from today, earliest deadline first.
+     */
+    public static ReminderCommand dueWithin(int days) {
+        return new ReminderCommand(Mode.WITHIN, days, 0);
+    }
+
+    /**
+     * Creates a ReminderCommand showing at most {@code limit} {@code JobApplication} entries that have not been
+     * updated for {@code days} days, least recently updated first.
+     */
+    public static ReminderCommand staleFor(int days, int limit) {
+        return new ReminderCommand(Mode.STALE, days, limit);
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        if (isUrgent) {
+        switch (mode) {
+        case EARLIEST:
+            model.updateFilteredApplicationList(ApplicationFilter.ALL);
             model.updateSortedApplicationList(JobApplication.DEADLINE_COMPARATOR);
             return new CommandResult(MESSAGE_REMINDED_EARLIEST);
+        case LATEST:
+            model.updateFilteredApplicationList(ApplicationFilter.ALL);
+            model.updateSortedApplicationList(JobApplication.DEADLINE_COMPARATOR.reversed());
+            return new CommandResult(MESSAGE_REMINDED_LATEST);
+        case WITHIN:
+            LocalDate today = LocalDate.now();
+            model.updateFilteredApplicationList(ApplicationFilter.dueBetween(today, today.plusDays(days)));
+            model.updateSortedApplicationList(JobApplication.DEADLINE_COMPARATOR);
+            return new CommandResult(String.format(MESSAGE_REMINDED_WITHIN,
+                    model.getDisplayedApplicationList().size(), days));
+        default:
+            LocalDateTime staleTime = LocalDateTime.now().minusDays(days);
+            model.updateFilteredApplicationList(ApplicationFilter.leastRecentlyUpdatedBefore(staleTime, limit));
+            model.updateSortedApplicationList(JobApplication.LAST_UPDATED_COMPARATOR);
+            return new CommandResult(String.format(MESSAGE_REMINDED_STALE,
+                    model.getDisplayedApplicationList().size(), days));
         }
-        model.updateSortedApplicationList(JobApplication.DEADLINE_COMPARATOR.reversed());
-        return new CommandResult(MESSAGE_REMINDED_LATEST);
     }
 
     @Override
@@ -64,6 +140,17 @@ public class ReminderCommand extends Command {
         }
 
         ReminderCommand otherReminderCommand = (ReminderCommand) other;
-        return this.isUrgent.equals(otherReminderCommand.isUrgent);
+        return mode == otherReminderCommand.mode
+                && days == otherReminderCommand.days
+                && limit == otherReminderCommand.limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("mode", mode)
+                .add("days", days)
+                .add("limit", limit)
+                .toString();
     }
 }
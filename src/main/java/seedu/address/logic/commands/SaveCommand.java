@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_NOW;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.autocomplete.AutocompleteSupplier;
+import seedu.address.logic.autocomplete.components.AutocompleteItemSet;
+import seedu.address.model.Model;
+
+/**
+ * Saves the address book to the data file.
+ *
+ * Changes are saved in the background after every command, so this is only needed to make sure they are on disk
+ * before going on, e.g. before copying the data file. With {@code --now}, the command waits until every change so
+ * far has been written.
+ */
+public class SaveCommand extends Command {
+
+    public static final String COMMAND_WORD = "save";
+
+    public static final AutocompleteSupplier AUTOCOMPLETE_SUPPLIER = AutocompleteSupplier.from(
+            AutocompleteItemSet.onceForEachOf(FLAG_NOW)
+    ).configureValueMap(map -> {
+        // Disable value autocompletion for:
+        map.put(null /* preamble */, null);
+    });
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Saves the data file, waiting until it is written if " + FLAG_NOW + " is given.\n"
+            + "Parameters: [" + FLAG_NOW + "]\n"
+            + "Example: " + COMMAND_WORD + " " + FLAG_NOW;
+
+    public static final String MESSAGE_SUCCESS = "Changes will be saved to the data file shortly.";
+    public static final String MESSAGE_SUCCESS_NOW = "All changes have been saved to the data file.";
+
+    private final boolean isNow;
+
+    /**
+     * Creates a {@code SaveCommand} that waits for the data to be written if {@code isNow} is true.
+     */
+    public SaveCommand(boolean isNow) {
+        this.isNow = isNow;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(isNow ? MESSAGE_SUCCESS_NOW : MESSAGE_SUCCESS, false, false, isNow);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SaveCommand)) {
+            return false;
+        }
+
+        SaveCommand otherSaveCommand = (SaveCommand) other;
+        return isNow == otherSaveCommand.isNow;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isNow", isNow)
+                .toString();
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_ORGANIZATION_ID;
+import static seedu.address.logic.parser.CliSyntax.FLAG_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.autocomplete.AutocompleteSupplier;
+import seedu.address.logic.autocomplete.components.AutocompleteItemSet;
+import seedu.address.model.Model;
+import seedu.address.model.contact.Id;
+import seedu.address.model.contact.Type;
+import seedu.address.model.jobapplication.ApplicationCounts;
+import seedu.address.model.jobapplication.ApplicationStage;
+import seedu.address.model.jobapplication.ApplicationStatistics;
+import seedu.address.model.jobapplication.JobStatus;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Shows the number of job applications at each stage and status, overall, for an organization or for a tag.
+ * The counts are read from the statistics kept by the model, without going through the applications.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final AutocompleteSupplier AUTOCOMPLETE_SUPPLIER = AutocompleteSupplier.from(
+            AutocompleteItemSet.oneAmongAllOf(
+                    FLAG_ORGANIZATION_ID, FLAG_TAG
+            )
+    ).configureValueMap(map -> {
+        // Add value autocompletion for:
+        map.put(FLAG_ORGANIZATION_ID, (command, model) -> model.getAddressBook()
+                .getContactList()
+                .stream()
+                .filter(c -> c.getType() == Type.ORGANIZATION)
+                .map(o -> o.getId().value)
+        );
+
+        // Disable value autocompletion for:
+        map.put(null /* preamble */, null);
+    });
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of applications at each stage and status.\n"
+            + "Parameters: [" + FLAG_ORGANIZATION_ID + " OID/" + FLAG_TAG + " TAG]\n"
+            + "Example 1: " + COMMAND_WORD + "\n"
+            + "Example 2: " + COMMAND_WORD + " " + FLAG_ORGANIZATION_ID + " google-sg\n"
+            + "Example 3: " + COMMAND_WORD + " " + FLAG_TAG + " fintech\n";
+
+    public static final String MESSAGE_STATS_HEADER = "%1$d applications %2$s";
+    public static final String SCOPE_ALL = "in total";
+    public static final String SCOPE_ORGANIZATION = "to %1$s";
+    public static final String SCOPE_TAG = "to organizations tagged %1$s";
+
+    private final Id organizationId;
+    private final Tag tag;
+
+    /**
+     * Creates a StatsCommand showing the counts of all applications.
+     */
+    public StatsCommand() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a StatsCommand showing the counts of the applications to the organization with
+     * {@code organizationId}, or to organizations with {@code tag}. At most one of them may be non-null.
+     */
+    public StatsCommand(Id organizationId, Tag tag) {
+        assert organizationId == null || tag == null;
+        this.organizationId = organizationId;
+        this.tag = tag;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ApplicationStatistics statistics = model.getApplicationStatistics();
+        if (organizationId != null) {
+            return new CommandResult(formatCounts(statistics.getCountsOf(organizationId),
+                    String.format(SCOPE_ORGANIZATION, organizationId)));
+        } else if (tag != null) {
+            return new CommandResult(formatCounts(statistics.getCountsOf(tag),
+                    String.format(SCOPE_TAG, tag.tagName)));
+        }
+        return new CommandResult(formatCounts(statistics.getOverallCounts(), SCOPE_ALL));
+    }
+
+    /**
+     * Formats {@code counts} as a header line followed by a line for each stage, which lists the non-zero counts of
+     * each status at that stage.
+     */
+    public static String formatCounts(ApplicationCounts counts, String scope) {
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_STATS_HEADER, counts.getTotal(), scope));
+        for (ApplicationStage stage : ApplicationStage.values()) {
+            builder.append("\n").append(stage).append(": ").append(counts.getCount(stage));
+
+            List<String> statusCounts = new ArrayList<>();
+            for (JobStatus status : JobStatus.values()) {
+                int count = counts.getCount(stage, status);
+                if (count > 0) {
+                    statusCounts.add(status + " " + count);
+                }
+            }
+            if (!statusCounts.isEmpty()) {
+                builder.append(" (").append(String.join(", ", statusCounts)).append(")");
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return Objects.equals(organizationId, otherStatsCommand.organizationId)
+                && Objects.equals(tag, otherStatsCommand.tag);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("organizationId", organizationId)
+                .add("tag", tag)
+                .toString();
+    }
+}
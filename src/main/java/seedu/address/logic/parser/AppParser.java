@@ -13,6 +13,7 @@ import java.util.regex.Pattern;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.autocomplete.AutocompleteGenerator;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DryRunCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -28,6 +29,13 @@ public class AppParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    /**
+     * Used to find the dry run option, which must directly follow the command word, so that it is never confused
+     * with text of the same form within an argument value.
+     */
+    private static final Pattern DRY_RUN_OPTION_FORMAT =
+            Pattern.compile("\\s+" + Pattern.quote(DryRunCommand.OPTION) + "(?<arguments>(\\s.*)?)");
+
     private static final Logger logger = LogsCenter.getLogger(AppParser.class);
 
 
@@ -48,6 +56,11 @@ public class AppParser {
         final String commandWord = matcher.group("commandWord");
         final String arguments = matcher.group("arguments");
 
+        final Matcher dryRunMatcher = DRY_RUN_OPTION_FORMAT.matcher(arguments);
+        if (dryRunMatcher.matches()) {
+            return new DryRunCommand(parseCommand(commandWord + dryRunMatcher.group("arguments")));
+        }
+
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
@@ -9,14 +9,20 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ApplyCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DedupeCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DuplicatesCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.ReminderCommand;
+import seedu.address.logic.commands.SaveCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 
 /**
  * A utility class that provides a mapping of all available class values.
@@ -52,7 +58,13 @@ public class ClassMappings {
         orderedMap.put(FindCommand.class, Optional.of(FindCommandParser.class));
         orderedMap.put(SortCommand.class, Optional.of(SortCommandParser.class));
         orderedMap.put(ReminderCommand.class, Optional.of(ReminderCommandParser.class));
+        orderedMap.put(StatsCommand.class, Optional.of(StatsCommandParser.class));
+        orderedMap.put(SaveCommand.class, Optional.of(SaveCommandParser.class));
 
+        orderedMap.put(DuplicatesCommand.class, Optional.empty());
+        orderedMap.put(DedupeCommand.class, Optional.empty());
+        orderedMap.put(UndoCommand.class, Optional.empty());
+        orderedMap.put(RedoCommand.class, Optional.empty());
         orderedMap.put(HelpCommand.class, Optional.empty());
         orderedMap.put(ClearCommand.class, Optional.empty());
         orderedMap.put(ExitCommand.class, Optional.empty());
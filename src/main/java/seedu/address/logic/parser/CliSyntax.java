@@ -32,6 +32,9 @@ public class CliSyntax {
     public static final Flag FLAG_STALE = new Flag("stale");
     public static final Flag FLAG_EARLIEST = new Flag("earliest");
     public static final Flag FLAG_LATEST = new Flag("latest");
+    public static final Flag FLAG_WITHIN = new Flag("within");
+    public static final Flag FLAG_TOP = new Flag("top");
+    public static final Flag FLAG_NOW = new Flag("now");
 
 
 }
@@ -2,20 +2,34 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.contact.ContactQuery;
+import seedu.address.model.contact.ContactTokenIndex.Field;
+import seedu.address.model.contact.TokenPattern;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String NEGATION_PREFIX = "-";
+    public static final String FIELD_SEPARATOR = ":";
+    public static final String ESCAPE_PREFIX = "\\";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     *
+     * Plain keywords are grouped into a single clause that matches any of them. Each field-scoped or negated
+     * keyword becomes its own clause, and all clauses must match. A keyword starting with {@link #ESCAPE_PREFIX} is
+     * taken literally without it, so that it may itself start with {@link #NEGATION_PREFIX} or a field name.
+     *
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
@@ -25,9 +39,50 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<TokenPattern> keywordPatterns = new ArrayList<>();
+        List<ContactQuery.Clause> clauses = new ArrayList<>();
+        for (String term : trimmedArgs.split("\\s+")) {
+            boolean isNegated = term.startsWith(NEGATION_PREFIX) && term.length() > NEGATION_PREFIX.length();
+            String unsignedTerm = isNegated ? term.substring(NEGATION_PREFIX.length()) : term;
+
+            boolean isEscaped = unsignedTerm.startsWith(ESCAPE_PREFIX);
+            Optional<Field> field = isEscaped ? Optional.empty() : parseField(unsignedTerm);
+            String keyword = isEscaped
+                    ? unsignedTerm.substring(ESCAPE_PREFIX.length())
+                    : field.isPresent()
+                    ? unsignedTerm.substring(unsignedTerm.indexOf(FIELD_SEPARATOR) + FIELD_SEPARATOR.length())
+                    : unsignedTerm;
+            if (keyword.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+            TokenPattern pattern = TokenPattern.compile(keyword);
+            if (field.isEmpty() && !isNegated) {
+                keywordPatterns.add(pattern);
+                continue;
+            }
+            List<Field> fields = field.map(List::of).orElse(ContactQuery.KEYWORD_FIELDS);
+            clauses.add(new ContactQuery.Clause(fields, List.of(pattern), isNegated));
+        }
+
+        if (!keywordPatterns.isEmpty()) {
+            clauses.add(0, new ContactQuery.Clause(ContactQuery.KEYWORD_FIELDS, keywordPatterns, false));
+        }
+        return new FindCommand(new ContactQuery(clauses));
     }
 
+    /**
+     * Gives the field that {@code term} is scoped to, if it starts with the name of a field and a separator.
+     */
+    private static Optional<Field> parseField(String term) {
+        int separatorIndex = term.indexOf(FIELD_SEPARATOR);
+        if (separatorIndex < 0) {
+            return Optional.empty();
+        }
+        String fieldName = term.substring(0, separatorIndex);
+        return Arrays.stream(Field.values())
+                .filter(field -> field.name().equalsIgnoreCase(fieldName))
+                .findFirst();
+    }
 }
@@ -3,19 +3,27 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.parser.CliSyntax.FLAG_NOT_APPLIED;
 import static seedu.address.logic.parser.CliSyntax.FLAG_ORGANIZATION;
 import static seedu.address.logic.parser.CliSyntax.FLAG_RECRUITER;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
-import static seedu.address.model.Model.PREDICATE_SHOW_NOT_APPLIED_ORGANIZATIONS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ONLY_ORGANIZATIONS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ONLY_RECRUITERS;
+import static seedu.address.logic.parser.CliSyntax.FLAG_STAGE;
+import static seedu.address.logic.parser.CliSyntax.FLAG_STATUS;
+import static seedu.address.logic.parser.CliSyntax.FLAG_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.contact.ContactFilter;
+import seedu.address.model.jobapplication.ApplicationStage;
+import seedu.address.model.jobapplication.JobStatus;
 
 /**
  * Parses input arguments and creates a new ListCommand object
  */
 public class ListCommandParser implements Parser<ListCommand> {
 
+    /** Prefixes a tag to exclude the contacts with it, as a leading dash would be taken for a flag. */
+    public static final String TAG_NEGATION_PREFIX = "!";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ListCommand
      * and returns a ListCommand object for execution.
@@ -25,20 +33,44 @@ public class ListCommandParser implements Parser<ListCommand> {
                 ArgumentTokenizer.tokenize(args,
                     ListCommand.AUTOCOMPLETE_SUPPLIER.getAllPossibleFlags().toArray(Flag[]::new));
 
-        if (argMultimap.hasAllOfFlags(FLAG_ORGANIZATION, FLAG_RECRUITER)) {
-            return new ListCommand(PREDICATE_SHOW_ALL_CONTACTS);
-        }
+        argMultimap.verifyNoDuplicateFlagsFor(FLAG_STAGE, FLAG_STATUS);
+        ApplicationStage stage = ParserUtil.parseOptionally(
+                argMultimap.getValue(FLAG_STAGE), ParserUtil::parseApplicationStage);
+        JobStatus status = ParserUtil.parseOptionally(
+                argMultimap.getValue(FLAG_STATUS), ParserUtil::parseJobStatus);
+
+        return new ListCommand(parseFilter(argMultimap), stage, status);
+    }
 
-        if (argMultimap.hasFlag(FLAG_ORGANIZATION)) {
-            return new ListCommand(PREDICATE_SHOW_ONLY_ORGANIZATIONS);
-        } else if (argMultimap.hasFlag(FLAG_RECRUITER)) {
-            return new ListCommand(PREDICATE_SHOW_ONLY_RECRUITERS);
+    /**
+     * Parses the flags of {@code argMultimap} into a filter that all of them must hold for.
+     * Listing both organizations and recruiters lists contacts of any type. A tag prefixed with
+     * {@link #TAG_NEGATION_PREFIX} excludes the contacts with it instead.
+     */
+    private static ContactFilter parseFilter(ArgumentMultimap argMultimap) throws ParseException {
+        List<ContactFilter> filters = new ArrayList<>();
+        if (argMultimap.hasFlag(FLAG_ORGANIZATION) && !argMultimap.hasFlag(FLAG_RECRUITER)) {
+            filters.add(ContactFilter.ORGANIZATIONS);
+        } else if (argMultimap.hasFlag(FLAG_RECRUITER) && !argMultimap.hasFlag(FLAG_ORGANIZATION)) {
+            filters.add(ContactFilter.RECRUITERS);
         }
+
         if (argMultimap.hasFlag(FLAG_NOT_APPLIED)) {
-            return new ListCommand(PREDICATE_SHOW_NOT_APPLIED_ORGANIZATIONS);
+            if (!filters.contains(ContactFilter.ORGANIZATIONS)) {
+                filters.add(ContactFilter.ORGANIZATIONS);
+            }
+            filters.add(ContactFilter.not(ContactFilter.WITH_APPLICATIONS));
+        }
+
+        for (String tag : argMultimap.getAllValues(FLAG_TAG)) {
+            String trimmedTag = tag.trim();
+            boolean isNegated = trimmedTag.startsWith(TAG_NEGATION_PREFIX);
+            ContactFilter tagFilter = ContactFilter.withTag(ParserUtil.parseTag(
+                    isNegated ? trimmedTag.substring(TAG_NEGATION_PREFIX.length()) : trimmedTag));
+            filters.add(isNegated ? ContactFilter.not(tagFilter) : tagFilter);
         }
 
-        return new ListCommand(PREDICATE_SHOW_ALL_CONTACTS);
+        return ContactFilter.allOf(filters);
     }
 
 }
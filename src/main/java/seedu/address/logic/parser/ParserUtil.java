@@ -29,6 +29,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_COUNT = "Number is not a non-zero unsigned integer.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it.
@@ -44,6 +45,20 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code count} into a positive {@code int}, such as a number of days, and returns it.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the specified count is invalid (not non-zero unsigned integer).
+     */
+    public static int parseCount(String count) throws ParseException {
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
     /**
      * Parses a {@code String id} into an {@code Id} and returns it.
      * Leading and trailing whitespaces will be trimmed.
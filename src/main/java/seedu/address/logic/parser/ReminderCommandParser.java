@@ -3,6 +3,9 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.FLAG_EARLIEST;
 import static seedu.address.logic.parser.CliSyntax.FLAG_LATEST;
+import static seedu.address.logic.parser.CliSyntax.FLAG_STALE;
+import static seedu.address.logic.parser.CliSyntax.FLAG_TOP;
+import static seedu.address.logic.parser.CliSyntax.FLAG_WITHIN;
 
 import seedu.address.logic.commands.ReminderCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -11,7 +14,6 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new {@code ReminderCommand} object
  */
 public class ReminderCommandParser implements Parser<ReminderCommand> {
-    // TODO: Tech debt - implement tests
     /**
      * Parses the given {@code String} of arguments in the context of the
      * {@code ReminderCommand} and returns a {@code ReminderCommand} object for execution.
@@ -21,12 +23,27 @@ public class ReminderCommandParser implements Parser<ReminderCommand> {
                 ArgumentTokenizer.tokenize(args,
                         ReminderCommand.AUTOCOMPLETE_SUPPLIER.getAllPossibleFlags().toArray(Flag[]::new));
 
-        argMultimap.verifyAtMostOneOfFlagsUsedOutOf(FLAG_EARLIEST, FLAG_LATEST);
+        argMultimap.verifyAtMostOneOfFlagsUsedOutOf(FLAG_EARLIEST, FLAG_LATEST, FLAG_WITHIN, FLAG_STALE);
+        argMultimap.verifyNoDuplicateFlagsFor(FLAG_WITHIN, FLAG_STALE, FLAG_TOP);
+
+        if (argMultimap.hasFlag(FLAG_TOP) && !argMultimap.hasFlag(FLAG_STALE)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReminderCommand.MESSAGE_USAGE));
+        }
 
         if (argMultimap.hasFlag(FLAG_EARLIEST)) {
             return new ReminderCommand(true);
         } else if (argMultimap.hasFlag(FLAG_LATEST)) {
             return new ReminderCommand(false);
+        } else if (argMultimap.hasFlag(FLAG_WITHIN)) {
+            int days = ParserUtil.parseCount(argMultimap.getValue(FLAG_WITHIN).get());
+            return ReminderCommand.dueWithin(days);
+        } else if (argMultimap.hasFlag(FLAG_STALE)) {
+            int days = ParserUtil.parseCount(argMultimap.getValue(FLAG_STALE).get());
+            int limit = argMultimap.hasFlag(FLAG_TOP)
+                    ? ParserUtil.parseCount(argMultimap.getValue(FLAG_TOP).get())
+                    : Integer.MAX_VALUE;
+            return ReminderCommand.staleFor(days, limit);
         }
 
         throw new ParseException(
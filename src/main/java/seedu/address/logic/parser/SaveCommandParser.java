@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.FLAG_NOW;
+
+import seedu.address.logic.commands.SaveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code SaveCommand} object
+ */
+public class SaveCommandParser implements Parser<SaveCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * {@code SaveCommand} and returns a {@code SaveCommand} object for execution.
+     */
+    public SaveCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args,
+                        SaveCommand.AUTOCOMPLETE_SUPPLIER.getAllPossibleFlags().toArray(Flag[]::new));
+
+        if (!argMultimap.getPreamble().isEmpty()
+                || argMultimap.getValue(FLAG_NOW).filter(value -> !value.isEmpty()).isPresent()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicateFlagsFor(FLAG_NOW);
+
+        return new SaveCommand(argMultimap.hasFlag(FLAG_NOW));
+    }
+}
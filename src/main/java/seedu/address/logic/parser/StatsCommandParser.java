@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.FLAG_ORGANIZATION_ID;
+import static seedu.address.logic.parser.CliSyntax.FLAG_TAG;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code StatsCommand} object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * {@code StatsCommand} and returns a {@code StatsCommand} object for execution.
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args,
+                        StatsCommand.AUTOCOMPLETE_SUPPLIER.getAllPossibleFlags().toArray(Flag[]::new));
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyAtMostOneOfFlagsUsedOutOf(FLAG_ORGANIZATION_ID, FLAG_TAG);
+        argMultimap.verifyNoDuplicateFlagsFor(FLAG_ORGANIZATION_ID, FLAG_TAG);
+
+        if (argMultimap.hasFlag(FLAG_ORGANIZATION_ID)) {
+            return new StatsCommand(ParserUtil.parseId(argMultimap.getValue(FLAG_ORGANIZATION_ID).get()), null);
+        } else if (argMultimap.hasFlag(FLAG_TAG)) {
+            return new StatsCommand(null, ParserUtil.parseTag(argMultimap.getValue(FLAG_TAG).get()));
+        }
+        return new StatsCommand();
+    }
+}
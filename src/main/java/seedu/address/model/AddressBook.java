@@ -3,10 +3,17 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactBitmapIndex;
+import seedu.address.model.contact.ContactKeyIndex;
+import seedu.address.model.contact.ContactListSnapshot;
+import seedu.address.model.contact.ContactTokenIndex;
+import seedu.address.model.contact.Id;
+import seedu.address.model.contact.TokenPattern;
 import seedu.address.model.contact.UniqueContactList;
 
 /**
@@ -50,13 +57,54 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is another {@code AddressBook}, its contacts are known to be unique and its persistent maps
+     * are shared instead of being rebuilt.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            contacts.setContacts(((AddressBook) newData).contacts);
+            return;
+        }
         setContacts(newData.getContactList());
     }
 
+    //// snapshot operations
+
+    /**
+     * Gives a snapshot of the contacts in this address book in constant time.
+     */
+    public ContactListSnapshot snapshot() {
+        return contacts.snapshot();
+    }
+
+    /**
+     * Restores the contacts of this address book to those of {@code snapshot}, which must have been taken from it,
+     * changing only the contacts that differ.
+     */
+    public void restore(ContactListSnapshot snapshot) {
+        requireNonNull(snapshot);
+        contacts.restore(snapshot);
+    }
+
+    //// batch operations
+
+    /**
+     * Starts a batch of changes to the contacts, which are reported to listeners of the contact list as a single
+     * change when the matching {@link #endBatch()} is called. Batches may be nested.
+     */
+    public void beginBatch() {
+        contacts.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the last unmatched {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        contacts.endBatch();
+    }
+
     //// contact-level operations
 
     /**
@@ -88,12 +136,72 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Returns true if a contact with the same identity as {@code contact} exists in the address book.
+     * This is a constant time lookup on the contact's id.
      */
     public boolean hasContact(Contact contact) {
         requireNonNull(contact);
         return contacts.contains(contact);
     }
 
+    /**
+     * Gives the contact with the given id in constant time, or null if no such contact exists.
+     */
+    @Override
+    public Contact getContactById(Id id) {
+        requireNonNull(id);
+        return contacts.getContactById(id);
+    }
+
+    /**
+     * Gives the contacts linked under the parent with the given id, in time proportional to the number of such
+     * contacts.
+     */
+    public List<Contact> getChildrenOf(Id parentId) {
+        requireNonNull(parentId);
+        return contacts.getChildrenOf(parentId);
+    }
+
+    /**
+     * Gives the ids of the contacts with a token in the given field that matches any of {@code patterns}.
+     * This is answered from an index of the tokens rather than by testing every contact.
+     */
+    public Set<Id> findContactIds(ContactTokenIndex.Field field, List<TokenPattern> patterns) {
+        requireNonNull(patterns);
+        return contacts.findContactIds(field, patterns);
+    }
+
+    /**
+     * Estimates the number of tokens in the given field that must be tested to find contacts matching
+     * {@code patterns}, i.e. the cost of finding contacts by that field.
+     */
+    public int countTokensToScan(ContactTokenIndex.Field field, List<TokenPattern> patterns) {
+        return contacts.countTokensToScan(field, patterns);
+    }
+
+    /**
+     * Gives the contacts sharing the given key with {@code contact}, found from an index of the keys in time
+     * proportional to the number of such contacts. {@code contact} need not be in the address book.
+     */
+    public List<Contact> getContactsSharingKey(ContactKeyIndex.Key key, Contact contact) {
+        requireNonNull(contact);
+        return contacts.getContactsSharingKey(key, contact);
+    }
+
+    /**
+     * Gives the groups of contacts that share a value of the given key, one group per shared value.
+     */
+    public List<List<Contact>> getDuplicates(ContactKeyIndex.Key key) {
+        return contacts.getDuplicates(key);
+    }
+
+    /**
+     * Gives an index of the contacts as bitmaps over their handles, which {@code ContactFilter}s are evaluated
+     * against. The index is kept in sync with the contacts, so that handles stay the same across calls.
+     */
+    public ContactBitmapIndex getBitmapIndex() {
+        return contacts.getBitmapIndex();
+    }
+
     //// util methods
 
     @Override
@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -9,21 +11,23 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactFilter;
+import seedu.address.model.contact.ContactKeyIndex;
+import seedu.address.model.contact.ContactListSnapshot;
 import seedu.address.model.contact.Id;
-import seedu.address.model.contact.Organization;
-import seedu.address.model.contact.Type;
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.jobapplication.ApplicationFilter;
+import seedu.address.model.jobapplication.ApplicationStatistics;
 import seedu.address.model.jobapplication.JobApplication;
 
 /**
  * The API of the Model component.
  */
 public interface Model {
-    Predicate<Contact> PREDICATE_SHOW_ALL_CONTACTS = contact -> true;
-    Predicate<Contact> PREDICATE_SHOW_ONLY_ORGANIZATIONS = contact -> contact.getType() == Type.ORGANIZATION;
-    Predicate<Contact> PREDICATE_SHOW_ONLY_RECRUITERS = contact -> contact.getType() == Type.RECRUITER;
-    Predicate<Contact> PREDICATE_SHOW_NOT_APPLIED_ORGANIZATIONS =
-            contact -> contact.getType() == Type.ORGANIZATION
-                    && ((Organization) contact).getJobApplications().length == 0;
+    ContactFilter PREDICATE_SHOW_ALL_CONTACTS = ContactFilter.ALL;
+    ContactFilter PREDICATE_SHOW_ONLY_ORGANIZATIONS = ContactFilter.ORGANIZATIONS;
+    ContactFilter PREDICATE_SHOW_ONLY_RECRUITERS = ContactFilter.RECRUITERS;
+    ContactFilter PREDICATE_SHOW_NOT_APPLIED_ORGANIZATIONS = ContactFilter.NOT_APPLIED_ORGANIZATIONS;
 
     Comparator<Contact> COMPARATOR_ADDRESS = Comparator.comparing(contact ->
                     contact.getAddress().map(address -> address.value).orElse(null),
@@ -58,6 +62,14 @@ public interface Model {
             Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
     Comparator<Contact> COMPARATOR_URL_REVERSED = COMPARATOR_URL_NULLS_FIRST.reversed();
 
+    /**
+     * A group of changes to a {@code Model} that may fail with an exception of type {@code E}.
+     */
+    @FunctionalInterface
+    interface Transaction<E extends Exception> {
+        void run() throws E;
+    }
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -96,6 +108,61 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Gives a snapshot of the contacts in the address book in constant time. Snapshots taken with no net change to
+     * the contacts in between, such as a change that was undone or a dry run, are known to be the same by
+     * {@link ContactListSnapshot#isSameAs}.
+     */
+    ContactListSnapshot getAddressBookSnapshot();
+
+    /**
+     * Saves the current address book data as a new version that can be undone, if it changed since the last version.
+     *
+     * @return true if a new version was saved.
+     */
+    boolean commitAddressBook();
+
+    /**
+     * Returns true if there is a previous version of the address book data to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone version of the address book data to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the previous version of the address book data. There must be such a version.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the version of the address book data that was last undone. There must be such a version.
+     */
+    void redoAddressBook();
+
+    /**
+     * Runs {@code transaction} and then discards all its changes, both to the address book data and to what is
+     * displayed, even if it throws. The data version and the versions that can be undone or redone are unchanged.
+     */
+    <E extends Exception> void preview(Transaction<E> transaction) throws E;
+
+    /**
+     * Runs {@code transaction} as a single change to the address book data.
+     * The changes it makes to the contacts are reported to the displayed lists together when it completes, so the
+     * displayed lists are not updated while it runs. If it throws, all its changes are discarded before the
+     * exception is rethrown.
+     */
+    <E extends Exception> void batch(Transaction<E> transaction) throws E;
+
+    /**
+     * Returns the bus on which the changes to the address book data are published as {@code ModelEvent}s.
+     * Every change to the contacts is published, and the changes to the applications of an organization are
+     * published after the change to the organization.
+     */
+    ModelEventBus getEventBus();
+
     /**
      * Returns true if a contact with the same identity as {@code contact} exists in the address book.
      */
@@ -122,6 +189,7 @@ public interface Model {
 
     /**
      * Adds the given application.
+     * The organization of the application must exist in the address book.
      */
     void addApplication(JobApplication application);
 
@@ -132,6 +200,23 @@ public interface Model {
      */
     Contact getContactById(Id id);
 
+    /**
+     * Gives the contacts linked under the parent with the given id.
+     * Given id must not be null.
+     */
+    List<Contact> getChildrenOf(Id parentId);
+
+    /**
+     * Gives the contacts with the same value of the given key as {@code contact}, other than {@code contact} itself.
+     * {@code contact} need not be in the address book.
+     */
+    List<Contact> getContactsSharingKey(ContactKeyIndex.Key key, Contact contact);
+
+    /**
+     * Gives the groups of contacts that share a value of the given key, one group per shared value.
+     */
+    List<List<Contact>> getDuplicates(ContactKeyIndex.Key key);
+
     /**
      * Guarantees a contact given an id or index.
      *
@@ -158,6 +243,17 @@ public interface Model {
      */
     void updateFilteredContactList(Predicate<Contact> predicate);
 
+    /**
+     * Updates the filtered contact list to show only the contacts with the given ids. May not be null.
+     */
+    void updateFilteredContactList(Set<Id> contactIds);
+
+    /**
+     * Updates the filtered contact list to show only the contacts matching the given {@code filter}, which is
+     * evaluated as a bitmap over the contacts. May not be null.
+     */
+    void updateFilteredContactList(ContactFilter filter);
+
     /**
      * Updates the sorted contact list to sort by the given {@code comparator}. May be null to disable sorting.
      */
@@ -168,4 +264,18 @@ public interface Model {
     ObservableList<JobApplication> getDisplayedApplicationList();
 
     void updateSortedApplicationList(Comparator<JobApplication> comparator);
+
+    /**
+     * Updates the filtered application list to show only the applications that {@code filter} matches, among the
+     * applications of the displayed organizations. The matching applications are found from the indexes of the
+     * applications, and found again whenever the applications change.
+     * The filter is reset whenever the filter of the contact list is updated.
+     * @throws NullPointerException if {@code filter} is null.
+     */
+    void updateFilteredApplicationList(ApplicationFilter filter);
+
+    /**
+     * Returns the counts of applications by stage and status, kept up to date as applications change.
+     */
+    ApplicationStatistics getApplicationStatistics();
 }
@@ -4,14 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
-import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -20,13 +22,27 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalOperationException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.BatchableObservableList;
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.SwitchableObservableList;
 import seedu.address.logic.Messages;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactBitmapIndex;
+import seedu.address.model.contact.ContactFilter;
+import seedu.address.model.contact.ContactKeyIndex;
+import seedu.address.model.contact.ContactListSnapshot;
 import seedu.address.model.contact.Id;
 import seedu.address.model.contact.Organization;
 import seedu.address.model.contact.Type;
+import seedu.address.model.event.AddressBookResetEvent;
+import seedu.address.model.event.ApplicationEvent;
+import seedu.address.model.event.ContactEvent;
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.jobapplication.ApplicationFilter;
+import seedu.address.model.jobapplication.ApplicationStatistics;
 import seedu.address.model.jobapplication.JobApplication;
 import seedu.address.model.jobapplication.JobApplicationList;
+import seedu.address.model.jobapplication.JobTitle;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -34,15 +50,25 @@ import seedu.address.model.jobapplication.JobApplicationList;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Contact> displayedContacts;
     private final FilteredList<Contact> filteredContacts;
     private final SortedList<Contact> sortedContacts;
     private final JobApplicationList jobApplicationList;
-    private final SortedList<JobApplication> sortedApplications;
+    private final BatchableObservableList<JobApplication> matchingApplications = new BatchableObservableList<>();
+    private final SwitchableObservableList<JobApplication> shownApplications;
     private final FilteredList<JobApplication> filteredApplications;
-    private final FilteredList<JobApplication> displayedApplications;
+    private final SortedList<JobApplication> sortedApplications;
+    private final ObservableList<JobApplication> displayedApplications;
+    private final ApplicationStatistics applicationStatistics;
+    private final ModelEventBus eventBus = new ModelEventBus();
+    private final Set<Id> visibleOrganizationIds = new HashSet<>();
+    private Predicate<Contact> contactPredicate = PREDICATE_SHOW_ALL_CONTACTS;
+    private ApplicationFilter applicationFilter = ApplicationFilter.ALL;
+    private ContactFilter contactFilter = null;
+    private CompressedBitmap filteredContactHandles = null;
+    private boolean isFilteringApplicationsByVisibility = false;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -52,17 +78,28 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // The filtered handles must be updated before the filtered list re-tests the changed contacts against them.
+        this.addressBook.getContactList().addListener(this::updateFilteredContactHandles);
         this.sortedContacts = new SortedList<>(this.addressBook.getContactList());
         this.filteredContacts = new FilteredList<>(sortedContacts);
         this.displayedContacts = filteredContacts;
-        ObservableList<JobApplication> applicationList =
-                FXCollections.observableArrayList(extractApplicationsFromContacts(filteredContacts));
-        this.jobApplicationList = new JobApplicationList(applicationList);
-        this.sortedApplications = new SortedList<>(applicationList);
-        this.filteredApplications = new FilteredList<>(this.sortedApplications, s->true);
-        this.displayedApplications = filteredApplications;
+        // Visibility must be updated before the applications, so that changed applications are filtered by it.
+        this.addressBook.getContactList().forEach(this::updateVisibility);
+        this.addressBook.getContactList().addListener(this::updateVisibleOrganizationIds);
+        this.jobApplicationList = new JobApplicationList(this.addressBook.getContactList());
+        this.jobApplicationList.getApplications().addListener(this::updateMatchingApplications);
+        // All applications are shown unless an application filter is applied, in which case only the applications
+        // found from the indexes for it are shown, so that narrow filters do not test every application.
+        this.shownApplications = new SwitchableObservableList<>(jobApplicationList.getApplications());
+        // Applications are filtered before they are sorted, so that narrow filters only sort what they keep.
+        // They are shown least recently updated first until sorted otherwise.
+        this.filteredApplications = new FilteredList<>(shownApplications, s->true);
+        this.sortedApplications = new SortedList<>(this.filteredApplications, JobApplication.LAST_UPDATED_COMPARATOR);
+        this.displayedApplications = sortedApplications;
+        this.applicationStatistics = new ApplicationStatistics(this.addressBook.getContactList());
+        this.applicationStatistics.subscribeTo(eventBus);
     }
 
     public ModelManager() {
@@ -109,7 +146,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
-        this.jobApplicationList.setAll(extractApplicationsFromContacts(addressBook.getContactList()));
+        eventBus.publish(new AddressBookResetEvent(this.addressBook));
     }
 
     @Override
@@ -126,16 +163,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteContact(Contact target) {
         addressBook.removeContact(target);
-        if (target.getType() == Type.ORGANIZATION) {
-            for (JobApplication i: ((Organization) target).getJobApplications()) {
-                jobApplicationList.remove(i);
-            }
-        }
+        publishContactChange(target, null);
     }
 
     @Override
     public void addContact(Contact contact) {
         addressBook.addContact(contact);
+        publishContactChange(null, contact);
         updateFilteredContactList(PREDICATE_SHOW_ALL_CONTACTS);
 
     }
@@ -145,18 +179,133 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedContact);
 
         addressBook.setContact(target, editedContact);
+        publishContactChange(target, editedContact);
+    }
+
+    @Override
+    public ContactListSnapshot getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public boolean commitAddressBook() {
+        return addressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        ContactListSnapshot before = addressBook.snapshot();
+        addressBook.undo();
+        publishContactChangesSince(before);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        ContactListSnapshot before = addressBook.snapshot();
+        addressBook.redo();
+        publishContactChangesSince(before);
+    }
+
+    @Override
+    public <E extends Exception> void preview(Transaction<E> transaction) throws E {
+        requireNonNull(transaction);
+        ContactListSnapshot before = addressBook.snapshot();
+        DisplayState displayState = new DisplayState();
+        try {
+            transaction.run();
+        } finally {
+            ContactListSnapshot previewed = addressBook.snapshot();
+            addressBook.restore(before);
+            publishContactChangesSince(previewed);
+            displayState.restore();
+        }
+    }
+
+    @Override
+    public <E extends Exception> void batch(Transaction<E> transaction) throws E {
+        requireNonNull(transaction);
+        ContactListSnapshot before = addressBook.snapshot();
+        boolean isCompleted = false;
+        addressBook.beginBatch();
+        try {
+            transaction.run();
+            isCompleted = true;
+        } finally {
+            if (!isCompleted) {
+                ContactListSnapshot failed = addressBook.snapshot();
+                addressBook.restore(before);
+                publishContactChangesSince(failed);
+            }
+            addressBook.endBatch();
+        }
+    }
 
-        if (target.getType() != Type.ORGANIZATION || editedContact.getType() != Type.ORGANIZATION) {
-            // guard clause
+    @Override
+    public ModelEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Publishes the events for the contacts that changed since {@code before}, which takes time proportional to the
+     * number of changes.
+     */
+    private void publishContactChangesSince(ContactListSnapshot before) {
+        ContactListSnapshot after = addressBook.snapshot();
+        for (Id id : after.getIdsChangedFrom(before)) {
+            publishContactChange(before.getContactById(id), after.getContactById(id));
+        }
+    }
+
+    /**
+     * Publishes the event for {@code oldContact} having been replaced by {@code newContact}, followed by the events
+     * for the applications that changed if either is an organization.
+     * Either may be null if a contact was only added or removed.
+     */
+    private void publishContactChange(Contact oldContact, Contact newContact) {
+        if (oldContact == newContact) {
             return;
         }
-        if (target.getName().equals(editedContact.getName()) && target.getId().equals(editedContact.getId())) {
-            // guard clause
+        eventBus.publish(new ContactEvent(oldContact, newContact));
+        publishApplicationChanges(asOrganization(oldContact), asOrganization(newContact));
+    }
+
+    /**
+     * Publishes the events for the applications that differ between {@code oldOrganization} and
+     * {@code newOrganization}. Either may be null if there was no such organization.
+     * If both are the same organization, only the applications that changed are visited.
+     */
+    private void publishApplicationChanges(Organization oldOrganization, Organization newOrganization) {
+        if (oldOrganization == null || newOrganization == null
+                || !oldOrganization.getId().equals(newOrganization.getId())) {
+            if (oldOrganization != null) {
+                oldOrganization.getJobApplications()
+                        .forEach(application -> eventBus.publish(new ApplicationEvent(application, null)));
+            }
+            if (newOrganization != null) {
+                newOrganization.getJobApplications()
+                        .forEach(application -> eventBus.publish(new ApplicationEvent(null, application)));
+            }
             return;
         }
 
-        updateApplicationNames((Organization) editedContact, (Organization) target);
+        for (JobTitle jobTitle : newOrganization.getJobTitlesChangedFrom(oldOrganization)) {
+            eventBus.publish(new ApplicationEvent(oldOrganization.getJobApplication(jobTitle),
+                    newOrganization.getJobApplication(jobTitle)));
+        }
+    }
 
+    private static Organization asOrganization(Contact contact) {
+        return contact != null && contact.getType() == Type.ORGANIZATION ? (Organization) contact : null;
     }
 
     @Override
@@ -164,6 +313,21 @@ public class ModelManager implements Model {
         return addressBook.getContactById(id);
     }
 
+    @Override
+    public List<Contact> getChildrenOf(Id parentId) {
+        return addressBook.getChildrenOf(parentId);
+    }
+
+    @Override
+    public List<Contact> getContactsSharingKey(ContactKeyIndex.Key key, Contact contact) {
+        return addressBook.getContactsSharingKey(key, contact);
+    }
+
+    @Override
+    public List<List<Contact>> getDuplicates(ContactKeyIndex.Key key) {
+        return addressBook.getDuplicates(key);
+    }
+
     @Override
     public Contact getContactByIdXorIndex(Id id, Index index) throws IllegalValueException {
         Contact contact;
@@ -200,21 +364,19 @@ public class ModelManager implements Model {
             throw new IllegalValueException("Id field is invalid!"); // TODO: Should I change this?
         }
 
-        int index = jobApplicationList.indexOf(oldApplication);
-
-        if (index < 0) {
+        if (jobApplicationList.indexOf(oldApplication) < 0) {
             throw new IllegalValueException("Job application does not exist."); // should never reach here.
         }
 
         Organization organization = (Organization) contact;
+        Organization editedOrganization;
         try {
-            organization.replaceJobApplication(oldApplication, newApplication);
+            editedOrganization = organization.withReplacedJobApplication(oldApplication, newApplication);
         } catch (IllegalOperationException e) {
             throw new IllegalValueException(e.getMessage());
         }
-
-        jobApplicationList.set(index, newApplication);
-
+        addressBook.setContact(organization, editedOrganization);
+        publishContactChange(organization, editedOrganization);
     }
 
     @Override
@@ -224,15 +386,27 @@ public class ModelManager implements Model {
             throw new IllegalValueException("Id field is invalid!");
         }
         Organization org = (Organization) contact;
-        this.jobApplicationList.remove(application);
-        org.deleteJobApplication(application);
+        Organization editedOrg = org.withoutJobApplication(application);
+        if (editedOrg == org) {
+            return;
+        }
+        addressBook.setContact(org, editedOrg);
+        publishContactChange(org, editedOrg);
     }
 
     @Override
     public void addApplication(JobApplication application) {
-        jobApplicationList.add(application);
+        Contact contact = getContactById(application.getOrganizationId());
+        assert contact != null && contact.getType() == Type.ORGANIZATION;
+        Organization org = (Organization) contact;
+        Organization editedOrg = org.withJobApplication(application);
+        addressBook.setContact(org, editedOrg);
+        publishContactChange(org, editedOrg);
         // TODO: Tech debt - need separate declaration for the predicates
+        applicationFilter = ApplicationFilter.ALL;
+        showApplicationsMatchingFilter();
         filteredApplications.setPredicate(c -> true);
+        isFilteringApplicationsByVisibility = false;
     }
 
     //=========== Filtered Contact List Accessors =============================================================
@@ -249,9 +423,52 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredContactList(Predicate<Contact> predicate) {
         requireNonNull(predicate);
+        contactFilter = null;
+        filteredContactHandles = null;
         filteredContacts.setPredicate(predicate);
-        // TODO: Tech debt - inefficient?
-        filteredApplications.setPredicate(a -> predicate.test(getContactById(a.getOrganizationId())));
+        contactPredicate = predicate;
+        // The visible organizations are read off the filtered list, rather than found by testing every contact again.
+        visibleOrganizationIds.clear();
+        filteredContacts.stream()
+                .filter(contact -> contact.getType() == Type.ORGANIZATION)
+                .forEach(contact -> visibleOrganizationIds.add(contact.getId()));
+        applicationFilter = ApplicationFilter.ALL;
+        showApplicationsMatchingFilter();
+        filterApplicationsByVisibility();
+    }
+
+    /**
+     * Shows only the applications of visible organizations among those matching the application filter.
+     * The set is shared with the predicate, so applications are filtered by the visibility at the time they are
+     * added or replaced.
+     */
+    private void filterApplicationsByVisibility() {
+        filteredApplications.setPredicate(a -> visibleOrganizationIds.contains(a.getOrganizationId()));
+        isFilteringApplicationsByVisibility = true;
+    }
+
+    @Override
+    public void updateFilteredContactList(Set<Id> contactIds) {
+        requireNonNull(contactIds);
+        updateFilteredContactList(contact -> contactIds.contains(contact.getId()));
+    }
+
+    @Override
+    public void updateFilteredContactList(ContactFilter filter) {
+        requireNonNull(filter);
+        ContactBitmapIndex index = addressBook.getBitmapIndex();
+        CompressedBitmap handles = filter.evaluate(addressBook);
+        contactFilter = filter;
+        filteredContactHandles = handles;
+        contactPredicate = contact -> handles.contains(index.handleOf(contact.getId()));
+        filteredContacts.setPredicate(contactPredicate);
+        // The visible organizations are read off the bitmap, rather than found by testing every contact again.
+        visibleOrganizationIds.clear();
+        CompressedBitmap.and(handles, index.getContactsOfType(Type.ORGANIZATION))
+                .forEach(handle -> visibleOrganizationIds.add(index.idOf(handle)));
+        applicationFilter = ApplicationFilter.ALL;
+        showApplicationsMatchingFilter();
+        filterApplicationsByVisibility();
     }
 
     @Override
@@ -269,6 +486,21 @@ public class ModelManager implements Model {
         sortedApplications.setComparator(comparator);
     }
 
+    @Override
+    public void updateFilteredApplicationList(ApplicationFilter filter) {
+        requireNonNull(filter);
+        applicationFilter = filter;
+        showApplicationsMatchingFilter();
+        if (isFilteringApplicationsByVisibility) {
+            filterApplicationsByVisibility();
+        }
+    }
+
+    @Override
+    public ApplicationStatistics getApplicationStatistics() {
+        return applicationStatistics;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -286,27 +518,132 @@ public class ModelManager implements Model {
                 && filteredContacts.equals(otherModelManager.filteredContacts);
     }
 
-    private void updateApplicationNames(Organization newOrg, Organization oldOrg) {
-        List<JobApplication> oldApplications = List.of(oldOrg.getJobApplications());
-        List<JobApplication> newApplications = List.of(newOrg.getJobApplications());
+    /**
+     * What the displayed lists show, as set by the filters and comparators applied to them, which can be restored
+     * after it is changed.
+     */
+    private class DisplayState {
+        private final Predicate<Contact> contactPredicate = ModelManager.this.contactPredicate;
+        private final ContactFilter contactFilter = ModelManager.this.contactFilter;
+        private final Comparator<? super Contact> contactComparator = sortedContacts.getComparator();
+        private final ApplicationFilter applicationFilter = ModelManager.this.applicationFilter;
+        private final boolean isFilteringApplicationsByVisibility =
+                ModelManager.this.isFilteringApplicationsByVisibility;
+        private final Predicate<? super JobApplication> applicationPredicate = filteredApplications.getPredicate();
+        private final Comparator<? super JobApplication> applicationComparator = sortedApplications.getComparator();
+
+        /**
+         * Shows the contacts and applications as they were shown when this state was taken.
+         * The contacts are only filtered again if their filter changed, as the visible organizations are otherwise
+         * kept up to date as the contacts change.
+         */
+        void restore() {
+            boolean isContactFilterChanged = contactFilter != ModelManager.this.contactFilter
+                    || contactPredicate != ModelManager.this.contactPredicate;
+            if (isContactFilterChanged && contactFilter != null) {
+                updateFilteredContactList(contactFilter);
+            } else if (isContactFilterChanged) {
+                updateFilteredContactList(contactPredicate);
+            }
+            sortedContacts.setComparator(contactComparator);
+            ModelManager.this.applicationFilter = applicationFilter;
+            ModelManager.this.isFilteringApplicationsByVisibility = isFilteringApplicationsByVisibility;
+            filteredApplications.setPredicate(applicationPredicate);
+            showApplicationsMatchingFilter();
+            sortedApplications.setComparator(applicationComparator);
+        }
+    }
 
-        for (JobApplication newApplication: newApplications) {
-            for (JobApplication oldApplication: oldApplications) {
-                if (!newApplication.looseEquals(oldApplication)) {
-                    continue;
+    /**
+     * Keeps the ids of visible organizations up to date as contacts are added, removed or replaced, so that the
+     * contact predicate is only evaluated for the contacts that changed.
+     * Unchanged applications of a replaced organization are not replaced, so the applications are filtered again
+     * if the visibility of a replaced organization changed.
+     */
+    private void updateVisibleOrganizationIds(ListChangeListener.Change<? extends Contact> change) {
+        boolean isReplacedVisibilityChanged = false;
+        while (change.next()) {
+            Map<Id, Boolean> wasVisibleById = new HashMap<>();
+            change.getRemoved().forEach(contact ->
+                    wasVisibleById.put(contact.getId(), visibleOrganizationIds.remove(contact.getId())));
+            for (Contact contact : change.getAddedSubList()) {
+                updateVisibility(contact);
+                Boolean wasVisible = wasVisibleById.get(contact.getId());
+                isReplacedVisibilityChanged |= wasVisible != null
+                        && wasVisible != visibleOrganizationIds.contains(contact.getId());
+            }
+        }
+        if (isReplacedVisibilityChanged && isFilteringApplicationsByVisibility) {
+            showApplicationsMatchingFilter();
+            filterApplicationsByVisibility();
+        }
+    }
+
+    /**
+     * Shows all applications if there is no application filter, or otherwise only the applications that the filter
+     * matches among those of visible organizations, as found from the indexes of the applications.
+     */
+    private void showApplicationsMatchingFilter() {
+        if (applicationFilter.equals(ApplicationFilter.ALL)) {
+            shownApplications.setSource(jobApplicationList.getApplications());
+            matchingApplications.clear();
+            return;
+        }
+        matchingApplications.setAll(jobApplicationList.getApplicationsMatching(applicationFilter, this::isVisible));
+        shownApplications.setSource(matchingApplications);
+    }
+
+    /**
+     * Finds the applications matching the application filter again whenever the applications change, so that
+     * changed applications are shown or hidden as they match, and limits such as the number of least recently
+     * updated applications to show are kept exactly.
+     * This only visits the matching applications, rather than testing every application again.
+     */
+    private void updateMatchingApplications(ListChangeListener.Change<? extends JobApplication> change) {
+        if (!applicationFilter.equals(ApplicationFilter.ALL)) {
+            matchingApplications.setAll(
+                    jobApplicationList.getApplicationsMatching(applicationFilter, this::isVisible));
+        }
+    }
+
+    /**
+     * Returns true if {@code application} belongs to an organization shown under the current contact filter.
+     */
+    private boolean isVisible(JobApplication application) {
+        return !isFilteringApplicationsByVisibility
+                || visibleOrganizationIds.contains(application.getOrganizationId());
+    }
+
+    /**
+     * Tests the contacts added or replaced in {@code change} against the current contact filter, if any, and updates
+     * the bitmap of filtered contacts with the results, so that it stays current without evaluating the filter again.
+     */
+    private void updateFilteredContactHandles(ListChangeListener.Change<? extends Contact> change) {
+        if (contactFilter == null) {
+            return;
+        }
+        ContactBitmapIndex index = addressBook.getBitmapIndex();
+        while (change.next()) {
+            for (Contact contact : change.getAddedSubList()) {
+                int handle = index.handleOf(contact.getId());
+                if (contactFilter.test(contact)) {
+                    filteredContactHandles.add(handle);
+                } else {
+                    filteredContactHandles.remove(handle);
                 }
-                int index = jobApplicationList.indexOf(oldApplication);
-                jobApplicationList.set(index, newApplication);
             }
         }
     }
 
-    private List<JobApplication> extractApplicationsFromContacts(List<Contact> contacts) {
-        return contacts.stream()
-                .filter(c -> c.getType() == Type.ORGANIZATION)
-                .flatMap(c -> Arrays.stream(((Organization) c).getJobApplications()))
-                .sorted(JobApplication.LAST_UPDATED_COMPARATOR)
-                .collect(Collectors.toList());
+    /**
+     * Records whether {@code contact} is a visible organization under the current contact predicate.
+     */
+    private void updateVisibility(Contact contact) {
+        if (contact.getType() == Type.ORGANIZATION && contactPredicate.test(contact)) {
+            visibleOrganizationIds.add(contact.getId());
+        } else {
+            visibleOrganizationIds.remove(contact.getId());
+        }
     }
 
 }
@@ -3,6 +3,8 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.contact.ContactKeyIndex;
+import seedu.address.model.contact.DuplicatePolicy;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,44 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    DuplicatePolicy getEmailDuplicatePolicy();
+
+    DuplicatePolicy getPhoneDuplicatePolicy();
+
+    /**
+     * Returns true if changes to the address book are appended to a journal next to the data file, rather than
+     * rewriting the whole data file.
+     */
+    boolean isAddressBookJournaled();
+
+    /**
+     * Returns true if the data file is written without indentation, which makes it smaller and faster to write.
+     */
+    boolean isAddressBookCompact();
+
+    /**
+     * Returns true if the address book is kept in a binary data file next to the json file path, which is faster to
+     * read and write. Journaling takes precedence over this.
+     */
+    boolean isAddressBookBinary();
+
+    /**
+     * Gives how long, in milliseconds, changes to the address book are gathered before they are written together.
+     */
+    long getAddressBookSaveDelayMillis();
+
+    /**
+     * Gives how contacts sharing the given key with another contact are treated.
+     */
+    default DuplicatePolicy getDuplicatePolicy(ContactKeyIndex.Key key) {
+        switch (key) {
+        case EMAIL:
+            return getEmailDuplicatePolicy();
+        case PHONE:
+            return getPhoneDuplicatePolicy();
+        default:
+            throw new IllegalArgumentException("Unknown key: " + key);
+        }
+    }
+
 }
@@ -1,12 +1,14 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.contact.DuplicatePolicy;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "jobby.json");
+    private DuplicatePolicy emailDuplicatePolicy = DuplicatePolicy.WARN;
+    private DuplicatePolicy phoneDuplicatePolicy = DuplicatePolicy.WARN;
+    private boolean isAddressBookJournaled = false;
+    private boolean isAddressBookCompact = false;
+    private boolean isAddressBookBinary = false;
+    private long addressBookSaveDelayMillis = 200;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setEmailDuplicatePolicy(newUserPrefs.getEmailDuplicatePolicy());
+        setPhoneDuplicatePolicy(newUserPrefs.getPhoneDuplicatePolicy());
+        setAddressBookJournaled(newUserPrefs.isAddressBookJournaled());
+        setAddressBookCompact(newUserPrefs.isAddressBookCompact());
+        setAddressBookBinary(newUserPrefs.isAddressBookBinary());
+        setAddressBookSaveDelayMillis(newUserPrefs.getAddressBookSaveDelayMillis());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +70,57 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public DuplicatePolicy getEmailDuplicatePolicy() {
+        return emailDuplicatePolicy;
+    }
+
+    public void setEmailDuplicatePolicy(DuplicatePolicy emailDuplicatePolicy) {
+        requireNonNull(emailDuplicatePolicy);
+        this.emailDuplicatePolicy = emailDuplicatePolicy;
+    }
+
+    public DuplicatePolicy getPhoneDuplicatePolicy() {
+        return phoneDuplicatePolicy;
+    }
+
+    public void setPhoneDuplicatePolicy(DuplicatePolicy phoneDuplicatePolicy) {
+        requireNonNull(phoneDuplicatePolicy);
+        this.phoneDuplicatePolicy = phoneDuplicatePolicy;
+    }
+
+    public boolean isAddressBookJournaled() {
+        return isAddressBookJournaled;
+    }
+
+    public void setAddressBookJournaled(boolean isAddressBookJournaled) {
+        this.isAddressBookJournaled = isAddressBookJournaled;
+    }
+
+    public boolean isAddressBookCompact() {
+        return isAddressBookCompact;
+    }
+
+    public void setAddressBookCompact(boolean isAddressBookCompact) {
+        this.isAddressBookCompact = isAddressBookCompact;
+    }
+
+    public boolean isAddressBookBinary() {
+        return isAddressBookBinary;
+    }
+
+    public void setAddressBookBinary(boolean isAddressBookBinary) {
+        this.isAddressBookBinary = isAddressBookBinary;
+    }
+
+    public long getAddressBookSaveDelayMillis() {
+        return addressBookSaveDelayMillis;
+    }
+
+    public void setAddressBookSaveDelayMillis(long addressBookSaveDelayMillis) {
+        checkArgument(addressBookSaveDelayMillis >= 0, "Save delay must not be negative.");
+        this.addressBookSaveDelayMillis = addressBookSaveDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +134,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && emailDuplicatePolicy == otherUserPrefs.emailDuplicatePolicy
+                && phoneDuplicatePolicy == otherUserPrefs.phoneDuplicatePolicy
+                && isAddressBookJournaled == otherUserPrefs.isAddressBookJournaled
+                && isAddressBookCompact == otherUserPrefs.isAddressBookCompact
+                && isAddressBookBinary == otherUserPrefs.isAddressBookBinary
+                && addressBookSaveDelayMillis == otherUserPrefs.addressBookSaveDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, emailDuplicatePolicy, phoneDuplicatePolicy,
+                isAddressBookJournaled, isAddressBookCompact, isAddressBookBinary, addressBookSaveDelayMillis);
     }
 
     @Override
@@ -82,6 +154,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nDuplicate emails : " + emailDuplicatePolicy);
+        sb.append("\nDuplicate phones : " + phoneDuplicatePolicy);
+        sb.append("\nJournaled data file : " + isAddressBookJournaled);
+        sb.append("\nCompact data file : " + isAddressBookCompact);
+        sb.append("\nBinary data file : " + isAddressBookBinary);
+        sb.append("\nSave delay (ms) : " + addressBookSaveDelayMillis);
         return sb.toString();
     }
 
@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import seedu.address.model.contact.ContactListSnapshot;
+
+/**
+ * An {@code AddressBook} that remembers its committed versions, so that changes can be undone and redone.
+ *
+ * Each version is a {@code ContactListSnapshot}, which shares the unchanged contacts with the other versions, so
+ * committing takes constant time and a retained version only costs memory for the contacts that changed in it.
+ * Moving between versions only changes the contacts that differ. At most {@code historyLimit} versions can be
+ * undone, and older versions are forgotten.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    public static final int DEFAULT_HISTORY_LIMIT = 50;
+
+    private final Deque<ContactListSnapshot> undoHistory = new ArrayDeque<>();
+    private final Deque<ContactListSnapshot> redoHistory = new ArrayDeque<>();
+    private final int historyLimit;
+    private ContactListSnapshot currentVersion;
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the contacts of {@code initialState} as its only version.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, DEFAULT_HISTORY_LIMIT);
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the contacts of {@code initialState} as its only version, which
+     * keeps at most {@code historyLimit} versions to undo.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyLimit) {
+        super(initialState);
+        checkArgument(historyLimit >= 0, "History limit must not be negative.");
+        this.historyLimit = historyLimit;
+        this.currentVersion = snapshot();
+    }
+
+    /**
+     * Saves the current contacts as a new version, if they changed since the last version.
+     * Versions that were undone can no longer be redone after this.
+     *
+     * @return true if a new version was saved.
+     */
+    public boolean commit() {
+        ContactListSnapshot newVersion = snapshot();
+        if (newVersion.isSameAs(currentVersion)) {
+            return false;
+        }
+        undoHistory.push(currentVersion);
+        if (undoHistory.size() > historyLimit) {
+            undoHistory.removeLast();
+        }
+        redoHistory.clear();
+        currentVersion = newVersion;
+        return true;
+    }
+
+    public boolean canUndo() {
+        return !undoHistory.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoHistory.isEmpty();
+    }
+
+    /**
+     * Restores the previous version, discarding any changes since the last version.
+     * There must be a version to undo.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no version to undo.");
+        }
+        redoHistory.push(currentVersion);
+        currentVersion = undoHistory.pop();
+        restore(currentVersion);
+    }
+
+    /**
+     * Restores the version that was last undone, discarding any changes since the last version.
+     * There must be a version to redo.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no version to redo.");
+        }
+        undoHistory.push(currentVersion);
+        currentVersion = redoHistory.pop();
+        restore(currentVersion);
+    }
+
+    /**
+     * Discards any changes since the last version.
+     */
+    public void rollback() {
+        restore(currentVersion);
+    }
+}
@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
@@ -31,15 +30,16 @@ public abstract class Contact {
     private final Optional<Address> address;
     private final Set<Tag> tags = new HashSet<>();
 
-    private final Optional<Contact> parent;
+    private final Optional<Id> parentId;
 
     /**
      * Name and id fields must be non-null.
      * Tags must be non-null but can be empty as well.
      * The other fields can be null.
+     * The parent, if any, is given by its id.
      */
     public Contact(Name name, Id id, Phone phone, Email email, Url url, Address address, Set<Tag> tags,
-                   Contact parent) {
+                   Id parentId) {
         requireAllNonNull(name, id, tags);
         this.name = name;
         this.id = id;
@@ -48,7 +48,7 @@ public abstract class Contact {
         this.url = Optional.ofNullable(url);
         this.address = Optional.ofNullable(address);
         this.tags.addAll(tags);
-        this.parent = Optional.ofNullable(parent);
+        this.parentId = Optional.ofNullable(parentId);
     }
 
     public abstract Type getType();
@@ -99,10 +99,17 @@ public abstract class Contact {
     }
 
     /**
-     * Gives the parent of this contact.
+     * Gives the id of the parent of this contact.
      */
-    public Optional<Contact> getParent() {
-        return parent;
+    public Optional<Id> getParentId() {
+        return parentId;
+    }
+
+    /**
+     * Gives the parent of this contact, as found in the model.
+     */
+    public Optional<Contact> getParent(Model model) {
+        return parentId.map(model::getContactById);
     }
 
     /**
@@ -110,11 +117,7 @@ public abstract class Contact {
      */
     public List<Contact> getChildren(Model model) {
         // TODO add to DG
-        return model.getAddressBook().getContactList().stream()
-                .filter(contact -> contact.getParent()
-                        .map(parent -> parent.equals(this))
-                        .orElse(false))
-                .collect(Collectors.toList());
+        return model.getChildrenOf(id);
     }
 
     /**
@@ -0,0 +1,163 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of contacts as compressed bitmaps over dense int handles, one bitmap per type, tag, and for the
+ * organizations with applications.
+ *
+ * Each id is given the next free handle the first time it is seen, and keeps it for the lifetime of the index, even
+ * after its contact is removed. A bitmap taken from the index therefore always refers to the same contacts, while
+ * handles stay dense as long as ids are not changed often. Filters over the indexed properties are then answered by
+ * combining bitmaps a word at a time, instead of by testing every contact.
+ */
+public class ContactBitmapIndex {
+
+    private final Map<Id, Integer> handlesById = new HashMap<>();
+    private final List<Id> idsByHandle = new ArrayList<>();
+    private final CompressedBitmap contacts = new CompressedBitmap();
+    private final Map<Type, CompressedBitmap> contactsByType = new EnumMap<>(Type.class);
+    private final CompressedBitmap contactsWithApplications = new CompressedBitmap();
+    private final Map<Tag, CompressedBitmap> contactsByTag = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public ContactBitmapIndex() {
+        for (Type type : Type.values()) {
+            contactsByType.put(type, new CompressedBitmap());
+        }
+    }
+
+    /**
+     * Gives the handle of {@code id}, giving it the next free handle if it has none yet.
+     */
+    public int handleOf(Id id) {
+        requireNonNull(id);
+        Integer handle = handlesById.get(id);
+        if (handle == null) {
+            handle = idsByHandle.size();
+            handlesById.put(id, handle);
+            idsByHandle.add(id);
+        }
+        return handle;
+    }
+
+    /**
+     * Gives the id with the given handle.
+     */
+    public Id idOf(int handle) {
+        return idsByHandle.get(handle);
+    }
+
+    /**
+     * Adds {@code contact} to the bitmaps of its properties.
+     */
+    void add(Contact contact) {
+        requireNonNull(contact);
+        int handle = handleOf(contact.getId());
+        contacts.add(handle);
+        contactsByType.get(contact.getType()).add(handle);
+        if (hasApplications(contact)) {
+            contactsWithApplications.add(handle);
+        }
+        for (Tag tag : contact.getTags()) {
+            contactsByTag.computeIfAbsent(tag, t -> new CompressedBitmap()).add(handle);
+        }
+    }
+
+    /**
+     * Removes {@code contact} from the bitmaps of its properties. Its id keeps its handle.
+     */
+    void remove(Contact contact) {
+        requireNonNull(contact);
+        Integer handle = handlesById.get(contact.getId());
+        if (handle == null) {
+            return;
+        }
+        contacts.remove(handle);
+        contactsByType.get(contact.getType()).remove(handle);
+        contactsWithApplications.remove(handle);
+        for (Tag tag : contact.getTags()) {
+            CompressedBitmap tagged = contactsByTag.get(tag);
+            if (tagged == null) {
+                continue;
+            }
+            tagged.remove(handle);
+            if (tagged.isEmpty()) {
+                contactsByTag.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Removes every contact from the bitmaps. Ids keep their handles.
+     */
+    void clear() {
+        contacts.clear();
+        contactsByType.values().forEach(CompressedBitmap::clear);
+        contactsWithApplications.clear();
+        contactsByTag.clear();
+    }
+
+    /**
+     * Gives the handles of all contacts in the index.
+     */
+    public CompressedBitmap getContacts() {
+        return contacts.copy();
+    }
+
+    /**
+     * Gives the handles of the contacts of the given type.
+     */
+    public CompressedBitmap getContactsOfType(Type type) {
+        requireNonNull(type);
+        return contactsByType.get(type).copy();
+    }
+
+    /**
+     * Gives the handles of the organizations with at least one application.
+     */
+    public CompressedBitmap getContactsWithApplications() {
+        return contactsWithApplications.copy();
+    }
+
+    /**
+     * Gives the handles of the contacts with {@code tag}.
+     */
+    public CompressedBitmap getContactsWithTag(Tag tag) {
+        requireNonNull(tag);
+        CompressedBitmap tagged = contactsByTag.get(tag);
+        return tagged == null ? new CompressedBitmap() : tagged.copy();
+    }
+
+    /**
+     * Gives the handles of the contacts with the given ids.
+     */
+    public CompressedBitmap toBitmap(Collection<Id> ids) {
+        requireNonNull(ids);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (Id id : ids) {
+            bitmap.add(handleOf(id));
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns true if {@code contact} has applications, which only organizations may have.
+     */
+    static boolean hasApplications(Contact contact) {
+        return contact.getType() == Type.ORGANIZATION
+                && !((Organization) contact).getJobApplications().isEmpty();
+    }
+}
@@ -0,0 +1,299 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A filter over contacts, made up of the properties kept in a {@code ContactBitmapIndex} and search queries,
+ * combined with and, or and not.
+ *
+ * A filter is evaluated against an address book as a bitmap of the handles of the matching contacts. Each property
+ * gives its bitmap from the index, each query gives the bitmap of the ids found from the token index, and these are
+ * combined a word at a time, so evaluating a filter does not test every contact. Negated parts of a conjunction are
+ * subtracted from it rather than complemented first.
+ *
+ * A filter can also be tested against a single contact, which agrees with its evaluation.
+ */
+public abstract class ContactFilter implements Predicate<Contact> {
+
+    public static final ContactFilter ALL = new AllOf(List.of());
+    public static final ContactFilter ORGANIZATIONS = new OfType(Type.ORGANIZATION);
+    public static final ContactFilter RECRUITERS = new OfType(Type.RECRUITER);
+    public static final ContactFilter WITH_APPLICATIONS = new WithApplications();
+    public static final ContactFilter NOT_APPLIED_ORGANIZATIONS =
+            allOf(List.of(ORGANIZATIONS, not(WITH_APPLICATIONS)));
+
+    /** The property, query or filters that this filter is made of, by which filters of a kind are compared. */
+    private final Object operand;
+
+    private ContactFilter(Object operand) {
+        this.operand = operand;
+    }
+
+    /**
+     * Gives a filter matching the contacts with {@code tag}.
+     */
+    public static ContactFilter withTag(Tag tag) {
+        return new WithTag(tag);
+    }
+
+    /**
+     * Gives a filter matching the contacts that {@code query} matches.
+     */
+    public static ContactFilter matching(ContactQuery query) {
+        return new Matching(query);
+    }
+
+    /**
+     * Gives a filter matching the contacts that every one of {@code filters} matches. This is {@link #ALL} if there
+     * are no filters, and the only filter if there is one.
+     */
+    public static ContactFilter allOf(List<ContactFilter> filters) {
+        requireAllNonNull(filters);
+        return filters.size() == 1 ? filters.get(0) : new AllOf(List.copyOf(filters));
+    }
+
+    /**
+     * Gives a filter matching the contacts that any of {@code filters} matches.
+     */
+    public static ContactFilter anyOf(List<ContactFilter> filters) {
+        requireAllNonNull(filters);
+        return filters.size() == 1 ? filters.get(0) : new AnyOf(List.copyOf(filters));
+    }
+
+    /**
+     * Gives a filter matching the contacts that {@code filter} does not match.
+     */
+    public static ContactFilter not(ContactFilter filter) {
+        return new Not(filter);
+    }
+
+    /**
+     * Gives the handles, in the bitmap index of {@code addressBook}, of the contacts in it that this filter matches.
+     */
+    public CompressedBitmap evaluate(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        return evaluate(addressBook, addressBook.getBitmapIndex());
+    }
+
+    /**
+     * Gives the handles, in {@code index}, of the contacts in {@code addressBook} that this filter matches.
+     * The result may be changed by the caller.
+     */
+    abstract CompressedBitmap evaluate(AddressBook addressBook, ContactBitmapIndex index);
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContactFilter)) {
+            return false;
+        }
+
+        ContactFilter otherFilter = (ContactFilter) other;
+        return getClass().equals(otherFilter.getClass())
+                && Objects.equals(operand, otherFilter.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), operand);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("operand", operand)
+                .toString();
+    }
+
+    /**
+     * A filter matching the contacts of a type.
+     */
+    private static class OfType extends ContactFilter {
+        private final Type type;
+
+        OfType(Type type) {
+            super(type);
+            this.type = requireNonNull(type);
+        }
+
+        @Override
+        public boolean test(Contact contact) {
+            return contact.getType() == type;
+        }
+
+        @Override
+        CompressedBitmap evaluate(AddressBook addressBook, ContactBitmapIndex index) {
+            return index.getContactsOfType(type);
+        }
+    }
+
+    /**
+     * A filter matching the organizations with at least one application.
+     */
+    private static class WithApplications extends ContactFilter {
+        WithApplications() {
+            super(null);
+        }
+
+        @Override
+        public boolean test(Contact contact) {
+            return ContactBitmapIndex.hasApplications(contact);
+        }
+
+        @Override
+        CompressedBitmap evaluate(AddressBook addressBook, ContactBitmapIndex index) {
+            return index.getContactsWithApplications();
+        }
+    }
+
+    /**
+     * A filter matching the contacts with a tag.
+     */
+    private static class WithTag extends ContactFilter {
+        private final Tag tag;
+
+        WithTag(Tag tag) {
+            super(tag);
+            this.tag = requireNonNull(tag);
+        }
+
+        @Override
+        public boolean test(Contact contact) {
+            return contact.getTags().contains(tag);
+        }
+
+        @Override
+        CompressedBitmap evaluate(AddressBook addressBook, ContactBitmapIndex index) {
+            return index.getContactsWithTag(tag);
+        }
+    }
+
+    /**
+     * A filter matching the contacts that a search query matches.
+     */
+    private static class Matching extends ContactFilter {
+        private final ContactQuery query;
+
+        Matching(ContactQuery query) {
+            super(query);
+            this.query = requireNonNull(query);
+        }
+
+        @Override
+        public boolean test(Contact contact) {
+            return query.test(contact);
+        }
+
+        @Override
+        CompressedBitmap evaluate(AddressBook addressBook, ContactBitmapIndex index) {
+            return index.toBitmap(query.findMatchingIds(addressBook));
+        }
+    }
+
+    /**
+     * A filter matching the contacts that all of its filters match.
+     */
+    private static class AllOf extends ContactFilter {
+        private final List<ContactFilter> filters;
+
+        AllOf(List<ContactFilter> filters) {
+            super(filters);
+            this.filters = filters;
+        }
+
+        @Override
+        public boolean test(Contact contact) {
+            return filters.stream().allMatch(filter -> filter.test(contact));
+        }
+
+        @Override
+        CompressedBitmap evaluate(AddressBook addressBook, ContactBitmapIndex index) {
+            List<ContactFilter> negatedFilters = new ArrayList<>();
+            CompressedBitmap result = null;
+            for (ContactFilter filter : filters) {
+                if (filter instanceof Not) {
+                    negatedFilters.add(((Not) filter).filter);
+                    continue;
+                }
+                CompressedBitmap handles = filter.evaluate(addressBook, index);
+                result = result == null ? handles : CompressedBitmap.and(result, handles);
+                if (result.isEmpty()) {
+                    return result;
+                }
+            }
+            if (result == null) {
+                result = index.getContacts();
+            }
+            for (ContactFilter filter : negatedFilters) {
+                result = CompressedBitmap.andNot(result, filter.evaluate(addressBook, index));
+                if (result.isEmpty()) {
+                    return result;
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A filter matching the contacts that any of its filters match.
+     */
+    private static class AnyOf extends ContactFilter {
+        private final List<ContactFilter> filters;
+
+        AnyOf(List<ContactFilter> filters) {
+            super(filters);
+            this.filters = filters;
+        }
+
+        @Override
+        public boolean test(Contact contact) {
+            return filters.stream().anyMatch(filter -> filter.test(contact));
+        }
+
+        @Override
+        CompressedBitmap evaluate(AddressBook addressBook, ContactBitmapIndex index) {
+            CompressedBitmap result = new CompressedBitmap();
+            for (ContactFilter filter : filters) {
+                result = CompressedBitmap.or(result, filter.evaluate(addressBook, index));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A filter matching the contacts that its filter does not match.
+     */
+    private static class Not extends ContactFilter {
+        private final ContactFilter filter;
+
+        Not(ContactFilter filter) {
+            super(filter);
+            this.filter = requireNonNull(filter);
+        }
+
+        @Override
+        public boolean test(Contact contact) {
+            return !filter.test(contact);
+        }
+
+        @Override
+        CompressedBitmap evaluate(AddressBook addressBook, ContactBitmapIndex index) {
+            return CompressedBitmap.andNot(index.getContacts(), filter.evaluate(addressBook, index));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A hash index from the normalized emails and phone numbers of contacts to the contacts having them.
+ *
+ * Unlike ids, emails and phone numbers may be shared by several contacts, so each key maps to all the contacts
+ * having it, in the order they were added. The contacts with a given key, and the keys shared by more than one
+ * contact, are then found without comparing every pair of contacts.
+ */
+public class ContactKeyIndex {
+
+    /**
+     * The fields of a contact that are indexed as keys.
+     */
+    public enum Key {
+        EMAIL, PHONE
+    }
+
+    private final Map<Key, Map<String, Map<Id, Contact>>> contactsByKey = new EnumMap<>(Key.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public ContactKeyIndex() {
+        for (Key key : Key.values()) {
+            contactsByKey.put(key, new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Returns the normalized value of the given key of {@code contact}, if it has one.
+     * Emails are compared ignoring case, as the domain of an address is case-insensitive and users rarely rely on
+     * the case of the local part.
+     */
+    public static Optional<String> keyOf(Contact contact, Key key) {
+        requireAllNonNull(contact, key);
+        switch (key) {
+        case EMAIL:
+            return contact.getEmail().map(email -> email.value.toLowerCase());
+        case PHONE:
+            return contact.getPhone().map(phone -> phone.value);
+        default:
+            throw new IllegalArgumentException("Unknown key: " + key);
+        }
+    }
+
+    /**
+     * Adds {@code contact} under each of its keys.
+     */
+    public void add(Contact contact) {
+        requireNonNull(contact);
+        for (Key key : Key.values()) {
+            keyOf(contact, key).ifPresent(value -> contactsByKey.get(key)
+                    .computeIfAbsent(value, v -> new LinkedHashMap<>())
+                    .put(contact.getId(), contact));
+        }
+    }
+
+    /**
+     * Removes {@code contact} from under each of its keys.
+     */
+    public void remove(Contact contact) {
+        requireNonNull(contact);
+        for (Key key : Key.values()) {
+            keyOf(contact, key).ifPresent(value -> {
+                Map<String, Map<Id, Contact>> contactsByValue = contactsByKey.get(key);
+                Map<Id, Contact> contacts = contactsByValue.get(value);
+                if (contacts == null) {
+                    return;
+                }
+                contacts.remove(contact.getId());
+                if (contacts.isEmpty()) {
+                    contactsByValue.remove(value);
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes every contact from the index.
+     */
+    public void clear() {
+        contactsByKey.values().forEach(Map::clear);
+    }
+
+    /**
+     * Gives the contacts with the same value of the given key as {@code contact}, other than {@code contact}
+     * itself. {@code contact} need not be in the index.
+     */
+    public List<Contact> getContactsSharingKey(Key key, Contact contact) {
+        requireAllNonNull(key, contact);
+        List<Contact> sharing = new ArrayList<>();
+        keyOf(contact, key).map(contactsByKey.get(key)::get).ifPresent(contacts -> contacts.values().stream()
+                .filter(other -> !other.getId().equals(contact.getId()))
+                .forEach(sharing::add));
+        return sharing;
+    }
+
+    /**
+     * Gives the groups of contacts that share a value of the given key, one group per value shared by more than one
+     * contact. This takes time linear to the number of distinct values.
+     */
+    public List<List<Contact>> getDuplicates(Key key) {
+        requireNonNull(key);
+        List<List<Contact>> duplicates = new ArrayList<>();
+        for (Map<Id, Contact> contacts : contactsByKey.get(key).values()) {
+            if (contacts.size() > 1) {
+                duplicates.add(new ArrayList<>(contacts.values()));
+            }
+        }
+        return duplicates;
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentMap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An immutable snapshot of the contacts in a {@code UniqueContactList}.
+ *
+ * Contacts are kept in persistent maps from their ids, along with the sequence number giving their position in the
+ * list. Snapshots taken from the same list share all the entries that did not change in between, so taking one
+ * takes constant time, retains memory only for the changed entries, and the contacts changed between two snapshots
+ * can be found in time proportional to the number of changes.
+ *
+ * A snapshot can also be read as an address book that never changes, e.g. to save it from another thread. Its contact
+ * list is only put in order when it is first asked for.
+ */
+public final class ContactListSnapshot implements ReadOnlyAddressBook {
+
+    private static final ContactListSnapshot EMPTY =
+            new ContactListSnapshot(PersistentMap.empty(), PersistentMap.empty());
+
+    private final PersistentMap<Id, Contact> contacts;
+    private final PersistentMap<Id, Long> sequences;
+    private volatile ObservableList<Contact> contactList;
+
+    ContactListSnapshot(PersistentMap<Id, Contact> contacts, PersistentMap<Id, Long> sequences) {
+        assert contacts.size() == sequences.size();
+        this.contacts = contacts;
+        this.sequences = sequences;
+    }
+
+    /**
+     * Returns the snapshot of an empty list.
+     */
+    public static ContactListSnapshot empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return contacts.size();
+    }
+
+    /**
+     * Gives the contact with the given id, or null if there is no such contact.
+     */
+    @Override
+    public Contact getContactById(Id id) {
+        requireNonNull(id);
+        return contacts.get(id);
+    }
+
+    /**
+     * Gives the contacts in the order of the list. This sorts all the contacts, so it should only be used when the
+     * whole list is needed.
+     */
+    public List<Contact> getContacts() {
+        return sequences.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .map(entry -> contacts.get(entry.getKey()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns an unmodifiable list of the contacts in the order of the list, which is sorted on the first call.
+     */
+    @Override
+    public ObservableList<Contact> getContactList() {
+        ObservableList<Contact> list = contactList;
+        if (list == null) {
+            list = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(getContacts()));
+            contactList = list;
+        }
+        return list;
+    }
+
+    /**
+     * Gives the sequence number of the contact with the given id, or null if there is no such contact.
+     * Contacts are in the increasing order of their sequence numbers, which are unique within a list.
+     */
+    public Long getSequenceById(Id id) {
+        requireNonNull(id);
+        return sequences.get(id);
+    }
+
+    /**
+     * Gives the sequence numbers of the contacts in increasing order, i.e. in the order of {@link #getContacts()}.
+     */
+    public long[] getSequences() {
+        return sequences.values().stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Gives the ids of the contacts that were added, removed, replaced or moved between {@code other} and this
+     * snapshot.
+     */
+    public Set<Id> getIdsChangedFrom(ContactListSnapshot other) {
+        requireNonNull(other);
+        Set<Id> ids = new HashSet<>(contacts.getKeysChangedFrom(other.contacts));
+        ids.addAll(sequences.getKeysChangedFrom(other.sequences));
+        return ids;
+    }
+
+    /**
+     * Returns true if this snapshot is known to hold the same contacts as {@code other} without comparing them,
+     * i.e. nothing changed between the two. This takes constant time.
+     */
+    public boolean isSameAs(ContactListSnapshot other) {
+        return contacts == other.contacts && sequences == other.sequences;
+    }
+
+    PersistentMap<Id, Contact> getContactMap() {
+        return contacts;
+    }
+
+    PersistentMap<Id, Long> getSequenceMap() {
+        return sequences;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("size", size())
+                .toString();
+    }
+}
@@ -0,0 +1,233 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.contact.ContactTokenIndex.Field;
+
+/**
+ * A compiled search query over contacts, made up of clauses that must all hold.
+ *
+ * Each clause matches contacts with a token in any of its fields that matches any of its patterns, and may be
+ * negated. Plain keywords are grouped into a single clause over the name and id of a contact.
+ *
+ * Matching ids can be found from the token index of an address book by a simple cost-based plan. Clauses are
+ * answered cheapest first. Once some candidates are known, each later clause is either answered from the index or
+ * tested against the candidates directly, whichever is estimated to be cheaper. Evaluation stops as soon as no
+ * candidates remain.
+ */
+public class ContactQuery implements Predicate<Contact> {
+
+    /** The fields searched by plain keywords. */
+    public static final List<Field> KEYWORD_FIELDS = List.of(Field.NAME, Field.ID);
+
+    private final List<Clause> clauses;
+
+    /**
+     * Creates a query that matches contacts satisfying all of the given clauses.
+     */
+    public ContactQuery(List<Clause> clauses) {
+        requireAllNonNull(clauses);
+        this.clauses = List.copyOf(clauses);
+    }
+
+    /**
+     * Creates a query that matches contacts whose name or id contains any of the given keywords, ignoring case.
+     * Empty keywords are ignored.
+     */
+    public static ContactQuery ofKeywords(List<String> keywords) {
+        List<TokenPattern> patterns = keywords.stream()
+                .filter(keyword -> !keyword.isEmpty())
+                .map(TokenPattern::compile)
+                .collect(Collectors.toList());
+        return new ContactQuery(List.of(new Clause(KEYWORD_FIELDS, patterns, false)));
+    }
+
+    @Override
+    public boolean test(Contact contact) {
+        return clauses.stream().allMatch(clause -> clause.test(contact));
+    }
+
+    /**
+     * Gives the ids of the contacts in {@code addressBook} that this query matches.
+     */
+    public Set<Id> findMatchingIds(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        List<Clause> plannedClauses = new ArrayList<>(clauses);
+        // Negated clauses can only narrow down existing candidates, so they are planned last.
+        plannedClauses.sort(Comparator.comparing((Clause clause) -> clause.isNegated)
+                .thenComparingLong(clause -> clause.getScanCost(addressBook)));
+
+        Set<Id> candidates = null;
+        List<Clause> clausesToTest = new ArrayList<>();
+        for (Clause clause : plannedClauses) {
+            if (candidates == null) {
+                candidates = clause.isNegated ? getAllIds(addressBook) : clause.findIds(addressBook);
+                if (!clause.isNegated) {
+                    continue;
+                }
+            }
+            if (candidates.isEmpty()) {
+                return candidates;
+            }
+
+            long testCost = (long) candidates.size() * clause.getTestCost();
+            if (testCost < clause.getScanCost(addressBook)) {
+                clausesToTest.add(clause);
+            } else if (clause.isNegated) {
+                candidates.removeAll(clause.findIds(addressBook));
+            } else {
+                candidates.retainAll(clause.findIds(addressBook));
+            }
+        }
+        if (candidates == null) {
+            return getAllIds(addressBook);
+        }
+        if (clausesToTest.isEmpty()) {
+            return candidates;
+        }
+
+        clausesToTest.sort(Comparator.comparingLong(Clause::getTestCost));
+        Set<Id> matchingIds = new HashSet<>();
+        for (Id id : candidates) {
+            Contact contact = addressBook.getContactById(id);
+            if (clausesToTest.stream().allMatch(clause -> clause.test(contact))) {
+                matchingIds.add(id);
+            }
+        }
+        return matchingIds;
+    }
+
+    private static Set<Id> getAllIds(AddressBook addressBook) {
+        return addressBook.getContactList().stream()
+                .map(Contact::getId)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContactQuery)) {
+            return false;
+        }
+
+        ContactQuery otherQuery = (ContactQuery) other;
+        return clauses.equals(otherQuery.clauses);
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("clauses", clauses).toString();
+    }
+
+    /**
+     * A clause of a {@code ContactQuery}, which matches contacts with a token in any of its fields that matches any
+     * of its patterns. A clause without patterns matches no contacts, unless it is negated.
+     */
+    public static class Clause implements Predicate<Contact> {
+        private final List<Field> fields;
+        private final List<TokenPattern> patterns;
+        private final boolean isNegated;
+
+        /**
+         * Creates a clause over the given fields and patterns.
+         */
+        public Clause(List<Field> fields, List<TokenPattern> patterns, boolean isNegated) {
+            requireAllNonNull(fields, patterns);
+            this.fields = List.copyOf(fields);
+            this.patterns = List.copyOf(patterns);
+            this.isNegated = isNegated;
+        }
+
+        @Override
+        public boolean test(Contact contact) {
+            boolean isMatch = fields.stream()
+                    .flatMap(field -> ContactTokenIndex.tokensOf(contact, field).stream())
+                    .anyMatch(token -> patterns.stream().anyMatch(pattern -> pattern.test(token)));
+            return isMatch != isNegated;
+        }
+
+        /**
+         * Gives the ids of the contacts in {@code addressBook} matching this clause, ignoring negation.
+         */
+        private Set<Id> findIds(AddressBook addressBook) {
+            Set<Id> ids = new HashSet<>();
+            for (Field field : fields) {
+                ids.addAll(addressBook.findContactIds(field, patterns));
+            }
+            return ids;
+        }
+
+        /**
+         * Estimates the cost of answering this clause from the token index of {@code addressBook}.
+         */
+        private long getScanCost(AddressBook addressBook) {
+            long tokenCount = fields.stream()
+                    .mapToLong(field -> addressBook.countTokensToScan(field, patterns))
+                    .sum();
+            return tokenCount * getPatternCost();
+        }
+
+        /**
+         * Estimates the cost of testing this clause against a single contact.
+         */
+        private long getTestCost() {
+            return (long) fields.size() * getPatternCost();
+        }
+
+        private long getPatternCost() {
+            return patterns.stream().mapToLong(TokenPattern::getCost).sum();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Clause)) {
+                return false;
+            }
+
+            Clause otherClause = (Clause) other;
+            return fields.equals(otherClause.fields)
+                    && patterns.equals(otherClause.patterns)
+                    && isNegated == otherClause.isNegated;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fields, patterns, isNegated);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("fields", fields)
+                    .add("patterns", patterns)
+                    .add("isNegated", isNegated)
+                    .toString();
+        }
+    }
+}
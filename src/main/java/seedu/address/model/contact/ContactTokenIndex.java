@@ -0,0 +1,221 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.TrigramIndex;
+
+/**
+ * An inverted index from the normalized tokens in the fields of contacts to the ids of those contacts.
+ *
+ * Tokens are the whitespace separated words of a field, in lower case. Contacts must be added to and removed from
+ * the index as they are added to and removed from the address book, so that searches can be answered from the
+ * posting lists instead of by testing every contact.
+ *
+ * The distinct tokens of the fields in {@link #TRIGRAM_FIELDS} are further indexed by their trigrams, so that
+ * patterns with a long enough required fragment only test the tokens that may contain it, rather than every token.
+ */
+public class ContactTokenIndex {
+
+    /**
+     * The fields of a contact that are indexed.
+     */
+    public enum Field {
+        NAME, ID, PHONE, EMAIL, ADDRESS, TAG
+    }
+
+    /** The fields whose tokens are indexed by trigram for substring searches. */
+    public static final Set<Field> TRIGRAM_FIELDS = Collections.unmodifiableSet(
+            EnumSet.of(Field.NAME, Field.ID, Field.EMAIL));
+
+    private final Map<Field, Map<String, Set<Id>>> postings = new EnumMap<>(Field.class);
+    private final Map<Field, TrigramIndex<String>> trigramIndexes = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public ContactTokenIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+        for (Field field : TRIGRAM_FIELDS) {
+            trigramIndexes.put(field, new TrigramIndex<>());
+        }
+    }
+
+    /**
+     * Returns the normalized form of {@code text} that tokens are stored and searched in.
+     */
+    public static String normalize(String text) {
+        return text.toLowerCase();
+    }
+
+    /**
+     * Returns the normalized tokens in the given field of {@code contact}.
+     */
+    public static Set<String> tokensOf(Contact contact, Field field) {
+        requireNonNull(contact);
+        Stream<String> values;
+        switch (field) {
+        case NAME:
+            values = Stream.of(contact.getName().fullName);
+            break;
+        case ID:
+            values = Stream.of(contact.getId().value);
+            break;
+        case PHONE:
+            values = contact.getPhone().map(phone -> phone.value).stream();
+            break;
+        case EMAIL:
+            values = contact.getEmail().map(email -> email.value).stream();
+            break;
+        case ADDRESS:
+            values = contact.getAddress().map(address -> address.value).stream();
+            break;
+        case TAG:
+            values = contact.getTags().stream().map(tag -> tag.tagName);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown field: " + field);
+        }
+        return values.flatMap(value -> Arrays.stream(normalize(value).split("\\s+")))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Adds the tokens of {@code contact} to the index.
+     */
+    public void add(Contact contact) {
+        for (Field field : Field.values()) {
+            Map<String, Set<Id>> fieldPostings = postings.get(field);
+            for (String token : tokensOf(contact, field)) {
+                fieldPostings.computeIfAbsent(token, t -> {
+                    if (trigramIndexes.containsKey(field)) {
+                        trigramIndexes.get(field).add(t, t);
+                    }
+                    return new HashSet<>();
+                }).add(contact.getId());
+            }
+        }
+    }
+
+    /**
+     * Removes the tokens of {@code contact} from the index.
+     */
+    public void remove(Contact contact) {
+        for (Field field : Field.values()) {
+            Map<String, Set<Id>> fieldPostings = postings.get(field);
+            for (String token : tokensOf(contact, field)) {
+                Set<Id> ids = fieldPostings.get(token);
+                if (ids == null) {
+                    continue;
+                }
+                ids.remove(contact.getId());
+                if (ids.isEmpty()) {
+                    fieldPostings.remove(token);
+                    if (trigramIndexes.containsKey(field)) {
+                        trigramIndexes.get(field).remove(token, token);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all contacts from the index.
+     */
+    public void clear() {
+        postings.values().forEach(Map::clear);
+        trigramIndexes.values().forEach(TrigramIndex::clear);
+    }
+
+    /**
+     * Gives the ids of the contacts with {@code token} in the given field, ignoring case.
+     */
+    public Set<Id> getIdsWithToken(Field field, String token) {
+        requireNonNull(token);
+        Set<Id> ids = postings.get(field).get(normalize(token));
+        return ids == null ? Collections.emptySet() : Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * Gives the ids of the contacts with a token in the given field that matches any of {@code patterns}.
+     * Only the candidate tokens of the field are tested, once, rather than every contact.
+     */
+    public Set<Id> getIdsWithTokenMatching(Field field, List<TokenPattern> patterns) {
+        requireNonNull(patterns);
+        Map<String, Set<Id>> fieldPostings = postings.get(field);
+        Set<Id> ids = new HashSet<>();
+        for (String token : getCandidateTokens(field, patterns)) {
+            if (patterns.stream().anyMatch(pattern -> pattern.test(token))) {
+                ids.addAll(fieldPostings.get(token));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Estimates the number of tokens in the given field that must be tested against {@code patterns}.
+     */
+    public int countTokensToScan(Field field, List<TokenPattern> patterns) {
+        requireNonNull(patterns);
+        if (!canUseTrigrams(field, patterns)) {
+            return postings.get(field).size();
+        }
+        TrigramIndex<String> trigramIndex = trigramIndexes.get(field);
+        return patterns.stream()
+                .mapToInt(pattern -> trigramIndex.estimateCandidates(pattern.getRequiredFragment()))
+                .sum();
+    }
+
+    /**
+     * Gives the tokens in the given field that may match any of {@code patterns}.
+     */
+    private Collection<String> getCandidateTokens(Field field, List<TokenPattern> patterns) {
+        if (!canUseTrigrams(field, patterns)) {
+            return postings.get(field).keySet();
+        }
+        TrigramIndex<String> trigramIndex = trigramIndexes.get(field);
+        Set<String> candidates = new HashSet<>();
+        for (TokenPattern pattern : patterns) {
+            candidates.addAll(trigramIndex.getCandidates(pattern.getRequiredFragment()));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns true if every token matching any of {@code patterns} can be found by trigram in the given field.
+     */
+    private boolean canUseTrigrams(Field field, List<TokenPattern> patterns) {
+        return trigramIndexes.containsKey(field)
+                && !patterns.isEmpty()
+                && patterns.stream().allMatch(pattern -> TrigramIndex.canLookUp(pattern.getRequiredFragment()));
+    }
+
+    /**
+     * Gives the number of distinct tokens in the given field.
+     */
+    public int getTokenCount(Field field) {
+        return postings.get(field).size();
+    }
+
+    /**
+     * Gives the number of entries in the trigram posting lists of all fields.
+     */
+    public long getTrigramPostingCount() {
+        return trigramIndexes.values().stream().mapToLong(TrigramIndex::getPostingCount).sum();
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.model.contact;
+
+/**
+ * How a contact whose email or phone number is already used by another contact is treated.
+ */
+public enum DuplicatePolicy {
+    /** The contact is accepted silently. */
+    ALLOW,
+    /** The contact is accepted, and the user is warned of the contacts it duplicates. */
+    WARN,
+    /** The contact is rejected, so the key is unique among all contacts. */
+    REJECT
+}
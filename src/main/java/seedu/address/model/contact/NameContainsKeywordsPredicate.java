@@ -1,61 +0,0 @@
-package seedu.address.model.contact;
-
-import java.util.List;
-import java.util.function.Predicate;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import seedu.address.commons.util.ToStringBuilder;
-
-/**
- * Tests that a {@code Contact}'s {@code Name} matches any of the keywords given.
- */
-public class NameContainsKeywordsPredicate implements Predicate<Contact> {
-    private final List<String> keywords;
-
-    public NameContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
-    }
-
-    @Override
-    public boolean test(Contact contact) {
-        return keywords.stream()
-                .anyMatch(keyword -> {
-                    String pattern = "(?i)" + keyword;
-                    String contactName = contact.getName().fullName;
-                    Pattern regexPattern = Pattern.compile(pattern);
-                    Matcher matcher = regexPattern.matcher(contactName);
-                    if (matcher.find()) {
-                        return true;
-                    }
-                    String contactId = contact.getId().value;
-                    matcher = regexPattern.matcher(contactId);
-                    if (matcher.find()) {
-                        return true;
-                    }
-                    return false;
-
-                });
-
-    }
-
-    @Override
-    public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-
-        // instanceof handles nulls
-        if (!(other instanceof NameContainsKeywordsPredicate)) {
-            return false;
-        }
-
-        NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
-    }
-
-    @Override
-    public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
-    }
-}
@@ -0,0 +1,307 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.MinHash;
+import seedu.address.commons.util.TrigramIndex;
+
+/**
+ * Finds clusters of contacts that are probably duplicates of each other, even if their fields are not exactly equal,
+ * such as "Acme Pte Ltd" and "ACME Pte. Ltd.", or emails differing only by dots.
+ *
+ * The name, email, url and address of each contact are normalized and cut into trigram shingles. Candidate pairs
+ * are the contacts that share a {@code MinHash} bucket over their shingles, leaving out those common to many
+ * contacts, which takes time near linear to the number of contacts instead of comparing every pair. Each candidate
+ * pair of contacts of the same type is then checked by the weighted mean similarity of the fields both contacts
+ * have, with the name weighing the most, so that different recruiters of one organization are not taken as
+ * duplicates for sharing its address and url.
+ */
+public class NearDuplicateFinder {
+
+    /** The similarity above which two contacts are taken as duplicates by default. */
+    public static final double DEFAULT_MIN_SIMILARITY = 0.6;
+
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+
+    /**
+     * Shingles found in more than one in this many contacts, such as those of "Pte Ltd" or ".com", are left out of
+     * the signatures, as they would make most contacts share buckets. They still count in the similarity.
+     */
+    private static final int COMMON_FRACTION = 100;
+    private static final int MIN_COMMON_FREQUENCY = 20;
+
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern URL_DECORATIONS = Pattern.compile("^(?:[a-z]+://)?(?:www\\.)?|/+$");
+
+    /**
+     * The fields of a contact compared, with their weights in the similarity of two contacts.
+     */
+    private enum Field {
+        NAME(4), EMAIL(4), URL(1), ADDRESS(1);
+
+        private final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final MinHash minHash = new MinHash(BANDS, ROWS);
+    private final double minSimilarity;
+
+    /**
+     * Creates a {@code NearDuplicateFinder} with the default minimum similarity.
+     */
+    public NearDuplicateFinder() {
+        this(DEFAULT_MIN_SIMILARITY);
+    }
+
+    /**
+     * Creates a {@code NearDuplicateFinder} taking contacts with a similarity of at least {@code minSimilarity} as
+     * duplicates.
+     */
+    public NearDuplicateFinder(double minSimilarity) {
+        checkArgument(minSimilarity > 0 && minSimilarity <= 1, "Similarity must be in (0, 1]");
+        this.minSimilarity = minSimilarity;
+    }
+
+    /**
+     * Gives the clusters of probable duplicates among {@code contacts}, each with at least two contacts. Contacts
+     * are in the order of {@code contacts}, and clusters in the order of their first contact.
+     */
+    public List<List<Contact>> findClusters(List<Contact> contacts) {
+        requireNonNull(contacts);
+        List<int[][]> shingles = new ArrayList<>();
+        Map<Integer, Integer> frequencies = new HashMap<>();
+        for (Contact contact : contacts) {
+            int[][] shinglesOfContact = shinglesOf(contact);
+            shingles.add(shinglesOfContact);
+            for (int[] fieldShingles : shinglesOfContact) {
+                for (int shingle : fieldShingles) {
+                    frequencies.merge(shingle, 1, Integer::sum);
+                }
+            }
+        }
+        int maxFrequency = Math.max(MIN_COMMON_FREQUENCY, contacts.size() / COMMON_FRACTION);
+        List<long[]> signatures = new ArrayList<>();
+        for (int[][] shinglesOfContact : shingles) {
+            signatures.add(minHash.signatureOf(rareShinglesOf(shinglesOfContact, frequencies, maxFrequency)));
+        }
+
+        int[] parents = new int[contacts.size()];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = i;
+        }
+        Set<Long> checkedPairs = new HashSet<>();
+        for (List<Integer> bucket : minHash.bucketsOf(signatures)) {
+            for (int i = 0; i < bucket.size(); i++) {
+                for (int j = i + 1; j < bucket.size(); j++) {
+                    int first = bucket.get(i);
+                    int second = bucket.get(j);
+                    if (findRoot(parents, first) == findRoot(parents, second)
+                            || !checkedPairs.add((long) first * contacts.size() + second)) {
+                        continue;
+                    }
+                    if (contacts.get(first).getType() == contacts.get(second).getType()
+                            && similarityOf(shingles.get(first), shingles.get(second)) >= minSimilarity) {
+                        parents[findRoot(parents, second)] = findRoot(parents, first);
+                    }
+                }
+            }
+        }
+
+        Map<Integer, List<Contact>> clustersByRoot = new LinkedHashMap<>();
+        for (int i = 0; i < contacts.size(); i++) {
+            clustersByRoot.computeIfAbsent(findRoot(parents, i), root -> new ArrayList<>()).add(contacts.get(i));
+        }
+        List<List<Contact>> clusters = new ArrayList<>();
+        for (List<Contact> cluster : clustersByRoot.values()) {
+            if (cluster.size() > 1) {
+                clusters.add(cluster);
+            }
+        }
+        return clusters;
+    }
+
+    /**
+     * Gives the similarity of {@code contact} and {@code other}: the weighted mean of the Jaccard similarities of the
+     * shingles of the fields both contacts have.
+     */
+    public double similarityOf(Contact contact, Contact other) {
+        requireAllNonNull(contact, other);
+        return similarityOf(shinglesOf(contact), shinglesOf(other));
+    }
+
+    /**
+     * Returns the normalized form of the given field of {@code contact}, which is empty if the contact does not have
+     * the field.
+     */
+    private static String normalizedValueOf(Contact contact, Field field) {
+        switch (field) {
+        case NAME:
+            return normalizeWords(contact.getName().fullName);
+        case EMAIL:
+            return contact.getEmail().map(email -> normalizeEmail(email.value)).orElse("");
+        case URL:
+            return contact.getUrl().map(url -> normalizeUrl(url.value)).orElse("");
+        case ADDRESS:
+            return contact.getAddress().map(address -> normalizeWords(address.value)).orElse("");
+        default:
+            throw new IllegalArgumentException("Unknown field: " + field);
+        }
+    }
+
+    private static double similarityOf(int[][] shingles, int[][] otherShingles) {
+        double weightedSimilarity = 0;
+        int totalWeight = 0;
+        for (Field field : Field.values()) {
+            int[] fieldShingles = shingles[field.ordinal()];
+            int[] otherFieldShingles = otherShingles[field.ordinal()];
+            if (fieldShingles.length == 0 || otherFieldShingles.length == 0) {
+                continue;
+            }
+            int common = countCommon(fieldShingles, otherFieldShingles);
+            int union = fieldShingles.length + otherFieldShingles.length - common;
+            weightedSimilarity += field.weight * (double) common / union;
+            totalWeight += field.weight;
+        }
+        return totalWeight == 0 ? 0 : weightedSimilarity / totalWeight;
+    }
+
+    /**
+     * Counts the values common to the sorted arrays of distinct values {@code values} and {@code otherValues}.
+     */
+    private static int countCommon(int[] values, int[] otherValues) {
+        int common = 0;
+        int i = 0;
+        int j = 0;
+        while (i < values.length && j < otherValues.length) {
+            if (values[i] < otherValues[j]) {
+                i++;
+            } else if (values[i] > otherValues[j]) {
+                j++;
+            } else {
+                common++;
+                i++;
+                j++;
+            }
+        }
+        return common;
+    }
+
+    /**
+     * Gives the hashed trigram shingles of each field that {@code contact} has, as sorted arrays of distinct values
+     * indexed by the ordinal of the field, which are empty for the fields it does not have. Values are padded with a
+     * space on each side, so that short values still have shingles and the ends of words count.
+     * The domain of an email is a single shingle rather than trigrams, as the contacts of one organization usually
+     * share it, and it would otherwise outweigh the local part that tells them apart.
+     */
+    private static int[][] shinglesOf(Contact contact) {
+        int[][] shingles = new int[Field.values().length][0];
+        for (Field field : Field.values()) {
+            String value = normalizedValueOf(contact, field);
+            if (value.isEmpty()) {
+                continue;
+            }
+            String domain = "";
+            if (field == Field.EMAIL) {
+                int at = value.lastIndexOf('@');
+                domain = value.substring(at);
+                value = value.substring(0, at);
+            }
+            String padded = " " + value + " ";
+            int[] fieldShingles = new int[padded.length() - TrigramIndex.GRAM_LENGTH + 2];
+            int count = 0;
+            for (int i = 0; i + TrigramIndex.GRAM_LENGTH <= padded.length(); i++) {
+                // The hash code of the trigram as a string, without creating it.
+                int trigramHash = (padded.charAt(i) * 31 + padded.charAt(i + 1)) * 31 + padded.charAt(i + 2);
+                fieldShingles[count++] = 31 * trigramHash + field.ordinal();
+            }
+            if (!domain.isEmpty()) {
+                fieldShingles[count++] = 31 * domain.hashCode() + field.ordinal();
+            }
+            shingles[field.ordinal()] = sortedDistinct(fieldShingles, count);
+        }
+        return shingles;
+    }
+
+    /**
+     * Lower-cases {@code text} and keeps only its letters and digits, as single-space separated words.
+     */
+    private static String normalizeWords(String text) {
+        return NON_WORD_CHARACTERS.matcher(text.toLowerCase()).replaceAll(" ").trim();
+    }
+
+    /**
+     * Lower-cases {@code email}, and drops the dots and any {@code +} suffix of its local part, which mail providers
+     * commonly ignore.
+     */
+    private static String normalizeEmail(String email) {
+        String lowerCased = email.toLowerCase();
+        int at = lowerCased.lastIndexOf('@');
+        String localPart = lowerCased.substring(0, at);
+        int plus = localPart.indexOf('+');
+        if (plus >= 0) {
+            localPart = localPart.substring(0, plus);
+        }
+        return localPart.replace(".", "") + lowerCased.substring(at);
+    }
+
+    /**
+     * Lower-cases {@code url}, and drops its scheme, a leading {@code www.} and trailing slashes.
+     */
+    private static String normalizeUrl(String url) {
+        return URL_DECORATIONS.matcher(url.toLowerCase()).replaceAll("");
+    }
+
+    /**
+     * Gives the shingles of all the fields in {@code shingles} found in at most {@code maxFrequency} contacts, or all
+     * of them if every one is more common than that.
+     */
+    private static int[] rareShinglesOf(int[][] shingles, Map<Integer, Integer> frequencies, int maxFrequency) {
+        int[] all = Arrays.stream(shingles).flatMapToInt(Arrays::stream).toArray();
+        int[] rare = new int[all.length];
+        int count = 0;
+        for (int shingle : all) {
+            if (frequencies.get(shingle) <= maxFrequency) {
+                rare[count++] = shingle;
+            }
+        }
+        return count == 0 ? all : Arrays.copyOf(rare, count);
+    }
+
+    /**
+     * Sorts the first {@code count} values of {@code values} and gives the distinct ones.
+     */
+    private static int[] sortedDistinct(int[] values, int count) {
+        Arrays.sort(values, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || values[i] != values[distinct - 1]) {
+                values[distinct++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, distinct);
+    }
+
+    private static int findRoot(int[] parents, int position) {
+        while (parents[position] != position) {
+            parents[position] = parents[parents[position]];
+            position = parents[position];
+        }
+        return position;
+    }
+}
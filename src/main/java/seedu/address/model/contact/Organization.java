@@ -1,26 +1,46 @@
 package seedu.address.model.contact;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.exceptions.IllegalOperationException;
+import seedu.address.commons.util.PersistentMap;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.jobapplication.JobApplication;
+import seedu.address.model.jobapplication.JobTitle;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents an Organisation in the address book.
  * Guarantees: Guarantees: name and id are present and not null,
  * field values are immutable and if present, are validated.
+ *
+ * Applications are kept in a persistent map by job title, alongside a persistent map of sequence numbers giving the
+ * order in which they were added, as in {@link UniqueContactList}. Applications are listed in that order, and an
+ * application replacing another keeps its position.
  */
 public class Organization extends Contact {
     // TODO: Override the getChildren method
 
-    private final List<JobApplication> jobApplications = new ArrayList<>();
+    public static final String MESSAGE_DUPLICATE_APPLICATIONS =
+            "Applications of an organization must have unique job titles.";
+
+    private final PersistentMap<JobTitle, JobApplication> jobApplications;
+    private final PersistentMap<JobTitle, Long> sequences;
+    private final long nextSequence;
+
+    /**
+     * The applications in order, found when first needed. This is volatile as organizations are shared with the
+     * storage thread, which must see the list fully built; at worst both threads build an equal list.
+     */
+    private volatile List<JobApplication> orderedJobApplications;
 
     /**
      * Name and id fields must be non-null.
@@ -37,7 +57,7 @@ public class Organization extends Contact {
     /**
      * Name and id fields must be non-null.
      * Tags must be non-null but can be empty as well.
-     * List of applications must not be null.
+     * List of applications must not be null, and the applications must have unique job titles.
      * The other fields can be null.
      */
     public Organization(
@@ -45,13 +65,58 @@ public class Organization extends Contact {
             Address address, Set<Tag> tags, List<JobApplication> jobApplications
     ) {
         super(name, id, phone, email, url, address, tags, null);
-        // Ensure that the new job applications are modified correctly.
-        List<JobApplication> newApplications = jobApplications
-                .stream()
-                .map(a -> a.changeCompanyDetails(name, id))
-                .collect(Collectors.toList());
+        // Ensure that the new job applications refer to this organization, only copying those that do not.
+        PersistentMap<JobTitle, JobApplication> newApplications = PersistentMap.empty();
+        PersistentMap<JobTitle, Long> newSequences = PersistentMap.empty();
+        long sequence = 0;
+        for (JobApplication application : jobApplications) {
+            newApplications = newApplications.plus(application.getJobTitle(),
+                    application.getOrganizationId().equals(id) ? application : application.withOrganizationId(id));
+            newSequences = newSequences.plus(application.getJobTitle(), sequence++);
+        }
+        checkArgument(newApplications.size() == jobApplications.size(), MESSAGE_DUPLICATE_APPLICATIONS);
+        this.jobApplications = newApplications;
+        this.sequences = newSequences;
+        this.nextSequence = sequence;
+    }
+
+    /**
+     * Creates a copy of {@code source} with the given applications, which must already belong to it, and their
+     * sequence numbers.
+     */
+    private Organization(Organization source, PersistentMap<JobTitle, JobApplication> jobApplications,
+                         PersistentMap<JobTitle, Long> sequences, long nextSequence) {
+        this(source.getName(), source.getId(), source.getPhone().orElse(null), source.getEmail().orElse(null),
+                source.getUrl().orElse(null), source.getAddress().orElse(null), source.getTags(), jobApplications,
+                sequences, nextSequence);
+    }
+
+    /**
+     * Creates an organization with the given details and applications, which must already belong to it, and their
+     * sequence numbers.
+     */
+    private Organization(Name name, Id id, Phone phone, Email email, Url url, Address address, Set<Tag> tags,
+                         PersistentMap<JobTitle, JobApplication> jobApplications,
+                         PersistentMap<JobTitle, Long> sequences, long nextSequence) {
+        super(name, id, phone, email, url, address, tags, null);
+        this.jobApplications = jobApplications;
+        this.sequences = sequences;
+        this.nextSequence = nextSequence;
+    }
 
-        this.jobApplications.addAll(newApplications);
+    /**
+     * Returns a copy of this organization with the given details, keeping its applications.
+     * Unless the id changes, the applications are shared with this organization instead of being copied, so this
+     * takes constant time regardless of the number of applications.
+     */
+    public Organization withDetails(Name name, Id id, Phone phone, Email email, Url url, Address address,
+                                    Set<Tag> tags) {
+        if (!id.equals(getId())) {
+            return new Organization(name, id, phone, email, url, address, tags,
+                    new ArrayList<>(getJobApplications()));
+        }
+        return new Organization(name, id, phone, email, url, address, tags, jobApplications, sequences,
+                nextSequence);
     }
 
     @Override
@@ -60,46 +125,95 @@ public class Organization extends Contact {
     }
 
     /**
-     * Returns a list of {@code JobApplication} made to this organization.
+     * Returns an unmodifiable list of the {@code JobApplication}s made to this organization, in the order they were
+     * added.
+     */
+    public List<JobApplication> getJobApplications() {
+        List<JobApplication> ordered = orderedJobApplications;
+        if (ordered == null) {
+            List<JobApplication> applications = new ArrayList<>(jobApplications.values());
+            applications.sort(Comparator.comparingLong(application -> sequences.get(application.getJobTitle())));
+            ordered = Collections.unmodifiableList(applications);
+            orderedJobApplications = ordered;
+        }
+        return ordered;
+    }
+
+    /**
+     * Returns true if this organization has the very same applications as {@code other}, e.g. when one is a copy of
+     * the other with only its details edited. This takes constant time.
+     */
+    public boolean hasSameJobApplicationsAs(Organization other) {
+        return jobApplications == other.jobApplications;
+    }
+
+    /**
+     * Gives the job titles of the applications that were added, removed or replaced between {@code other} and this
+     * organization. This takes time proportional to the number of changes if one organization was derived from the
+     * other.
+     */
+    public Set<JobTitle> getJobTitlesChangedFrom(Organization other) {
+        requireNonNull(other);
+        return jobApplications.getKeysChangedFrom(other.jobApplications);
+    }
+
+    /**
+     * Returns the {@code JobApplication} made to this organization with the given job title, or null if none.
      */
-    public JobApplication[] getJobApplications() {
-        return this.jobApplications.toArray(new JobApplication[]{});
+    public JobApplication getJobApplication(JobTitle jobTitle) {
+        return jobApplications.get(jobTitle);
     }
 
     /**
      * Checks if the organization has the given {@code JobApplication}.
      */
     public boolean hasJobApplication(JobApplication jobApplication) {
-        return this.jobApplications.stream()
-                .anyMatch(application -> application.isSameApplication(jobApplication));
+        JobApplication existingApplication = jobApplications.get(jobApplication.getJobTitle());
+        return existingApplication != null && existingApplication.isSameApplication(jobApplication);
     }
 
     /**
-     * Adds a {@code JobApplication} to the list of applications.
+     * Returns a copy of this organization with the {@code JobApplication} added after the existing ones.
+     *
+     * @throws IllegalArgumentException if an application with the same job title already exists.
      */
-    public void addJobApplication(JobApplication jobApplication) {
-        this.jobApplications.add(jobApplication);
+    public Organization withJobApplication(JobApplication jobApplication) {
+        assert jobApplication.getOrganizationId().equals(this.getId());
+        JobTitle title = jobApplication.getJobTitle();
+        checkArgument(!jobApplications.containsKey(title), MESSAGE_DUPLICATE_APPLICATIONS);
+        return new Organization(this, jobApplications.plus(title, jobApplication),
+                sequences.plus(title, nextSequence), nextSequence + 1);
     }
 
     /**
-     * Replaces the old job application in the list with the new one.
+     * Returns a copy of this organization with the old job application replaced by the new one.
+     *
+     * @throws IllegalOperationException if another application already has the job title of the new application.
      */
-    public void replaceJobApplication(JobApplication oldApplication, JobApplication newApplication) throws
-            IllegalOperationException {
+    public Organization withReplacedJobApplication(JobApplication oldApplication, JobApplication newApplication)
+            throws IllegalOperationException {
         assert newApplication.getOrganizationId().equals(this.getId());
         assert newApplication.getOrganizationId().equals(oldApplication.getOrganizationId());
-        if (hasApplicationWithSameNameWithExclusion(newApplication, oldApplication)) {
+        JobTitle oldTitle = oldApplication.getJobTitle();
+        JobTitle newTitle = newApplication.getJobTitle();
+        if (!newTitle.equals(oldTitle) && jobApplications.containsKey(newTitle)) {
             throw new IllegalOperationException("Job Application with same name found. Set a different name");
         }
-        this.jobApplications.remove(oldApplication);
-        this.jobApplications.add(newApplication);
+        Long oldSequence = sequences.get(oldTitle);
+        long sequence = oldSequence == null ? nextSequence : oldSequence;
+        return new Organization(this, jobApplications.minus(oldTitle).plus(newTitle, newApplication),
+                sequences.minus(oldTitle).plus(newTitle, sequence), Math.max(nextSequence, sequence + 1));
     }
 
     /**
-     * Deletes the job application in the list.
+     * Returns a copy of this organization without the job application.
      */
-    public void deleteJobApplication(JobApplication application) {
-        this.jobApplications.remove(application);
+    public Organization withoutJobApplication(JobApplication application) {
+        if (!application.equals(jobApplications.get(application.getJobTitle()))) {
+            return this;
+        }
+        return new Organization(this, jobApplications.minus(application.getJobTitle()),
+                sequences.minus(application.getJobTitle()), nextSequence);
     }
 
     @Override
@@ -136,19 +250,4 @@ public class Organization extends Contact {
         return super.toStringBuilder();
     }
 
-    private boolean hasApplicationWithSameNameWithExclusion(JobApplication application,
-                                                    JobApplication... excludedApplications) {
-        List<JobApplication> applicationsExcludedList =
-                Arrays.stream(excludedApplications).collect(Collectors.toList());
-        for (JobApplication a: jobApplications) {
-            if (applicationsExcludedList.contains(a)) {
-                continue;
-            }
-            if (application.getJobTitle().equals(a.getJobTitle())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
 }
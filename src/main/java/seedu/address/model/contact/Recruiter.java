@@ -25,16 +25,12 @@ public class Recruiter extends Contact {
      * The other fields can be null.
      */
     public Recruiter(Name name, Id id, Phone phone, Email email, Url url, Address address, Set<Tag> tags,
-                     Organization organization) {
-        super(name, id, phone, email, url, address, tags, organization);
+                     Id organizationId) {
+        super(name, id, phone, email, url, address, tags, organizationId);
     }
 
     public Optional<Id> getOrganizationId() {
-        return getOrganization().map(Contact::getId);
-    }
-
-    public Optional<Organization> getOrganization() {
-        return super.getParent().map(contact -> (Organization) contact);
+        return getParentId();
     }
 
     @Override
@@ -62,19 +58,19 @@ public class Recruiter extends Contact {
                 && getAddress().equals(otherContact.getAddress())
                 && getUrl().equals(otherContact.getUrl())
                 && getTags().equals(otherContact.getTags())
-                && getOrganization().equals(otherContact.getOrganization());
+                && getOrganizationId().equals(otherContact.getOrganizationId());
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(
-                getId(), getType(), getName(), getPhone(), getEmail(), getAddress(), getTags(), getOrganization()
+                getId(), getType(), getName(), getPhone(), getEmail(), getAddress(), getTags(), getOrganizationId()
         );
     }
 
     @Override
     public ToStringBuilder toStringBuilder() {
         return super.toStringBuilder()
-                .add("organization", getOrganization());
+                .add("organizationId", getOrganizationId());
     }
 }
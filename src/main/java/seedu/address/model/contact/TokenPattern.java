@@ -0,0 +1,136 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A case-insensitive pattern that is tested against the normalized tokens of a {@code ContactTokenIndex}.
+ *
+ * A pattern without wildcards ({@code *}) matches tokens containing it. A pattern with wildcards must match the
+ * whole token, with each wildcard standing for any sequence of characters. Patterns are compiled once: plain
+ * substrings, prefixes and suffixes are matched as literals, and only the other wildcard patterns use a regex.
+ */
+public class TokenPattern implements Predicate<String> {
+
+    public static final String WILDCARD = "*";
+
+    /** The relative cost of testing a token against a regex compared to a literal. */
+    private static final int REGEX_COST = 4;
+
+    private enum Kind {
+        CONTAINS, PREFIX, SUFFIX, REGEX
+    }
+
+    private final String pattern;
+    private final Kind kind;
+    private final String literal;
+    private final Pattern regex;
+    private final String requiredFragment;
+
+    private TokenPattern(String pattern, Kind kind, String literal, Pattern regex, String requiredFragment) {
+        this.pattern = pattern;
+        this.kind = kind;
+        this.literal = literal;
+        this.regex = regex;
+        this.requiredFragment = requiredFragment;
+    }
+
+    private TokenPattern(String pattern, Kind kind, String literal) {
+        this(pattern, kind, literal, null, literal);
+    }
+
+    /**
+     * Compiles the given pattern.
+     */
+    public static TokenPattern compile(String pattern) {
+        requireNonNull(pattern);
+        String normalized = ContactTokenIndex.normalize(pattern);
+        if (!normalized.contains(WILDCARD)) {
+            return new TokenPattern(pattern, Kind.CONTAINS, normalized);
+        }
+
+        String inner = normalized.replaceAll("^\\*+|\\*+$", "");
+        boolean isStartAnchored = !normalized.startsWith(WILDCARD);
+        boolean isEndAnchored = !normalized.endsWith(WILDCARD);
+        if (!inner.contains(WILDCARD)) {
+            if (!isStartAnchored && !isEndAnchored) {
+                return new TokenPattern(pattern, Kind.CONTAINS, inner);
+            } else if (isStartAnchored && !isEndAnchored) {
+                return new TokenPattern(pattern, Kind.PREFIX, inner);
+            } else if (!isStartAnchored) {
+                return new TokenPattern(pattern, Kind.SUFFIX, inner);
+            }
+        }
+
+        String[] parts = normalized.split("\\*+", -1);
+        String regex = Arrays.stream(parts)
+                .map(part -> part.isEmpty() ? "" : Pattern.quote(part))
+                .collect(Collectors.joining(".*"));
+        String longestPart = Arrays.stream(parts).max(Comparator.comparingInt(String::length)).orElse("");
+        return new TokenPattern(pattern, Kind.REGEX, null, Pattern.compile(regex, Pattern.DOTALL), longestPart);
+    }
+
+    /**
+     * Returns true if the pattern matches the given normalized token.
+     */
+    @Override
+    public boolean test(String token) {
+        switch (kind) {
+        case CONTAINS:
+            return token.contains(literal);
+        case PREFIX:
+            return token.startsWith(literal);
+        case SUFFIX:
+            return token.endsWith(literal);
+        default:
+            return regex.matcher(token).matches();
+        }
+    }
+
+    /**
+     * Returns a normalized substring that every token matching this pattern contains, which may be empty.
+     * Tokens without it need not be tested.
+     */
+    public String getRequiredFragment() {
+        return requiredFragment;
+    }
+
+    /**
+     * Returns the relative cost of testing one token against this pattern.
+     */
+    public int getCost() {
+        return kind == Kind.REGEX ? REGEX_COST : 1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TokenPattern)) {
+            return false;
+        }
+
+        TokenPattern otherPattern = (TokenPattern) other;
+        return pattern.equals(otherPattern.pattern);
+    }
+
+    @Override
+    public int hashCode() {
+        return pattern.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("pattern", pattern).toString();
+    }
+}
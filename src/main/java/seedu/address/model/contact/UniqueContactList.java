@@ -3,11 +3,21 @@ package seedu.address.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchableObservableList;
+import seedu.address.commons.util.PersistentMap;
 import seedu.address.model.contact.exceptions.DuplicatePersonException;
 import seedu.address.model.contact.exceptions.PersonNotFoundException;
 
@@ -18,22 +28,109 @@ import seedu.address.model.contact.exceptions.PersonNotFoundException;
  * updated is unique in terms of identity in the UniqueContactList. However, the removal of a contact uses
  * Contact#equals(Object) so as to ensure that the contact with exactly the same fields will be removed.
  *
+ * Contacts are additionally indexed by their {@code Id}, which allows identity checks and lookups by id to be done
+ * in constant time. Child contacts are also indexed by the {@code Id} of their parent, so that the children of a
+ * contact can be found without scanning the whole list, and the tokens in their fields are kept in a
+ * {@code ContactTokenIndex} so that searches need not test every contact. Their emails and phone numbers are kept
+ * in a {@code ContactKeyIndex}, so that contacts sharing them are found without comparing every pair of contacts.
+ * Their types, tags and whether they have applications are kept as bitmaps in a {@code ContactBitmapIndex}, so that
+ * filters over them are evaluated without testing every contact.
+ * The indexes are kept in sync with the backing list by every mutating operation.
+ *
+ * The contacts by id, and the sequence numbers giving their positions in the list, are kept in persistent maps, so
+ * that a {@code ContactListSnapshot} of the list can be taken in constant time and the list can later be restored
+ * to it by changing only the contacts that differ. Sequence numbers increase along the list, so the position of a
+ * contact is found by binary search.
+ *
+ * Changes to the list can be grouped with {@link #beginBatch()} and {@link #endBatch()}, so that they are reported
+ * to listeners of the backing list as a single change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Contact#isSameContact(Contact)
  */
 public class UniqueContactList implements Iterable<Contact> {
 
-    private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
+    /** Restoring contacts one by one is only done if fewer than this fraction of the list changed. */
+    private static final int BULK_RESTORE_RATIO = 4;
+
+    private final BatchableObservableList<Contact> internalList = new BatchableObservableList<>();
     private final ObservableList<Contact> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Id, Map<Id, Contact>> childrenByParentId = new HashMap<>();
+    private final ContactTokenIndex tokenIndex = new ContactTokenIndex();
+    private final ContactKeyIndex keyIndex = new ContactKeyIndex();
+    private final ContactBitmapIndex bitmapIndex = new ContactBitmapIndex();
+    private PersistentMap<Id, Contact> contactsById = PersistentMap.empty();
+    private PersistentMap<Id, Long> sequences = PersistentMap.empty();
+    private long nextSequence = 0;
 
     /**
      * Returns true if the list contains an equivalent contact as the given argument.
      */
     public boolean contains(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContact);
+        return contactsById.containsKey(toCheck.getId());
+    }
+
+    /**
+     * Gives the contact in the list with the given id, or null if there is no such contact.
+     */
+    public Contact getContactById(Id id) {
+        requireNonNull(id);
+        return contactsById.get(id);
+    }
+
+    /**
+     * Gives the contacts in the list whose parent has the given id.
+     * The parent itself need not be in the list.
+     */
+    public List<Contact> getChildrenOf(Id parentId) {
+        requireNonNull(parentId);
+        Map<Id, Contact> children = childrenByParentId.get(parentId);
+        return children == null ? new ArrayList<>() : new ArrayList<>(children.values());
+    }
+
+    /**
+     * Gives the ids of the contacts in the list with a token in the given field that matches any of
+     * {@code patterns}.
+     */
+    public Set<Id> findContactIds(ContactTokenIndex.Field field, List<TokenPattern> patterns) {
+        requireAllNonNull(field, patterns);
+        return tokenIndex.getIdsWithTokenMatching(field, patterns);
+    }
+
+    /**
+     * Estimates the number of tokens in the given field of the contacts in the list that must be tested against
+     * {@code patterns}.
+     */
+    public int countTokensToScan(ContactTokenIndex.Field field, List<TokenPattern> patterns) {
+        requireAllNonNull(field, patterns);
+        return tokenIndex.countTokensToScan(field, patterns);
+    }
+
+    /**
+     * Gives the contacts in the list with the same value of the given key as {@code contact}, other than
+     * {@code contact} itself.
+     */
+    public List<Contact> getContactsSharingKey(ContactKeyIndex.Key key, Contact contact) {
+        requireAllNonNull(key, contact);
+        return keyIndex.getContactsSharingKey(key, contact);
+    }
+
+    /**
+     * Gives the groups of contacts in the list that share a value of the given key.
+     */
+    public List<List<Contact>> getDuplicates(ContactKeyIndex.Key key) {
+        requireNonNull(key);
+        return keyIndex.getDuplicates(key);
+    }
+
+    /**
+     * Gives the bitmap index of the contacts in the list, which must not be changed by the caller.
+     */
+    public ContactBitmapIndex getBitmapIndex() {
+        return bitmapIndex;
     }
 
     /**
@@ -46,18 +143,20 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        sequences = sequences.plus(toAdd.getId(), nextSequence++);
+        index(toAdd);
     }
 
     /**
      * Replaces the contact {@code target} in the list with {@code editedContact}.
-     * {@code target} must exist in the list.
+     * {@code target} must be the very contact in the list, so that a stale copy of it, e.g. an organization since
+     * given other applications, which contact equality does not compare, cannot overwrite the current one.
      * The contact identity of {@code editedContact} must not be the same as another existing contact in the list.
      */
     public void setContact(Contact target, Contact editedContact) {
         requireAllNonNull(target, editedContact);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (contactsById.get(target.getId()) != target) {
             throw new PersonNotFoundException();
         }
 
@@ -65,28 +164,42 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedContact);
+        internalList.set(positionOf(target.getId()), editedContact);
+        reindex(target, editedContact);
     }
 
     /**
-     * Removes the equivalent contact from the list.
-     * The contact must exist in the list.
+     * Removes the contact from the list.
+     * The contact must be the very contact in the list, as for {@link #setContact}.
      */
     public void remove(Contact toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (contactsById.get(toRemove.getId()) != toRemove) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(positionOf(toRemove.getId()));
+        unindex(toRemove);
+        sequences = sequences.minus(toRemove.getId());
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * The persistent maps of {@code replacement} are shared rather than rebuilt.
+     */
     public void setContacts(UniqueContactList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        contactsById = replacement.contactsById;
+        sequences = replacement.sequences;
+        nextSequence = Math.max(nextSequence, replacement.nextSequence);
+        rebuildIndexes();
     }
 
     /**
      * Replaces the contents of this list with {@code contacts}.
      * {@code contacts} must not contain duplicate contacts.
+     * This is the bulk loading path: it runs in time linear to the number of contacts and fires a single change on
+     * the backing list.
      */
     public void setContacts(List<Contact> contacts) {
         requireAllNonNull(contacts);
@@ -95,6 +208,54 @@ public class UniqueContactList implements Iterable<Contact> {
         }
 
         internalList.setAll(contacts);
+        contactsById = PersistentMap.empty();
+        sequences = PersistentMap.empty();
+        for (Contact contact : contacts) {
+            contactsById = contactsById.plus(contact.getId(), contact);
+            sequences = sequences.plus(contact.getId(), nextSequence++);
+        }
+        rebuildIndexes();
+    }
+
+    /**
+     * Starts a batch of changes to this list, which are reported together when the matching {@link #endBatch()} is
+     * called. Batches may be nested.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the last unmatched {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Gives a snapshot of the current contents of this list in constant time.
+     */
+    public ContactListSnapshot snapshot() {
+        return new ContactListSnapshot(contactsById, sequences);
+    }
+
+    /**
+     * Restores the contents of this list to those of {@code snapshot}, which must have been taken from this list.
+     * Only the contacts that differ are replaced, removed or inserted back at their positions, unless so many differ
+     * that replacing the whole list is cheaper. Either way, a single change is fired on the backing list.
+     */
+    public void restore(ContactListSnapshot snapshot) {
+        requireNonNull(snapshot);
+        Set<Id> changedIds = snapshot.getIdsChangedFrom(snapshot());
+        if (changedIds.isEmpty()) {
+            return;
+        }
+        beginBatch();
+        try {
+            restoreChanged(snapshot, changedIds);
+        } finally {
+            endBatch();
+        }
     }
 
     /**
@@ -134,15 +295,168 @@ public class UniqueContactList implements Iterable<Contact> {
         return internalList.toString();
     }
 
+    /**
+     * Restores the contacts with the given ids to those in {@code snapshot}.
+     */
+    private void restoreChanged(ContactListSnapshot snapshot, Set<Id> changedIds) {
+        if (changedIds.size() > Math.max(internalList.size(), snapshot.size()) / BULK_RESTORE_RATIO) {
+            internalList.setAll(snapshot.getContacts());
+            contactsById = snapshot.getContactMap();
+            sequences = snapshot.getSequenceMap();
+            rebuildIndexes();
+            return;
+        }
+
+        PersistentMap<Id, Long> restoredSequences = snapshot.getSequenceMap();
+        List<Contact> contactsToInsert = new ArrayList<>();
+        for (Id id : changedIds) {
+            Contact current = contactsById.get(id);
+            Contact restored = snapshot.getContactById(id);
+            if (current != null && restored != null && sequences.get(id).equals(restoredSequences.get(id))) {
+                internalList.set(positionOf(id), restored);
+                reindex(current, restored);
+                continue;
+            }
+            if (current != null) {
+                internalList.remove(positionOf(id));
+                unindex(current);
+                sequences = sequences.minus(id);
+            }
+            if (restored != null) {
+                contactsToInsert.add(restored);
+            }
+        }
+
+        // Contacts are inserted in the order of the snapshot, after all removals, so sequences stay unique.
+        contactsToInsert.sort(Comparator.comparing(contact -> restoredSequences.get(contact.getId())));
+        for (Contact contact : contactsToInsert) {
+            long sequence = restoredSequences.get(contact.getId());
+            internalList.add(insertionPointOf(sequence), contact);
+            sequences = sequences.plus(contact.getId(), sequence);
+            index(contact);
+        }
+
+        // Share the maps of the snapshot, so that it is known to be the same as the next snapshot taken.
+        contactsById = snapshot.getContactMap();
+        sequences = restoredSequences;
+    }
+
+    /**
+     * Gives the position in the backing list of the contact with the given id, which must be in the list.
+     */
+    private int positionOf(Id id) {
+        int position = insertionPointOf(sequences.get(id));
+        assert internalList.get(position).getId().equals(id);
+        return position;
+    }
+
+    /**
+     * Gives the first position in the backing list whose contact has a sequence number of at least
+     * {@code sequence}.
+     */
+    private int insertionPointOf(long sequence) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sequences.get(internalList.get(middle).getId()) < sequence) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Adds {@code contact} to the indexes.
+     */
+    private void index(Contact contact) {
+        contactsById = contactsById.plus(contact.getId(), contact);
+        tokenIndex.add(contact);
+        keyIndex.add(contact);
+        bitmapIndex.add(contact);
+        contact.getParentId().ifPresent(parentId -> childrenByParentId
+                .computeIfAbsent(parentId, id -> new LinkedHashMap<>())
+                .put(contact.getId(), contact));
+    }
+
+    /**
+     * Removes {@code contact} from the indexes.
+     */
+    private void unindex(Contact contact) {
+        contactsById = contactsById.minus(contact.getId());
+        tokenIndex.remove(contact);
+        keyIndex.remove(contact);
+        bitmapIndex.remove(contact);
+        contact.getParentId().ifPresent(parentId -> {
+            Map<Id, Contact> siblings = childrenByParentId.get(parentId);
+            if (siblings == null) {
+                return;
+            }
+            siblings.remove(contact.getId());
+            if (siblings.isEmpty()) {
+                childrenByParentId.remove(parentId);
+            }
+        });
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedContact} in the indexes.
+     * The edited contact takes over the sequence number of {@code target}, as it takes its position in the list.
+     * If neither the id nor the parent changed, the contact keeps its position among its siblings.
+     */
+    private void reindex(Contact target, Contact editedContact) {
+        Optional<Id> oldParentId = target.getParentId();
+        Optional<Id> newParentId = editedContact.getParentId();
+        if (!target.getId().equals(editedContact.getId())) {
+            long sequence = sequences.get(target.getId());
+            sequences = sequences.minus(target.getId()).plus(editedContact.getId(), sequence);
+        }
+        if (!target.getId().equals(editedContact.getId()) || !oldParentId.equals(newParentId)) {
+            unindex(target);
+            index(editedContact);
+            return;
+        }
+        contactsById = contactsById.plus(editedContact.getId(), editedContact);
+        tokenIndex.remove(target);
+        tokenIndex.add(editedContact);
+        keyIndex.remove(target);
+        keyIndex.add(editedContact);
+        bitmapIndex.remove(target);
+        bitmapIndex.add(editedContact);
+        newParentId.ifPresent(parentId -> childrenByParentId.get(parentId)
+                .put(editedContact.getId(), editedContact));
+    }
+
+    /**
+     * Rebuilds the indexes of children, tokens, keys and bitmaps from the backing list. The persistent maps must
+     * already match it.
+     */
+    private void rebuildIndexes() {
+        childrenByParentId.clear();
+        tokenIndex.clear();
+        keyIndex.clear();
+        bitmapIndex.clear();
+        for (Contact contact : internalList) {
+            tokenIndex.add(contact);
+            keyIndex.add(contact);
+            bitmapIndex.add(contact);
+            contact.getParentId().ifPresent(parentId -> childrenByParentId
+                    .computeIfAbsent(parentId, id -> new LinkedHashMap<>())
+                    .put(contact.getId(), contact));
+        }
+    }
+
     /**
      * Returns true if {@code contacts} contains only unique contacts.
      */
     private boolean areUniqueContacts(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).isSameContact(contacts.get(j))) {
-                    return false;
-                }
+        // Contacts are the same if and only if they have the same id, so comparing ids by hash is sufficient.
+        Set<Id> seenIds = new HashSet<>();
+        for (Contact contact : contacts) {
+            if (!seenIds.add(contact.getId())) {
+                return false;
             }
         }
         return true;
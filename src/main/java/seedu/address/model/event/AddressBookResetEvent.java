@@ -0,0 +1,54 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * The whole address book was replaced, e.g. by clearing it. No events are published for the individual contacts, so
+ * subscribers should rebuild what they derive from the new data.
+ */
+public class AddressBookResetEvent implements ModelEvent {
+
+    private final ReadOnlyAddressBook addressBook;
+
+    /**
+     * Creates an event for the address book having been replaced by the data of {@code addressBook}.
+     */
+    public AddressBookResetEvent(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+    }
+
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookResetEvent)) {
+            return false;
+        }
+
+        AddressBookResetEvent otherEvent = (AddressBookResetEvent) other;
+        return addressBook.equals(otherEvent.addressBook);
+    }
+
+    @Override
+    public int hashCode() {
+        return addressBook.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("addressBook", addressBook)
+                .toString();
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.model.event;
+
+import seedu.address.model.jobapplication.JobApplication;
+
+/**
+ * A job application was added to an organization in the address book, removed from one, or replaced by an edited
+ * one to the same organization with the same job title. An application whose organization id or job title changed is
+ * reported as removed and added instead, since those identify it.
+ */
+public class ApplicationEvent extends ChangeEvent<JobApplication> {
+
+    /**
+     * Creates an event for {@code oldApplication} having been replaced by {@code newApplication}.
+     * Either may be null if an application was only added or removed, but not both.
+     */
+    public ApplicationEvent(JobApplication oldApplication, JobApplication newApplication) {
+        super(oldApplication, newApplication);
+    }
+
+    /**
+     * Returns true if a replaced application moved to another stage, for listeners that only follow the progress of
+     * applications.
+     */
+    public boolean isStageChanged() {
+        return !isAddition() && !isRemoval()
+                && getOldValue().getApplicationStage() != getNewValue().getApplicationStage();
+    }
+}
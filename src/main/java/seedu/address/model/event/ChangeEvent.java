@@ -0,0 +1,86 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A value in the address book was added, removed or replaced. The old value is null if the value was added, and the
+ * new value is null if it was removed.
+ *
+ * Each kind of value has a subclass, so that listeners can subscribe to the changes of one kind on a
+ * {@code ModelEventBus}.
+ *
+ * @param <T> the type of the values changed
+ */
+public abstract class ChangeEvent<T> implements ModelEvent {
+
+    public static final String MESSAGE_NO_VALUES = "A change must have an old value, a new value, or both.";
+
+    private final T oldValue;
+    private final T newValue;
+
+    /**
+     * Creates an event for {@code oldValue} having been replaced by {@code newValue}.
+     * Either may be null if a value was only added or removed, but not both.
+     */
+    protected ChangeEvent(T oldValue, T newValue) {
+        checkArgument(oldValue != null || newValue != null, MESSAGE_NO_VALUES);
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    /**
+     * Gives the value before the change, or null if it was added.
+     */
+    public T getOldValue() {
+        return oldValue;
+    }
+
+    /**
+     * Gives the value after the change, or null if it was removed.
+     */
+    public T getNewValue() {
+        return newValue;
+    }
+
+    public boolean isAddition() {
+        return oldValue == null;
+    }
+
+    public boolean isRemoval() {
+        return newValue == null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ChangeEvent)) {
+            return false;
+        }
+
+        ChangeEvent<?> otherEvent = (ChangeEvent<?>) other;
+        return getClass().equals(otherEvent.getClass())
+                && Objects.equals(oldValue, otherEvent.oldValue)
+                && Objects.equals(newValue, otherEvent.newValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), oldValue, newValue);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("oldValue", oldValue)
+                .add("newValue", newValue)
+                .toString();
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.model.event;
+
+import seedu.address.model.contact.Contact;
+
+/**
+ * A contact was added to the address book, removed from it, or replaced by an edited one that takes its position.
+ * The id of a replaced contact may have changed.
+ */
+public class ContactEvent extends ChangeEvent<Contact> {
+
+    /**
+     * Creates an event for {@code oldContact} having been replaced by {@code newContact}.
+     * Either may be null if a contact was only added or removed, but not both.
+     */
+    public ContactEvent(Contact oldContact, Contact newContact) {
+        super(oldContact, newContact);
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The latency of the deliveries of events to listeners, from publishing an event to a listener returning.
+ * Deliveries may be recorded from several threads.
+ */
+public class ListenerLatency {
+
+    private final AtomicLong deliveryCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    void record(long nanos) {
+        deliveryCount.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long getDeliveryCount() {
+        return deliveryCount.get();
+    }
+
+    /**
+     * Gives the mean latency of the deliveries in nanoseconds, or 0 if there were none.
+     */
+    public long getMeanNanos() {
+        long count = deliveryCount.get();
+        return count == 0 ? 0 : totalNanos.get() / count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("deliveryCount", getDeliveryCount())
+                .add("meanNanos", getMeanNanos())
+                .add("maxNanos", getMaxNanos())
+                .toString();
+    }
+}
@@ -0,0 +1,8 @@
+package seedu.address.model.event;
+
+/**
+ * A change to the data of the model, as published on a {@code ModelEventBus}.
+ * Events describe what changed, so that subscribers can update what they derive from the data incrementally.
+ */
+public interface ModelEvent {
+}
@@ -0,0 +1,179 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Delivers the {@code ModelEvent}s published by the model to the listeners subscribed to their types.
+ *
+ * Every listener receives the events of its type in the order they were published. Synchronous listeners are called
+ * on the publishing thread before {@link #publish(ModelEvent)} returns, in the order they subscribed, so they see the
+ * model right after the change. Asynchronous listeners are called on their executor one event at a time, so they
+ * must not assume the model is still in the state the event describes. Events must be published from one thread.
+ *
+ * The latency of each delivery, from publishing the event to the listener returning, is recorded per subscription
+ * and for the whole bus.
+ */
+public class ModelEventBus {
+
+    private static final Logger logger = LogsCenter.getLogger(ModelEventBus.class);
+
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    private final ListenerLatency listenerLatency = new ListenerLatency();
+
+    /**
+     * Subscribes {@code listener} to be called synchronously with every published event of type {@code type},
+     * including its subtypes.
+     */
+    public <T extends ModelEvent> Subscription<T> subscribe(Class<T> type, Consumer<? super T> listener) {
+        requireAllNonNull(type, listener);
+        return addSubscription(new Subscription<>(this, type, listener, null));
+    }
+
+    /**
+     * Subscribes {@code listener} to be called on {@code executor} with every published event of type {@code type},
+     * including its subtypes.
+     */
+    public <T extends ModelEvent> Subscription<T> subscribe(Class<T> type, Consumer<? super T> listener,
+                                                            Executor executor) {
+        requireAllNonNull(type, listener, executor);
+        return addSubscription(new Subscription<>(this, type, listener, executor));
+    }
+
+    /**
+     * Delivers {@code event} to the listeners subscribed to its type.
+     * An exception thrown by a synchronous listener is propagated to the publisher, and the remaining listeners are
+     * not called.
+     */
+    public void publish(ModelEvent event) {
+        requireNonNull(event);
+        long publishedAt = System.nanoTime();
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.offer(event, publishedAt);
+        }
+    }
+
+    /**
+     * Gives the latency of all the deliveries made by this bus.
+     */
+    public ListenerLatency getListenerLatency() {
+        return listenerLatency;
+    }
+
+    private <T extends ModelEvent> Subscription<T> addSubscription(Subscription<T> subscription) {
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * A listener subscribed to the events of one type.
+     *
+     * @param <T> the type of events the listener receives
+     */
+    public static class Subscription<T extends ModelEvent> {
+
+        private final ModelEventBus bus;
+        private final Class<T> type;
+        private final Consumer<? super T> listener;
+        private final Executor executor;
+        private final Queue<Delivery> pendingDeliveries = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean isDrainScheduled = new AtomicBoolean(false);
+        private final ListenerLatency latency = new ListenerLatency();
+
+        private Subscription(ModelEventBus bus, Class<T> type, Consumer<? super T> listener, Executor executor) {
+            this.bus = bus;
+            this.type = type;
+            this.listener = listener;
+            this.executor = executor;
+        }
+
+        /**
+         * Stops delivering events to the listener. Events already queued for an asynchronous listener are still
+         * delivered.
+         */
+        public void cancel() {
+            bus.subscriptions.remove(this);
+        }
+
+        /**
+         * Gives the latency of the deliveries to this listener.
+         */
+        public ListenerLatency getLatency() {
+            return latency;
+        }
+
+        private void offer(ModelEvent event, long publishedAt) {
+            if (!type.isInstance(event)) {
+                return;
+            }
+            Delivery delivery = new Delivery(type.cast(event), publishedAt);
+            if (executor == null) {
+                deliver(delivery);
+                return;
+            }
+            pendingDeliveries.add(delivery);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (isDrainScheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        /**
+         * Delivers the queued events in order. Only one drain runs at a time, so the listener is never called
+         * concurrently with itself.
+         */
+        private void drain() {
+            Delivery delivery;
+            while ((delivery = pendingDeliveries.poll()) != null) {
+                try {
+                    deliver(delivery);
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "Listener failed to handle " + delivery.event, e);
+                }
+            }
+            isDrainScheduled.set(false);
+            // An event may have been queued after the queue was found empty but before the flag was cleared.
+            if (!pendingDeliveries.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void deliver(Delivery delivery) {
+            try {
+                listener.accept(delivery.event);
+            } finally {
+                long nanos = System.nanoTime() - delivery.publishedAt;
+                latency.record(nanos);
+                bus.listenerLatency.record(nanos);
+            }
+        }
+
+        /**
+         * An event waiting to be delivered, with the time it was published.
+         */
+        private class Delivery {
+            private final T event;
+            private final long publishedAt;
+
+            private Delivery(T event, long publishedAt) {
+                this.event = event;
+                this.publishedAt = publishedAt;
+            }
+        }
+    }
+}
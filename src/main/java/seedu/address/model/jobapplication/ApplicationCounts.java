@@ -0,0 +1,111 @@
+package seedu.address.model.jobapplication;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Counts of job applications by {@code ApplicationStage} and {@code JobStatus}.
+ *
+ * The totals by stage, by status and overall are kept alongside the counts, so that every query takes constant
+ * time. Counts can only be changed by {@code ApplicationStatistics}.
+ */
+public class ApplicationCounts {
+
+    private final Map<ApplicationStage, Map<JobStatus, Integer>> counts = new EnumMap<>(ApplicationStage.class);
+    private final Map<ApplicationStage, Integer> stageTotals = new EnumMap<>(ApplicationStage.class);
+    private final Map<JobStatus, Integer> statusTotals = new EnumMap<>(JobStatus.class);
+    private int total;
+
+    /**
+     * Creates counts with no applications.
+     */
+    public ApplicationCounts() {
+        for (ApplicationStage stage : ApplicationStage.values()) {
+            counts.put(stage, new EnumMap<>(JobStatus.class));
+        }
+    }
+
+    /**
+     * Adds {@code delta} applications, which may be negative, at the given stage and status.
+     */
+    void add(ApplicationStage stage, JobStatus status, int delta) {
+        counts.get(stage).merge(status, delta, ApplicationCounts::sumOrNull);
+        stageTotals.merge(stage, delta, ApplicationCounts::sumOrNull);
+        statusTotals.merge(status, delta, ApplicationCounts::sumOrNull);
+        total += delta;
+        assert total >= 0 : "Application counts should never be negative";
+    }
+
+    /**
+     * Gives the sum of the two counts, or null if it is zero, so that zero counts are not stored.
+     */
+    private static Integer sumOrNull(Integer a, Integer b) {
+        int sum = a + b;
+        return sum == 0 ? null : sum;
+    }
+
+    /**
+     * Gives the number of applications at the given stage and status.
+     */
+    public int getCount(ApplicationStage stage, JobStatus status) {
+        requireAllNonNull(stage, status);
+        return counts.get(stage).getOrDefault(status, 0);
+    }
+
+    /**
+     * Gives the number of applications at the given stage.
+     */
+    public int getCount(ApplicationStage stage) {
+        return stageTotals.getOrDefault(stage, 0);
+    }
+
+    /**
+     * Gives the number of applications with the given status.
+     */
+    public int getCount(JobStatus status) {
+        return statusTotals.getOrDefault(status, 0);
+    }
+
+    /**
+     * Gives the total number of applications.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ApplicationCounts)) {
+            return false;
+        }
+
+        ApplicationCounts otherCounts = (ApplicationCounts) other;
+        return counts.equals(otherCounts.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return counts.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("total", total)
+                .add("counts", counts)
+                .toString();
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.address.model.jobapplication;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A filter over applications, evaluated from the indexes kept by a {@code JobApplicationList}.
+ *
+ * Evaluating a filter only visits the applications it returns, in the order of the index it is evaluated from,
+ * rather than testing every application. Unlike a predicate, a filter may limit the number of applications it
+ * matches, so whether an application matches can depend on the other applications.
+ */
+public abstract class ApplicationFilter {
+
+    public static final ApplicationFilter ALL = new All();
+
+    /** The values that this filter is made of, by which filters of a kind are compared. */
+    private final Object operand;
+
+    private ApplicationFilter(Object operand) {
+        this.operand = operand;
+    }
+
+    /**
+     * Gives a filter matching the applications with a deadline from {@code from} to {@code to} inclusive,
+     * earliest deadline first.
+     */
+    public static ApplicationFilter dueBetween(LocalDate from, LocalDate to) {
+        return new DueBetween(from, to);
+    }
+
+    /**
+     * Gives a filter matching at most {@code limit} of the applications last updated before {@code time},
+     * least recently updated first.
+     */
+    public static ApplicationFilter leastRecentlyUpdatedBefore(LocalDateTime time, int limit) {
+        return new LeastRecentlyUpdatedBefore(time, limit);
+    }
+
+    /**
+     * Gives a filter matching the applications at {@code stage} and with {@code status}, in the order of the list.
+     * A null stage or status matches applications at any stage or with any status respectively.
+     */
+    public static ApplicationFilter withStageAndStatus(ApplicationStage stage, JobStatus status) {
+        return new WithStageAndStatus(stage, status);
+    }
+
+    /**
+     * Gives the applications in {@code applications} that this filter matches, among those that
+     * {@code isIncluded} accepts. Applications that are not included do not count towards any limit.
+     */
+    abstract List<JobApplication> evaluate(JobApplicationList applications, Predicate<JobApplication> isIncluded);
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ApplicationFilter)) {
+            return false;
+        }
+
+        ApplicationFilter otherFilter = (ApplicationFilter) other;
+        return getClass().equals(otherFilter.getClass())
+                && Objects.equals(operand, otherFilter.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), operand);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("operand", operand)
+                .toString();
+    }
+
+    /**
+     * A filter matching every application, in the order of the list.
+     */
+    private static class All extends ApplicationFilter {
+        All() {
+            super(null);
+        }
+
+        @Override
+        List<JobApplication> evaluate(JobApplicationList applications, Predicate<JobApplication> isIncluded) {
+            return applications.getApplications().stream()
+                    .filter(isIncluded)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * A filter matching the applications with a deadline in a range of days.
+     */
+    private static class DueBetween extends ApplicationFilter {
+        private final LocalDate from;
+        private final LocalDate to;
+
+        DueBetween(LocalDate from, LocalDate to) {
+            super(List.of(from, to));
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        List<JobApplication> evaluate(JobApplicationList applications, Predicate<JobApplication> isIncluded) {
+            return applications.streamApplicationsDueBetween(from, to)
+                    .filter(isIncluded)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * A filter matching a limited number of the least recently updated applications before a time.
+     */
+    private static class LeastRecentlyUpdatedBefore extends ApplicationFilter {
+        private final LocalDateTime time;
+        private final int limit;
+
+        LeastRecentlyUpdatedBefore(LocalDateTime time, int limit) {
+            super(List.of(time, limit));
+            checkArgument(limit >= 0, "The limit should not be negative");
+            this.time = time;
+            this.limit = limit;
+        }
+
+        @Override
+        List<JobApplication> evaluate(JobApplicationList applications, Predicate<JobApplication> isIncluded) {
+            return applications.streamApplicationsUpdatedBefore(time)
+                    .filter(isIncluded)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * A filter matching the applications at a stage and with a status, either of which may be any.
+     */
+    private static class WithStageAndStatus extends ApplicationFilter {
+        private final ApplicationStage stage;
+        private final JobStatus status;
+
+        WithStageAndStatus(ApplicationStage stage, JobStatus status) {
+            super(Arrays.asList(stage, status));
+            this.stage = stage;
+            this.status = status;
+        }
+
+        @Override
+        List<JobApplication> evaluate(JobApplicationList applications, Predicate<JobApplication> isIncluded) {
+            return applications.streamApplicationsWith(stage, status)
+                    .filter(isIncluded)
+                    .sorted(Comparator.comparingInt(applications::indexOf))
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package seedu.address.model.jobapplication;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Id;
+import seedu.address.model.contact.Organization;
+import seedu.address.model.contact.Type;
+import seedu.address.model.event.AddressBookResetEvent;
+import seedu.address.model.event.ContactEvent;
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Aggregate counts of job applications by stage and status, overall, per organization and per tag of the
+ * organization applied to.
+ *
+ * The counts are updated as applications and organizations are added and removed, instead of being recounted
+ * from every organization, so reading them takes constant time regardless of the amount of data. They can be kept
+ * up to date with the model by subscribing them to its contact events.
+ */
+public class ApplicationStatistics {
+
+    private static final ApplicationCounts NO_APPLICATIONS = new ApplicationCounts();
+
+    private ApplicationCounts overallCounts = new ApplicationCounts();
+    private final Map<Id, ApplicationCounts> countsByOrganization = new HashMap<>();
+    private final Map<Tag, ApplicationCounts> countsByTag = new HashMap<>();
+
+    /**
+     * Creates statistics with no applications.
+     */
+    public ApplicationStatistics() {}
+
+    /**
+     * Creates statistics of the applications of the organizations among {@code contacts}.
+     */
+    public ApplicationStatistics(Collection<? extends Contact> contacts) {
+        resetData(contacts);
+    }
+
+    /**
+     * Replaces the statistics with those of the applications of the organizations among {@code contacts}.
+     */
+    public void resetData(Collection<? extends Contact> contacts) {
+        requireNonNull(contacts);
+        overallCounts = new ApplicationCounts();
+        countsByOrganization.clear();
+        countsByTag.clear();
+        contacts.stream()
+                .filter(contact -> contact.getType() == Type.ORGANIZATION)
+                .forEach(contact -> addOrganization((Organization) contact));
+    }
+
+    /**
+     * Counts all the applications of {@code organization}.
+     */
+    public void addOrganization(Organization organization) {
+        requireNonNull(organization);
+        organization.getJobApplications().forEach(application -> addApplication(organization, application));
+    }
+
+    /**
+     * Stops counting all the applications of {@code organization}.
+     */
+    public void removeOrganization(Organization organization) {
+        requireNonNull(organization);
+        organization.getJobApplications().forEach(application -> removeApplication(organization, application));
+    }
+
+    /**
+     * Counts the applications of {@code newOrganization} instead of those of {@code oldOrganization}.
+     * If the id and tags are unchanged, only the applications that changed are recounted, so this takes constant
+     * time if only details that are not counted by, such as the name, were changed.
+     */
+    public void replaceOrganization(Organization oldOrganization, Organization newOrganization) {
+        requireAllNonNull(oldOrganization, newOrganization);
+        if (!oldOrganization.getId().equals(newOrganization.getId())
+                || !oldOrganization.getTags().equals(newOrganization.getTags())) {
+            removeOrganization(oldOrganization);
+            addOrganization(newOrganization);
+            return;
+        }
+        for (JobTitle jobTitle : newOrganization.getJobTitlesChangedFrom(oldOrganization)) {
+            JobApplication oldApplication = oldOrganization.getJobApplication(jobTitle);
+            JobApplication newApplication = newOrganization.getJobApplication(jobTitle);
+            if (oldApplication != null) {
+                removeApplication(oldOrganization, oldApplication);
+            }
+            if (newApplication != null) {
+                addApplication(newOrganization, newApplication);
+            }
+        }
+    }
+
+    /**
+     * Keeps the statistics up to date with the contact events published on {@code eventBus}.
+     */
+    public void subscribeTo(ModelEventBus eventBus) {
+        requireNonNull(eventBus);
+        eventBus.subscribe(ContactEvent.class, event -> replaceContact(event.getOldValue(), event.getNewValue()));
+        eventBus.subscribe(AddressBookResetEvent.class, event ->
+                resetData(event.getAddressBook().getContactList()));
+    }
+
+    /**
+     * Counts {@code application} towards {@code organization}.
+     */
+    public void addApplication(Organization organization, JobApplication application) {
+        update(organization, application, 1);
+    }
+
+    /**
+     * Stops counting {@code application} towards {@code organization}.
+     */
+    public void removeApplication(Organization organization, JobApplication application) {
+        update(organization, application, -1);
+    }
+
+    /**
+     * Counts the applications of {@code newContact} instead of those of {@code oldContact}, if they are
+     * organizations. Either may be null if a contact was only added or removed.
+     */
+    private void replaceContact(Contact oldContact, Contact newContact) {
+        boolean wasOrganization = oldContact != null && oldContact.getType() == Type.ORGANIZATION;
+        boolean isOrganization = newContact != null && newContact.getType() == Type.ORGANIZATION;
+        if (wasOrganization && isOrganization) {
+            replaceOrganization((Organization) oldContact, (Organization) newContact);
+            return;
+        }
+        if (wasOrganization) {
+            removeOrganization((Organization) oldContact);
+        }
+        if (isOrganization) {
+            addOrganization((Organization) newContact);
+        }
+    }
+
+    private void update(Organization organization, JobApplication application, int delta) {
+        requireAllNonNull(organization, application);
+        ApplicationStage stage = application.getApplicationStage();
+        JobStatus status = application.getStatus();
+
+        overallCounts.add(stage, status, delta);
+        updateGroup(countsByOrganization, organization.getId(), stage, status, delta);
+        for (Tag tag : organization.getTags()) {
+            updateGroup(countsByTag, tag, stage, status, delta);
+        }
+    }
+
+    private static <K> void updateGroup(Map<K, ApplicationCounts> countsByGroup, K group,
+                                        ApplicationStage stage, JobStatus status, int delta) {
+        ApplicationCounts counts = countsByGroup.computeIfAbsent(group, g -> new ApplicationCounts());
+        counts.add(stage, status, delta);
+        if (counts.isEmpty()) {
+            countsByGroup.remove(group);
+        }
+    }
+
+    /**
+     * Gives the counts of all applications.
+     */
+    public ApplicationCounts getOverallCounts() {
+        return overallCounts;
+    }
+
+    /**
+     * Gives the counts of the applications to the organization with the given id.
+     */
+    public ApplicationCounts getCountsOf(Id organizationId) {
+        requireNonNull(organizationId);
+        return countsByOrganization.getOrDefault(organizationId, NO_APPLICATIONS);
+    }
+
+    /**
+     * Gives the counts of the applications to organizations with the given tag.
+     */
+    public ApplicationCounts getCountsOf(Tag tag) {
+        requireNonNull(tag);
+        return countsByTag.getOrDefault(tag, NO_APPLICATIONS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ApplicationStatistics)) {
+            return false;
+        }
+
+        ApplicationStatistics otherStatistics = (ApplicationStatistics) other;
+        return overallCounts.equals(otherStatistics.overallCounts)
+                && countsByOrganization.equals(otherStatistics.countsByOrganization)
+                && countsByTag.equals(otherStatistics.countsByTag);
+    }
+
+    @Override
+    public int hashCode() {
+        return overallCounts.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("overallCounts", overallCounts)
+                .add("countsByOrganization", countsByOrganization)
+                .add("countsByTag", countsByTag)
+                .toString();
+    }
+}
@@ -83,6 +83,11 @@ public class Deadline implements Comparable<Deadline> {
         return deadline.equals(otherDeadline.deadline);
     }
 
+    @Override
+    public int hashCode() {
+        return deadline.hashCode();
+    }
+
     @Override
     public int compareTo(Deadline d) {
         return deadline.compareTo(d.deadline);
@@ -8,11 +8,12 @@ import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.contact.Id;
-import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Organization;
 
 /**
  * Represents a Job Application in the address book.
+ * The organization applied to is referred to by its id only, so that editing the organization does not affect
+ * its applications.
  */
 public class JobApplication {
 
@@ -32,7 +33,6 @@ public class JobApplication {
             application -> application.getJobTitle().title, String.CASE_INSENSITIVE_ORDER);
 
     private final Id oid;
-    private final Name orgName;
 
     private final JobTitle jobTitle;
 
@@ -91,7 +91,6 @@ public class JobApplication {
      * Constructs a job application (should be directly used by Jackson only)
      *
      * @param oid of the organization that is being applied to.
-     * @param orgName of the organization that is being applied to.
      * @param jobTitle of the postion applied to.
      * @param jobDescription of the positon applied to.
      * @param deadline of the application or interview if relevant.
@@ -99,14 +98,12 @@ public class JobApplication {
      * @param lastUpdatedTime of the application
      */
     public JobApplication(
-            Id oid, Name orgName, JobTitle jobTitle, JobDescription jobDescription,
+            Id oid, JobTitle jobTitle, JobDescription jobDescription,
             Deadline deadline, JobStatus status, ApplicationStage applicationStage,
             LastUpdatedTime lastUpdatedTime) {
         requireNonNull(oid);
-        requireNonNull(orgName);
         requireNonNull(jobTitle);
         this.oid = oid;
-        this.orgName = orgName;
         this.jobTitle = jobTitle;
         this.jobDescription = Optional.ofNullable(jobDescription);
 
@@ -130,8 +127,7 @@ public class JobApplication {
             Organization org, JobTitle jobTitle, JobDescription jobDescription,
             Deadline deadline, JobStatus status, ApplicationStage applicationStage,
             LastUpdatedTime lastUpdatedTime) {
-        this(org.getId(), org.getName(), jobTitle, jobDescription, deadline, status, applicationStage,
-                lastUpdatedTime);
+        this(org.getId(), jobTitle, jobDescription, deadline, status, applicationStage, lastUpdatedTime);
     }
 
     /**
@@ -195,12 +191,9 @@ public class JobApplication {
     public ApplicationStage getApplicationStage() {
         return applicationStage;
     }
-    public Name getOrgName() {
-        return orgName;
-    }
 
     /**
-     * Checks if the details of the job application is the same excluding org name and id and last updated time.
+     * Checks if the details of the job application is the same excluding org id and last updated time.
      */
     public boolean looseEquals(JobApplication other) {
         return this.jobTitle.equals(other.jobTitle)
@@ -210,24 +203,17 @@ public class JobApplication {
     }
 
     /**
-     * Gives a new job application given change in company details.
+     * Gives a copy of this job application to the organization with the given id, e.g. after its id is edited.
+     * This does not update the last updated time, as the application itself is unchanged.
      */
-    public JobApplication changeCompanyDetails(Name orgName, Id oid) {
-        return new JobApplication(oid, orgName, this.jobTitle, this.jobDescription.orElse(null), this.deadline,
-                this.status, this.applicationStage, new LastUpdatedTime());
+    public JobApplication withOrganizationId(Id oid) {
+        return new JobApplication(oid, this.jobTitle, this.jobDescription.orElse(null), this.deadline,
+                this.status, this.applicationStage, this.lastUpdatedTime);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(
-                oid.toString(),
-                jobTitle.toString(),
-                jobDescription.map(JobDescription::toString).orElse("None"),
-                deadline.toString(),
-                lastUpdatedTime.toString(),
-                status.toString(),
-                applicationStage.toString()
-        );
+        return Objects.hash(oid, jobTitle, jobDescription, deadline, lastUpdatedTime, status, applicationStage);
     }
 
     /**
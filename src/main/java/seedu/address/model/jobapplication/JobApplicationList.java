@@ -1,70 +1,410 @@
 package seedu.address.model.jobapplication;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchableObservableList;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Id;
+import seedu.address.model.contact.Organization;
+import seedu.address.model.contact.Type;
 
 /**
- * A wrapper for ObservableList of {@link JobApplication}
+ * A live view of the {@link JobApplication}s of the organizations in a list of contacts.
+ *
+ * The view listens to changes of the contact list, and adds, replaces or removes only the applications of the
+ * organizations that changed, so it cannot drift from the organizations and each update takes time proportional to
+ * the change. Applications are listed in the order of their organizations, and applications added later are
+ * appended, while replaced applications keep their position.
+ *
+ * Applications are additionally indexed by their identity, i.e. their organization id and job title, against their
+ * position in the list. This lets the position of an application be found without scanning the list.
+ * Applications are also indexed by their deadline and last updated time, so that range and least-recently-updated
+ * queries only visit the applications they return. Applications are bucketed by their stage
+ * and status together, so that filtering by a stage, a status or both only visits the applications in the matching
+ * buckets. The {@link ApplicationFilter}s are evaluated from these indexes.
  */
 public class JobApplicationList {
 
-    private ObservableList<JobApplication> applications;
+    private final BatchableObservableList<JobApplication> applications = new BatchableObservableList<>();
+
+    private final ObservableList<JobApplication> unmodifiableApplications =
+            FXCollections.unmodifiableObservableList(applications);
+
+    private final Map<Id, Map<JobTitle, Integer>> positions = new HashMap<>();
+
+    private final NavigableMap<LocalDate, Set<JobApplication>> deadlineIndex = new TreeMap<>();
+
+    private final NavigableMap<LocalDateTime, Set<JobApplication>> lastUpdatedIndex = new TreeMap<>();
+
+    private final Map<ApplicationStage, Map<JobStatus, Set<JobApplication>>> stageAndStatusIndex =
+            new EnumMap<>(ApplicationStage.class);
 
     /**
-     * Creates a wrapper for the observable list.
+     * Creates a view of the applications of the organizations in {@code contacts}, which is kept up to date as the
+     * contacts change.
      */
-    public JobApplicationList(ObservableList<JobApplication> applications) {
-        this.applications = applications;
+    public JobApplicationList(ObservableList<Contact> contacts) {
+        requireNonNull(contacts);
+        addAll(applicationsOf(organizationsIn(contacts)));
+        contacts.addListener(this::updateApplications);
     }
 
     /**
-     * Gives the list of applications.
+     * Gives an unmodifiable view of the list of applications.
      */
     public ObservableList<JobApplication> getApplications() {
-        return applications;
+        return unmodifiableApplications;
     }
 
     /**
-     * Removes application from the list.
+     * Gets the application at the specified index.
      */
-    public void remove(JobApplication application) {
-        applications.remove(application);
+    public JobApplication get(int index) {
+        return applications.get(index);
+    }
+
+    /**
+     * Gets the index of the application in the list. Returns -1 if not found.
+     */
+    public int indexOf(JobApplication application) {
+        int index = indexOf(application.getOrganizationId(), application.getJobTitle());
+        if (index < 0 || !applications.get(index).equals(application)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the index of the application with the given organization id and job title in the list.
+     * Returns -1 if not found.
+     */
+    public int indexOf(Id organizationId, JobTitle jobTitle) {
+        Map<JobTitle, Integer> titles = positions.get(organizationId);
+        if (titles == null) {
+            return -1;
+        }
+        return titles.getOrDefault(jobTitle, -1);
+    }
+
+    /**
+     * Gives the applications with a deadline from {@code from} to {@code to} inclusive, earliest deadline first.
+     */
+    public List<JobApplication> getApplicationsDueBetween(LocalDate from, LocalDate to) {
+        return streamApplicationsDueBetween(from, to).collect(Collectors.toList());
+    }
+
+    /**
+     * Gives at most {@code limit} applications last updated before {@code time}, least recently updated first.
+     */
+    public List<JobApplication> getApplicationsUpdatedBefore(LocalDateTime time, int limit) {
+        return streamApplicationsUpdatedBefore(time)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gives the applications at the given stage and with the given status, in the order of the list.
+     * A null stage or status matches applications at any stage or with any status respectively.
+     */
+    public List<JobApplication> getApplicationsWith(ApplicationStage stage, JobStatus status) {
+        return streamApplicationsWith(stage, status)
+                .sorted(Comparator.comparingInt(this::indexOf))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gives the applications that {@code filter} matches among those that {@code isIncluded} accepts.
+     */
+    public List<JobApplication> getApplicationsMatching(ApplicationFilter filter,
+                                                        Predicate<JobApplication> isIncluded) {
+        requireAllNonNull(filter, isIncluded);
+        return filter.evaluate(this, isIncluded);
+    }
+
+    /**
+     * Streams the applications with a deadline from {@code from} to {@code to} inclusive, earliest deadline first.
+     */
+    Stream<JobApplication> streamApplicationsDueBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return Stream.empty();
+        }
+        return deadlineIndex.subMap(from, true, to, true).values().stream()
+                .flatMap(Set::stream);
+    }
+
+    /**
+     * Streams the applications at the given stage and with the given status, in no particular order.
+     * A null stage or status matches applications at any stage or with any status respectively, in which case the
+     * buckets of every stage or status are visited.
+     */
+    Stream<JobApplication> streamApplicationsWith(ApplicationStage stage, JobStatus status) {
+        Stream<Map<JobStatus, Set<JobApplication>>> stageBuckets = stage == null
+                ? stageAndStatusIndex.values().stream()
+                : Stream.ofNullable(stageAndStatusIndex.get(stage));
+        return stageBuckets
+                .flatMap(statusBuckets -> status == null
+                        ? statusBuckets.values().stream()
+                        : Stream.ofNullable(statusBuckets.get(status)))
+                .flatMap(Set::stream);
     }
 
     /**
-     * Adds application to list.
+     * Streams the applications last updated before {@code time}, least recently updated first.
      */
-    public void add(JobApplication jobApplication) {
-        applications.add(jobApplication);
+    Stream<JobApplication> streamApplicationsUpdatedBefore(LocalDateTime time) {
+        requireNonNull(time);
+        return lastUpdatedIndex.headMap(time, false).values().stream()
+                .flatMap(Set::stream);
+    }
+
+    /**
+     * Updates the applications for the organizations added, removed or replaced in the contact list.
+     * All the updates for one change of the contact list are reported as a single change of the applications.
+     */
+    private void updateApplications(ListChangeListener.Change<? extends Contact> change) {
+        applications.beginBatch();
+        try {
+            while (change.next()) {
+                if (!change.wasAdded() && !change.wasRemoved()) {
+                    // The order of the contacts does not affect the applications.
+                    continue;
+                }
+                updateApplicationsInRange(change.getRemoved(), change.getAddedSubList());
+            }
+        } finally {
+            applications.endBatch();
+        }
+    }
+
+    /**
+     * Updates the applications after the contacts {@code removed} were replaced by {@code added} in one range of the
+     * contact list.
+     */
+    private void updateApplicationsInRange(List<? extends Contact> removed, List<? extends Contact> added) {
+        if (removed.size() != added.size()) {
+            removeAll(applicationsOf(organizationsIn(removed)));
+            addAll(applicationsOf(organizationsIn(added)));
+            return;
+        }
+
+        // Contacts replaced in place are reported at the same offsets of the range.
+        List<Contact> unpairedRemoved = new ArrayList<>();
+        List<Contact> unpairedAdded = new ArrayList<>();
+        for (int i = 0; i < removed.size(); i++) {
+            Contact oldContact = removed.get(i);
+            Contact newContact = added.get(i);
+            if (oldContact.getType() == Type.ORGANIZATION && newContact.getType() == Type.ORGANIZATION) {
+                replaceApplicationsOf((Organization) oldContact, (Organization) newContact);
+            } else {
+                unpairedRemoved.add(oldContact);
+                unpairedAdded.add(newContact);
+            }
+        }
+        removeAll(applicationsOf(organizationsIn(unpairedRemoved)));
+        addAll(applicationsOf(organizationsIn(unpairedAdded)));
+    }
+
+    /**
+     * Updates the applications of {@code oldOrganization} to those of {@code newOrganization}, which replaced it.
+     * Applications with the same job title replace the old ones in place, and unchanged applications are untouched,
+     * so editing only the details of an organization takes constant time.
+     */
+    private void replaceApplicationsOf(Organization oldOrganization, Organization newOrganization) {
+        if (oldOrganization.hasSameJobApplicationsAs(newOrganization)) {
+            return;
+        }
+        List<JobApplication> removedApplications = oldOrganization.getJobApplications().stream()
+                .filter(application -> newOrganization.getJobApplication(application.getJobTitle()) == null)
+                .collect(Collectors.toList());
+        List<JobApplication> addedApplications = new ArrayList<>();
+        for (JobApplication application : newOrganization.getJobApplications()) {
+            JobApplication oldApplication = oldOrganization.getJobApplication(application.getJobTitle());
+            if (oldApplication == null) {
+                addedApplications.add(application);
+            } else if (oldApplication != application) {
+                set(indexOf(oldApplication), application);
+            }
+        }
+
+        if (removedApplications.size() == 1 && addedApplications.size() == 1) {
+            // A single application had its job title changed, so it keeps its position.
+            set(indexOf(removedApplications.get(0)), addedApplications.get(0));
+            return;
+        }
+        removeAll(removedApplications);
+        addAll(addedApplications);
+    }
+
+    private static List<Organization> organizationsIn(List<? extends Contact> contacts) {
+        return contacts.stream()
+                .filter(contact -> contact.getType() == Type.ORGANIZATION)
+                .map(contact -> (Organization) contact)
+                .collect(Collectors.toList());
+    }
+
+    private static List<JobApplication> applicationsOf(List<Organization> organizations) {
+        return organizations.stream()
+                .flatMap(organization -> organization.getJobApplications().stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Removes all the given applications from the list.
+     *
+     * The positions of the applications are found from the index, and each run of consecutive positions is removed
+     * at once, from the last run to the first, so that the positions of the runs not yet removed stay valid. Removing
+     * a run shifts the applications after it, and the positions of the applications after the first removed one are
+     * then recorded again, so removing {@code k} applications in {@code r} runs, the first at position {@code i},
+     * takes O(k log k + r(n - i)) time for a list of {@code n} applications. This is O(n - i) for the applications
+     * of one organization, which were added together, and small for recently added applications at the end.
+     */
+    private void removeAll(Collection<JobApplication> toRemove) {
+        List<Integer> indexes = toRemove.stream()
+                .map(this::indexOf)
+                .filter(index -> index >= 0)
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+        if (indexes.isEmpty()) {
+            return;
+        }
+        applications.beginBatch();
+        try {
+            int runEnd = indexes.get(0) + 1;
+            for (int i = 0; i < indexes.size(); i++) {
+                int index = indexes.get(i);
+                unindex(applications.get(index));
+                boolean isRunStart = i == indexes.size() - 1 || indexes.get(i + 1) != index - 1;
+                if (isRunStart) {
+                    applications.remove(index, runEnd);
+                    runEnd = i == indexes.size() - 1 ? runEnd : indexes.get(i + 1) + 1;
+                }
+            }
+        } finally {
+            applications.endBatch();
+        }
+        rebuildIndex(indexes.get(indexes.size() - 1));
+    }
+
+    /**
+     * Adds all the given applications to the end of the list.
+     */
+    private void addAll(Collection<JobApplication> toAdd) {
+        if (toAdd.isEmpty()) {
+            return;
+        }
+        int firstIndex = applications.size();
+        applications.addAll(toAdd);
+        for (int i = firstIndex; i < applications.size(); i++) {
+            index(applications.get(i), i);
+        }
     }
 
     /**
      * Sets application at the specified index.
      */
-    public void set(int index, JobApplication jobApplication) {
-        applications.set(index, jobApplication);
+    private void set(int index, JobApplication jobApplication) {
+        JobApplication oldApplication = applications.set(index, jobApplication);
+        unindex(oldApplication);
+        index(jobApplication, index);
     }
 
     /**
-     * Gets the application at the specified index.
+     * Records the position of {@code application} in the index.
      */
-    public JobApplication get(int index) {
-        return applications.get(index);
+    private void index(JobApplication application, int index) {
+        Integer previous = positions
+                .computeIfAbsent(application.getOrganizationId(), id -> new HashMap<>())
+                .put(application.getJobTitle(), index);
+        assert previous == null || previous == index : "Applications in the list should have unique identities";
+        indexAttributes(application);
     }
 
     /**
-     * Gets the index of the application in the list. Returns -1 if not found.
+     * Removes {@code application} from the index.
      */
-    public int indexOf(JobApplication application) {
-        return applications.indexOf(application);
+    private void unindex(JobApplication application) {
+        unindexAttributes(application);
+        Map<JobTitle, Integer> titles = positions.get(application.getOrganizationId());
+        if (titles == null) {
+            return;
+        }
+        titles.remove(application.getJobTitle());
+        if (titles.isEmpty()) {
+            positions.remove(application.getOrganizationId());
+        }
+    }
+
+    /**
+     * Records the deadline, last updated time, stage and status of {@code application} in their indexes.
+     */
+    private void indexAttributes(JobApplication application) {
+        deadlineIndex.computeIfAbsent(application.getDeadline().deadline, d -> new LinkedHashSet<>())
+                .add(application);
+        lastUpdatedIndex.computeIfAbsent(application.getLastUpdatedTime().lastUpdatedTime, t -> new LinkedHashSet<>())
+                .add(application);
+        stageAndStatusIndex.computeIfAbsent(application.getApplicationStage(), s -> new EnumMap<>(JobStatus.class))
+                .computeIfAbsent(application.getStatus(), s -> new HashSet<>())
+                .add(application);
+    }
+
+    /**
+     * Removes the deadline, last updated time, stage and status of {@code application} from their indexes.
+     */
+    private void unindexAttributes(JobApplication application) {
+        removeFrom(deadlineIndex, application.getDeadline().deadline, application);
+        removeFrom(lastUpdatedIndex, application.getLastUpdatedTime().lastUpdatedTime, application);
+        Map<JobStatus, Set<JobApplication>> statusBuckets = stageAndStatusIndex.get(application.getApplicationStage());
+        if (statusBuckets != null) {
+            removeFrom(statusBuckets, application.getStatus(), application);
+            if (statusBuckets.isEmpty()) {
+                stageAndStatusIndex.remove(application.getApplicationStage());
+            }
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Set<JobApplication>> index, K key, JobApplication application) {
+        Set<JobApplication> applications = index.get(key);
+        if (applications == null) {
+            return;
+        }
+        applications.remove(application);
+        if (applications.isEmpty()) {
+            index.remove(key);
+        }
     }
 
     /**
-     * Replaces all the applications in the list with the new applications
+     * Re-records the positions of all applications from {@code fromIndex} onwards, e.g. after they have shifted.
      */
-    public void setAll(Collection<JobApplication> applications) {
-        this.applications.setAll(applications);
+    private void rebuildIndex(int fromIndex) {
+        for (int i = fromIndex; i < applications.size(); i++) {
+            JobApplication application = applications.get(i);
+            positions.computeIfAbsent(application.getOrganizationId(), id -> new HashMap<>())
+                    .put(application.getJobTitle(), i);
+        }
     }
 }
@@ -56,4 +56,9 @@ public class JobDescription {
         return description.equals(otherDescription.description);
     }
 
+    @Override
+    public int hashCode() {
+        return description.hashCode();
+    }
+
 }
@@ -52,4 +52,9 @@ public class JobTitle {
         JobTitle otherTitle = (JobTitle) other;
         return title.equals(otherTitle.title);
     }
+
+    @Override
+    public int hashCode() {
+        return title.hashCode();
+    }
 }
@@ -75,6 +75,11 @@ public class LastUpdatedTime implements Comparable<LastUpdatedTime> {
         return lastUpdatedTime.equals(otherLastUpdate.lastUpdatedTime);
     }
 
+    @Override
+    public int hashCode() {
+        return lastUpdatedTime.hashCode();
+    }
+
     @Override
     public int compareTo(LastUpdatedTime o) {
         return this.lastUpdatedTime.compareTo(o.lastUpdatedTime);
@@ -51,17 +51,17 @@ public class SampleDataUtil {
                 getTagSet("startup", "internship")
         );
 
-        alexYeohInc.addJobApplication(new JobApplication(alexYeohInc, new JobTitle("AI Engineer"),
+        alexYeohInc = alexYeohInc.withJobApplication(new JobApplication(alexYeohInc, new JobTitle("AI Engineer"),
                 null, new Deadline(LocalDate.now().plusDays(42)),
                 JobStatus.PENDING, ApplicationStage.RESUME));
-        alexYeohInc.addJobApplication(new JobApplication(alexYeohInc, new JobTitle("Marketing Advisor"),
-                null, new Deadline(LocalDate.now().minusDays(3)),
+        alexYeohInc = alexYeohInc.withJobApplication(new JobApplication(alexYeohInc,
+                new JobTitle("Marketing Advisor"), null, new Deadline(LocalDate.now().minusDays(3)),
                 JobStatus.TURNED_DOWN, ApplicationStage.ONLINE_ASSESSMENT));
-        google.addJobApplication(new JobApplication(google, new JobTitle("Full-Stack Developer"),
+        google = google.withJobApplication(new JobApplication(google, new JobTitle("Full-Stack Developer"),
                 null, new Deadline(LocalDate.now().plusDays(5)),
                 JobStatus.PENDING, ApplicationStage.INTERVIEW));
-        jobSeekerPlus.addJobApplication(new JobApplication(jobSeekerPlus, new JobTitle("Job Seeking Pro"),
-                null, new Deadline(LocalDate.now().minusDays(17)),
+        jobSeekerPlus = jobSeekerPlus.withJobApplication(new JobApplication(jobSeekerPlus,
+                new JobTitle("Job Seeking Pro"), null, new Deadline(LocalDate.now().minusDays(17)),
                 JobStatus.REJECTED, ApplicationStage.RESUME));
 
         return new Contact[] {
@@ -69,7 +69,7 @@ public class SampleDataUtil {
             new Recruiter(new Name("David Li"), new Id("david_li"), new Phone("91031282"),
                     new Email("davidli@alexyeoh.example.com"), null,
                     new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
-                    getTagSet("direct", "network"), alexYeohInc),
+                    getTagSet("direct", "network"), alexYeohInc.getId()),
             new Recruiter(new Name("Roy Balakrishnan"), new Id("roy_balakrishnan"), new Phone("92624417"),
                     new Email("royb@example.com"), new Url("www.nus.edu.sg"),
                     null, getTagSet("friendly"), null)
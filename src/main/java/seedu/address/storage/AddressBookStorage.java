@@ -42,4 +42,16 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Waits until every address book given to {@link #saveAddressBook(ReadOnlyAddressBook)} so far is written.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flush() throws IOException {}
+
+    /**
+     * Finishes the work that the storage does in the background, leaving the data file with everything saved.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void close() throws IOException {}
+
 }
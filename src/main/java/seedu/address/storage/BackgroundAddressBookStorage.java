@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.ContactListSnapshot;
+
+/**
+ * Saves the address book through another {@code AddressBookStorage} on a background thread, so that commands do not
+ * wait for the disk.
+ *
+ * A save takes an immutable snapshot of the contacts, which takes constant time, and leaves it to the writer thread.
+ * Saves that come within the delay after the first one are coalesced, so only the latest snapshot is written. A write
+ * that fails is reported by the next save or flush, and its snapshot is written again by the next write unless a
+ * newer one has replaced it.
+ */
+public class BackgroundAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_INVALID_DELAY = "Save delay must not be negative.";
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final long delayMillis;
+    private final ScheduledExecutorService writer;
+
+    private ReadOnlyAddressBook pendingAddressBook;
+    private boolean isWriteScheduled;
+    private IOException failure;
+
+    /**
+     * Creates a {@code BackgroundAddressBookStorage} that writes to {@code storage} at most {@code delayMillis}
+     * milliseconds after a save.
+     */
+    public BackgroundAddressBookStorage(AddressBookStorage storage, long delayMillis) {
+        requireNonNull(storage);
+        checkArgument(delayMillis >= 0, MESSAGE_INVALID_DELAY);
+        this.storage = storage;
+        this.delayMillis = delayMillis;
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The data file is read once the saves so far have been written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage, or writing the saves before it, failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            try {
+                flush();
+            } catch (IOException e) {
+                throw new DataLoadingException(e);
+            }
+        }
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the data file is written in the background. Other files are written before this returns.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws IOException if the last write in the background failed, or writing to another file failed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            storage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = snapshotOf(addressBook);
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.schedule(this::writePending, delayMillis, TimeUnit.MILLISECONDS);
+            }
+            throwFailure();
+        }
+    }
+
+    /**
+     * Writes the latest address book saved without waiting for the delay, and waits until it is written.
+     */
+    @Override
+    public void flush() throws IOException {
+        Future<?> write = writer.submit(this::writePending);
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the data file to be written");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        synchronized (this) {
+            throwFailure();
+        }
+    }
+
+    /**
+     * Writes the latest address book saved, then stops the writer thread and closes the storage written to.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+            storage.close();
+        }
+    }
+
+    /**
+     * Writes the address book waiting to be written, if any. Runs on the writer thread.
+     */
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+            isWriteScheduled = false;
+        }
+        if (addressBook == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to write the data file in the background: " + e);
+            synchronized (this) {
+                failure = e instanceof IOException ? (IOException) e : new IOException(e);
+                if (pendingAddressBook == null) {
+                    pendingAddressBook = addressBook;
+                }
+            }
+        }
+    }
+
+    /**
+     * Throws the failure of the last write, if it has not been reported yet. Must hold the lock.
+     */
+    private void throwFailure() throws IOException {
+        IOException lastFailure = failure;
+        failure = null;
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Gives an immutable copy of {@code addressBook}, which takes constant time unless it is not an
+     * {@code AddressBook}.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof ContactListSnapshot) {
+            return addressBook;
+        }
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).snapshot();
+        }
+        return new AddressBook(addressBook).snapshot();
+    }
+
+}
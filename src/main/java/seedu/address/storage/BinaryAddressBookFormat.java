@@ -0,0 +1,319 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Address;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Email;
+import seedu.address.model.contact.Id;
+import seedu.address.model.contact.Name;
+import seedu.address.model.contact.Organization;
+import seedu.address.model.contact.Phone;
+import seedu.address.model.contact.Recruiter;
+import seedu.address.model.contact.Type;
+import seedu.address.model.contact.Url;
+import seedu.address.model.jobapplication.ApplicationStage;
+import seedu.address.model.jobapplication.Deadline;
+import seedu.address.model.jobapplication.JobApplication;
+import seedu.address.model.jobapplication.JobDescription;
+import seedu.address.model.jobapplication.JobStatus;
+import seedu.address.model.jobapplication.JobTitle;
+import seedu.address.model.jobapplication.LastUpdatedTime;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes an address book in a compact binary form.
+ *
+ * A file starts with a magic number and the version of the format, followed by the number of contacts and the
+ * contacts themselves, and ends with the CRC-32 checksum of everything before it. Strings are UTF-8, prefixed by their
+ * length in bytes plus one as a variable-length integer, with 0 standing for an absent value. Types, job statuses and
+ * application stages are stored as the ordinals of their enums, deadlines as epoch days, and last updated times as
+ * epoch seconds in UTC with their nanoseconds. Contacts are kept in the order of the list, and links from recruiters
+ * to organizations are checked once all the contacts have been read.
+ *
+ * The ordinals of the enums are part of the format, so values may only be added at the end of the enums, or the
+ * version must change.
+ */
+class BinaryAddressBookFormat {
+
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary address book does not match its checksum.";
+    public static final String MESSAGE_INVALID_STRUCTURE = "Binary address book is truncated or malformed.";
+
+    /** "JOBB" in ASCII. */
+    private static final int MAGIC = 0x4A4F4242;
+    private static final int CHECKSUM_SIZE = Long.BYTES;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes the contacts of {@code source} to {@code out} in the order of the list.
+     */
+    static void write(ReadOnlyAddressBook source, OutputStream out) throws IOException {
+        CRC32 checksum = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, checksum));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        writeVarInt(data, source.getContactList().size());
+        for (Contact contact : source.getContactList()) {
+            writeContact(data, contact);
+        }
+        data.flush();
+        new DataOutputStream(out).writeLong(checksum.getValue());
+    }
+
+    /**
+     * Reads the address book in {@code content}, whose checksum is verified before any contact is read.
+     *
+     * @throws IllegalValueException if the content is not a binary address book of a supported version, does not
+     *                               match its checksum, or violates any data constraints.
+     */
+    static AddressBook read(byte[] content) throws IllegalValueException {
+        if (content.length < 2 * Integer.BYTES + CHECKSUM_SIZE || ByteBuffer.wrap(content).getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = ByteBuffer.wrap(content).getInt(Integer.BYTES);
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int dataSize = content.length - CHECKSUM_SIZE;
+        CRC32 checksum = new CRC32();
+        checksum.update(content, 0, dataSize);
+        if (checksum.getValue() != ByteBuffer.wrap(content).getLong(dataSize)) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(content, 0, dataSize));
+        try {
+            data.skipBytes(2 * Integer.BYTES);
+            int size = readVarInt(data);
+            List<Contact> contacts = new ArrayList<>();
+            Map<Id, Contact> loadedContacts = new HashMap<>();
+            Map<String, Tag> tags = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                Contact contact = readContact(data, tags);
+                if (loadedContacts.putIfAbsent(contact.getId(), contact) != null) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT);
+                }
+                contacts.add(contact);
+            }
+            if (data.available() > 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_STRUCTURE);
+            }
+            for (Contact contact : contacts) {
+                Contact organization = contact.getParentId().map(loadedContacts::get).orElse(null);
+                if (contact.getParentId().isPresent()
+                        && (organization == null || organization.getType() != Type.ORGANIZATION)) {
+                    throw new IllegalValueException(Recruiter.MESSAGE_INVALID_ORGANIZATION);
+                }
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setContacts(contacts);
+            return addressBook;
+        } catch (IOException e) {
+            // The content is in memory, so this can only be reading past its end.
+            throw new IllegalValueException(MESSAGE_INVALID_STRUCTURE);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static void writeContact(DataOutputStream data, Contact contact) throws IOException {
+        data.writeByte(contact.getType().ordinal());
+        writeString(data, contact.getId().value);
+        writeString(data, contact.getName().fullName);
+        writeString(data, contact.getPhone().map(phone -> phone.value).orElse(null));
+        writeString(data, contact.getEmail().map(email -> email.value).orElse(null));
+        writeString(data, contact.getUrl().map(url -> url.value).orElse(null));
+        writeString(data, contact.getAddress().map(address -> address.value).orElse(null));
+        writeVarInt(data, contact.getTags().size());
+        for (Tag tag : contact.getTags()) {
+            writeString(data, tag.tagName);
+        }
+
+        switch (contact.getType()) {
+        case ORGANIZATION:
+            Organization organization = (Organization) contact;
+            writeVarInt(data, organization.getJobApplications().size());
+            for (JobApplication application : organization.getJobApplications()) {
+                writeApplication(data, application);
+            }
+            break;
+        case RECRUITER:
+            writeString(data, ((Recruiter) contact).getOrganizationId().map(oid -> oid.value).orElse(null));
+            break;
+        default:
+            assert false : "Contact type " + contact.getType() + " is not handled!";
+        }
+    }
+
+    private static void writeApplication(DataOutputStream data, JobApplication application) throws IOException {
+        LocalDateTime lastUpdatedTime = application.getLastUpdatedTime().lastUpdatedTime;
+        writeString(data, application.getJobTitle().title);
+        writeString(data, application.getJobDescription().map(description -> description.description).orElse(null));
+        data.writeInt(Math.toIntExact(application.getDeadline().deadline.toEpochDay()));
+        data.writeLong(lastUpdatedTime.toEpochSecond(ZoneOffset.UTC));
+        data.writeInt(lastUpdatedTime.getNano());
+        data.writeByte(application.getStatus().ordinal());
+        data.writeByte(application.getApplicationStage().ordinal());
+    }
+
+    /**
+     * Reads a contact. Tags with the same name are read as the same {@code Tag} from {@code tags}.
+     */
+    private static Contact readContact(DataInputStream data, Map<String, Tag> tags)
+            throws IOException, IllegalValueException {
+        Type type = readOrdinal(data, Type.values(), Type.MESSAGE_CONSTRAINTS);
+        Id id = new Id(readRequiredString(data, Id.class));
+        Name name = new Name(readRequiredString(data, Name.class));
+        String phone = readString(data);
+        String email = readString(data);
+        String url = readString(data);
+        String address = readString(data);
+        Set<Tag> contactTags = new HashSet<>();
+        for (int i = readVarInt(data); i > 0; i--) {
+            String tagName = readRequiredString(data, Tag.class);
+            Tag tag = tags.get(tagName);
+            if (tag == null) {
+                tag = new Tag(tagName);
+                tags.put(tagName, tag);
+            }
+            contactTags.add(tag);
+        }
+
+        Phone modelPhone = phone == null ? null : new Phone(phone);
+        Email modelEmail = email == null ? null : new Email(email);
+        Url modelUrl = url == null ? null : new Url(url);
+        Address modelAddress = address == null ? null : new Address(address);
+        switch (type) {
+        case ORGANIZATION: {
+            List<JobApplication> applications = new ArrayList<>();
+            for (int i = readVarInt(data); i > 0; i--) {
+                applications.add(readApplication(data, id));
+            }
+            return new Organization(name, id, modelPhone, modelEmail, modelUrl, modelAddress, contactTags,
+                    applications);
+        }
+        case RECRUITER: {
+            String oid = readString(data);
+            return new Recruiter(name, id, modelPhone, modelEmail, modelUrl, modelAddress, contactTags,
+                    oid == null ? null : new Id(oid));
+        }
+        default:
+            assert false : "Contact type " + type + " is not handled!";
+            throw new IllegalStateException();
+        }
+    }
+
+    private static JobApplication readApplication(DataInputStream data, Id oid)
+            throws IOException, IllegalValueException {
+        JobTitle title = new JobTitle(readRequiredString(data, JobTitle.class));
+        String description = readString(data);
+        Deadline deadline = new Deadline(LocalDate.ofEpochDay(data.readInt()));
+        long epochSecond = data.readLong();
+        int nano = data.readInt();
+        JobStatus status = readOrdinal(data, JobStatus.values(), JobStatus.MESSAGE_CONSTRAINTS);
+        ApplicationStage stage = readOrdinal(data, ApplicationStage.values(), ApplicationStage.MESSAGE_CONSTRAINTS);
+        LastUpdatedTime lastUpdatedTime = new LastUpdatedTime(
+                LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+        return new JobApplication(oid, title, description == null ? null : new JobDescription(description), deadline,
+                status, stage, lastUpdatedTime);
+    }
+
+    private static <T> T readOrdinal(DataInputStream data, T[] values, String message)
+            throws IOException, IllegalValueException {
+        int ordinal = data.readUnsignedByte();
+        if (ordinal >= values.length) {
+            throw new IllegalValueException(message);
+        }
+        return values[ordinal];
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(data, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarInt(data, bytes.length + 1);
+        data.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString}, or null if it was absent.
+     */
+    private static String readString(DataInputStream data) throws IOException {
+        int length = readVarInt(data) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > data.available()) {
+            throw new EOFException();
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static String readRequiredString(DataInputStream data, Class<?> field)
+            throws IOException, IllegalValueException {
+        String value = readString(data);
+        if (value == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedContact.MISSING_FIELD_MESSAGE_FORMAT,
+                    field.getSimpleName()));
+        }
+        return value;
+    }
+
+    /**
+     * Writes a non-negative {@code value} 7 bits at a time, lowest first, with the high bit set on all but the last
+     * byte.
+     */
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new EOFException();
+    }
+
+}
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored on the hard disk in the binary format of {@link BinaryAddressBookFormat}.
+ *
+ * Files other than the data file are read and written as json files, so that the data can still be exported and
+ * imported as json. If the data file does not exist yet, the json file it replaces is read instead, if there is one.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} with the data file next to {@code jsonFilePath}, and with the same
+     * name but the {@link #FILE_EXTENSION} instead of ".json". The json file is read if the data file does not exist.
+     */
+    public BinaryAddressBookStorage(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        this.filePath = jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Files other than the data file of this storage are read as json files.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new JsonAddressBookStorage(filePath).readAddressBook();
+        }
+        if (!Files.exists(filePath)) {
+            if (Files.exists(jsonFilePath)) {
+                logger.info("Importing " + jsonFilePath + " as " + filePath + " does not exist yet.");
+            }
+            return new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        }
+
+        try {
+            return Optional.of(BinaryAddressBookFormat.read(Files.readAllBytes(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Files other than the data file of this storage are written as json files.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> BinaryAddressBookFormat.write(addressBook, out));
+    }
+
+}
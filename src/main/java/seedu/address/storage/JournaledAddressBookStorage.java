@@ -0,0 +1,494 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactListSnapshot;
+import seedu.address.model.contact.Id;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json snapshot, together with a journal of the
+ * changes saved since the snapshot was written.
+ *
+ * The snapshot is in the same format as the file of {@code JsonAddressBookStorage}, with the contacts in the order
+ * of the list. Saving an {@code AddressBook} appends one compact record to the journal, holding the contacts that
+ * were added, removed, replaced or moved since the last save. These are found by comparing snapshots of the
+ * contacts, which takes time proportional to the number of changes, so the cost of a save no longer grows with the
+ * size of the address book, and a save that changes nothing writes nothing. Reading streams the snapshot, then
+ * replays the journal over it one record at a time.
+ *
+ * Once the journal grows larger than the snapshot, it is folded into a new snapshot on a background thread, while
+ * saves keep appending to the old journal. The new snapshot, and a new journal holding the changes saved meanwhile,
+ * are written to temporary files and then moved over the old ones. Each journal starts with the checksum of the
+ * snapshot it applies to, so whichever of the two journals matches the snapshot is replayed if the fold is
+ * interrupted in between. The background thread writes the new snapshot to a file of its own; every other file is
+ * only written with the lock held, so saves made meanwhile never touch the files of the fold.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_JOURNAL_MISMATCH = "Journal header does not match the contacts of the snapshot.";
+    public static final String MESSAGE_DUPLICATE_SEQUENCE =
+            "Journal puts two contacts at the same position, or one contact at two positions.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    /** The size in bytes that the journal must exceed, besides the size of the snapshot, to be folded into it. */
+    private static final long MIN_COMPACTION_SIZE = 64 * 1024;
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final Path newSnapshotPath;
+    private final Path compactingSnapshotPath;
+    private final Path newJournalPath;
+
+    /** The contacts last saved or read, which replaying the journal gives, or null if there are none. */
+    private ContactListSnapshot lastSaved;
+    /** Whether the journal on disk uses the sequence numbers of {@code lastSaved}, so that saves can append to it. */
+    private boolean isJournalCurrent;
+    private long snapshotSize;
+    private long journalSize;
+    /** The lines appended since the running fold took its snapshot, or null if no fold is running. */
+    private List<String> linesSinceCompaction;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} with the snapshot at {@code filePath}, and the journal next to it.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = siblingOf(filePath, ".journal");
+        this.newSnapshotPath = siblingOf(filePath, ".new");
+        this.compactingSnapshotPath = siblingOf(filePath, ".compacting");
+        this.newJournalPath = siblingOf(filePath, ".journal.new");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Files other than the snapshot of this storage are read as plain json files, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new JsonAddressBookStorage(filePath).readAddressBook();
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            awaitCompaction();
+            List<JsonAdaptedContact> contacts;
+            long snapshotChecksum;
+            try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32());
+                 JsonParser parser = JsonUtil.createParser(in)) {
+                contacts = JsonUtil.readValue(parser, JsonSerializableAddressBook.class).getContacts();
+                // The checksum covers the whole file, including any bytes after the contacts.
+                in.transferTo(OutputStream.nullOutputStream());
+                snapshotChecksum = in.getChecksum().getValue();
+            }
+            Path journal = findJournal(snapshotChecksum);
+            int recordCount = journal == null ? 0 : replay(contacts, journal);
+            AddressBook addressBook = new JsonSerializableAddressBook(contacts).toModelType();
+            logger.info("Replayed " + recordCount + " journal records over " + filePath);
+
+            lastSaved = addressBook.snapshot();
+            snapshotSize = Files.size(filePath);
+            isJournalCurrent = false;
+            if (recordCount > 0) {
+                // The journal numbers contacts as they were when it was written, so it is folded before saves resume.
+                compactInBackground(lastSaved);
+            } else {
+                startJournal(snapshotChecksum, lastSaved);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from journaled file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Files other than the snapshot of this storage are written as plain json files, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+            return;
+        }
+
+        ContactListSnapshot contacts = snapshotOf(addressBook);
+        boolean canAppend = contacts != null;
+        if (!isJournalCurrent || !canAppend) {
+            awaitCompaction();
+        }
+        if (lastSaved == null || !isJournalCurrent || !canAppend) {
+            contacts = new AddressBook(addressBook).snapshot();
+            compact(contacts);
+            lastSaved = contacts;
+            return;
+        }
+
+        appendChanges(contacts);
+        lastSaved = contacts;
+        if (linesSinceCompaction == null && journalSize > Math.max(snapshotSize, MIN_COMPACTION_SIZE)) {
+            compactInBackground(lastSaved);
+        }
+    }
+
+    /**
+     * Folds the journal into a new snapshot, once any fold running in the background is done.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        awaitCompaction();
+        if (lastSaved != null && isJournalCurrent && journalSize > 0) {
+            compact(lastSaved);
+        }
+    }
+
+    /**
+     * Appends the changes from {@code lastSaved} to {@code contacts} to the journal, as a single record.
+     */
+    private void appendChanges(ContactListSnapshot contacts) throws IOException {
+        if (contacts.isSameAs(lastSaved)) {
+            return;
+        }
+
+        List<String> removedIds = new ArrayList<>();
+        List<JsonJournalPut> puts = new ArrayList<>();
+        for (Id id : contacts.getIdsChangedFrom(lastSaved)) {
+            Contact contact = contacts.getContactById(id);
+            Long sequence = contacts.getSequenceById(id);
+            if (contact == null) {
+                if (lastSaved.getContactById(id) != null) {
+                    removedIds.add(id.value);
+                }
+            } else if (contact != lastSaved.getContactById(id) || !sequence.equals(lastSaved.getSequenceById(id))) {
+                puts.add(new JsonJournalPut(sequence, contact));
+            }
+        }
+        if (removedIds.isEmpty() && puts.isEmpty()) {
+            return;
+        }
+
+        String line = JsonUtil.toCompactJsonString(new JsonJournalRecord(removedIds, puts));
+        byte[] bytes = joinLines(List.of(line));
+        Files.write(journalPath, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalSize += bytes.length;
+        if (linesSinceCompaction != null) {
+            linesSinceCompaction.add(line);
+        }
+    }
+
+    /**
+     * Writes {@code contacts} as the new snapshot, with an empty journal.
+     */
+    private void compact(ContactListSnapshot contacts) throws IOException {
+        byte[] snapshotBytes = serialize(contacts);
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(newSnapshotPath, snapshotBytes);
+        replaceFiles(newSnapshotPath, snapshotBytes, contacts.getSequences(), List.of());
+    }
+
+    /**
+     * Starts folding the journal into a new snapshot of {@code contacts} on a background thread.
+     * Lines appended to the journal meanwhile are carried over to the new journal.
+     */
+    private void compactInBackground(ContactListSnapshot contacts) {
+        linesSinceCompaction = new ArrayList<>();
+        Thread thread = new Thread(() -> {
+            try {
+                byte[] snapshotBytes = serialize(contacts);
+                long[] sequences = contacts.getSequences();
+                Files.write(compactingSnapshotPath, snapshotBytes);
+                finishCompaction(snapshotBytes, sequences);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to fold the journal of " + filePath + ": " + e);
+                abortCompaction();
+            }
+        }, "address-book-compaction");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private synchronized void finishCompaction(byte[] snapshotBytes, long[] sequences) throws IOException {
+        replaceFiles(compactingSnapshotPath, snapshotBytes, sequences,
+                isJournalCurrent ? linesSinceCompaction : List.of());
+        linesSinceCompaction = null;
+        notifyAll();
+    }
+
+    private synchronized void abortCompaction() {
+        if (!isJournalCurrent) {
+            // The next save must write a snapshot, as it cannot append to the journal.
+            lastSaved = null;
+        }
+        linesSinceCompaction = null;
+        notifyAll();
+    }
+
+    /**
+     * Waits for the fold running in the background, if any, to finish. Must be called with the lock held.
+     */
+    private void awaitCompaction() throws InterruptedIOException {
+        while (linesSinceCompaction != null) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while folding the journal of " + filePath);
+            }
+        }
+    }
+
+    /**
+     * Starts an empty journal for the existing snapshot with the given checksum, whose contacts are those of
+     * {@code contacts}. If that fails, the next save writes a snapshot instead.
+     */
+    private void startJournal(long snapshotChecksum, ContactListSnapshot contacts) {
+        try {
+            Files.write(newJournalPath, journalOf(snapshotChecksum, contacts.getSequences(), List.of()));
+            FileUtil.moveReplacing(newJournalPath, journalPath);
+            journalSize = 0;
+            isJournalCurrent = true;
+        } catch (IOException e) {
+            logger.warning("Failed to start the journal of " + filePath + ": " + e);
+            lastSaved = null;
+        }
+    }
+
+    /**
+     * Moves the new snapshot at {@code snapshotPath}, holding {@code snapshotBytes}, over the old one, along with a
+     * new journal holding {@code lines}. The new journal is written before either is moved, so that one of the
+     * journals on disk always matches the snapshot. Must be called with the lock held.
+     */
+    private void replaceFiles(Path snapshotPath, byte[] snapshotBytes, long[] sequences, List<String> lines)
+            throws IOException {
+        Files.write(newJournalPath, journalOf(checksumOf(snapshotBytes), sequences, lines));
+        FileUtil.moveReplacing(snapshotPath, filePath);
+        FileUtil.moveReplacing(newJournalPath, journalPath);
+        snapshotSize = snapshotBytes.length;
+        journalSize = joinLines(lines).length;
+        isJournalCurrent = true;
+    }
+
+    private static byte[] journalOf(long snapshotChecksum, long[] sequences, List<String> lines) throws IOException {
+        List<String> journal = new ArrayList<>(lines.size() + 1);
+        journal.add(JsonUtil.toCompactJsonString(new JsonJournalHeader(snapshotChecksum, sequences)));
+        journal.addAll(lines);
+        return joinLines(journal);
+    }
+
+    /**
+     * Gives the journal that applies to the snapshot with the given checksum, or null if there is none.
+     * Only the header of each journal is read.
+     */
+    private Path findJournal(long snapshotChecksum) throws IOException {
+        for (Path path : List.of(journalPath, newJournalPath)) {
+            if (!Files.exists(path)) {
+                continue;
+            }
+            try (BufferedReader reader = Files.newBufferedReader(path, UTF_8)) {
+                String header = reader.readLine();
+                if (header != null && JsonUtil.fromJsonString(header, JsonJournalHeader.class)
+                        .getSnapshotChecksum() == snapshotChecksum) {
+                    return path;
+                }
+            } catch (JsonProcessingException e) {
+                logger.warning("Ignoring journal with an unreadable header " + path + ": " + e);
+            }
+        }
+        if (Files.exists(journalPath)) {
+            logger.warning("Ignoring journal " + journalPath + ", which does not match " + filePath);
+        }
+        return null;
+    }
+
+    /**
+     * Applies the records of {@code journal} to the snapshot {@code contacts}, reading one record at a time, and
+     * leaves the resulting contacts in {@code contacts} in the order of their sequence numbers. An incomplete last
+     * record, left by an interrupted append, is dropped.
+     *
+     * @return the number of records applied.
+     */
+    private static int replay(List<JsonAdaptedContact> contacts, Path journal)
+            throws IOException, IllegalValueException {
+        boolean isLastRecordComplete = endsWithLineBreak(journal);
+        try (BufferedReader reader = Files.newBufferedReader(journal, UTF_8)) {
+            long[] sequences = JsonUtil.fromJsonString(reader.readLine(), JsonJournalHeader.class).getSequences();
+            if (sequences.length != contacts.size()) {
+                throw new IllegalValueException(MESSAGE_JOURNAL_MISMATCH);
+            }
+
+            TreeMap<Long, JsonAdaptedContact> contactsBySequence = new TreeMap<>();
+            Map<String, Long> sequencesById = new HashMap<>();
+            for (int i = 0; i < sequences.length; i++) {
+                place(contactsBySequence, sequencesById, sequences[i], contacts.get(i));
+            }
+            int recordCount = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                if (nextLine == null && !isLastRecordComplete) {
+                    logger.warning("Dropping incomplete last record of " + journal);
+                    break;
+                }
+                apply(JsonUtil.fromJsonString(line, JsonJournalRecord.class), contactsBySequence, sequencesById);
+                recordCount++;
+                line = nextLine;
+            }
+            contacts.clear();
+            contacts.addAll(contactsBySequence.values());
+            return recordCount;
+        }
+    }
+
+    /**
+     * Applies the changes of {@code record} together. Every contact the record changes is taken out before any is
+     * put back, so contacts may trade sequence numbers within a record, and sequence numbers need only be unique
+     * once the whole record is applied.
+     */
+    private static void apply(JsonJournalRecord record, TreeMap<Long, JsonAdaptedContact> contactsBySequence,
+                              Map<String, Long> sequencesById) throws IllegalValueException {
+        record.validate();
+        for (String id : record.getRemovedIds()) {
+            take(contactsBySequence, sequencesById, id);
+        }
+        for (JsonJournalPut put : record.getPuts()) {
+            take(contactsBySequence, sequencesById, put.getContact().getId());
+        }
+        for (JsonJournalPut put : record.getPuts()) {
+            place(contactsBySequence, sequencesById, put.getSequence(), put.getContact());
+        }
+    }
+
+    private static void take(TreeMap<Long, JsonAdaptedContact> contactsBySequence, Map<String, Long> sequencesById,
+                             String id) {
+        Long sequence = sequencesById.remove(id);
+        if (sequence != null) {
+            contactsBySequence.remove(sequence);
+        }
+    }
+
+    private static void place(TreeMap<Long, JsonAdaptedContact> contactsBySequence, Map<String, Long> sequencesById,
+                              long sequence, JsonAdaptedContact contact) throws IllegalValueException {
+        if (sequencesById.putIfAbsent(contact.getId(), sequence) != null
+                || contactsBySequence.putIfAbsent(sequence, contact) != null) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SEQUENCE);
+        }
+    }
+
+    private static byte[] serialize(ContactListSnapshot contacts) throws IOException {
+        List<JsonAdaptedContact> jsonContacts = new ArrayList<>(contacts.size());
+        for (Contact contact : contacts.getContacts()) {
+            jsonContacts.add(new JsonAdaptedContact(contact));
+        }
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(jsonContacts)).getBytes(UTF_8);
+    }
+
+    private static byte[] joinLines(List<String> lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append('\n');
+        }
+        return builder.toString().getBytes(UTF_8);
+    }
+
+    /**
+     * Gives the snapshot of the contacts in {@code addressBook} that changes can be found against, or null if it
+     * does not keep one.
+     */
+    private static ContactListSnapshot snapshotOf(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof ContactListSnapshot) {
+            return (ContactListSnapshot) addressBook;
+        }
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).snapshot();
+        }
+        return null;
+    }
+
+    private static boolean endsWithLineBreak(Path path) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(path)) {
+            if (channel.size() == 0) {
+                return false;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(lastByte);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private static Path siblingOf(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+
+}
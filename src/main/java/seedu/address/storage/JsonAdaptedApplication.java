@@ -7,7 +7,6 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.contact.Id;
-import seedu.address.model.contact.Name;
 import seedu.address.model.jobapplication.ApplicationStage;
 import seedu.address.model.jobapplication.Deadline;
 import seedu.address.model.jobapplication.JobApplication;
@@ -79,9 +78,8 @@ public class JsonAdaptedApplication {
      *
      * @throws IllegalValueException if there are any data constraints violated in the adapted application.
      */
-    public JobApplication toModelType(String id, String name) throws IllegalValueException {
+    public JobApplication toModelType(String id) throws IllegalValueException {
         final Id oid;
-        final Name orgName;
         final JobTitle title;
         final Optional<JobDescription> description;
         final Deadline deadline;
@@ -114,14 +112,9 @@ public class JsonAdaptedApplication {
             throw new IllegalValueException(ApplicationStage.MESSAGE_CONSTRAINTS);
         }
         stage = ApplicationStage.fromString(this.stage);
-        if (name == null || !Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        orgName = new Name(name);
 
         return new JobApplication(
                 oid,
-                orgName,
                 title,
                 description.orElse(null),
                 deadline,
@@ -1,10 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -23,6 +23,7 @@ import seedu.address.model.contact.Recruiter;
 import seedu.address.model.contact.Type;
 import seedu.address.model.contact.Url;
 import seedu.address.model.jobapplication.JobApplication;
+import seedu.address.model.jobapplication.JobTitle;
 import seedu.address.model.tag.Tag;
 
 
@@ -96,8 +97,7 @@ class JsonAdaptedContact implements Comparable<JsonAdaptedContact> {
                 .collect(Collectors.toList()));
         if (source.getType() == Type.ORGANIZATION) {
             Organization org = (Organization) source;
-            List<JobApplication> applicationList = Arrays.asList(org.getJobApplications());
-            applications.addAll(applicationList.stream()
+            applications.addAll(org.getJobApplications().stream()
                     .map(JsonAdaptedApplication::new)
                     .collect(Collectors.toList()));
         }
@@ -110,19 +110,43 @@ class JsonAdaptedContact implements Comparable<JsonAdaptedContact> {
         return this.id;
     }
 
+    /**
+     * Returns the id string of the organization linked to, or null if there is none.
+     */
+    public String getOid() {
+        return this.oid;
+    }
+
     /**
      * Converts this Jackson-friendly adapted contact object into the model's {@code Contact} object.
      *
+     * @param reference the address book used to resolve links to organizations.
      * @throws IllegalValueException if there were any data constraints violated in the adapted contact.
      */
     public Contact toModelType(ReadOnlyAddressBook reference) throws IllegalValueException {
+        return toModelType(reference::getContactById);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted contact object into the model's {@code Contact} object.
+     *
+     * @param contactLookup gives the contact with a given id, or null if there is none. This is used to check
+     *                      links to organizations.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted contact.
+     */
+    public Contact toModelType(Function<Id, Contact> contactLookup) throws IllegalValueException {
         final List<Tag> contactTags = new ArrayList<>();
         final List<JobApplication> jobApplications = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             contactTags.add(tag.toModelType());
         }
+        final Set<JobTitle> jobTitles = new HashSet<>();
         for (JsonAdaptedApplication application: applications) {
-            jobApplications.add(application.toModelType(id, name));
+            JobApplication jobApplication = application.toModelType(id);
+            if (!jobTitles.add(jobApplication.getJobTitle())) {
+                throw new IllegalValueException(Organization.MESSAGE_DUPLICATE_APPLICATIONS);
+            }
+            jobApplications.add(jobApplication);
         }
 
         if (name == null) {
@@ -184,21 +208,16 @@ class JsonAdaptedContact implements Comparable<JsonAdaptedContact> {
                 throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
             }
             final Id modelOid = oid == null ? null : new Id(oid);
-            final Organization modelOrg;
-            if (modelOid == null) {
-                modelOrg = null;
-            } else {
-                Contact contact = reference.getContactById(modelOid);
+            if (modelOid != null) {
+                Contact contact = contactLookup.apply(modelOid);
                 if (contact == null || contact.getType() != Type.ORGANIZATION) {
                     throw new IllegalValueException(Recruiter.MESSAGE_INVALID_ORGANIZATION);
                 }
-                modelOrg = (Organization) contact;
-                assert modelOrg.getId().equals(modelOid);
             }
 
             return new Recruiter(
                     modelName, modelId, modelPhone, modelEmail, modelUrl, modelAddress,
-                    modelTags, modelOrg
+                    modelTags, modelOid
             );
         }
         default:
@@ -3,10 +3,15 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,15 +21,27 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * The file is read and written one contact at a time, so neither the file nor all of its contacts in their JSON form
+ * are held in memory at once.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes the file without indentation if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +62,15 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(JsonSerializableAddressBook.read(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +91,12 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            JsonGenerator generator = JsonUtil.createGenerator(out, isCompact);
+            JsonSerializableAddressBook.write(addressBook, generator);
+            generator.flush();
+        });
     }
 
 }
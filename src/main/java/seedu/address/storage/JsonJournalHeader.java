@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly first line of an address book journal, which names the snapshot the journal applies to and the
+ * sequence numbers that the contacts of the snapshot had when it was written.
+ *
+ * Sequence numbers are kept as runs of consecutive numbers, given by their first number and their length, since
+ * contacts are only numbered apart by the removals between snapshots.
+ */
+class JsonJournalHeader {
+
+    public static final String MESSAGE_INVALID_RUN = "Journal header has an invalid run of sequence numbers.";
+
+    private final long snapshotChecksum;
+    private final List<long[]> sequenceRuns = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalHeader} with the given checksum and runs of sequence numbers.
+     */
+    @JsonCreator
+    public JsonJournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum,
+                             @JsonProperty("sequenceRuns") List<long[]> sequenceRuns) {
+        this.snapshotChecksum = snapshotChecksum;
+        if (sequenceRuns != null) {
+            this.sequenceRuns.addAll(sequenceRuns);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonJournalHeader} for a snapshot with the given checksum, whose contacts had the given
+     * sequence numbers in increasing order.
+     */
+    public JsonJournalHeader(long snapshotChecksum, long[] sequences) {
+        this.snapshotChecksum = snapshotChecksum;
+        int start = 0;
+        while (start < sequences.length) {
+            int end = start + 1;
+            while (end < sequences.length && sequences[end] == sequences[end - 1] + 1) {
+                end++;
+            }
+            sequenceRuns.add(new long[] {sequences[start], end - start});
+            start = end;
+        }
+    }
+
+    public long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+    /**
+     * Gives the sequence numbers of the contacts of the snapshot, in the order they are in the snapshot.
+     *
+     * @throws IllegalValueException if a run of sequence numbers is malformed.
+     */
+    public long[] getSequences() throws IllegalValueException {
+        long count = 0;
+        for (long[] run : sequenceRuns) {
+            if (run == null || run.length != 2 || run[1] <= 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_RUN);
+            }
+            count += run[1];
+        }
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_INVALID_RUN);
+        }
+
+        long[] sequences = new long[(int) count];
+        int position = 0;
+        for (long[] run : sequenceRuns) {
+            for (long i = 0; i < run[1]; i++) {
+                sequences[position++] = run[0] + i;
+            }
+        }
+        return sequences;
+    }
+
+}
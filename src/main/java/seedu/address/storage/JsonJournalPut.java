@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.contact.Contact;
+
+/**
+ * Jackson-friendly contact put at its sequence number by a {@code JsonJournalRecord}.
+ */
+class JsonJournalPut {
+
+    private final Long sequence;
+    private final JsonAdaptedContact contact;
+
+    /**
+     * Constructs a {@code JsonJournalPut} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalPut(@JsonProperty("sequence") Long sequence,
+                          @JsonProperty("contact") JsonAdaptedContact contact) {
+        this.sequence = sequence;
+        this.contact = contact;
+    }
+
+    /**
+     * Creates a put of {@code contact} at {@code sequence}.
+     */
+    public JsonJournalPut(long sequence, Contact contact) {
+        this(sequence, new JsonAdaptedContact(requireNonNull(contact)));
+    }
+
+    /**
+     * Returns true if this put has both a sequence number and a contact with an id.
+     */
+    public boolean isValid() {
+        return sequence != null && contact != null && contact.getId() != null;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public JsonAdaptedContact getContact() {
+        return contact;
+    }
+
+}
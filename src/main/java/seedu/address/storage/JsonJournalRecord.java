@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly record of the changes to the contacts made by one save, as kept in an address book journal.
+ * A record removes the contacts with some ids, and puts contacts at their sequence numbers, each replacing any
+ * contact with the same id. Its changes are applied together, so contacts may trade sequence numbers within a record.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD =
+            "Journal record must remove ids or put contacts at sequence numbers.";
+
+    private final List<String> removedIds = new ArrayList<>();
+    private final List<JsonJournalPut> puts = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given changes.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("removedIds") List<String> removedIds,
+                             @JsonProperty("puts") List<JsonJournalPut> puts) {
+        if (removedIds != null) {
+            this.removedIds.addAll(removedIds);
+        }
+        if (puts != null) {
+            this.puts.addAll(puts);
+        }
+    }
+
+    /**
+     * Checks that this record changes something, and that each of its changes is complete.
+     *
+     * @throws IllegalValueException if the record is empty or has an incomplete change.
+     */
+    public void validate() throws IllegalValueException {
+        if (removedIds.isEmpty() && puts.isEmpty()
+                || removedIds.contains(null)
+                || puts.stream().anyMatch(put -> put == null || !put.isValid())) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+    }
+
+    public List<String> getRemovedIds() {
+        return removedIds;
+    }
+
+    public List<JsonJournalPut> getPuts() {
+        return puts;
+    }
+
+}
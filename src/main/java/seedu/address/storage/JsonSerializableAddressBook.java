@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -12,19 +15,32 @@ import java.util.stream.IntStream;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Id;
+import seedu.address.model.contact.Type;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ *
+ * An address book can also be read and written one contact at a time with {@link #read(JsonParser)} and
+ * {@link #write(ReadOnlyAddressBook, JsonGenerator)}, which give the same results without holding all the contacts in
+ * their JSON form at once.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_CONTACT = "Contacts list contains duplicate contact(s).";
+    public static final String MESSAGE_INVALID_STRUCTURE = "Address book must be an object with a list of contacts.";
+
+    private static final String CONTACTS_FIELD = "contacts";
 
     private final List<JsonAdaptedContact> contacts = new ArrayList<>();
 
@@ -48,6 +64,13 @@ class JsonSerializableAddressBook {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the contacts of this address book, in the order they are stored.
+     */
+    List<JsonAdaptedContact> getContacts() {
+        return contacts;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
@@ -68,27 +91,119 @@ class JsonSerializableAddressBook {
 
         Comparator<Contact> originalOrderComparator = Comparator.comparingInt(c -> orderMap.get(c.getId().value));
 
-        // Create all contacts.
+        // Create all contacts. Organizations are sorted before recruiters so that links can be resolved.
         List<JsonAdaptedContact> sortedJsonContacts = new ArrayList<>(contacts);
         Collections.sort(sortedJsonContacts);
-        List<Contact> newContacts = new ArrayList<>();
+        List<Contact> newContacts = new ArrayList<>(contacts.size());
+        Map<Id, Contact> loadedContacts = new HashMap<>();
 
-        AddressBook addressBook = new AddressBook();
         for (JsonAdaptedContact jsonAdaptedContact : sortedJsonContacts) {
-            Contact contact = jsonAdaptedContact.toModelType(addressBook);
+            Contact contact = jsonAdaptedContact.toModelType(loadedContacts::get);
             // Defensive check.
-            if (addressBook.getContactById(contact.getId()) != null) {
+            if (loadedContacts.putIfAbsent(contact.getId(), contact) != null) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_CONTACT);
             }
-            addressBook.addContact(contact);
             newContacts.add(contact);
         }
 
-        // Add them into the book in the original order.
+        // Bulk load them into the book in the original order.
         newContacts.sort(originalOrderComparator);
+        AddressBook addressBook = new AddressBook();
         addressBook.setContacts(newContacts);
 
         return addressBook;
     }
 
+    /**
+     * Reads an address book from {@code parser}, converting each contact as soon as it is read. This gives the same
+     * address book as {@link #toModelType()} on the same data, with the contacts in the order they are read.
+     * Recruiters read before the organization they link to are converted once all the contacts have been read.
+     *
+     * @throws IOException if the data could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_INVALID_STRUCTURE);
+        }
+
+        List<Contact> contacts = null;
+        Map<Id, Contact> loadedContacts = new HashMap<>();
+        Map<Integer, JsonAdaptedContact> deferredContacts = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (!fieldName.equals(CONTACTS_FIELD)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (token != JsonToken.START_ARRAY || contacts != null) {
+                throw new IllegalValueException(MESSAGE_INVALID_STRUCTURE);
+            }
+
+            contacts = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedContact jsonAdaptedContact = JsonUtil.readValue(parser, JsonAdaptedContact.class);
+                if (isLinkedToUnloadedContact(jsonAdaptedContact, loadedContacts)) {
+                    deferredContacts.put(contacts.size(), jsonAdaptedContact);
+                    contacts.add(null);
+                } else {
+                    contacts.add(load(jsonAdaptedContact, loadedContacts));
+                }
+            }
+        }
+        if (contacts == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_STRUCTURE);
+        }
+
+        for (Map.Entry<Integer, JsonAdaptedContact> entry : deferredContacts.entrySet()) {
+            contacts.set(entry.getKey(), load(entry.getValue(), loadedContacts));
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setContacts(contacts);
+        return addressBook;
+    }
+
+    /**
+     * Writes the contacts of {@code source} to {@code generator} one at a time, in the same form and order as
+     * {@link #JsonSerializableAddressBook(ReadOnlyAddressBook)} would be written.
+     */
+    static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(CONTACTS_FIELD);
+        generator.writeStartArray();
+        // Contacts are grouped by type, as the sorted contacts are, so that organizations come before recruiters.
+        for (Type type : Type.values()) {
+            for (Contact contact : source.getContactList()) {
+                if (contact.getType() == type) {
+                    JsonUtil.writeValue(generator, new JsonAdaptedContact(contact));
+                }
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns true if {@code jsonAdaptedContact} links to a contact that has not been loaded yet.
+     */
+    private static boolean isLinkedToUnloadedContact(JsonAdaptedContact jsonAdaptedContact,
+                                                     Map<Id, Contact> loadedContacts) {
+        String oid = jsonAdaptedContact.getOid();
+        return oid != null && Id.isValidId(oid) && !loadedContacts.containsKey(new Id(oid));
+    }
+
+    /**
+     * Converts {@code jsonAdaptedContact} into a contact, resolving its links against {@code loadedContacts}, and adds
+     * it to them.
+     */
+    private static Contact load(JsonAdaptedContact jsonAdaptedContact, Map<Id, Contact> loadedContacts)
+            throws IllegalValueException {
+        Contact contact = jsonAdaptedContact.toModelType(loadedContacts::get);
+        if (loadedContacts.putIfAbsent(contact.getId(), contact) != null) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CONTACT);
+        }
+        return contact;
+    }
+
 }
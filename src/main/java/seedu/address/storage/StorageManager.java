@@ -75,4 +75,16 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        logger.fine("Waiting for the data file to be written");
+        addressBookStorage.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        logger.fine("Closing the address book storage");
+        addressBookStorage.close();
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javafx.fxml.FXML;
@@ -7,6 +8,8 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Id;
 import seedu.address.model.jobapplication.JobApplication;
 import seedu.address.model.jobapplication.JobDescription;
 
@@ -40,12 +43,16 @@ public class ApplicationCard extends UiPart<Region> {
 
     /**
      * Creates a {@code ApplicationCard} with the given {@code JobApplication} and index to display.
+     * The name of its organization is looked up with {@code contactLookup}, falling back to the organization id.
      */
-    public ApplicationCard(JobApplication application, int displayedIndex) {
+    public ApplicationCard(JobApplication application, int displayedIndex, Function<Id, Contact> contactLookup) {
         super(FXML);
         this.jobApplication = application;
         index.setText(String.format("%d. ", displayedIndex));
-        linkedParentOrganization.setText(application.getOrgName().fullName);
+        Contact organization = contactLookup.apply(application.getOrganizationId());
+        linkedParentOrganization.setText(organization == null
+                ? application.getOrganizationId().value
+                : organization.getName().fullName);
         title.setText(application.getJobTitle().title);
         status.setText(application.getStatus().toString());
         deadline.setText("Deadline: " + application.getDeadline().toString());
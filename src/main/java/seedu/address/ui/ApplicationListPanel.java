@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -8,6 +9,8 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Id;
 import seedu.address.model.jobapplication.JobApplication;
 
 /**
@@ -20,15 +23,27 @@ public class ApplicationListPanel extends UiPart<Region> {
     @FXML
     private ListView<JobApplication> applicationListView;
 
+    private final Function<Id, Contact> contactLookup;
+
     /**
      * Creates a {@code ContactListPanel} with the given {@code ObservableList}.
+     * Organizations of the applications are looked up with {@code contactLookup} to show their names.
      */
-    public ApplicationListPanel(ObservableList<JobApplication> applicationList) {
+    public ApplicationListPanel(ObservableList<JobApplication> applicationList, Function<Id, Contact> contactLookup) {
         super(FXML);
+        this.contactLookup = contactLookup;
         applicationListView.setItems(applicationList);
         applicationListView.setCellFactory(listView -> new ApplicationListViewCell());
     }
 
+    /**
+     * Redraws the displayed applications, e.g. after their organizations are renamed, as applications refer to
+     * their organizations by id and are not replaced when only the organizations change.
+     */
+    public void refresh() {
+        applicationListView.refresh();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code JobApplication} using a {@code ApplicationCard}.
      * Same as {@link seedu.address.ui.ContactListPanel.ContactListViewCell}
@@ -42,7 +57,7 @@ public class ApplicationListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ApplicationCard(application, getIndex() + 1).getRoot());
+                setGraphic(new ApplicationCard(application, getIndex() + 1, contactLookup).getRoot());
             }
         }
     }
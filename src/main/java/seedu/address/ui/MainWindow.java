@@ -35,6 +35,7 @@ public class MainWindow extends UiPart<Stage> {
     private ContactListPanel contactListPanel;
     private ApplicationListPanel applicationListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -117,13 +118,15 @@ public class MainWindow extends UiPart<Stage> {
         contactListPanel = new ContactListPanel(logic.getDisplayedContactList());
         contactListPanelPlaceholder.getChildren().add(contactListPanel.getRoot());
 
-        applicationListPanel = new ApplicationListPanel(logic.getDisplayedApplicationList());
+        applicationListPanel = new ApplicationListPanel(logic.getDisplayedApplicationList(),
+                id -> logic.getAddressBook().getContactById(id));
         applicationListPanelPlaceholder.getChildren().add(applicationListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter.setApplicationCounts(logic.getApplicationStatistics().getOverallCounts());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand, this::generateCompletions);
@@ -188,6 +191,8 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            statusBarFooter.setApplicationCounts(logic.getApplicationStatistics().getOverallCounts());
+            applicationListPanel.refresh();
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
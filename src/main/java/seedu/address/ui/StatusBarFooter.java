@@ -6,6 +6,9 @@ import java.nio.file.Paths;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.jobapplication.ApplicationCounts;
+import seedu.address.model.jobapplication.ApplicationStage;
+import seedu.address.model.jobapplication.JobStatus;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -14,9 +17,14 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    private static final String APPLICATION_SUMMARY_FORMAT = "%1$d applications | %2$d interviewing | %3$d offered";
+
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label applicationSummaryStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +33,12 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows a summary of the given application counts.
+     */
+    public void setApplicationCounts(ApplicationCounts counts) {
+        applicationSummaryStatus.setText(String.format(APPLICATION_SUMMARY_FORMAT, counts.getTotal(),
+                counts.getCount(ApplicationStage.INTERVIEW), counts.getCount(JobStatus.OFFERED)));
+    }
+
 }
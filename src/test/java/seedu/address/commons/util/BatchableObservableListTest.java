@@ -0,0 +1,99 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchableObservableListTest {
+
+    private final BatchableObservableList<Integer> list = new BatchableObservableList<>();
+    private final List<Integer> removed = new ArrayList<>();
+    private final List<Integer> added = new ArrayList<>();
+    private int changeCount = 0;
+
+    @BeforeEach
+    public void setUp() {
+        list.setAll(List.of(1, 2, 3, 4, 5));
+        list.addListener((ListChangeListener<Integer>) change -> {
+            changeCount++;
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void mutation_outsideBatch_firesChangeEach() {
+        list.add(6);
+        list.remove(Integer.valueOf(1));
+        assertEquals(2, changeCount);
+    }
+
+    @Test
+    public void endBatch_severalMutations_firesSingleChange() {
+        list.beginBatch();
+        list.add(6);
+        list.set(0, 10);
+        list.remove(Integer.valueOf(3));
+        assertEquals(0, changeCount);
+        list.endBatch();
+
+        assertEquals(1, changeCount);
+        assertEquals(List.of(10, 2, 4, 5, 6), list);
+        assertTrue(removed.containsAll(List.of(1, 3)));
+        assertTrue(added.containsAll(List.of(10, 6)));
+    }
+
+    @Test
+    public void endBatch_nestedBatches_firesWhenOutermostEnds() {
+        list.beginBatch();
+        list.beginBatch();
+        list.add(6);
+        list.endBatch();
+        assertEquals(0, changeCount);
+        list.add(7);
+        list.endBatch();
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void removeAll_someElements_removesInSingleChange() {
+        assertTrue(list.removeAll(Set.of(2, 4)));
+        assertEquals(List.of(1, 3, 5), list);
+        assertEquals(1, changeCount);
+        assertEquals(List.of(2, 4), removed);
+
+        assertFalse(list.removeAll(Set.of(8)));
+        assertEquals(List.of(1, 3, 5), list);
+    }
+
+    @Test
+    public void remove_range_removesInSingleChange() {
+        list.remove(1, 4);
+        assertEquals(List.of(1, 5), list);
+        assertEquals(1, changeCount);
+        assertEquals(List.of(2, 3, 4), removed);
+
+        list.remove(1, 1);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void setAll_replacement_replacesInSingleChange() {
+        list.setAll(List.of(7, 8));
+        assertEquals(List.of(7, 8), list);
+        assertEquals(1, changeCount);
+        assertEquals(List.of(1, 2, 3, 4, 5), removed);
+        assertEquals(List.of(7, 8), added);
+    }
+}
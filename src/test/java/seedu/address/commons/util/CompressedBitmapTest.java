@@ -0,0 +1,123 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    public void addAndRemove_valuesAcrossChunks_containsRemainingValues() {
+        CompressedBitmap bitmap = CompressedBitmap.of(3, 1, 70000, 1, 65535);
+        assertEquals(4, bitmap.getCardinality());
+        assertTrue(bitmap.contains(65535));
+        assertFalse(bitmap.contains(2));
+        assertTrue(Arrays.equals(new int[] {1, 3, 65535, 70000}, bitmap.toArray()));
+
+        bitmap.remove(70000);
+        bitmap.remove(4);
+        bitmap.remove(-1);
+        assertTrue(Arrays.equals(new int[] {1, 3, 65535}, bitmap.toArray()));
+
+        bitmap.clear();
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void addAndRemove_denseChunk_switchesBetweenArrayAndWords() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < 10000; i++) {
+            bitmap.add(i * 2);
+        }
+        assertEquals(10000, bitmap.getCardinality());
+        assertTrue(bitmap.contains(19998));
+        assertFalse(bitmap.contains(19999));
+
+        for (int i = 0; i < 9000; i++) {
+            bitmap.remove(i * 2);
+        }
+        assertEquals(1000, bitmap.getCardinality());
+        assertTrue(bitmap.contains(18000));
+        assertFalse(bitmap.contains(17998));
+    }
+
+    @Test
+    public void copy_changedCopy_originalUnchanged() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 2);
+        CompressedBitmap copy = bitmap.copy();
+        copy.add(3);
+        assertEquals(CompressedBitmap.of(1, 2), bitmap);
+        assertEquals(CompressedBitmap.of(1, 2, 3), copy);
+    }
+
+    @Test
+    public void andOrAndNot_randomBitmaps_matchBitSets() {
+        Random random = new Random(2103);
+        // Densities on either side of the array limit, so that every pair of chunk kinds is combined.
+        double[] densities = {0.001, 0.02, 0.3};
+        for (double density : densities) {
+            for (double otherDensity : densities) {
+                BitSet bits = randomBits(random, density);
+                BitSet otherBits = randomBits(random, otherDensity);
+                CompressedBitmap bitmap = toBitmap(bits);
+                CompressedBitmap other = toBitmap(otherBits);
+
+                BitSet expectedAnd = (BitSet) bits.clone();
+                expectedAnd.and(otherBits);
+                BitSet expectedOr = (BitSet) bits.clone();
+                expectedOr.or(otherBits);
+                BitSet expectedAndNot = (BitSet) bits.clone();
+                expectedAndNot.andNot(otherBits);
+
+                assertTrue(Arrays.equals(expectedAnd.stream().toArray(),
+                        CompressedBitmap.and(bitmap, other).toArray()));
+                assertTrue(Arrays.equals(expectedOr.stream().toArray(),
+                        CompressedBitmap.or(bitmap, other).toArray()));
+                assertTrue(Arrays.equals(expectedAndNot.stream().toArray(),
+                        CompressedBitmap.andNot(bitmap, other).toArray()));
+                assertEquals(toBitmap(bits), bitmap);
+            }
+        }
+    }
+
+    @Test
+    public void equals() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 100000);
+
+        assertTrue(bitmap.equals(bitmap));
+        assertTrue(bitmap.equals(CompressedBitmap.of(100000, 1)));
+        assertEquals(bitmap.hashCode(), CompressedBitmap.of(100000, 1).hashCode());
+
+        assertFalse(bitmap.equals(null));
+        assertFalse(bitmap.equals(1));
+        assertFalse(bitmap.equals(CompressedBitmap.of(1)));
+    }
+
+    private static BitSet randomBits(Random random, double density) {
+        BitSet bits = new BitSet();
+        for (int i = 0; i < 200000; i++) {
+            if (random.nextDouble() < density) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    private static CompressedBitmap toBitmap(BitSet bits) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bits.stream().forEach(bitmap::add);
+        return bitmap;
+    }
+}
@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,14 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContent() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content that is longer");
+        FileUtil.writeToFile(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("data.json.tmp")));
+    }
+
 }
@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class MinHashTest {
+
+    private final MinHash minHash = new MinHash(16, 4);
+
+    @Test
+    public void constructor_nonPositiveBands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MinHash(0, 4));
+    }
+
+    @Test
+    public void getThreshold_bandsAndRows_returnsThreshold() {
+        assertEquals(0.5, minHash.getThreshold(), 1e-9);
+    }
+
+    @Test
+    public void signatureOf_sameSetInAnotherOrder_returnsSameSignature() {
+        assertTrue(Arrays.equals(minHash.signatureOf(new int[] {1, 2, 3}),
+                minHash.signatureOf(new int[] {3, 1, 2, 1})));
+    }
+
+    @Test
+    public void estimateSimilarity_overlappingSets_estimatesJaccardSimilarity() {
+        // The sets share 300 of 500 values, so their Jaccard similarity is 0.6.
+        long[] signature = minHash.signatureOf(IntStream.range(0, 400).toArray());
+        long[] otherSignature = minHash.signatureOf(IntStream.range(100, 500).toArray());
+        assertEquals(0.6, MinHash.estimateSimilarity(signature, otherSignature), 0.15);
+        assertEquals(1.0, MinHash.estimateSimilarity(signature, signature));
+    }
+
+    @Test
+    public void bucketsOf_similarAndDissimilarSets_groupsOnlySimilarSets() {
+        long[] signature = minHash.signatureOf(IntStream.range(0, 100).toArray());
+        long[] similarSignature = minHash.signatureOf(IntStream.range(0, 95).toArray());
+        long[] dissimilarSignature = minHash.signatureOf(IntStream.range(90, 190).toArray());
+
+        List<List<Integer>> buckets = minHash.bucketsOf(List.of(signature, similarSignature, dissimilarSignature));
+        assertTrue(buckets.contains(List.of(0, 1)));
+        assertTrue(buckets.stream().noneMatch(bucket -> bucket.contains(2)));
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentMapTest {
+
+    @Test
+    public void empty_noEntries() {
+        PersistentMap<String, Integer> map = PersistentMap.empty();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("a"));
+        assertFalse(map.entrySet().iterator().hasNext());
+    }
+
+    @Test
+    public void plus_nullKeyOrValue_throwsNullPointerException() {
+        PersistentMap<String, Integer> map = PersistentMap.empty();
+        assertThrows(NullPointerException.class, () -> map.plus(null, 1));
+        assertThrows(NullPointerException.class, () -> map.plus("a", null));
+    }
+
+    @Test
+    public void plus_doesNotModifyOriginal() {
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus("a", 1);
+        PersistentMap<String, Integer> newMap = map.plus("b", 2).plus("a", 3);
+
+        assertEquals(Map.of("a", 1), map);
+        assertEquals(Map.of("a", 3, "b", 2), newMap);
+    }
+
+    @Test
+    public void plus_sameValue_returnsSameMap() {
+        Integer value = 1;
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus("a", value);
+        assertSame(map, map.plus("a", value));
+    }
+
+    @Test
+    public void minus_missingKey_returnsSameMap() {
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus("a", 1);
+        assertSame(map, map.minus("b"));
+        assertTrue(map.minus("a").isEmpty());
+    }
+
+    @Test
+    public void plusAndMinus_collidingHashes_keepsAllKeys() {
+        // "Aa" and "BB" have the same hash code
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty()
+                .plus("Aa", 1).plus("BB", 2).plus("C", 3);
+        assertEquals(Map.of("Aa", 1, "BB", 2, "C", 3), map);
+        assertEquals(Map.of("BB", 2, "C", 3), map.minus("Aa"));
+        assertEquals(Map.of("Aa", 1, "C", 3), map.minus("BB"));
+    }
+
+    @Test
+    public void plusAndMinus_randomOperations_matchesHashMap() {
+        Random random = new Random(2103);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 20000; i++) {
+            Integer key = random.nextInt(2000) * (random.nextBoolean() ? 1 : 1 << 20);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                expected.put(key, i);
+                map = map.plus(key, i);
+            }
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map);
+        assertEquals(expected.size(), map.entrySet().stream().count());
+    }
+
+    @Test
+    public void getKeysChangedFrom_collidingHashes_findsChangedKeys() {
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus("Aa", 1).plus("C", 3);
+        PersistentMap<String, Integer> newMap = map.plus("BB", 2).minus("C");
+        assertEquals(Set.of("BB", "C"), newMap.getKeysChangedFrom(map));
+        assertEquals(Set.of("BB", "C"), map.getKeysChangedFrom(newMap));
+        assertTrue(map.getKeysChangedFrom(map).isEmpty());
+    }
+
+    @Test
+    public void getKeysChangedFrom_randomOperations_matchesComparison() {
+        Random random = new Random(2103);
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 5000; i++) {
+            map = map.plus(random.nextInt(2000) * (random.nextBoolean() ? 1 : 1 << 20), i);
+        }
+        for (int round = 0; round < 50; round++) {
+            PersistentMap<Integer, Integer> newMap = map;
+            for (int i = 0; i < random.nextInt(40); i++) {
+                Integer key = random.nextInt(2000) * (random.nextBoolean() ? 1 : 1 << 20);
+                newMap = random.nextBoolean() ? newMap.minus(key) : newMap.plus(key, random.nextInt(3));
+            }
+
+            Set<Integer> expected = new HashSet<>();
+            for (Integer key : map.keySet()) {
+                if (map.get(key) != newMap.get(key)) {
+                    expected.add(key);
+                }
+            }
+            for (Integer key : newMap.keySet()) {
+                if (!map.containsKey(key)) {
+                    expected.add(key);
+                }
+            }
+            assertEquals(expected, newMap.getKeysChangedFrom(map));
+            map = newMap;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SwitchableObservableListTest {
+
+    private final ObservableList<Integer> first = FXCollections.observableArrayList(1, 2, 3);
+    private final ObservableList<Integer> second = FXCollections.observableArrayList(4, 5);
+    private final SwitchableObservableList<Integer> list = new SwitchableObservableList<>(first);
+    private final List<Integer> removed = new ArrayList<>();
+    private final List<Integer> added = new ArrayList<>();
+    private int changeCount = 0;
+
+    @BeforeEach
+    public void setUp() {
+        list.addListener((ListChangeListener<Integer>) change -> {
+            changeCount++;
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void sourceChanged_currentSource_changeForwarded() {
+        first.add(4);
+        first.remove(Integer.valueOf(1));
+
+        assertEquals(2, changeCount);
+        assertEquals(List.of(2, 3, 4), list);
+        assertEquals(List.of(1), removed);
+        assertEquals(List.of(4), added);
+    }
+
+    @Test
+    public void setSource_newSource_firesSingleReplacement() {
+        list.setSource(second);
+
+        assertSame(second, list.getSource());
+        assertEquals(1, changeCount);
+        assertEquals(List.of(4, 5), list);
+        assertEquals(List.of(1, 2, 3), removed);
+        assertEquals(List.of(4, 5), added);
+    }
+
+    @Test
+    public void setSource_sameSource_nothingFired() {
+        list.setSource(first);
+        assertEquals(0, changeCount);
+    }
+
+    @Test
+    public void sourceChanged_previousSource_notForwarded() {
+        list.setSource(second);
+        first.add(6);
+        second.add(7);
+
+        assertEquals(2, changeCount);
+        assertEquals(List.of(4, 5, 7), list);
+    }
+
+    @Test
+    public void add_anyElement_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> list.add(6));
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex<Integer> index = new TrigramIndex<>();
+
+    @Test
+    public void trigramsOf_text_returnsDistinctTrigrams() {
+        assertEquals(Set.of("aaa"), TrigramIndex.trigramsOf("aaaa"));
+        assertEquals(Set.of("abc", "bcd"), TrigramIndex.trigramsOf("abcd"));
+        assertTrue(TrigramIndex.trigramsOf("ab").isEmpty());
+    }
+
+    @Test
+    public void canLookUp_shortFragment_returnsFalse() {
+        assertFalse(TrigramIndex.canLookUp("ab"));
+        assertTrue(TrigramIndex.canLookUp("abc"));
+    }
+
+    @Test
+    public void getCandidates_shortFragment_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.getCandidates("ab"));
+        assertThrows(IllegalArgumentException.class, () -> index.estimateCandidates("ab"));
+    }
+
+    @Test
+    public void getCandidates_addedAndRemovedTexts_returnsValuesWithAllTrigrams() {
+        index.add("software engineer", 1);
+        index.add("hardware engineer", 2);
+        index.add("ware", 3);
+        assertEquals(Set.of(1, 2, 3), index.getCandidates("ware"));
+        assertEquals(Set.of(1), index.getCandidates("soft"));
+        assertEquals(Set.of(1, 2), index.getCandidates("engineer"));
+        assertTrue(index.getCandidates("xyz").isEmpty());
+        assertEquals(1, index.estimateCandidates("software"));
+        assertEquals(3, index.estimateCandidates("war"));
+
+        index.remove("ware", 3);
+        assertEquals(Set.of(1, 2), index.getCandidates("ware"));
+        index.clear();
+        assertTrue(index.getCandidates("ware").isEmpty());
+        assertEquals(0, index.getPostingCount());
+    }
+
+    @Test
+    public void getCandidates_randomTexts_supersetOfMatches() {
+        Random random = new Random(2103);
+        Map<Integer, String> texts = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            String text = randomText(random, 3 + random.nextInt(10));
+            texts.put(i, text);
+            index.add(text, i);
+        }
+        for (int i = 0; i < 250; i++) {
+            index.remove(texts.remove(i), i);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String fragment = randomText(random, 3 + random.nextInt(2));
+            Set<Integer> expected = texts.entrySet().stream()
+                    .filter(entry -> entry.getValue().contains(fragment))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            Set<Integer> candidates = index.getCandidates(fragment);
+            assertTrue(candidates.containsAll(expected));
+            assertTrue(texts.keySet().containsAll(candidates));
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+}
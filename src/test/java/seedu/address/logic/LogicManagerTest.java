@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.DryRunCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -80,6 +81,25 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS_ALL_CONTACTS, model);
     }
 
+    @Test
+    public void execute_commandsNotChangingData_saveSkipped() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSaveMetrics().getSavedCount());
+        assertEquals(1, logic.getSaveMetrics().getSkippedCount());
+
+        logic.execute(AddCommand.COMMAND_WORD + REC_DESC + NAME_DESC_AMY + ID_DESC_AMY);
+        assertEquals(2, logic.getSaveMetrics().getSavedCount());
+    }
+
+    @Test
+    public void execute_changesCancellingOut_saveSkipped() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(AddCommand.COMMAND_WORD + " " + DryRunCommand.OPTION + REC_DESC + NAME_DESC_AMY + ID_DESC_AMY);
+        assertEquals(1, logic.getSaveMetrics().getSavedCount());
+        assertEquals(1, logic.getSaveMetrics().getSkippedCount());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
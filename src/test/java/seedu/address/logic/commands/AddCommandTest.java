@@ -6,6 +6,8 @@ import static seedu.address.testutil.TypicalContacts.NUS;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -16,8 +18,15 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactFilter;
+import seedu.address.model.contact.ContactKeyIndex;
+import seedu.address.model.contact.ContactListSnapshot;
 import seedu.address.model.contact.Id;
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.jobapplication.ApplicationFilter;
+import seedu.address.model.jobapplication.ApplicationStatistics;
 import seedu.address.model.jobapplication.JobApplication;
 
 public class AddCommandTest {
@@ -77,6 +86,51 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <E extends Exception> void preview(Transaction<E> transaction) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <E extends Exception> void batch(Transaction<E> transaction) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ContactListSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelEventBus getEventBus() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasContact(Contact contact) {
             throw new AssertionError("This method should not be called.");
@@ -99,6 +153,21 @@ public class AddCommandTest {
             return NUS;
         }
 
+        @Override
+        public List<Contact> getChildrenOf(Id parentId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Contact> getContactsSharingKey(ContactKeyIndex.Key key, Contact contact) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<List<Contact>> getDuplicates(ContactKeyIndex.Key key) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Contact getContactByIdXorIndex(Id id, Index index) {
             throw new AssertionError("This method should not be called.");
@@ -131,6 +200,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredContactList(Set<Id> contactIds) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredContactList(ContactFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateSortedApplicationList(Comparator<JobApplication> comparator) {
             throw new AssertionError("This method should not be called.");
@@ -140,6 +219,16 @@ public class AddCommandTest {
         public void updateSortedContactList(Comparator<Contact> comparator) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredApplicationList(ApplicationFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ApplicationStatistics getApplicationStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -182,6 +271,16 @@ public class AddCommandTest {
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
         }
+
+        @Override
+        public List<Contact> getContactsSharingKey(ContactKeyIndex.Key key, Contact contact) {
+            return new AddressBook().getContactsSharingKey(key, contact);
+        }
+
+        @Override
+        public ReadOnlyUserPrefs getUserPrefs() {
+            return new UserPrefs();
+        }
     }
 
 }
@@ -2,8 +2,12 @@ package seedu.address.logic.commands;
 
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalContacts.NUS;
+import static seedu.address.testutil.TypicalContacts.RYAN;
 import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -11,6 +15,7 @@ import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.DuplicatePolicy;
 import seedu.address.model.contact.Organization;
 import seedu.address.model.contact.Recruiter;
 import seedu.address.testutil.OrganizationBuilder;
@@ -32,7 +37,8 @@ public class AddRecruiterCommandIntegrationTest {
     public void execute_newRecruiter_success() {
         Organization linkedOrganization = new OrganizationBuilder().withId("valid-organization").build();
         Recruiter validRecruiter = new RecruiterBuilder()
-                .withId("valid-recruiter").withOrganization(linkedOrganization).build();
+                .withId("valid-recruiter").withOrganization(linkedOrganization)
+                .withPhone("91234567").withEmail("recruiter@example.com").build();
 
         model.addContact(linkedOrganization);
 
@@ -98,4 +104,45 @@ public class AddRecruiterCommandIntegrationTest {
         );
         assertCommandFailure(addCommand, model, AddRecruiterCommand.MESSAGE_DUPLICATE_CONTACT);
     }
+
+    @Test
+    public void execute_recruiterWithSharedEmail_successWithWarning() {
+        Recruiter recruiter = new RecruiterBuilder().withId("valid-recruiter").withOrganization(NUS)
+                .withPhone("91234567").withEmail(RYAN.getEmail().get().value).build();
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addContact(recruiter);
+
+        assertCommandSuccess(createAddCommand(recruiter), model,
+                String.format(AddRecruiterCommand.MESSAGE_SUCCESS, recruiter.getType(), Messages.format(recruiter))
+                        + "\n" + String.format(DuplicateKeyChecker.MESSAGE_DUPLICATE_KEY_WARNING,
+                        "email", Messages.formatIdentities(List.of(RYAN))),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_recruiterWithSharedPhoneRejected_throwsCommandException() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPhoneDuplicatePolicy(DuplicatePolicy.REJECT);
+        model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        Recruiter recruiter = new RecruiterBuilder().withId("valid-recruiter").withOrganization(NUS)
+                .withPhone(RYAN.getPhone().get().value).withEmail("recruiter@example.com").build();
+
+        assertCommandFailure(createAddCommand(recruiter), model,
+                String.format(DuplicateKeyChecker.MESSAGE_DUPLICATE_KEY,
+                        "phone", Messages.formatIdentities(List.of(RYAN))));
+    }
+
+    private AddRecruiterCommand createAddCommand(Recruiter recruiter) {
+        return new AddRecruiterCommand(
+                recruiter.getName(),
+                recruiter.getId(),
+                recruiter.getPhone().orElse(null),
+                recruiter.getEmail().orElse(null),
+                recruiter.getUrl().orElse(null),
+                recruiter.getAddress().orElse(null),
+                recruiter.getTags(),
+                recruiter.getOrganizationId().orElse(null)
+        );
+    }
 }
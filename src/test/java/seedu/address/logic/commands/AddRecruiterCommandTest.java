@@ -1,6 +1,5 @@
 package seedu.address.logic.commands;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -152,7 +151,7 @@ public class AddRecruiterCommandTest extends AddCommandTest {
                 RYAN.getTags(),
                 RYAN.getOrganizationId().orElse(null)
         );
-        String base = AddRecruiterCommand.class.getCanonicalName()
+        String expected = AddRecruiterCommand.class.getCanonicalName()
                 + "{name=" + RYAN.getName()
                 + ", id=" + RYAN.getId()
                 + ", phone=" + RYAN.getPhone().orElse(null)
@@ -160,15 +159,7 @@ public class AddRecruiterCommandTest extends AddCommandTest {
                 + ", url=" + RYAN.getUrl().orElse(null)
                 + ", address=" + RYAN.getAddress().orElse(null)
                 + ", tags=" + RYAN.getTags()
-                + ", oid=" + RYAN.getOrganizationId().orElse(null);
-
-        String expectedBefore = base + ", organization=" + null + "}";
-        assertEquals(expectedBefore, addCommand.toString());
-
-        ModelStubAcceptingContactAdded modelStub = new ModelStubAcceptingContactAdded();
-        assertDoesNotThrow(() -> addCommand.execute(modelStub));
-
-        String expectedAfter = base + ", organization=" + RYAN.getOrganization().orElse(null) + "}";
-        assertEquals(expectedAfter, addCommand.toString());
+                + ", oid=" + RYAN.getOrganizationId().orElse(null) + "}";
+        assertEquals(expected, addCommand.toString());
     }
 }
@@ -124,7 +124,7 @@ public class ApplyCommandTest {
 
     @Test
     public void execute_applicationWithSameName_throwException() {
-        JobTitle title = NUS.getJobApplications()[0].getJobTitle();
+        JobTitle title = NUS.getJobApplications().iterator().next().getJobTitle();
         Model model = new ModelManager();
         model.addContact(NUS);
 
@@ -22,7 +22,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.contact.Contact;
-import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.contact.ContactFilter;
+import seedu.address.model.contact.ContactQuery;
 import seedu.address.testutil.EditContactDescriptorBuilder;
 
 /**
@@ -141,7 +142,7 @@ public class CommandTestUtil {
 
         Contact contact = model.getDisplayedContactList().get(targetIndex.getZeroBased());
         final String[] splitName = contact.getName().fullName.split("\\s+");
-        model.updateFilteredContactList(new NameContainsKeywordsPredicate(Arrays.asList(splitName[0])));
+        model.updateFilteredContactList(ContactFilter.matching(ContactQuery.ofKeywords(Arrays.asList(splitName[0]))));
 
         assertEquals(1, model.getDisplayedContactList().size());
     }
@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalContacts.RYAN;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Recruiter;
+import seedu.address.testutil.RecruiterBuilder;
+
+public class DedupeCommandTest {
+
+    @Test
+    public void execute_noNearDuplicates_showsNoClusters() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new DedupeCommand(), model, DedupeCommand.MESSAGE_NO_CLUSTERS, expectedModel);
+    }
+
+    @Test
+    public void execute_nearDuplicates_listsClusters() {
+        Recruiter sameRyan = new RecruiterBuilder(RYAN).withId("ryan-2").withName("RYAN LAU")
+                .withEmail(RYAN.getEmail().get().value.replace(".", "")).build();
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addContact(sameRyan);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredContactList(Set.of(RYAN.getId(), sameRyan.getId()));
+
+        String expectedMessage = String.format(DedupeCommand.MESSAGE_CLUSTERS_FOUND, 1)
+                + "\n" + Messages.formatIdentities(List.of(RYAN, sameRyan));
+        assertCommandSuccess(new DedupeCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -98,7 +98,7 @@ public class DeleteCommandTest {
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.deleteContact(contactToDelete);
-        Contact parent = contactToDelete.getParent().orElse(null);
+        Contact parent = contactToDelete.getParent(model).orElse(null);
         assert parent != null;
         List<Contact> childrenContacts = parent.getChildren(expectedModel);
 
@@ -202,7 +202,7 @@ public class DeleteCommandTest {
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.deleteContact(contactToDelete);
         showNoContact(expectedModel);
-        Contact parent = contactToDelete.getParent().orElse(null);
+        Contact parent = contactToDelete.getParent(model).orElse(null);
         assert parent != null;
         List<Contact> childrenContacts = parent.getChildren(expectedModel);
 
@@ -97,7 +97,7 @@ public class DeleteWithChildrenCommandTest {
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.deleteContact(contactToDelete);
-        Contact parent = contactToDelete.getParent().orElse(null);
+        Contact parent = contactToDelete.getParent(model).orElse(null);
         assert parent != null;
         List<Contact> childrenContacts = parent.getChildren(expectedModel);
 
@@ -203,7 +203,7 @@ public class DeleteWithChildrenCommandTest {
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.deleteContact(contactToDelete);
         showNoContact(expectedModel);
-        Contact parent = contactToDelete.getParent().orElse(null);
+        Contact parent = contactToDelete.getParent(model).orElse(null);
         assert parent != null;
         List<Contact> childrenContacts = parent.getChildren(expectedModel);
 
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalContacts.NUS;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CONTACT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactListSnapshot;
+import seedu.address.model.contact.Type;
+import seedu.address.model.jobapplication.ApplicationFilter;
+import seedu.address.model.jobapplication.JobApplication;
+import seedu.address.model.jobapplication.JobStatus;
+import seedu.address.model.jobapplication.JobTitle;
+
+public class DryRunCommandTest {
+
+    @Test
+    public void execute_clear_addressBookUnchanged() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new DryRunCommand(new ClearCommand()), model,
+                String.format(DryRunCommand.MESSAGE_PREVIEW, ClearCommand.MESSAGE_SUCCESS), expectedModel);
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_applyWhileFiltered_displayAndContactsUnchanged() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.updateFilteredContactList(contact -> contact.getType() == Type.ORGANIZATION);
+        model.updateFilteredApplicationList(ApplicationFilter.withStageAndStatus(null, JobStatus.PENDING));
+        model.updateSortedContactList(Model.COMPARATOR_ADDRESS_REVERSED);
+        List<Contact> displayedContacts = new ArrayList<>(model.getDisplayedContactList());
+        List<JobApplication> displayedApplications = new ArrayList<>(model.getDisplayedApplicationList());
+        ContactListSnapshot contacts = model.getAddressBookSnapshot();
+
+        // Adding an application shows all the contacts and applications while the command runs.
+        ApplyCommand applyCommand = new ApplyCommand(NUS.getId(), null, new JobTitle("Dry run"),
+                null, null, null, null);
+        assertDoesNotThrow(() -> new DryRunCommand(applyCommand).execute(model));
+
+        assertEquals(displayedContacts, model.getDisplayedContactList());
+        assertEquals(displayedApplications, model.getDisplayedApplicationList());
+        assertTrue(model.getAddressBookSnapshot().isSameAs(contacts));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_undoOrRedo_failure() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new DryRunCommand(new UndoCommand()), model, DryRunCommand.MESSAGE_CANNOT_PREVIEW);
+        assertCommandFailure(new DryRunCommand(new RedoCommand()), model, DryRunCommand.MESSAGE_CANNOT_PREVIEW);
+    }
+
+    @Test
+    public void execute_viewOnlyCommand_failure() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new DryRunCommand(new ReminderCommand(true)), model,
+                DryRunCommand.MESSAGE_NOTHING_TO_PREVIEW);
+        assertCommandFailure(new DryRunCommand(new ExitCommand()), model, DryRunCommand.MESSAGE_NOTHING_TO_PREVIEW);
+        assertCommandFailure(new DryRunCommand(new DryRunCommand(new ClearCommand())), model,
+                DryRunCommand.MESSAGE_NOTHING_TO_PREVIEW);
+    }
+
+    @Test
+    public void execute_invalidCommand_addressBookUnchanged() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Index outOfBoundIndex = Index.fromOneBased(model.getDisplayedContactList().size() + 1);
+        assertCommandFailure(new DryRunCommand(new DeleteCommand(outOfBoundIndex)), model,
+                Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        DryRunCommand dryRunClear = new DryRunCommand(new ClearCommand());
+        DryRunCommand dryRunDelete = new DryRunCommand(new DeleteCommand(INDEX_FIRST_CONTACT));
+
+        assertTrue(dryRunDelete.equals(dryRunDelete));
+        assertTrue(dryRunDelete.equals(new DryRunCommand(new DeleteCommand(INDEX_FIRST_CONTACT))));
+        assertFalse(dryRunDelete.equals(null));
+        assertFalse(dryRunDelete.equals(dryRunClear));
+        assertFalse(dryRunDelete.equals(new DeleteCommand(INDEX_FIRST_CONTACT)));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalContacts.NTU;
+import static seedu.address.testutil.TypicalContacts.NUS;
+import static seedu.address.testutil.TypicalContacts.RYAN;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Recruiter;
+import seedu.address.testutil.RecruiterBuilder;
+
+public class DuplicatesCommandTest {
+
+    @Test
+    public void execute_noDuplicates_showsNoDuplicates() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new DuplicatesCommand(), model, DuplicatesCommand.MESSAGE_NO_DUPLICATES, expectedModel);
+    }
+
+    @Test
+    public void execute_sharedEmailAndPhone_listsEachGroup() {
+        Recruiter sameEmail = new RecruiterBuilder().withId("same-email").withOrganization(NUS)
+                .withPhone("91234567").withEmail(RYAN.getEmail().get().value.toUpperCase()).build();
+        Recruiter samePhone = new RecruiterBuilder().withId("same-phone").withOrganization(NTU)
+                .withPhone(NTU.getPhone().get().value).withEmail("recruiter@example.com").build();
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addContact(sameEmail);
+        model.addContact(samePhone);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredContactList(
+                Set.of(RYAN.getId(), sameEmail.getId(), NTU.getId(), samePhone.getId()));
+
+        String expectedMessage = String.format(DuplicatesCommand.MESSAGE_DUPLICATES_FOUND, 4)
+                + "\n" + String.format(DuplicatesCommand.MESSAGE_DUPLICATE_GROUP, "email",
+                        RYAN.getEmail().get().value, Messages.formatIdentities(List.of(RYAN, sameEmail)))
+                + "\n" + String.format(DuplicatesCommand.MESSAGE_DUPLICATE_GROUP, "phone",
+                        NTU.getPhone().get().value, Messages.formatIdentities(List.of(NTU, samePhone)));
+        assertCommandSuccess(new DuplicatesCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -35,9 +37,11 @@ class EditApplicationCommandTest {
 
         assertDoesNotThrow(() -> command.execute(model));
 
-        JobApplication firstApplication = model.getDisplayedApplicationList().get(0);
+        // Applications are listed least recently updated first, so the edited application is now listed last.
+        List<JobApplication> applications = model.getDisplayedApplicationList();
+        JobApplication editedApplication = applications.get(applications.size() - 1);
 
-        assertEquals(uniqueTitle, firstApplication.getJobTitle());
+        assertEquals(uniqueTitle, editedApplication.getJobTitle());
     }
 
     @Test
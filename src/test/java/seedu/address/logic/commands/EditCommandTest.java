@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.DESC_BOB;
@@ -25,6 +26,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_CONTACT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_UNLINKED_ORGANIZATION;
 import static seedu.address.testutil.TypicalIndexes.INDEX_UNLINKED_RECRUITER;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -35,6 +38,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.DuplicatePolicy;
 import seedu.address.model.contact.Id;
 import seedu.address.model.contact.Organization;
 import seedu.address.model.contact.Recruiter;
@@ -72,6 +76,37 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_phoneSharedWithAnotherContactRejected_failure() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPhoneDuplicatePolicy(DuplicatePolicy.REJECT);
+        Model model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        EditCommand editCommand = new EditCommand(NUS.getId(),
+                new EditContactDescriptorBuilder().withPhone(RYAN.getPhone().get().value).build());
+
+        assertCommandFailure(editCommand, model, String.format(DuplicateKeyChecker.MESSAGE_DUPLICATE_KEY,
+                "phone", Messages.formatIdentities(List.of(RYAN))));
+    }
+
+    @Test
+    public void execute_unchangedSharedPhoneRejected_success() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPhoneDuplicatePolicy(DuplicatePolicy.REJECT);
+        Model model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        model.setContact(NUS, new OrganizationBuilder(NUS).withPhone(RYAN.getPhone().get().value).build());
+        Contact contactToEdit = model.getContactById(NUS.getId());
+        Organization editedContact = new OrganizationBuilder((Organization) contactToEdit)
+                .withName(VALID_NAME_BOB).build();
+        EditCommand editCommand = new EditCommand(NUS.getId(),
+                new EditContactDescriptorBuilder().withName(VALID_NAME_BOB).build());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), userPrefs);
+        expectedModel.setContact(contactToEdit, editedContact);
+
+        assertCommandSuccess(editCommand, model, String.format(EditCommand.MESSAGE_EDIT_CONTACT_SUCCESS,
+                editedContact.getType(), Messages.format(editedContact)), expectedModel);
+    }
+
     @Test
     public void execute_editCommandByInvalidTargetId_failure() {
         showContactAtIndex(model, INDEX_UNLINKED_ORGANIZATION);
@@ -173,7 +208,7 @@ public class EditCommandTest {
         expectedModel.setContact(model.getDisplayedContactList()
                 .get(INDEX_LINKED_RECRUITER.getZeroBased()), editedRecruiter);
 
-        Contact parentContact = editedRecruiter.getParent().orElse(null);
+        Contact parentContact = editedRecruiter.getParent(model).orElse(null);
         assert parentContact != null && parentContact.getType() == Type.ORGANIZATION;
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
@@ -197,12 +232,15 @@ public class EditCommandTest {
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setContact(model.getDisplayedContactList()
                 .get(INDEX_LINKED_ORGANIZATION.getZeroBased()), editedOrganization);
-        for (Contact child : originalOrganization.getChildren(expectedModel)) {
-            expectedModel.setContact(child,
-                    new RecruiterBuilder((Recruiter) child).withOrganization(editedOrganization).build());
-        }
+        List<Contact> children = originalOrganization.getChildren(model);
 
+        // recruiters refer to the organization by id, so they are untouched when its id is unchanged
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+        List<Contact> editedChildren = editedOrganization.getChildren(model);
+        assertEquals(children.size(), editedChildren.size());
+        for (int i = 0; i < children.size(); i++) {
+            assertSame(children.get(i), editedChildren.get(i));
+        }
     }
 
     @Test
@@ -222,7 +260,7 @@ public class EditCommandTest {
         expectedModel.setContact(model.getDisplayedContactList()
                 .get(INDEX_LINKED_RECRUITER.getZeroBased()), editedRecruiter);
 
-        Contact parentContact = editedRecruiter.getParent().orElse(null);
+        Contact parentContact = editedRecruiter.getParent(model).orElse(null);
         assert parentContact != null && parentContact.getType() == Type.ORGANIZATION;
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
@@ -251,7 +289,7 @@ public class EditCommandTest {
                 editedRecruiter.getType(), Messages.format(editedRecruiter));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
-        Contact parentContact = editedRecruiter.getParent().orElse(null);
+        Contact parentContact = editedRecruiter.getParent(model).orElse(null);
         assert parentContact != null && parentContact.getType() == Type.ORGANIZATION;
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
@@ -16,8 +16,10 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.contact.ContactFilter;
+import seedu.address.model.contact.ContactQuery;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -28,19 +30,17 @@ public class FindCommandTest {
 
     @Test
     public void equals() {
-        NameContainsKeywordsPredicate firstPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("first"));
-        NameContainsKeywordsPredicate secondPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("second"));
+        ContactQuery firstQuery = ContactQuery.ofKeywords(Collections.singletonList("first"));
+        ContactQuery secondQuery = ContactQuery.ofKeywords(Collections.singletonList("second"));
 
-        FindCommand findFirstCommand = new FindCommand(firstPredicate);
-        FindCommand findSecondCommand = new FindCommand(secondPredicate);
+        FindCommand findFirstCommand = new FindCommand(firstQuery);
+        FindCommand findSecondCommand = new FindCommand(secondQuery);
 
         // same object -> returns true
         assertTrue(findFirstCommand.equals(findFirstCommand));
 
         // same values -> returns true
-        FindCommand findFirstCommandCopy = new FindCommand(firstPredicate);
+        FindCommand findFirstCommandCopy = new FindCommand(firstQuery);
         assertTrue(findFirstCommand.equals(findFirstCommandCopy));
 
         // different types -> returns false
@@ -56,9 +56,9 @@ public class FindCommandTest {
     @Test
     public void execute_zeroKeywords_noContactFound() {
         String expectedMessage = String.format(MESSAGE_CONTACTS_LISTED_OVERVIEW, 0);
-        NameContainsKeywordsPredicate predicate = preparePredicate(" ");
-        FindCommand command = new FindCommand(predicate);
-        expectedModel.updateFilteredContactList(predicate);
+        ContactQuery query = prepareQuery(" ");
+        FindCommand command = new FindCommand(query);
+        expectedModel.updateFilteredContactList(ContactFilter.matching(query));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getDisplayedContactList());
     }
@@ -66,25 +66,34 @@ public class FindCommandTest {
     @Test
     public void execute_multipleKeywords_multipleContactsFound() {
         String expectedMessage = String.format(MESSAGE_CONTACTS_LISTED_OVERVIEW, 2);
-        NameContainsKeywordsPredicate predicate = preparePredicate("NUS Ryan");
-        FindCommand command = new FindCommand(predicate);
-        expectedModel.updateFilteredContactList(predicate);
+        ContactQuery query = prepareQuery("NUS Ryan");
+        FindCommand command = new FindCommand(query);
+        expectedModel.updateFilteredContactList(ContactFilter.matching(query));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(NUS, RYAN), model.getDisplayedContactList());
     }
 
+    @Test
+    public void execute_fieldScopedQuery_matchingContactsFound() throws Exception {
+        String expectedMessage = String.format(MESSAGE_CONTACTS_LISTED_OVERVIEW, 1);
+        FindCommand command = new FindCommandParser().parse("tag:computing -name:ntu email:*.edu.sg");
+        expectedModel.updateFilteredContactList(contact -> contact.equals(NUS));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(NUS), model.getDisplayedContactList());
+    }
+
     @Test
     public void toStringMethod() {
-        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
-        FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        ContactQuery query = ContactQuery.ofKeywords(Arrays.asList("keyword"));
+        FindCommand findCommand = new FindCommand(query);
+        String expected = FindCommand.class.getCanonicalName() + "{query=" + query + "}";
         assertEquals(expected, findCommand.toString());
     }
 
     /**
-     * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
+     * Parses {@code userInput} into a {@code ContactQuery} of keywords.
      */
-    private NameContainsKeywordsPredicate preparePredicate(String userInput) {
-        return new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    private ContactQuery prepareQuery(String userInput) {
+        return ContactQuery.ofKeywords(Arrays.asList(userInput.split("\\s+")));
     }
 }
@@ -1,21 +1,33 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showContactAtIndex;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
+import static seedu.address.model.Model.PREDICATE_SHOW_NOT_APPLIED_ORGANIZATIONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ONLY_ORGANIZATIONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ONLY_RECRUITERS;
+import static seedu.address.testutil.TypicalContacts.NTU;
+import static seedu.address.testutil.TypicalContacts.NUS;
 import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CONTACT;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.ContactFilter;
+import seedu.address.model.jobapplication.ApplicationStage;
+import seedu.address.model.jobapplication.JobApplication;
+import seedu.address.model.jobapplication.JobStatus;
+import seedu.address.model.tag.Tag;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -44,6 +56,57 @@ public class ListCommandTest {
                 model, ListCommand.MESSAGE_SUCCESS_ALL_CONTACTS, expectedModel);
     }
 
+    @Test
+    public void execute_stageAndStatus_showsMatchingApplications() {
+        int applicationCount = NUS.getJobApplications().size();
+        assertCommandSuccess(new ListCommand(PREDICATE_SHOW_ALL_CONTACTS, ApplicationStage.RESUME, JobStatus.PENDING),
+                model, String.format(ListCommand.MESSAGE_SUCCESS_APPLICATIONS, applicationCount,
+                        ApplicationStage.RESUME, JobStatus.PENDING), expectedModel);
+        assertEquals(applicationCount, model.getDisplayedApplicationList().size());
+
+        assertCommandSuccess(new ListCommand(PREDICATE_SHOW_ALL_CONTACTS, ApplicationStage.INTERVIEW, null),
+                model, String.format(ListCommand.MESSAGE_SUCCESS_APPLICATIONS, 0,
+                        ApplicationStage.INTERVIEW, ListCommand.ANY_VALUE), expectedModel);
+        assertEquals(0, model.getDisplayedApplicationList().size());
+    }
+
+    @Test
+    public void execute_statusChangedAfterListing_applicationsFilteredAgain() throws Exception {
+        new ListCommand(PREDICATE_SHOW_ALL_CONTACTS, ApplicationStage.RESUME, null).execute(model);
+        int applicationCount = model.getDisplayedApplicationList().size();
+        JobApplication application = model.getDisplayedApplicationList().get(0);
+
+        JobApplication offered = withStatus(application, JobStatus.OFFERED);
+        model.replaceApplication(application, offered);
+        assertEquals(applicationCount, model.getDisplayedApplicationList().size());
+        assertTrue(model.getDisplayedApplicationList().contains(offered));
+
+        new ListCommand(PREDICATE_SHOW_ALL_CONTACTS, null, JobStatus.PENDING).execute(model);
+        int pendingCount = model.getDisplayedApplicationList().size();
+        assertFalse(model.getDisplayedApplicationList().contains(offered));
+        model.replaceApplication(offered, application);
+        assertEquals(pendingCount + 1, model.getDisplayedApplicationList().size());
+    }
+
+    @Test
+    public void execute_stageAndStatusOfUnlistedContacts_showsNoApplications() {
+        expectedModel.updateFilteredContactList(PREDICATE_SHOW_ONLY_RECRUITERS);
+        assertCommandSuccess(new ListCommand(PREDICATE_SHOW_ONLY_RECRUITERS, null, JobStatus.PENDING),
+                model, String.format(ListCommand.MESSAGE_SUCCESS_APPLICATIONS, 0,
+                        ListCommand.ANY_VALUE, JobStatus.PENDING), expectedModel);
+        assertEquals(0, model.getDisplayedApplicationList().size());
+    }
+
+    @Test
+    public void execute_combinedFilter_showsMatchingContacts() {
+        ContactFilter filter = ContactFilter.allOf(List.of(PREDICATE_SHOW_NOT_APPLIED_ORGANIZATIONS,
+                ContactFilter.withTag(new Tag("computing"))));
+        expectedModel.updateFilteredContactList(filter);
+        assertCommandSuccess(new ListCommand(filter), model,
+                String.format(Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(List.of(NTU), model.getDisplayedContactList());
+    }
+
     @Test
     public void equals() {
         ListCommand showAllListCommand = new ListCommand(PREDICATE_SHOW_ALL_CONTACTS);
@@ -69,5 +132,23 @@ public class ListCommandTest {
         assertFalse(showAllListCommand.equals(organizationListCommand));
         assertFalse(showAllListCommand.equals(recruiterListCommand));
         assertFalse(organizationListCommand.equals(recruiterListCommand));
+
+        // different stage or status -> returns false
+        ListCommand interviewListCommand = new ListCommand(PREDICATE_SHOW_ALL_CONTACTS, ApplicationStage.INTERVIEW,
+                null);
+        assertFalse(showAllListCommand.equals(interviewListCommand));
+        assertFalse(interviewListCommand.equals(new ListCommand(PREDICATE_SHOW_ALL_CONTACTS,
+                ApplicationStage.INTERVIEW, JobStatus.PENDING)));
+        assertTrue(interviewListCommand.equals(new ListCommand(PREDICATE_SHOW_ALL_CONTACTS,
+                ApplicationStage.INTERVIEW, null)));
+    }
+
+    /**
+     * Returns a copy of {@code application} with the given status.
+     */
+    private static JobApplication withStatus(JobApplication application, JobStatus status) {
+        return new JobApplication(application.getOrganizationId(), application.getJobTitle(),
+                application.getJobDescription().orElse(null), application.getDeadline(), status,
+                application.getApplicationStage(), application.getLastUpdatedTime());
     }
 }
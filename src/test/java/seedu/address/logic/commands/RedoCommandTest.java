@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalContacts.NUS;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.deleteContact(NUS);
+        model.commitAddressBook();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undone_restoresUndoneVersion() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.deleteContact(NUS);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deleteContact(NUS);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changedAfterUndo_failure() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.deleteContact(NUS);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
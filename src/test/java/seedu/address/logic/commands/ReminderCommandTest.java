@@ -1,18 +1,31 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Organization;
+import seedu.address.model.jobapplication.ApplicationStage;
+import seedu.address.model.jobapplication.Deadline;
 import seedu.address.model.jobapplication.JobApplication;
+import seedu.address.model.jobapplication.JobStatus;
+import seedu.address.model.jobapplication.JobTitle;
+import seedu.address.model.jobapplication.LastUpdatedTime;
+import seedu.address.testutil.OrganizationBuilder;
 
 class ReminderCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -27,6 +40,79 @@ class ReminderCommandTest {
         assertEquals(r, r);
         assertEquals(r, r2);
         assertNotEquals(r, r3);
+        assertEquals(ReminderCommand.dueWithin(7), ReminderCommand.dueWithin(7));
+        assertNotEquals(ReminderCommand.dueWithin(7), ReminderCommand.dueWithin(8));
+        assertNotEquals(ReminderCommand.staleFor(7, 1), ReminderCommand.staleFor(7, 2));
+        assertNotEquals(ReminderCommand.dueWithin(7), ReminderCommand.staleFor(7, 0));
+    }
+
+    @Test
+    public void execute_remindWithin_dueApplicationsShown() {
+        LocalDate today = LocalDate.now();
+        List<JobApplication> expectedApplications = model.getDisplayedApplicationList().stream()
+                .filter(application -> !application.getDeadline().deadline.isAfter(today.plusDays(14)))
+                .filter(application -> !application.getDeadline().deadline.isBefore(today))
+                .sorted(JobApplication.DEADLINE_COMPARATOR)
+                .collect(Collectors.toList());
+
+        CommandResult result = ReminderCommand.dueWithin(14).execute(model);
+        assertEquals(String.format(ReminderCommand.MESSAGE_REMINDED_WITHIN, expectedApplications.size(), 14),
+                result.getFeedbackToUser());
+        assertEquals(expectedApplications, new ArrayList<>(model.getDisplayedApplicationList()));
+        assertFalse(expectedApplications.isEmpty());
+    }
+
+    @Test
+    public void execute_remindWithinThenReplace_replacedApplicationStillShown() throws Exception {
+        ReminderCommand.dueWithin(14).execute(model);
+        JobApplication application = model.getDisplayedApplicationList().get(0);
+        JobApplication replacement = new JobApplication(application.getOrganizationId(), application.getJobTitle(),
+                application.getJobDescription().orElse(null), application.getDeadline(), JobStatus.OFFERED,
+                application.getApplicationStage(), application.getLastUpdatedTime());
+
+        int expectedSize = model.getDisplayedApplicationList().size();
+        model.replaceApplication(application, replacement);
+        assertEquals(expectedSize, model.getDisplayedApplicationList().size());
+        assertTrue(model.getDisplayedApplicationList().contains(replacement));
+    }
+
+    @Test
+    public void execute_remindEarliestAfterWithin_allApplicationsShown() {
+        ReminderCommand.dueWithin(1).execute(model);
+        new ReminderCommand(true).execute(model);
+        assertEquals(expectedModel.getDisplayedApplicationList().size(), model.getDisplayedApplicationList().size());
+    }
+
+    @Test
+    public void execute_remindStale_noRecentApplicationsShown() {
+        CommandResult result = ReminderCommand.staleFor(1, 20).execute(model);
+        assertEquals(String.format(ReminderCommand.MESSAGE_REMINDED_STALE, 0, 1), result.getFeedbackToUser());
+        assertTrue(model.getDisplayedApplicationList().isEmpty());
+    }
+
+    @Test
+    public void execute_remindStaleWithTies_exactlyTopShownAndRefilled() throws Exception {
+        Organization organization = new OrganizationBuilder().withName("Stale Org").build();
+        LastUpdatedTime lastYear = new LastUpdatedTime(LocalDateTime.now().minusDays(365));
+        JobApplication[] applications = new JobApplication[3];
+        for (int i = 0; i < applications.length; i++) {
+            applications[i] = new JobApplication(organization, new JobTitle("Stale " + i), null, new Deadline(),
+                    JobStatus.PENDING, ApplicationStage.DEFAULT_STAGE, lastYear);
+        }
+        model.addContact(new OrganizationBuilder(organization).withApplications(applications).build());
+
+        CommandResult result = ReminderCommand.staleFor(30, 2).execute(model);
+        assertEquals(String.format(ReminderCommand.MESSAGE_REMINDED_STALE, 2, 30), result.getFeedbackToUser());
+        assertEquals(2, model.getDisplayedApplicationList().size());
+
+        // An application that is no longer stale makes way for the next least recently updated one.
+        JobApplication application = model.getDisplayedApplicationList().get(0);
+        JobApplication updated = new JobApplication(application.getOrganizationId(), application.getJobTitle(),
+                null, application.getDeadline(), JobStatus.OFFERED, application.getApplicationStage(),
+                new LastUpdatedTime());
+        model.replaceApplication(application, updated);
+        assertEquals(2, model.getDisplayedApplicationList().size());
+        assertFalse(model.getDisplayedApplicationList().contains(updated));
     }
 
     @Test
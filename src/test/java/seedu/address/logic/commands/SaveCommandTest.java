@@ -0,0 +1,34 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class SaveCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_inBackground_success() {
+        CommandResult expectedCommandResult = new CommandResult(SaveCommand.MESSAGE_SUCCESS, false, false, false);
+        assertCommandSuccess(new SaveCommand(false), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_now_resultAsksToSaveNow() {
+        CommandResult expectedCommandResult = new CommandResult(SaveCommand.MESSAGE_SUCCESS_NOW, false, false, true);
+        assertCommandSuccess(new SaveCommand(true), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(new SaveCommand(true), new SaveCommand(true));
+        assertNotEquals(new SaveCommand(true), new SaveCommand(false));
+        assertNotEquals(new SaveCommand(false), null);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalContacts.NUS;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Id;
+import seedu.address.model.jobapplication.ApplicationStatistics;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.RandomCommands;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        StatsCommand statsAll = new StatsCommand();
+        StatsCommand statsNus = new StatsCommand(NUS.getId(), null);
+        StatsCommand statsTag = new StatsCommand(null, new Tag("fintech"));
+
+        assertEquals(statsAll, new StatsCommand());
+        assertEquals(statsNus, new StatsCommand(new Id(NUS.getId().value), null));
+        assertNotEquals(statsAll, statsNus);
+        assertNotEquals(statsNus, statsTag);
+        assertNotEquals(statsAll, null);
+    }
+
+    @Test
+    public void execute_overall_showsOverallCounts() {
+        ApplicationStatistics statistics = new ApplicationStatistics(model.getAddressBook().getContactList());
+        String expectedMessage = StatsCommand.formatCounts(statistics.getOverallCounts(), StatsCommand.SCOPE_ALL);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_organization_showsOrganizationCounts() {
+        int applicationCount = NUS.getJobApplications().size();
+        String expectedMessage = StatsCommand.formatCounts(
+                model.getApplicationStatistics().getCountsOf(NUS.getId()),
+                String.format(StatsCommand.SCOPE_ORGANIZATION, NUS.getId()));
+        assertEquals(applicationCount, model.getApplicationStatistics().getCountsOf(NUS.getId()).getTotal());
+        assertCommandSuccess(new StatsCommand(NUS.getId(), null), model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_randomCommands_countsMatchRecount() {
+        RandomCommands.run(model, 2103, 400, commandText ->
+                assertEquals(new ApplicationStatistics(model.getAddressBook().getContactList()),
+                        model.getApplicationStatistics(), "after " + commandText));
+    }
+}
@@ -16,15 +16,20 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.AddOrganizationCommand;
 import seedu.address.logic.commands.ApplyCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DedupeCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DryRunCommand;
+import seedu.address.logic.commands.DuplicatesCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditContactDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.contact.ContactQuery;
 import seedu.address.model.contact.Organization;
 import seedu.address.testutil.ContactUtil;
 import seedu.address.testutil.EditContactDescriptorBuilder;
@@ -83,7 +88,7 @@ public class AppParserTest {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
         FindCommand command = (FindCommand) parser.parseCommand(
                 FindCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
-        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
+        assertEquals(new FindCommand(ContactQuery.ofKeywords(keywords)), command);
     }
 
     @Test
@@ -104,6 +109,46 @@ public class AppParserTest {
         assertTrue(parser.parseCommand(ApplyCommand.COMMAND_WORD + " 3 --title SWE") instanceof ApplyCommand);
     }
 
+    @Test
+    public void parseCommand_dedupe() throws Exception {
+        assertTrue(parser.parseCommand(DedupeCommand.COMMAND_WORD) instanceof DedupeCommand);
+    }
+
+    @Test
+    public void parseCommand_duplicates() throws Exception {
+        assertTrue(parser.parseCommand(DuplicatesCommand.COMMAND_WORD) instanceof DuplicatesCommand);
+        assertTrue(parser.parseCommand(DuplicatesCommand.COMMAND_WORD + " 3") instanceof DuplicatesCommand);
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_dryRun() throws Exception {
+        assertEquals(new DryRunCommand(new DeleteCommand(INDEX_FIRST_CONTACT)),
+                parser.parseCommand(DeleteCommand.COMMAND_WORD + " " + DryRunCommand.OPTION + " "
+                        + INDEX_FIRST_CONTACT.getOneBased()));
+        assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " " + DryRunCommand.OPTION)
+                instanceof DryRunCommand);
+    }
+
+    @Test
+    public void parseCommand_dryRunOptionInValue_notPreviewed() throws Exception {
+        assertTrue(parser.parseCommand(ApplyCommand.COMMAND_WORD + " 3 --title SWE --description Try "
+                + DryRunCommand.OPTION + " first") instanceof ApplyCommand);
+        assertTrue(parser.parseCommand(ApplyCommand.COMMAND_WORD + " 3 --title SWE --description "
+                + DryRunCommand.OPTION) instanceof ApplyCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -176,8 +221,12 @@ public class AppParserTest {
                         "exit",
                         "delete",
                         "remind",
+                        "dedupe",
+                        "redo",
                         "help",
-                        "clear"
+                        "clear",
+                        "save",
+                        "duplicates"
                 ),
                 parser.parseCompletionGenerator(userInput)
                         .generateCompletions(userInput)
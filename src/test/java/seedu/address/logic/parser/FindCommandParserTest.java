@@ -5,11 +5,15 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
-import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.contact.ContactQuery;
+import seedu.address.model.contact.ContactQuery.Clause;
+import seedu.address.model.contact.ContactTokenIndex.Field;
+import seedu.address.model.contact.TokenPattern;
 
 public class FindCommandParserTest {
 
@@ -24,11 +28,45 @@ public class FindCommandParserTest {
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
         FindCommand expectedFindCommand =
-                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+                new FindCommand(ContactQuery.ofKeywords(Arrays.asList("Alice", "Bob")));
         assertParseSuccess(parser, "Alice Bob", expectedFindCommand);
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldScopedAndNegatedArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new ContactQuery(List.of(
+                new Clause(ContactQuery.KEYWORD_FIELDS, List.of(TokenPattern.compile("acme")), false),
+                new Clause(List.of(Field.TAG), List.of(TokenPattern.compile("fintech")), false),
+                new Clause(List.of(Field.EMAIL), List.of(TokenPattern.compile("gmail.com")), true),
+                new Clause(List.of(Field.PHONE), List.of(TokenPattern.compile("9*")), false))));
+        assertParseSuccess(parser, "TAG:fintech -email:gmail.com acme phone:9*", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_unknownFieldOrLoneDash_treatedAsKeywords() {
+        FindCommand expectedFindCommand = new FindCommand(ContactQuery.ofKeywords(Arrays.asList("web:acme", "-")));
+        assertParseSuccess(parser, "web:acme -", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_escapedKeywords_takenLiterally() {
+        FindCommand expectedFindCommand = new FindCommand(new ContactQuery(List.of(
+                new Clause(ContactQuery.KEYWORD_FIELDS,
+                        List.of(TokenPattern.compile("-1"), TokenPattern.compile("tag:x")), false),
+                new Clause(ContactQuery.KEYWORD_FIELDS, List.of(TokenPattern.compile("-2")), true))));
+        assertParseSuccess(parser, "\\-1 \\tag:x -\\-2", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_emptyFieldKeyword_throwsParseException() {
+        assertParseFailure(parser, "name:", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "alice -tag:",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "alice \\",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
@@ -1,14 +1,21 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_NOT_APPLIED_ORGANIZATIONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ONLY_ORGANIZATIONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ONLY_RECRUITERS;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.contact.ContactFilter;
+import seedu.address.model.jobapplication.ApplicationStage;
+import seedu.address.model.jobapplication.JobStatus;
+import seedu.address.model.tag.Tag;
 
 public class ListCommandParserTest {
 
@@ -21,4 +28,39 @@ public class ListCommandParserTest {
         assertParseSuccess(parser, "--rec", new ListCommand(PREDICATE_SHOW_ONLY_RECRUITERS));
         assertParseSuccess(parser, "--toapply", new ListCommand(PREDICATE_SHOW_NOT_APPLIED_ORGANIZATIONS));
     }
+
+    @Test
+    public void parse_stageAndStatus_returnsListCommand() {
+        assertParseSuccess(parser, "--stage interview --status pending",
+                new ListCommand(PREDICATE_SHOW_ALL_CONTACTS, ApplicationStage.INTERVIEW, JobStatus.PENDING));
+        assertParseSuccess(parser, "--org --status offered",
+                new ListCommand(PREDICATE_SHOW_ONLY_ORGANIZATIONS, null, JobStatus.OFFERED));
+        assertParseSuccess(parser, "--stage online assessment",
+                new ListCommand(PREDICATE_SHOW_ALL_CONTACTS, ApplicationStage.ONLINE_ASSESSMENT, null));
+    }
+
+    @Test
+    public void parse_combinedFlags_returnsConjunction() {
+        ContactFilter fintech = ContactFilter.withTag(new Tag("fintech"));
+        assertParseSuccess(parser, "--org --toapply --tag fintech",
+                new ListCommand(ContactFilter.allOf(List.of(PREDICATE_SHOW_ONLY_ORGANIZATIONS,
+                        ContactFilter.not(ContactFilter.WITH_APPLICATIONS), fintech))));
+        assertParseSuccess(parser, "--org --toapply", new ListCommand(PREDICATE_SHOW_NOT_APPLIED_ORGANIZATIONS));
+        assertParseSuccess(parser, "--org --rec --tag fintech", new ListCommand(fintech));
+        assertParseSuccess(parser, "--rec --tag fintech --tag !friendly",
+                new ListCommand(ContactFilter.allOf(List.of(PREDICATE_SHOW_ONLY_RECRUITERS, fintech,
+                        ContactFilter.not(ContactFilter.withTag(new Tag("friendly")))))));
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, "--tag fin-tech", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "--tag !", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidStageOrStatus_throwsParseException() {
+        assertParseFailure(parser, "--stage offer", ApplicationStage.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "--status interview", JobStatus.MESSAGE_CONSTRAINTS);
+    }
 }
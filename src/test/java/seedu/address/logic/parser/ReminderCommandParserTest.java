@@ -35,5 +35,21 @@ public class ReminderCommandParserTest {
         ReminderCommand expectedReminderCommand2 =
                 new ReminderCommand(false);
         assertParseSuccess(parser, "--latest", expectedReminderCommand2);
+        assertParseSuccess(parser, "--within 7", ReminderCommand.dueWithin(7));
+        assertParseSuccess(parser, "--stale 30", ReminderCommand.staleFor(30, Integer.MAX_VALUE));
+        assertParseSuccess(parser, "--stale 30 --top 20", ReminderCommand.staleFor(30, 20));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, "--within 0", ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "--within", ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "--stale 30 --top -1", ParserUtil.MESSAGE_INVALID_COUNT);
+    }
+
+    @Test
+    public void parse_topWithoutStale_throwsParseException() {
+        assertParseFailure(parser, "--within 7 --top 20",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReminderCommand.MESSAGE_USAGE));
     }
 }
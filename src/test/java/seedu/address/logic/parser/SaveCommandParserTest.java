@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SaveCommand;
+
+public class SaveCommandParserTest {
+
+    private final SaveCommandParser parser = new SaveCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSaveCommand() {
+        assertParseSuccess(parser, "", new SaveCommand(false));
+        assertParseSuccess(parser, " --now", new SaveCommand(true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "now", expectedMessage);
+        assertParseFailure(parser, " --now later", expectedMessage);
+    }
+}
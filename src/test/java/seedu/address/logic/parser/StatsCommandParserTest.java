@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.contact.Id;
+import seedu.address.model.tag.Tag;
+
+public class StatsCommandParserTest {
+
+    private final StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, "", new StatsCommand());
+        assertParseSuccess(parser, " --oid google-sg", new StatsCommand(new Id("google-sg"), null));
+        assertParseSuccess(parser, " --tag fintech", new StatsCommand(null, new Tag("fintech")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "google-sg",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " --tag fin*", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " --oid google-sg --tag fintech",
+                Messages.getErrorMessageForSimultaneousUseDisallowedFlags(
+                        CliSyntax.FLAG_ORGANIZATION_ID, CliSyntax.FLAG_TAG));
+    }
+}
@@ -2,11 +2,13 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ID_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.NTU;
 import static seedu.address.testutil.TypicalContacts.NUS;
 import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
 
@@ -87,6 +89,31 @@ public class AddressBookTest {
         assertFalse(addressBook.hasContact(editedNus));
     }
 
+    @Test
+    public void getContactById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.getContactById(null));
+    }
+
+    @Test
+    public void getContactById_contactInAddressBook_returnsContact() {
+        addressBook.addContact(NUS);
+        addressBook.addContact(NTU);
+        assertEquals(NUS, addressBook.getContactById(NUS.getId()));
+        assertEquals(NTU, addressBook.getContactById(NTU.getId()));
+    }
+
+    @Test
+    public void getContactById_afterSetAndRemove_reflectsChanges() {
+        addressBook.addContact(NUS);
+        Organization editedNus = new OrganizationBuilder(NUS).withId(VALID_ID_BOB).build();
+        addressBook.setContact(NUS, editedNus);
+        assertNull(addressBook.getContactById(NUS.getId()));
+        assertEquals(editedNus, addressBook.getContactById(editedNus.getId()));
+
+        addressBook.removeContact(editedNus);
+        assertNull(addressBook.getContactById(editedNus.getId()));
+    }
+
     @Test
     public void getContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getContactList().remove(0));
@@ -7,23 +7,49 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.NTU;
 import static seedu.address.testutil.TypicalContacts.NUS;
 import static seedu.address.testutil.TypicalContacts.RICHARD;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactFilter;
+import seedu.address.model.contact.ContactListSnapshot;
+import seedu.address.model.contact.ContactQuery;
 import seedu.address.model.contact.Id;
-import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.contact.Organization;
+import seedu.address.model.event.AddressBookResetEvent;
+import seedu.address.model.event.ApplicationEvent;
+import seedu.address.model.event.ContactEvent;
+import seedu.address.model.event.ModelEvent;
+import seedu.address.model.jobapplication.ApplicationStage;
+import seedu.address.model.jobapplication.Deadline;
+import seedu.address.model.jobapplication.JobApplication;
+import seedu.address.model.jobapplication.JobStatus;
+import seedu.address.model.jobapplication.JobTitle;
+import seedu.address.model.jobapplication.LastUpdatedTime;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.OrganizationBuilder;
+import seedu.address.testutil.RandomCommands;
+import seedu.address.testutil.RecruiterBuilder;
 
 public class ModelManagerTest {
 
@@ -106,6 +132,173 @@ public class ModelManagerTest {
         assertEquals(modelManager.getContactById(new Id("nus-soc_sg")), NUS);
     }
 
+    @Test
+    public void updateFilteredContactList_predicate_showsApplicationsOfVisibleOrganizations() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int applicationCount = NUS.getJobApplications().size();
+
+        model.updateFilteredContactList(contact -> contact.getName().fullName.startsWith("NUS"));
+        assertEquals(applicationCount, model.getDisplayedApplicationList().size());
+
+        // organization no longer matches after an edit -> its applications are hidden
+        Organization renamed = new OrganizationBuilder(NUS).withName("Renamed SoC")
+                .withApplications(NUS.getJobApplications().toArray(JobApplication[]::new)).build();
+        model.setContact(NUS, renamed);
+        assertEquals(0, model.getDisplayedApplicationList().size());
+
+        // organization matches again after another edit -> its applications are shown
+        model.setContact(renamed, NUS);
+        assertEquals(applicationCount, model.getDisplayedApplicationList().size());
+
+        model.updateFilteredContactList(PREDICATE_SHOW_ALL_CONTACTS);
+        model.deleteContact(NUS);
+        assertEquals(0, model.getDisplayedApplicationList().size());
+    }
+
+    @Test
+    public void updateFilteredContactList_predicate_testsEachContactOnce() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AtomicInteger testCount = new AtomicInteger();
+        model.updateFilteredContactList(contact -> testCount.incrementAndGet() > 0
+                && contact.getName().fullName.startsWith("NUS"));
+        assertEquals(model.getAddressBook().getContactList().size(), testCount.get());
+        assertEquals(NUS.getJobApplications().size(), model.getDisplayedApplicationList().size());
+    }
+
+    @Test
+    public void updateFilteredContactList_filter_keepsShowingMatchingContactsAfterChanges() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ContactFilter computing = ContactFilter.withTag(new Tag("computing"));
+        model.updateFilteredContactList(ContactFilter.allOf(
+                List.of(ContactFilter.NOT_APPLIED_ORGANIZATIONS, computing)));
+        assertEquals(List.of(NTU), model.getDisplayedContactList());
+
+        // organization no longer matches after being applied to -> it is hidden
+        Organization applied = new OrganizationBuilder(NTU)
+                .withApplications(new JobApplication(NTU, new JobTitle("SWE"), null, new Deadline())).build();
+        model.setContact(NTU, applied);
+        assertEquals(List.of(), model.getDisplayedContactList());
+
+        // organization matches again after another edit -> it is shown
+        model.setContact(applied, NTU);
+        assertEquals(List.of(NTU), model.getDisplayedContactList());
+    }
+
+    @Test
+    public void getDisplayedApplicationList_initially_leastRecentlyUpdatedFirst() {
+        LocalDateTime now = LocalDateTime.now();
+        JobApplication updatedYesterday = new JobApplication(NUS, new JobTitle("SWE"), null, new Deadline(),
+                JobStatus.PENDING, ApplicationStage.RESUME, new LastUpdatedTime(now.minusDays(1)));
+        JobApplication updatedLastMonth = new JobApplication(NUS, new JobTitle("SRE"), null, new Deadline(),
+                JobStatus.PENDING, ApplicationStage.RESUME, new LastUpdatedTime(now.minusDays(30)));
+        AddressBook addressBook = new AddressBookBuilder()
+                .withContact(new OrganizationBuilder(NUS).withApplications(updatedYesterday, updatedLastMonth).build())
+                .build();
+
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+        assertEquals(List.of(updatedLastMonth, updatedYesterday), model.getDisplayedApplicationList());
+    }
+
+    @Test
+    public void getDisplayedApplicationList_randomCommands_matchesApplicationsOfOrganizations() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        RandomCommands.run(model, 2103, 400, commandText -> {
+            model.updateFilteredContactList(PREDICATE_SHOW_ALL_CONTACTS);
+            List<JobApplication> expected = model.getAddressBook().getContactList().stream()
+                    .filter(contact -> contact instanceof Organization)
+                    .flatMap(contact -> ((Organization) contact).getJobApplications().stream())
+                    .collect(Collectors.toList());
+            assertEquals(expected.size(), model.getDisplayedApplicationList().size(), "after " + commandText);
+            assertEquals(new HashSet<>(expected), new HashSet<>(model.getDisplayedApplicationList()),
+                    "after " + commandText);
+        });
+    }
+
+    @Test
+    public void batch_severalChanges_firesSingleChange() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AtomicInteger changeCount = new AtomicInteger();
+        model.getDisplayedContactList().addListener((ListChangeListener<Contact>) change ->
+                changeCount.incrementAndGet());
+
+        model.batch(() -> {
+            model.deleteContact(NUS);
+            model.deleteContact(RICHARD);
+        });
+        assertEquals(1, changeCount.get());
+        assertFalse(model.hasContact(NUS));
+        assertFalse(model.hasContact(RICHARD));
+        assertTrue(model.getDisplayedApplicationList().stream()
+                .noneMatch(application -> application.getOrganizationId().equals(NUS.getId())));
+    }
+
+    @Test
+    public void batch_failingTransaction_discardsChanges() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ModelManager expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertThrows(IllegalValueException.class, "Failed", () -> model.batch(() -> {
+            model.deleteContact(NUS);
+            model.setContact(RICHARD, new RecruiterBuilder(RICHARD).withName("Richard").build());
+            throw new IllegalValueException("Failed");
+        }));
+        assertEquals(expectedModel, model);
+        assertEquals(expectedModel.getApplicationStatistics(), model.getApplicationStatistics());
+        assertEquals(new HashSet<>(expectedModel.getDisplayedApplicationList()),
+                new HashSet<>(model.getDisplayedApplicationList()));
+    }
+
+    @Test
+    public void getEventBus_changes_publishesEventsInOrder() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<ModelEvent> events = new ArrayList<>();
+        model.getEventBus().subscribe(ModelEvent.class, events::add);
+
+        JobApplication application = NUS.getJobApplications().iterator().next();
+        ApplicationStage newStage = application.getApplicationStage() == ApplicationStage.RESUME
+                ? ApplicationStage.INTERVIEW : ApplicationStage.RESUME;
+        JobApplication editedApplication = new JobApplication(application.getOrganizationId(),
+                application.getJobTitle(), application.getJobDescription().orElse(null), application.getDeadline(),
+                application.getStatus(), newStage, application.getLastUpdatedTime());
+        model.replaceApplication(application, editedApplication);
+        Organization editedNus = (Organization) model.getContactById(NUS.getId());
+        assertEquals(List.of(new ContactEvent(NUS, editedNus), new ApplicationEvent(application, editedApplication)),
+                events);
+        assertTrue(((ApplicationEvent) events.get(1)).isStageChanged());
+
+        events.clear();
+        model.commitAddressBook();
+        model.undoAddressBook();
+        assertEquals(new ContactEvent(editedNus, NUS), events.get(0));
+
+        events.clear();
+        model.setAddressBook(new AddressBook());
+        assertEquals(List.of(new AddressBookResetEvent(model.getAddressBook())), events);
+    }
+
+    @Test
+    public void getAddressBookSnapshot_changesAndViews_sameOnlyWithoutNetChanges() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ContactListSnapshot original = model.getAddressBookSnapshot();
+
+        model.updateFilteredContactList(ContactFilter.ORGANIZATIONS);
+        model.commitAddressBook();
+        model.deleteApplication(new JobApplication(NTU, new JobTitle("Not applied"), null, new Deadline()));
+        assertTrue(model.getAddressBookSnapshot().isSameAs(original));
+
+        model.setContact(NUS, new OrganizationBuilder(NUS).withPhone("12345678").build());
+        ContactListSnapshot edited = model.getAddressBookSnapshot();
+        assertFalse(edited.isSameAs(original));
+
+        model.commitAddressBook();
+        model.addApplication(new JobApplication(NTU, new JobTitle("Analyst"), null, new Deadline()));
+        assertFalse(model.getAddressBookSnapshot().isSameAs(edited));
+
+        model.commitAddressBook();
+        model.undoAddressBook();
+        assertTrue(model.getAddressBookSnapshot().isSameAs(edited));
+    }
+
     @Test
     public void getContactById_getInvalidId_givesNull() {
         assertNull(modelManager.getContactById(new Id()));
@@ -179,7 +372,8 @@ public class ModelManagerTest {
 
         // different filteredList -> returns false
         String[] keywords = NUS.getName().fullName.split("\\s+");
-        modelManager.updateFilteredContactList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        ContactQuery query = ContactQuery.ofKeywords(Arrays.asList(keywords));
+        modelManager.updateFilteredContactList(ContactFilter.matching(query));
         assertFalse(modelManager.equals(new ModelManager(addressBook, userPrefs)));
 
         // resets modelManager to initial state for upcoming tests
@@ -1,9 +1,13 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.contact.ContactKeyIndex;
+import seedu.address.model.contact.DuplicatePolicy;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +22,18 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setDuplicatePolicy_nullPolicy_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setEmailDuplicatePolicy(null));
+        assertThrows(NullPointerException.class, () -> userPrefs.setPhoneDuplicatePolicy(null));
+    }
+
+    @Test
+    public void getDuplicatePolicy_key_returnsPolicyOfKey() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPhoneDuplicatePolicy(DuplicatePolicy.REJECT);
+        assertEquals(DuplicatePolicy.WARN, userPrefs.getDuplicatePolicy(ContactKeyIndex.Key.EMAIL));
+        assertEquals(DuplicatePolicy.REJECT, userPrefs.getDuplicatePolicy(ContactKeyIndex.Key.PHONE));
+    }
 }
@@ -0,0 +1,96 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.NTU;
+import static seedu.address.testutil.TypicalContacts.NUS;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.contact.Organization;
+import seedu.address.testutil.OrganizationBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+
+    @Test
+    public void constructor_negativeHistoryLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(new AddressBook(), -1));
+    }
+
+    @Test
+    public void commit_unchanged_returnsFalse() {
+        assertFalse(versionedAddressBook.commit());
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void undoRedo_changed_restoresVersions() {
+        versionedAddressBook.removeContact(NUS);
+        assertTrue(versionedAddressBook.commit());
+        AddressBook afterRemove = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+        assertTrue(versionedAddressBook.canRedo());
+
+        versionedAddressBook.redo();
+        assertEquals(afterRemove, versionedAddressBook);
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_editedContact_restoresOrder() {
+        Organization editedNtu = new OrganizationBuilder(NTU).withPhone("99999999").build();
+        versionedAddressBook.setContact(NTU, editedNtu);
+        versionedAddressBook.removeContact(NUS);
+        versionedAddressBook.addContact(NUS);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook().getContactList(), versionedAddressBook.getContactList());
+    }
+
+    @Test
+    public void commit_afterUndo_clearsRedo() {
+        versionedAddressBook.removeContact(NUS);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        versionedAddressBook.removeContact(NTU);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void commit_beyondHistoryLimit_forgetsOldestVersion() {
+        VersionedAddressBook limited = new VersionedAddressBook(getTypicalAddressBook(), 1);
+        limited.removeContact(NUS);
+        limited.commit();
+        limited.removeContact(NTU);
+        limited.commit();
+
+        limited.undo();
+        assertFalse(limited.canUndo());
+        assertFalse(limited.hasContact(NUS));
+        assertTrue(limited.hasContact(NTU));
+    }
+
+    @Test
+    public void rollback_uncommittedChanges_discardsChanges() {
+        versionedAddressBook.removeContact(NUS);
+        versionedAddressBook.rollback();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void undoRedo_noVersion_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, versionedAddressBook::undo);
+        assertThrows(IllegalStateException.class, versionedAddressBook::redo);
+    }
+}
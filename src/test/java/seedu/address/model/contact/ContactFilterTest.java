@@ -0,0 +1,109 @@
+package seedu.address.model.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalContacts.NTU;
+import static seedu.address.testutil.TypicalContacts.NUS;
+import static seedu.address.testutil.TypicalContacts.SMU;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+
+public class ContactFilterTest {
+
+    private static final ContactFilter COMPUTING = ContactFilter.withTag(new Tag("computing"));
+
+    private static final List<ContactFilter> FILTERS = List.of(
+            ContactFilter.ALL,
+            ContactFilter.ORGANIZATIONS,
+            ContactFilter.RECRUITERS,
+            ContactFilter.WITH_APPLICATIONS,
+            ContactFilter.NOT_APPLIED_ORGANIZATIONS,
+            COMPUTING,
+            ContactFilter.withTag(new Tag("unused")),
+            ContactFilter.not(COMPUTING),
+            ContactFilter.matching(ContactQuery.ofKeywords(List.of("soc"))),
+            ContactFilter.allOf(List.of(ContactFilter.NOT_APPLIED_ORGANIZATIONS, COMPUTING)),
+            ContactFilter.allOf(List.of(ContactFilter.not(ContactFilter.ORGANIZATIONS),
+                    ContactFilter.not(ContactFilter.withTag(new Tag("friendly"))))),
+            ContactFilter.anyOf(List.of(ContactFilter.RECRUITERS, ContactFilter.WITH_APPLICATIONS)),
+            ContactFilter.anyOf(List.of()));
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void evaluate_compoundFilter_returnsMatchingHandles() {
+        ContactFilter filter = ContactFilter.allOf(List.of(ContactFilter.NOT_APPLIED_ORGANIZATIONS, COMPUTING));
+        assertEquals(Set.of(NTU.getId()), idsOf(filter.evaluate(addressBook), addressBook));
+        assertTrue(filter.test(NTU));
+        assertFalse(filter.test(NUS));
+        assertFalse(filter.test(SMU));
+    }
+
+    @Test
+    public void evaluate_indexedAddressBook_sameAsTest() {
+        for (ContactFilter filter : FILTERS) {
+            assertEquals(filter(filter), idsOf(filter.evaluate(addressBook), addressBook), filter.toString());
+        }
+    }
+
+    @Test
+    public void evaluate_changedAddressBook_keepsHandlesOfIds() {
+        int handle = addressBook.getBitmapIndex().handleOf(NTU.getId());
+        addressBook.removeContact(NTU);
+        assertFalse(ContactFilter.ORGANIZATIONS.evaluate(addressBook).contains(handle));
+
+        addressBook.addContact(NTU);
+        assertEquals(handle, addressBook.getBitmapIndex().handleOf(NTU.getId()));
+        assertTrue(COMPUTING.evaluate(addressBook).contains(handle));
+    }
+
+    @Test
+    public void allOf_singleFilter_returnsFilter() {
+        assertEquals(COMPUTING, ContactFilter.allOf(List.of(COMPUTING)));
+        assertEquals(ContactFilter.ALL, ContactFilter.allOf(List.of()));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(COMPUTING.equals(COMPUTING));
+        assertTrue(COMPUTING.equals(ContactFilter.withTag(new Tag("computing"))));
+        assertTrue(ContactFilter.NOT_APPLIED_ORGANIZATIONS.equals(ContactFilter.allOf(
+                List.of(ContactFilter.ORGANIZATIONS, ContactFilter.not(ContactFilter.WITH_APPLICATIONS)))));
+        assertEquals(COMPUTING.hashCode(), ContactFilter.withTag(new Tag("computing")).hashCode());
+
+        assertFalse(COMPUTING.equals(null));
+        assertFalse(COMPUTING.equals(1));
+        assertFalse(COMPUTING.equals(ContactFilter.not(COMPUTING)));
+        assertFalse(ContactFilter.ORGANIZATIONS.equals(ContactFilter.RECRUITERS));
+        assertFalse(ContactFilter.allOf(List.of(COMPUTING, ContactFilter.RECRUITERS))
+                .equals(ContactFilter.anyOf(List.of(COMPUTING, ContactFilter.RECRUITERS))));
+    }
+
+    private Set<Id> filter(ContactFilter filter) {
+        return addressBook.getContactList().stream()
+                .filter(filter)
+                .map(Contact::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<Id> idsOf(CompressedBitmap handles, AddressBook addressBook) {
+        ContactBitmapIndex index = addressBook.getBitmapIndex();
+        Set<Id> ids = addressBook.getContactList().stream()
+                .map(Contact::getId)
+                .filter(id -> handles.contains(index.handleOf(id)))
+                .collect(Collectors.toSet());
+        // Handles of contacts not in the address book must not be included either.
+        assertEquals(ids.size(), handles.getCardinality());
+        return ids;
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.model.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalContacts.NUS;
+import static seedu.address.testutil.TypicalContacts.SMU;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.contact.ContactQuery.Clause;
+import seedu.address.model.contact.ContactTokenIndex.Field;
+import seedu.address.testutil.OrganizationBuilder;
+
+public class ContactQueryTest {
+
+    private static final List<ContactQuery> QUERIES = List.of(
+            ContactQuery.ofKeywords(List.of("soc")),
+            ContactQuery.ofKeywords(List.of("RYAN", "smu")),
+            ContactQuery.ofKeywords(List.of("rec_")),
+            ContactQuery.ofKeywords(List.of("nobody")),
+            query(keywordClause("soc", true)),
+            query(clause(Field.TAG, "computing", false)),
+            query(clause(Field.TAG, "computing", false), clause(Field.NAME, "ntu", true)),
+            query(clause(Field.EMAIL, "*.edu.sg", false), clause(Field.TAG, "comput*", true),
+                    keywordClause("r", false)),
+            query(clause(Field.PHONE, "6*", false), clause(Field.ADDRESS, "*quay", false)),
+            query(clause(Field.ID, "*sg", true), clause(Field.TAG, "strict", true)),
+            query(clause(Field.NAME, "s*c", false), clause(Field.ID, "*_sg", false)));
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void ofKeywords_emptyKeywords_matchesNothing() {
+        ContactQuery query = ContactQuery.ofKeywords(List.of(""));
+        assertFalse(query.test(NUS));
+        assertTrue(query.findMatchingIds(addressBook).isEmpty());
+    }
+
+    @Test
+    public void ofKeywords_nameContainsKeywords_matches() {
+        // One keyword
+        assertTrue(matchesKeywords(List.of("Alice"), new OrganizationBuilder().withName("Alice").build()));
+
+        // Multiple keywords
+        assertTrue(matchesKeywords(List.of("Alice", "Bob"), new OrganizationBuilder().withName("Alice Bob").build()));
+
+        // Only one matching keyword
+        assertTrue(matchesKeywords(List.of("Bob", "Carol"),
+                new OrganizationBuilder().withName("Alice Carol").build()));
+
+        // Mixed-case keywords
+        assertTrue(matchesKeywords(List.of("aLIce", "bOB"), new OrganizationBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void ofKeywords_nameDoesNotContainKeywords_doesNotMatch() {
+        // Zero keywords
+        assertFalse(matchesKeywords(List.of(), new OrganizationBuilder().withName("Alice").build()));
+
+        // Non-matching keyword
+        assertFalse(matchesKeywords(List.of("Carol"), new OrganizationBuilder().withName("Alice Bob").build()));
+
+        // Keywords match phone, email and address, but does not match name
+        assertFalse(matchesKeywords(List.of("12345", "alice@email.com", "Main", "Street"),
+                new OrganizationBuilder().withName("Alice").withPhone("12345").withEmail("alice@email.com")
+                        .withAddress("Main Street").build()));
+    }
+
+    @Test
+    public void test_allClausesMustMatch() {
+        ContactQuery query = new ContactQuery(List.of(
+                new Clause(List.of(Field.TAG), List.of(TokenPattern.compile("computing")), false),
+                new Clause(List.of(Field.NAME), List.of(TokenPattern.compile("ntu")), true)));
+        assertTrue(query.test(NUS));
+        assertFalse(query.test(SMU));
+        assertEquals(Set.of(NUS.getId()), query.findMatchingIds(addressBook));
+    }
+
+    @Test
+    public void findMatchingIds_indexedAddressBook_sameAsTest() {
+        for (ContactQuery query : QUERIES) {
+            assertEquals(filter(query), query.findMatchingIds(addressBook), query.toString());
+        }
+    }
+
+    @Test
+    public void equals() {
+        ContactQuery query = ContactQuery.ofKeywords(List.of("acme"));
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(ContactQuery.ofKeywords(List.of("acme"))));
+        assertFalse(query.equals(ContactQuery.ofKeywords(List.of("acme", "corp"))));
+        assertFalse(query.equals(new ContactQuery(List.of(
+                new Clause(ContactQuery.KEYWORD_FIELDS, List.of(TokenPattern.compile("acme")), true)))));
+        assertFalse(query.equals(null));
+    }
+
+    private Set<Id> filter(ContactQuery query) {
+        return addressBook.getContactList().stream()
+                .filter(query)
+                .map(Contact::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private static ContactQuery query(Clause... clauses) {
+        return new ContactQuery(List.of(clauses));
+    }
+
+    private static Clause clause(Field field, String pattern, boolean isNegated) {
+        return new Clause(List.of(field), List.of(TokenPattern.compile(pattern)), isNegated);
+    }
+
+    private static Clause keywordClause(String pattern, boolean isNegated) {
+        return new Clause(ContactQuery.KEYWORD_FIELDS, List.of(TokenPattern.compile(pattern)), isNegated);
+    }
+
+    private static boolean matchesKeywords(List<String> keywords, Contact contact) {
+        return ContactFilter.matching(ContactQuery.ofKeywords(keywords)).test(contact);
+    }
+}
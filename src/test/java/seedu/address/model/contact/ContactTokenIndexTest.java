@@ -0,0 +1,101 @@
+package seedu.address.model.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalContacts.NTU;
+import static seedu.address.testutil.TypicalContacts.NUS;
+import static seedu.address.testutil.TypicalContacts.RYAN;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.contact.ContactTokenIndex.Field;
+import seedu.address.testutil.OrganizationBuilder;
+
+public class ContactTokenIndexTest {
+
+    private final ContactTokenIndex index = new ContactTokenIndex();
+
+    @Test
+    public void tokensOf_nameAndTags_lowerCaseWords() {
+        assertEquals(Set.of("nus", "soc"), ContactTokenIndex.tokensOf(NUS, Field.NAME));
+        assertEquals(Set.of("computing", "worldclass"), ContactTokenIndex.tokensOf(NUS, Field.TAG));
+        assertEquals(Set.of("nus-soc_sg"), ContactTokenIndex.tokensOf(NUS, Field.ID));
+    }
+
+    @Test
+    public void getIdsWithToken_addedContacts_returnsMatchingIds() {
+        index.add(NUS);
+        index.add(NTU);
+        index.add(RYAN);
+        assertEquals(Set.of(NUS.getId(), NTU.getId()), index.getIdsWithToken(Field.TAG, "Computing"));
+        assertEquals(Set.of(NUS.getId()), index.getIdsWithToken(Field.NAME, "nus"));
+        assertTrue(index.getIdsWithToken(Field.NAME, "nu").isEmpty());
+    }
+
+    @Test
+    public void getIdsWithTokenMatching_pattern_returnsMatchingIds() {
+        index.add(NUS);
+        index.add(NTU);
+        index.add(RYAN);
+        assertEquals(Set.of(NUS.getId(), NTU.getId()), findIds(Field.NAME, "SoC"));
+        assertEquals(Set.of(NUS.getId()), findIds(Field.ID, "us-s"));
+        assertTrue(findIds(Field.EMAIL, "nobody").isEmpty());
+        assertEquals(Set.of(RYAN.getId()), findIds(Field.PHONE, "8*"));
+        assertEquals(Set.of(NUS.getId(), RYAN.getId()), findIds(Field.EMAIL, "comp.nus", "nobody"));
+        assertEquals(3, index.getTokenCount(Field.EMAIL));
+    }
+
+    @Test
+    public void getIdsWithTokenMatching_trigramFields_matchesSameAsScan() {
+        index.add(NUS);
+        index.add(NTU);
+        index.add(RYAN);
+        assertEquals(Set.of(NUS.getId()), findIds(Field.ID, "nus-soc"));
+        assertEquals(Set.of(NUS.getId(), RYAN.getId()), findIds(Field.EMAIL, "*comp*nus*"));
+        assertEquals(Set.of(NUS.getId(), NTU.getId()), findIds(Field.NAME, "soc", "ntu"));
+        assertTrue(findIds(Field.NAME, "socx").isEmpty());
+        assertTrue(index.getTrigramPostingCount() > 0);
+
+        index.remove(NUS);
+        assertTrue(findIds(Field.ID, "nus-soc").isEmpty());
+        assertEquals(Set.of(RYAN.getId()), findIds(Field.EMAIL, "*comp*nus*"));
+        index.clear();
+        assertEquals(0, index.getTrigramPostingCount());
+    }
+
+    @Test
+    public void countTokensToScan_longFragment_fewerThanAllTokens() {
+        index.add(NUS);
+        index.add(NTU);
+        index.add(RYAN);
+        int tokenCount = index.getTokenCount(Field.NAME);
+        assertEquals(tokenCount, index.countTokensToScan(Field.NAME, List.of(TokenPattern.compile("s"))));
+        assertTrue(index.countTokensToScan(Field.NAME, List.of(TokenPattern.compile("ntu"))) < tokenCount);
+    }
+
+    @Test
+    public void remove_addedContact_removesAllTokens() {
+        index.add(NUS);
+        index.add(NTU);
+        index.remove(NUS);
+        assertEquals(Set.of(NTU.getId()), findIds(Field.NAME, "soc"));
+        assertTrue(index.getIdsWithToken(Field.TAG, "worldclass").isEmpty());
+
+        Organization editedNus = new OrganizationBuilder(NUS).withName("National University").build();
+        index.add(editedNus);
+        assertEquals(Set.of(NUS.getId()), index.getIdsWithToken(Field.NAME, "national"));
+        index.clear();
+        assertTrue(index.getIdsWithToken(Field.NAME, "national").isEmpty());
+    }
+
+    private Set<Id> findIds(Field field, String... patterns) {
+        return index.getIdsWithTokenMatching(field, Arrays.stream(patterns)
+                .map(TokenPattern::compile)
+                .collect(Collectors.toList()));
+    }
+}
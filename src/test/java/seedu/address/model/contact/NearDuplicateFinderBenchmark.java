@@ -0,0 +1,218 @@
+package seedu.address.model.contact;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.BenchmarkUtil.bestMillis;
+import static seedu.address.testutil.BenchmarkUtil.report;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.BenchmarkUtil;
+
+/**
+ * Measures the precision, recall and time of {@code NearDuplicateFinder} on generated organizations and recruiters,
+ * a tenth of which have a noisy copy, against comparing every pair of contacts.
+ */
+@Tag(BenchmarkUtil.TAG)
+public class NearDuplicateFinderBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int RUNS = 3;
+    private static final int PAIRWISE_SAMPLE_SIZE = 1_000;
+    private static final double MIN_PRECISION = 0.98;
+    private static final double MIN_RECALL = 0.98;
+
+    private static final String[] WORDS = ("acme global tech data cloud alpha nova quantum blue green orbit vertex "
+            + "pixel delta summit harbor apex matrix lumen cobalt zenith prism atlas vector fusion ember sierra titan "
+            + "echo nimbus crest pioneer horizon quartz falcon cedar maple aurora solar lunar").split(" ");
+    private static final String[] FIRST_NAMES = ("john mary wei ling ahmad siti raj priya david sarah kevin grace "
+            + "tan lim ong chen jason emily daniel chloe ryan rachel marcus natalie ivan olga peter hannah lucas mia "
+            + "noah zoe").split(" ");
+    private static final String[] LAST_NAMES = ("tan lim lee ng wong chua goh teo koh ong smith brown kumar singh "
+            + "nair chen wu zhang liu yeo low ho sim seah foo chia loh quek toh").split(" ");
+    private static final String[] SYLLABLES = "ra ko mi ta lu ne sa vo ri da ke po ha zi mu le".split(" ");
+    private static final int RECRUITERS_PER_ORGANIZATION = 8;
+
+    private Random random;
+    private int nextId;
+
+    @Test
+    public void findClusters_noisyCopies_accurateAndFasterThanPairwise() throws Exception {
+        for (int size : SIZES) {
+            random = new Random(42);
+            nextId = 0;
+            List<Contact> contacts = new ArrayList<>();
+            Set<String> actualPairs = new HashSet<>();
+            generate(size, contacts, actualPairs);
+
+            NearDuplicateFinder finder = new NearDuplicateFinder();
+            List<List<Contact>> clusters = new ArrayList<>();
+            double millis = bestMillis(RUNS, () -> {
+                clusters.clear();
+                clusters.addAll(finder.findClusters(contacts));
+            });
+
+            Set<String> predictedPairs = new HashSet<>();
+            for (List<Contact> cluster : clusters) {
+                for (int i = 0; i < cluster.size(); i++) {
+                    for (int j = i + 1; j < cluster.size(); j++) {
+                        predictedPairs.add(pairOf(cluster.get(i), cluster.get(j)));
+                    }
+                }
+            }
+            long truePositives = predictedPairs.stream().filter(actualPairs::contains).count();
+            double precision = predictedPairs.isEmpty() ? 1 : (double) truePositives / predictedPairs.size();
+            double recall = (double) truePositives / actualPairs.size();
+
+            report("%,7d contacts: precision %.3f, recall %.3f, %,6.0f ms", contacts.size(), precision, recall,
+                    millis);
+            assertTrue(precision >= MIN_PRECISION);
+            assertTrue(recall >= MIN_RECALL);
+        }
+    }
+
+    @Test
+    public void similarityOf_everyPair_extrapolated() throws Exception {
+        random = new Random(42);
+        nextId = 0;
+        List<Contact> contacts = new ArrayList<>();
+        generate(2 * PAIRWISE_SAMPLE_SIZE, contacts, new HashSet<>());
+        List<Contact> sample = contacts.subList(0, PAIRWISE_SAMPLE_SIZE);
+
+        NearDuplicateFinder finder = new NearDuplicateFinder();
+        double millis = bestMillis(RUNS, () -> {
+            for (int i = 0; i < sample.size(); i++) {
+                for (int j = i + 1; j < sample.size(); j++) {
+                    finder.similarityOf(sample.get(i), sample.get(j));
+                }
+            }
+        });
+        double nanosPerPair = millis * 1e6 / pairCountOf(sample.size());
+        for (int size : SIZES) {
+            report("%,7d contacts: comparing every pair would take about %,.0f s", size,
+                    nanosPerPair * pairCountOf(size) / 1e9);
+        }
+    }
+
+    /**
+     * Adds about {@code size} contacts to {@code contacts}, in organizations of {@link #RECRUITERS_PER_ORGANIZATION}
+     * recruiters, then a noisy copy of a tenth of them, and shuffles them. The pairs of ids of each copy and its
+     * original are added to {@code actualPairs}.
+     */
+    private void generate(int size, List<Contact> contacts, Set<String> actualPairs) {
+        List<Contact> originals = new ArrayList<>();
+        for (int o = 0; o < size / 10 && originals.size() < size; o++) {
+            String firstWord = pick(WORDS);
+            String secondWord = pick(WORDS);
+            String domain = firstWord + secondWord + o + ".com";
+            String street = random.nextInt(999) + " " + capitalize(pick(WORDS)) + " Street " + random.nextInt(99);
+            String name = capitalize(firstWord) + " " + capitalize(secondWord) + " "
+                    + capitalize(pick(SYLLABLES) + pick(SYLLABLES) + pick(SYLLABLES)) + " Pte Ltd";
+            Contact organization = contactOf(true, name, "hr@" + domain, "www." + domain, street, null);
+            originals.add(organization);
+            for (int r = 0; r < RECRUITERS_PER_ORGANIZATION; r++) {
+                String first = pick(FIRST_NAMES) + pick(SYLLABLES);
+                String last = pick(LAST_NAMES) + pick(SYLLABLES) + pick(SYLLABLES);
+                originals.add(contactOf(false, capitalize(first) + " " + capitalize(last),
+                        first + "." + last + r + "@" + domain, "www." + domain, street, organization.getId()));
+            }
+        }
+        contacts.addAll(originals);
+        for (Contact original : originals) {
+            if (random.nextInt(10) == 0) {
+                Contact copy = noisyCopyOf(original);
+                actualPairs.add(pairOf(original, copy));
+                contacts.add(copy);
+            }
+        }
+        Collections.shuffle(contacts, random);
+    }
+
+    /**
+     * Returns a copy of {@code contact} with one to three of the differences people make when entering it again.
+     */
+    private Contact noisyCopyOf(Contact contact) {
+        String name = contact.getName().fullName;
+        String email = contact.getEmail().map(value -> value.value).orElse(null);
+        String url = contact.getUrl().map(value -> value.value).orElse(null);
+        String address = contact.getAddress().map(value -> value.value).orElse(null);
+        int changes = 1 + random.nextInt(3);
+        for (int k = 0; k < changes; k++) {
+            switch (random.nextInt(6)) {
+            case 0:
+                name = name.toUpperCase().replace(" Pte Ltd", " Pte. Ltd.");
+                break;
+            case 1:
+                name = withTypo(name);
+                break;
+            case 2:
+                if (email != null) {
+                    int at = email.indexOf('@');
+                    email = email.substring(0, at).replace(".", "") + email.substring(at);
+                }
+                break;
+            case 3:
+                address = random.nextBoolean() || address == null ? null : address.replace("Street", "St");
+                break;
+            case 4:
+                if (url != null) {
+                    url = "https://" + url.replace("www.", "") + "/";
+                }
+                break;
+            default:
+                if (email != null) {
+                    email = email.toUpperCase();
+                }
+                break;
+            }
+        }
+        return contactOf(contact.getType() == Type.ORGANIZATION, name, email, url, address,
+                contact.getParentId().orElse(null));
+    }
+
+    private String withTypo(String text) {
+        char[] characters = text.toCharArray();
+        int position = 1 + random.nextInt(characters.length - 2);
+        if (Character.isLetter(characters[position])) {
+            characters[position] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(characters);
+    }
+
+    private Contact contactOf(boolean isOrganization, String name, String email, String url, String address,
+                              Id parentId) {
+        Id id = new Id("contact-" + nextId++);
+        Email emailValue = email == null ? null : new Email(email);
+        Url urlValue = url == null ? null : new Url(url);
+        Address addressValue = address == null ? null : new Address(address);
+        if (isOrganization) {
+            return new Organization(new Name(name), id, null, emailValue, urlValue, addressValue, Set.of());
+        }
+        return new Recruiter(new Name(name), id, null, emailValue, urlValue, addressValue, Set.of(), parentId);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    private static String pairOf(Contact contact, Contact other) {
+        String id = contact.getId().value;
+        String otherId = other.getId().value;
+        return id.compareTo(otherId) < 0 ? id + " " + otherId : otherId + " " + id;
+    }
+
+    private static double pairCountOf(int size) {
+        return size * (size - 1.0) / 2;
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.NUS;
+import static seedu.address.testutil.TypicalContacts.RYAN;
+import static seedu.address.testutil.TypicalContacts.getTypicalContacts;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.OrganizationBuilder;
+import seedu.address.testutil.RecruiterBuilder;
+
+public class NearDuplicateFinderTest {
+
+    private final NearDuplicateFinder finder = new NearDuplicateFinder();
+
+    @Test
+    public void constructor_invalidSimilarity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateFinder(0));
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateFinder(1.5));
+    }
+
+    @Test
+    public void similarityOf_differentlyWrittenFields_returnsOne() {
+        Organization acme = new OrganizationBuilder().withId("acme").withName("Acme Pte Ltd")
+                .withEmail("hr.team@acme.com").withUrl("www.acme.com").build();
+        Organization sameAcme = new OrganizationBuilder().withId("acme-2").withName("ACME Pte. Ltd.")
+                .withEmail("HRTeam+jobs@acme.com").withUrl("https://acme.com/").build();
+        assertEquals(1.0, finder.similarityOf(acme, sameAcme));
+    }
+
+    @Test
+    public void findClusters_typicalContacts_returnsNoClusters() {
+        assertEquals(Collections.emptyList(), finder.findClusters(getTypicalContacts()));
+    }
+
+    @Test
+    public void findClusters_nearDuplicates_returnsClusters() {
+        Organization sameNus = new OrganizationBuilder(NUS).withId("nus-2")
+                .withName(NUS.getName().fullName.toUpperCase()).build();
+        Recruiter sameRyan = new RecruiterBuilder(RYAN).withId("ryan-2")
+                .withEmail(RYAN.getEmail().get().value.replace(".", "")).withAddress("Computing 1").build();
+        List<Contact> contacts = new ArrayList<>(getTypicalContacts());
+        contacts.add(sameNus);
+        contacts.add(sameRyan);
+
+        assertEquals(List.of(List.of(NUS, sameNus), List.of(RYAN, sameRyan)), finder.findClusters(contacts));
+    }
+
+    @Test
+    public void findClusters_colleaguesSharingAddressAndUrl_returnsNoClusters() {
+        Recruiter colleague = new RecruiterBuilder(RYAN).withId("rec-colleague").withName("Rachel Chua")
+                .withEmail("rachelchua@comp.nus.edu.sg").build();
+        assertTrue(finder.findClusters(List.of(RYAN, colleague)).isEmpty());
+    }
+}
@@ -14,9 +14,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalContacts.NTU;
 import static seedu.address.testutil.TypicalContacts.NUS;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.IllegalOperationException;
+import seedu.address.model.jobapplication.Deadline;
+import seedu.address.model.jobapplication.JobApplication;
 import seedu.address.model.jobapplication.JobApplicationTest;
+import seedu.address.model.jobapplication.JobTitle;
 import seedu.address.testutil.OrganizationBuilder;
 
 public class OrganizationTest {
@@ -54,12 +61,112 @@ public class OrganizationTest {
 
     @Test
     public void getJobApplications_any_correctAmount() {
-        Organization newNus = new OrganizationBuilder(NUS)
-                .withId(NUS.getId().value.toUpperCase()).build();
-        assertEquals(0, newNus.getJobApplications().length);
-        newNus.addJobApplication(JobApplicationTest.SAMPLE_JOB_APPLICATION);
-        assertEquals(1, newNus.getJobApplications().length);
-        assertEquals(newNus.getJobApplications()[0], JobApplicationTest.SAMPLE_JOB_APPLICATION);
+        Organization newNus = new OrganizationBuilder(NUS).build();
+        assertEquals(0, newNus.getJobApplications().size());
+        Organization appliedNus = newNus.withJobApplication(JobApplicationTest.SAMPLE_JOB_APPLICATION);
+        assertEquals(0, newNus.getJobApplications().size());
+        assertEquals(1, appliedNus.getJobApplications().size());
+        assertEquals(JobApplicationTest.SAMPLE_JOB_APPLICATION, appliedNus.getJobApplications().iterator().next());
+        assertEquals(newNus, appliedNus);
+    }
+
+    @Test
+    public void getJobApplications_modifyCollection_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> NUS.getJobApplications().clear());
+    }
+
+    @Test
+    public void constructor_duplicateJobTitles_throwsIllegalArgumentException() {
+        JobApplication application = JobApplicationTest.SAMPLE_JOB_APPLICATION;
+        assertThrows(IllegalArgumentException.class, Organization.MESSAGE_DUPLICATE_APPLICATIONS, ()
+                -> new OrganizationBuilder(NUS).withApplications(application, application).build());
+    }
+
+    @Test
+    public void withJobApplication_duplicateJobTitle_throwsIllegalArgumentException() {
+        JobApplication application = JobApplicationTest.SAMPLE_JOB_APPLICATION;
+        Organization appliedNus = new OrganizationBuilder(NUS).build().withJobApplication(application);
+        JobApplication sameTitleApplication = new JobApplication(NUS, application.getJobTitle(), null,
+                new Deadline());
+
+        assertThrows(IllegalArgumentException.class, Organization.MESSAGE_DUPLICATE_APPLICATIONS, ()
+                -> appliedNus.withJobApplication(sameTitleApplication));
+    }
+
+    @Test
+    public void withReplacedJobApplication_validApplication_replacesApplication() throws Exception {
+        JobApplication oldApplication = JobApplicationTest.SAMPLE_JOB_APPLICATION;
+        JobApplication newApplication = new JobApplication(NUS, new JobTitle("Intern"), null, new Deadline());
+        Organization appliedNus = new OrganizationBuilder(NUS).build().withJobApplication(oldApplication);
+
+        Organization editedNus = appliedNus.withReplacedJobApplication(oldApplication, newApplication);
+        assertFalse(editedNus.hasJobApplication(oldApplication));
+        assertTrue(editedNus.hasJobApplication(newApplication));
+        assertEquals(newApplication, editedNus.getJobApplication(newApplication.getJobTitle()));
+        assertTrue(appliedNus.hasJobApplication(oldApplication));
+    }
+
+    @Test
+    public void withReplacedJobApplication_duplicateJobTitle_throwsIllegalOperationException() {
+        JobApplication application = JobApplicationTest.SAMPLE_JOB_APPLICATION;
+        JobApplication otherApplication = new JobApplication(NUS, new JobTitle("Intern"), null, new Deadline());
+        Organization appliedNus = new OrganizationBuilder(NUS).build()
+                .withJobApplication(application).withJobApplication(otherApplication);
+        JobApplication renamedApplication = new JobApplication(NUS, application.getJobTitle(), null,
+                new Deadline());
+
+        assertThrows(IllegalOperationException.class, ()
+                -> appliedNus.withReplacedJobApplication(otherApplication, renamedApplication));
+    }
+
+    @Test
+    public void withoutJobApplication_existingApplication_removesApplication() {
+        JobApplication application = JobApplicationTest.SAMPLE_JOB_APPLICATION;
+        Organization appliedNus = new OrganizationBuilder(NUS).build().withJobApplication(application);
+        Organization newNus = appliedNus.withoutJobApplication(application);
+        assertTrue(newNus.getJobApplications().isEmpty());
+        assertTrue(appliedNus.hasJobApplication(application));
+    }
+
+    @Test
+    public void getJobApplications_manyApplications_inOrderAdded() throws Exception {
+        List<JobApplication> applications = new ArrayList<>();
+        Organization appliedNus = new OrganizationBuilder(NUS).build();
+        for (int i = 0; i < 50; i++) {
+            JobApplication application = new JobApplication(NUS, new JobTitle("Role " + (50 - i)), null,
+                    new Deadline());
+            applications.add(application);
+            appliedNus = appliedNus.withJobApplication(application);
+        }
+        assertEquals(applications, appliedNus.getJobApplications());
+
+        // Replaced applications keep their position, even with a different job title.
+        JobApplication renamedApplication = new JobApplication(NUS, new JobTitle("Renamed"), null, new Deadline());
+        appliedNus = appliedNus.withReplacedJobApplication(applications.get(10), renamedApplication)
+                .withoutJobApplication(applications.get(0));
+        applications.set(10, renamedApplication);
+        applications.remove(0);
+        assertEquals(applications, appliedNus.getJobApplications());
+        assertEquals(applications, new OrganizationBuilder(NUS).withApplications(
+                applications.toArray(JobApplication[]::new)).build().getJobApplications());
+    }
+
+    @Test
+    public void withDetails_sameId_sharesApplications() {
+        Organization renamedNus = NUS.withDetails(new Name(VALID_NAME_BOB), NUS.getId(), null, null, null, null,
+                NUS.getTags());
+        assertEquals(new Name(VALID_NAME_BOB), renamedNus.getName());
+        assertTrue(renamedNus.hasSameJobApplicationsAs(NUS));
+    }
+
+    @Test
+    public void withDetails_differentId_movesApplications() {
+        Id newId = new Id(VALID_ID_BOB);
+        Organization movedNus = NUS.withDetails(NUS.getName(), newId, null, null, null, null, NUS.getTags());
+        assertFalse(movedNus.hasSameJobApplicationsAs(NUS));
+        assertEquals(NUS.getJobApplications().size(), movedNus.getJobApplications().size());
+        assertTrue(movedNus.getJobApplications().stream()
+                .allMatch(application -> application.getOrganizationId().equals(newId)));
     }
 
     @Test
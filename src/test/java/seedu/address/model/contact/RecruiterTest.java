@@ -54,14 +54,12 @@ class RecruiterTest {
     @Test
     public void recruiterLinkedToValidOrganization() {
         Recruiter linkedRecruiter = new RecruiterBuilder(RYAN).withOrganization(NTU).build();
-        assertEquals(linkedRecruiter.getOrganization().orElse(null), NTU);
         assertEquals(linkedRecruiter.getOrganizationId().orElse(null), NTU.getId());
     }
 
     @Test
     public void recruiterLinkedToNoOrganization() {
         Recruiter unlinkedRecruiter = new RecruiterBuilder(RYAN).withOrganization(null).build();
-        assertNull(unlinkedRecruiter.getOrganization().orElse(null));
         assertNull(unlinkedRecruiter.getOrganizationId().orElse(null));
     }
 
@@ -123,7 +121,7 @@ class RecruiterTest {
                 + ", url=" + RYAN.getUrl()
                 + ", address=" + RYAN.getAddress()
                 + ", tags=" + RYAN.getTags()
-                + ", organization=" + RYAN.getOrganization() + "}";
+                + ", organizationId=" + RYAN.getOrganizationId() + "}";
         assertEquals(expected, RYAN.toString());
     }
 }
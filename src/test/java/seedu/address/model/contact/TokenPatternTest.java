@@ -0,0 +1,72 @@
+package seedu.address.model.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenPatternTest {
+
+    @Test
+    public void test_literal_matchesSubstringIgnoringCase() {
+        TokenPattern pattern = TokenPattern.compile("AcMe");
+        assertTrue(pattern.test("acme"));
+        assertTrue(pattern.test("theacmecorp"));
+        assertFalse(pattern.test("acm"));
+        assertEquals(1, pattern.getCost());
+    }
+
+    @Test
+    public void test_prefixAndSuffix_matchesEnds() {
+        TokenPattern prefix = TokenPattern.compile("9*");
+        assertTrue(prefix.test("91234567"));
+        assertFalse(prefix.test("81234569"));
+
+        TokenPattern suffix = TokenPattern.compile("*@gmail.com");
+        assertTrue(suffix.test("alice@gmail.com"));
+        assertFalse(suffix.test("alice@gmail.com.sg"));
+
+        TokenPattern contains = TokenPattern.compile("**gmail*");
+        assertTrue(contains.test("alice@gmail.com"));
+        assertEquals(1, contains.getCost());
+    }
+
+    @Test
+    public void test_innerWildcard_matchesWholeToken() {
+        TokenPattern pattern = TokenPattern.compile("a*.com");
+        assertTrue(pattern.test("alice@gmail.com"));
+        assertTrue(pattern.test("a.com"));
+        assertFalse(pattern.test("alice@gmail.co"));
+        assertFalse(pattern.test("bob@a.com"));
+        assertTrue(pattern.getCost() > 1);
+
+        // regex metacharacters are matched literally
+        TokenPattern metacharacters = TokenPattern.compile("c++*(");
+        assertTrue(metacharacters.test("c++17("));
+        assertFalse(metacharacters.test("cc("));
+    }
+
+    @Test
+    public void test_wildcardOnly_matchesEverything() {
+        assertTrue(TokenPattern.compile("*").test("anything"));
+    }
+
+    @Test
+    public void getRequiredFragment_patterns_returnsLongestLiteral() {
+        assertEquals("acme", TokenPattern.compile("AcMe").getRequiredFragment());
+        assertEquals("@gmail.com", TokenPattern.compile("*@gmail.com").getRequiredFragment());
+        assertEquals("gmail", TokenPattern.compile("a*gmail*m").getRequiredFragment());
+        assertEquals("", TokenPattern.compile("*").getRequiredFragment());
+    }
+
+    @Test
+    public void equals() {
+        TokenPattern pattern = TokenPattern.compile("acme");
+        assertTrue(pattern.equals(pattern));
+        assertTrue(pattern.equals(TokenPattern.compile("acme")));
+        assertFalse(pattern.equals(TokenPattern.compile("acme*")));
+        assertFalse(pattern.equals(null));
+        assertFalse(pattern.equals("acme"));
+    }
+}
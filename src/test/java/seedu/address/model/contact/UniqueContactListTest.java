@@ -2,8 +2,10 @@ package seedu.address.model.contact;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ID_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalContacts.NTU;
@@ -13,11 +15,15 @@ import static seedu.address.testutil.TypicalContacts.RYAN;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.contact.exceptions.DuplicatePersonException;
 import seedu.address.model.contact.exceptions.PersonNotFoundException;
+import seedu.address.model.jobapplication.Deadline;
+import seedu.address.model.jobapplication.JobApplication;
+import seedu.address.model.jobapplication.JobTitle;
 import seedu.address.testutil.OrganizationBuilder;
 import seedu.address.testutil.RecruiterBuilder;
 
@@ -66,6 +72,102 @@ public class UniqueContactListTest {
         assertTrue(uniqueContactList.contains(editedRecruiter));
     }
 
+    @Test
+    public void getContactById_contactNotInList_returnsNull() {
+        assertNull(uniqueContactList.getContactById(testOrganization.getId()));
+    }
+
+    @Test
+    public void getContactById_contactInList_returnsContact() {
+        uniqueContactList.add(testOrganization);
+        uniqueContactList.add(testRecruiter);
+        assertEquals(testOrganization, uniqueContactList.getContactById(testOrganization.getId()));
+        assertEquals(testRecruiter, uniqueContactList.getContactById(testRecruiter.getId()));
+    }
+
+    @Test
+    public void getChildrenOf_parentWithoutChildren_returnsEmptyList() {
+        uniqueContactList.add(testOrganization);
+        assertEquals(Collections.emptyList(), uniqueContactList.getChildrenOf(testOrganization.getId()));
+    }
+
+    @Test
+    public void getChildrenOf_childrenInList_returnsChildrenInInsertionOrder() {
+        Recruiter otherRecruiter = new RecruiterBuilder().withId(VALID_ID_BOB).withOrganization(NUS).build();
+        uniqueContactList.add(testOrganization);
+        uniqueContactList.add(testRecruiter);
+        uniqueContactList.add(otherRecruiter);
+        assertEquals(Arrays.asList(testRecruiter, otherRecruiter),
+                uniqueContactList.getChildrenOf(testOrganization.getId()));
+    }
+
+    @Test
+    public void getChildrenOf_afterChildIsEditedOrRemoved_reflectsChanges() {
+        uniqueContactList.add(testOrganization);
+        uniqueContactList.add(testRecruiter);
+
+        // Editing a child without changing its parent keeps it linked
+        Recruiter editedRecruiter = new RecruiterBuilder(testRecruiter).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueContactList.setContact(testRecruiter, editedRecruiter);
+        assertEquals(Collections.singletonList(editedRecruiter),
+                uniqueContactList.getChildrenOf(testOrganization.getId()));
+
+        // Moving a child to another parent unlinks it from the old one
+        Recruiter movedRecruiter = new RecruiterBuilder(editedRecruiter).withOrganization(NTU).build();
+        uniqueContactList.setContact(editedRecruiter, movedRecruiter);
+        assertEquals(Collections.emptyList(), uniqueContactList.getChildrenOf(testOrganization.getId()));
+        assertEquals(Collections.singletonList(movedRecruiter), uniqueContactList.getChildrenOf(NTU.getId()));
+
+        uniqueContactList.remove(movedRecruiter);
+        assertEquals(Collections.emptyList(), uniqueContactList.getChildrenOf(NTU.getId()));
+    }
+
+    @Test
+    public void getChildrenOf_afterSetContacts_reflectsNewContacts() {
+        uniqueContactList.add(testOrganization);
+        uniqueContactList.add(testRecruiter);
+        uniqueContactList.setContacts(Collections.singletonList(NTU));
+        assertEquals(Collections.emptyList(), uniqueContactList.getChildrenOf(testOrganization.getId()));
+    }
+
+    @Test
+    public void getContactsSharingKey_emailInDifferentCase_returnsOtherContacts() {
+        uniqueContactList.add(testOrganization);
+        Recruiter sameEmail = new RecruiterBuilder().withId(VALID_ID_BOB)
+                .withEmail(testOrganization.getEmail().get().value.toUpperCase()).build();
+
+        assertEquals(List.of(testOrganization),
+                uniqueContactList.getContactsSharingKey(ContactKeyIndex.Key.EMAIL, sameEmail));
+        assertEquals(Collections.emptyList(),
+                uniqueContactList.getContactsSharingKey(ContactKeyIndex.Key.EMAIL, testOrganization));
+        assertEquals(Collections.emptyList(),
+                uniqueContactList.getContactsSharingKey(ContactKeyIndex.Key.PHONE, sameEmail));
+    }
+
+    @Test
+    public void getDuplicates_afterContactsAreEditedOrRemoved_reflectsChanges() {
+        Recruiter samePhone = new RecruiterBuilder().withId(VALID_ID_BOB)
+                .withPhone(testOrganization.getPhone().get().value).build();
+        uniqueContactList.add(testOrganization);
+        uniqueContactList.add(testRecruiter);
+        uniqueContactList.add(samePhone);
+        assertEquals(List.of(List.of(testOrganization, samePhone)),
+                uniqueContactList.getDuplicates(ContactKeyIndex.Key.PHONE));
+
+        Recruiter otherPhone = new RecruiterBuilder(samePhone).withPhone("99999999").build();
+        uniqueContactList.setContact(samePhone, otherPhone);
+        assertEquals(Collections.emptyList(), uniqueContactList.getDuplicates(ContactKeyIndex.Key.PHONE));
+
+        ContactListSnapshot snapshot = uniqueContactList.snapshot();
+        uniqueContactList.setContact(otherPhone, samePhone);
+        uniqueContactList.remove(samePhone);
+        uniqueContactList.restore(snapshot);
+        Recruiter sameAsRestored = new RecruiterBuilder(testRecruiter).withPhone("99999999").build();
+        uniqueContactList.setContact(testRecruiter, sameAsRestored);
+        assertEquals(List.of(List.of(otherPhone, sameAsRestored)),
+                uniqueContactList.getDuplicates(ContactKeyIndex.Key.PHONE));
+    }
+
     @Test
     public void add_nullContact_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.add(null));
@@ -128,6 +230,22 @@ public class UniqueContactListTest {
         UniqueContactList expectedUniqueContactList = new UniqueContactList();
         expectedUniqueContactList.add(NTU);
         assertEquals(expectedUniqueContactList, uniqueContactList);
+        assertFalse(uniqueContactList.contains(testOrganization));
+        assertEquals(NTU, uniqueContactList.getContactById(NTU.getId()));
+    }
+
+    @Test
+    public void setContact_staleOrganizationWithOtherApplications_throwsContactNotFoundException() {
+        uniqueContactList.add(testOrganization);
+        Organization appliedOrganization = testOrganization.withJobApplication(
+                new JobApplication(testOrganization, new JobTitle("Intern"), null, new Deadline()));
+        uniqueContactList.setContact(testOrganization, appliedOrganization);
+
+        assertThrows(PersonNotFoundException.class, () ->
+                uniqueContactList.setContact(testOrganization, testOrganization));
+        assertThrows(PersonNotFoundException.class, () -> uniqueContactList.remove(testOrganization));
+        assertEquals(appliedOrganization.getJobApplications(),
+                ((Organization) uniqueContactList.getContactById(testOrganization.getId())).getJobApplications());
     }
 
     @Test
@@ -154,6 +272,16 @@ public class UniqueContactListTest {
         uniqueContactList.remove(testOrganization);
         UniqueContactList expectedUniqueContactList = new UniqueContactList();
         assertEquals(expectedUniqueContactList, uniqueContactList);
+        assertFalse(uniqueContactList.contains(testOrganization));
+    }
+
+    @Test
+    public void remove_contactWithSameIdButDifferentFields_throwsContactNotFoundException() {
+        uniqueContactList.add(testOrganization);
+        Organization editedOrganization = new OrganizationBuilder(testOrganization)
+                .withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniqueContactList.remove(editedOrganization));
+        assertTrue(uniqueContactList.contains(testOrganization));
     }
 
     @Test
@@ -183,6 +311,8 @@ public class UniqueContactListTest {
         UniqueContactList expectedUniqueContactList = new UniqueContactList();
         expectedUniqueContactList.add(NTU);
         assertEquals(expectedUniqueContactList, uniqueContactList);
+        assertFalse(uniqueContactList.contains(testOrganization));
+        assertEquals(NTU, uniqueContactList.getContactById(NTU.getId()));
     }
 
     @Test
@@ -191,6 +321,37 @@ public class UniqueContactListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueContactList.setContacts(listWithDuplicateContacts));
     }
 
+    @Test
+    public void setContacts_listWithNonAdjacentSameIdentityContacts_throwsDuplicateContactException() {
+        uniqueContactList.add(NTU);
+        Organization editedOrganization = new OrganizationBuilder(testOrganization)
+                .withAddress(VALID_ADDRESS_BOB).build();
+        List<Contact> listWithDuplicateContacts = Arrays.asList(testOrganization, testRecruiter, editedOrganization);
+        assertThrows(DuplicatePersonException.class, () -> uniqueContactList.setContacts(listWithDuplicateContacts));
+
+        // The list is left untouched
+        assertEquals(Collections.singletonList(NTU), uniqueContactList.asUnmodifiableObservableList());
+        assertFalse(uniqueContactList.contains(testOrganization));
+    }
+
+    @Test
+    public void findContactIds_afterSetAndRemove_reflectsChanges() {
+        List<TokenPattern> soc = List.of(TokenPattern.compile("soc"));
+        List<TokenPattern> comp = List.of(TokenPattern.compile("comp"));
+        uniqueContactList.add(testOrganization);
+        uniqueContactList.add(NTU);
+        assertEquals(Set.of(NUS.getId(), NTU.getId()),
+                uniqueContactList.findContactIds(ContactTokenIndex.Field.NAME, soc));
+
+        Organization editedOrganization = new OrganizationBuilder(testOrganization).withName("NUS Computing").build();
+        uniqueContactList.setContact(testOrganization, editedOrganization);
+        assertEquals(Set.of(NTU.getId()), uniqueContactList.findContactIds(ContactTokenIndex.Field.NAME, soc));
+        assertEquals(Set.of(NUS.getId()), uniqueContactList.findContactIds(ContactTokenIndex.Field.NAME, comp));
+
+        uniqueContactList.remove(editedOrganization);
+        assertTrue(uniqueContactList.findContactIds(ContactTokenIndex.Field.NAME, comp).isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,65 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.NTU;
+import static seedu.address.testutil.TypicalContacts.NUS;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.jobapplication.ApplicationStage;
+import seedu.address.model.jobapplication.JobApplication;
+
+public class ChangeEventTest {
+
+    @Test
+    public void constructor_noValues_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ContactEvent(null, null));
+        assertThrows(IllegalArgumentException.class, () -> new ApplicationEvent(null, null));
+    }
+
+    @Test
+    public void isAdditionAndIsRemoval() {
+        assertTrue(new ContactEvent(null, NUS).isAddition());
+        assertFalse(new ContactEvent(null, NUS).isRemoval());
+        assertTrue(new ContactEvent(NUS, null).isRemoval());
+        assertFalse(new ContactEvent(NUS, NTU).isAddition());
+        assertFalse(new ContactEvent(NUS, NTU).isRemoval());
+    }
+
+    @Test
+    public void isStageChanged() {
+        JobApplication application = NUS.getJobApplications().iterator().next();
+        ApplicationStage newStage = application.getApplicationStage() == ApplicationStage.RESUME
+                ? ApplicationStage.INTERVIEW : ApplicationStage.RESUME;
+        JobApplication movedApplication = new JobApplication(application.getOrganizationId(),
+                application.getJobTitle(), application.getJobDescription().orElse(null), application.getDeadline(),
+                application.getStatus(), newStage, application.getLastUpdatedTime());
+
+        assertTrue(new ApplicationEvent(application, movedApplication).isStageChanged());
+        assertFalse(new ApplicationEvent(application, application).isStageChanged());
+        assertFalse(new ApplicationEvent(null, movedApplication).isStageChanged());
+    }
+
+    @Test
+    public void equals() {
+        ContactEvent event = new ContactEvent(NUS, NTU);
+
+        // same values -> returns true
+        assertEquals(event, new ContactEvent(NUS, NTU));
+        assertEquals(event.hashCode(), new ContactEvent(NUS, NTU).hashCode());
+
+        // same object -> returns true
+        assertEquals(event, event);
+
+        // null -> returns false
+        assertNotEquals(event, null);
+
+        // different values -> returns false
+        assertNotEquals(event, new ContactEvent(NTU, NUS));
+        assertNotEquals(new ContactEvent(null, NUS), new ContactEvent(NUS, null));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.NTU;
+import static seedu.address.testutil.TypicalContacts.NUS;
+import static seedu.address.testutil.TypicalContacts.RICHARD;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+public class ModelEventBusTest {
+
+    private final ModelEventBus eventBus = new ModelEventBus();
+
+    @Test
+    public void publish_synchronousListeners_deliveredInOrderOfSubscription() {
+        List<String> deliveries = new ArrayList<>();
+        eventBus.subscribe(ContactEvent.class, event -> deliveries.add("first " + event.getNewValue().getId()));
+        eventBus.subscribe(ModelEvent.class, event -> deliveries.add("second"));
+        eventBus.subscribe(AddressBookResetEvent.class, event -> deliveries.add("reset"));
+
+        eventBus.publish(new ContactEvent(null, NUS));
+        eventBus.publish(new ContactEvent(null, NTU));
+        assertEquals(List.of("first " + NUS.getId(), "second", "first " + NTU.getId(), "second"), deliveries);
+    }
+
+    @Test
+    public void publish_cancelledSubscription_notDelivered() {
+        List<ModelEvent> deliveries = new ArrayList<>();
+        ModelEventBus.Subscription<ModelEvent> subscription = eventBus.subscribe(ModelEvent.class, deliveries::add);
+        eventBus.publish(new ContactEvent(null, NUS));
+        subscription.cancel();
+        eventBus.publish(new ContactEvent(NUS, null));
+        assertEquals(List.of(new ContactEvent(null, NUS)), deliveries);
+    }
+
+    @Test
+    public void publish_asynchronousListener_deliveredInOrderOnExecutor() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        List<ModelEvent> deliveries = new ArrayList<>();
+        eventBus.subscribe(ModelEvent.class, deliveries::add, tasks::add);
+
+        eventBus.publish(new ContactEvent(null, NUS));
+        eventBus.publish(new ContactEvent(NUS, NTU));
+        eventBus.publish(new ContactEvent(RICHARD, null));
+        assertTrue(deliveries.isEmpty());
+
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+        assertEquals(List.of(new ContactEvent(null, NUS), new ContactEvent(NUS, NTU),
+                new ContactEvent(RICHARD, null)), deliveries);
+    }
+
+    @Test
+    public void publish_failingSynchronousListener_throwsException() {
+        eventBus.subscribe(ModelEvent.class, event -> {
+            throw new IllegalStateException();
+        });
+        assertThrows(IllegalStateException.class, () -> eventBus.publish(new ContactEvent(null, NUS)));
+    }
+
+    @Test
+    public void getListenerLatency_deliveries_countsEachDelivery() {
+        ModelEventBus.Subscription<ContactEvent> subscription = eventBus.subscribe(ContactEvent.class, event -> {});
+        eventBus.subscribe(ModelEvent.class, event -> {});
+
+        eventBus.publish(new ContactEvent(null, NUS));
+        eventBus.publish(new AddressBookResetEvent(new AddressBook()));
+        assertEquals(1, subscription.getLatency().getDeliveryCount());
+        assertEquals(3, eventBus.getListenerLatency().getDeliveryCount());
+        assertTrue(eventBus.getListenerLatency().getMaxNanos() >= eventBus.getListenerLatency().getMeanNanos());
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.jobapplication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.BenchmarkUtil.bestMillis;
+import static seedu.address.testutil.BenchmarkUtil.getOrganizationsWithApplications;
+import static seedu.address.testutil.BenchmarkUtil.report;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Organization;
+import seedu.address.testutil.BenchmarkUtil;
+
+/**
+ * Compares keeping the application statistics up to date as applications change with counting them again.
+ * The time of a stage edit through the model is reported alongside, as it includes the work of every other view that
+ * follows the edit.
+ */
+@Tag(BenchmarkUtil.TAG)
+public class ApplicationStatisticsBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int RUNS = 5;
+    private static final int EDITS = 1_000;
+    private static final int READS = 100_000;
+
+    @Test
+    public void stageEdits_incrementalVersusRecount() throws Exception {
+        for (int size : SIZES) {
+            List<Organization> organizations = getOrganizationsWithApplications(size);
+            AddressBook addressBook = new AddressBook();
+            addressBook.setContacts(new ArrayList<>(organizations));
+            ModelManager model = new ModelManager(addressBook, new UserPrefs());
+
+            JobApplication application = organizations.get(size / 2).getJobApplications().get(0);
+            JobApplication movedApplication = new JobApplication(application.getOrganizationId(),
+                    application.getJobTitle(), application.getJobDescription().orElse(null),
+                    application.getDeadline(), application.getStatus(), nextStageOf(application),
+                    application.getLastUpdatedTime());
+            double editMillis = bestMillis(RUNS, () -> {
+                for (int i = 0; i < EDITS; i += 2) {
+                    model.replaceApplication(application, movedApplication);
+                    model.replaceApplication(movedApplication, application);
+                }
+            });
+
+            Organization organization = organizations.get(size / 2);
+            Organization movedOrganization = organization.withReplacedJobApplication(application, movedApplication);
+            ApplicationStatistics separateStatistics = new ApplicationStatistics(organizations);
+            double updateMillis = bestMillis(RUNS, () -> {
+                for (int i = 0; i < EDITS; i += 2) {
+                    separateStatistics.replaceOrganization(organization, movedOrganization);
+                    separateStatistics.replaceOrganization(movedOrganization, organization);
+                }
+            });
+
+            ApplicationStatistics statistics = model.getApplicationStatistics();
+            Organization taggedOrganization = organizations.get(0);
+            double readMillis = bestMillis(RUNS, () -> {
+                for (int i = 0; i < READS; i++) {
+                    statistics.getOverallCounts().getTotal();
+                    taggedOrganization.getTags().forEach(tag -> statistics.getCountsOf(tag).getTotal());
+                }
+            });
+            double recountMillis = bestMillis(RUNS, () ->
+                    new ApplicationStatistics(model.getAddressBook().getContactList()));
+
+            assertEquals(new ApplicationStatistics(model.getAddressBook().getContactList()), statistics);
+            report("%,7d organizations: model stage edit %8.1f us, statistics update %5.2f us, counts read %3.0f ns, "
+                    + "full recount %6.2f ms", size, editMillis * 1000 / EDITS, updateMillis * 1000 / EDITS,
+                    readMillis * 1e6 / READS / 2, recountMillis);
+        }
+    }
+
+    private static ApplicationStage nextStageOf(JobApplication application) {
+        ApplicationStage[] stages = ApplicationStage.values();
+        return stages[(application.getApplicationStage().ordinal() + 1) % stages.length];
+    }
+}
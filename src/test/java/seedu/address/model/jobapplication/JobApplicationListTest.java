@@ -1,5 +1,259 @@
 package seedu.address.model.jobapplication;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.NUS;
+import static seedu.address.testutil.TypicalContacts.RICHARD;
+import static seedu.address.testutil.TypicalJobApplications.JOB_APPLICATIONS;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Organization;
+import seedu.address.testutil.OrganizationBuilder;
+
 class JobApplicationListTest {
 
+    private final Organization organization = new OrganizationBuilder().withName("Dummy Org")
+            .withApplications(JOB_APPLICATIONS).build();
+
+    private final ObservableList<Contact> contacts = FXCollections.observableArrayList(organization, RICHARD);
+
+    private final JobApplicationList jobApplicationList = new JobApplicationList(contacts);
+
+    @Test
+    public void constructor_contacts_listsApplicationsOfOrganizations() {
+        assertEquals(new ArrayList<>(organization.getJobApplications()), jobApplicationList.getApplications());
+    }
+
+    @Test
+    public void getApplications_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> jobApplicationList.getApplications().remove(0));
+    }
+
+    @Test
+    public void indexOf_existingApplications_returnsPosition() {
+        List<JobApplication> applications = jobApplicationList.getApplications();
+        for (int i = 0; i < applications.size(); i++) {
+            assertEquals(i, jobApplicationList.indexOf(applications.get(i)));
+            assertEquals(i, jobApplicationList.indexOf(
+                    applications.get(i).getOrganizationId(), applications.get(i).getJobTitle()));
+        }
+    }
+
+    @Test
+    public void indexOf_missingApplication_returnsMinusOne() {
+        JobApplication application = new JobApplication(NUS, new JobTitle("SWE"), null, new Deadline());
+        assertEquals(-1, jobApplicationList.indexOf(application));
+        assertEquals(-1, jobApplicationList.indexOf(NUS.getId(), new JobTitle("SWE")));
+    }
+
+    @Test
+    public void indexOf_sameIdentityDifferentFields_returnsMinusOne() {
+        JobApplication application = jobApplicationList.get(0);
+        JobApplication otherApplication = withDeadlineAndUpdate(application,
+                application.getDeadline().deadline.plusDays(1), null);
+        assertEquals(-1, jobApplicationList.indexOf(otherApplication));
+    }
+
+    @Test
+    public void getApplicationsDueBetween_range_returnsApplicationsByDeadline() throws Exception {
+        LocalDate today = LocalDate.now();
+        JobApplication dueTomorrow = withDeadlineAndUpdate(titled("SWE"), today.plusDays(1), null);
+        JobApplication dueToday = withDeadlineAndUpdate(titled("SRE"), today, null);
+        JobApplication dueLater = withDeadlineAndUpdate(titled("SSWE"), today.plusDays(30), null);
+        Organization withDeadlines = withOnlyApplications(dueTomorrow, dueToday, dueLater);
+
+        assertEquals(List.of(dueToday, dueTomorrow),
+                jobApplicationList.getApplicationsDueBetween(today, today.plusDays(7)));
+        assertEquals(List.of(), jobApplicationList.getApplicationsDueBetween(today.plusDays(2), today.plusDays(29)));
+        assertEquals(List.of(), jobApplicationList.getApplicationsDueBetween(today.plusDays(1), today));
+
+        JobApplication movedLater = withDeadlineAndUpdate(dueTomorrow, today.plusDays(30), null);
+        contacts.set(0, withDeadlines.withoutJobApplication(dueToday).withReplacedJobApplication(dueTomorrow,
+                movedLater));
+        assertEquals(List.of(), jobApplicationList.getApplicationsDueBetween(today, today.plusDays(7)));
+        assertEquals(Set.of(dueLater, movedLater), Set.copyOf(
+                jobApplicationList.getApplicationsDueBetween(today.plusDays(30), today.plusDays(30))));
+    }
+
+    @Test
+    public void getApplicationsMatching_leastRecentlyUpdated_excludedApplicationsNotCounted() {
+        LocalDateTime now = LocalDateTime.now();
+        JobApplication updatedLastWeek = withDeadlineAndUpdate(titled("SWE"), null, now.minusDays(7));
+        JobApplication updatedLastMonth = withDeadlineAndUpdate(titled("SRE"), null, now.minusDays(30));
+        JobApplication updatedLastYear = withDeadlineAndUpdate(titled("SSWE"), null, now.minusDays(365));
+        withOnlyApplications(updatedLastWeek, updatedLastMonth, updatedLastYear);
+
+        ApplicationFilter filter = ApplicationFilter.leastRecentlyUpdatedBefore(now, 2);
+        assertEquals(List.of(updatedLastYear, updatedLastMonth),
+                jobApplicationList.getApplicationsMatching(filter, application -> true));
+        assertEquals(List.of(updatedLastMonth, updatedLastWeek),
+                jobApplicationList.getApplicationsMatching(filter, application -> application != updatedLastYear));
+    }
+
+    @Test
+    public void getApplicationsUpdatedBefore_limit_returnsLeastRecentlyUpdated() {
+        LocalDateTime now = LocalDateTime.now();
+        JobApplication updatedLastWeek = withDeadlineAndUpdate(titled("SWE"), null, now.minusDays(7));
+        JobApplication updatedLastMonth = withDeadlineAndUpdate(titled("SRE"), null, now.minusDays(30));
+        JobApplication updatedLastYear = withDeadlineAndUpdate(titled("SSWE"), null, now.minusDays(365));
+        Organization withUpdates = withOnlyApplications(updatedLastWeek, updatedLastMonth, updatedLastYear);
+
+        assertEquals(List.of(updatedLastYear, updatedLastMonth),
+                jobApplicationList.getApplicationsUpdatedBefore(now.minusDays(14), Integer.MAX_VALUE));
+        assertEquals(List.of(updatedLastYear), jobApplicationList.getApplicationsUpdatedBefore(now, 1));
+
+        contacts.set(0, withUpdates.withoutJobApplication(updatedLastYear));
+        assertEquals(List.of(updatedLastMonth, updatedLastWeek),
+                jobApplicationList.getApplicationsUpdatedBefore(now, 5));
+    }
+
+    @Test
+    public void getApplicationsWith_stageAndStatus_returnsMatchesInListOrder() throws Exception {
+        JobApplication interviewPending = withStageAndStatus(titled("SWE"),
+                ApplicationStage.INTERVIEW, JobStatus.PENDING);
+        JobApplication interviewOffered = withStageAndStatus(titled("SRE"),
+                ApplicationStage.INTERVIEW, JobStatus.OFFERED);
+        JobApplication resumePending = titled("SSWE");
+        Organization withStages = withOnlyApplications(interviewPending, interviewOffered, resumePending);
+
+        assertEquals(List.of(interviewPending),
+                jobApplicationList.getApplicationsWith(ApplicationStage.INTERVIEW, JobStatus.PENDING));
+        assertEquals(List.of(interviewPending, interviewOffered),
+                jobApplicationList.getApplicationsWith(ApplicationStage.INTERVIEW, null));
+        assertEquals(List.of(interviewPending, resumePending),
+                jobApplicationList.getApplicationsWith(null, JobStatus.PENDING));
+        assertEquals(List.of(interviewPending, interviewOffered, resumePending),
+                jobApplicationList.getApplicationsWith(null, null));
+        assertEquals(List.of(), jobApplicationList.getApplicationsWith(ApplicationStage.ONLINE_ASSESSMENT, null));
+
+        JobApplication accepted = withStageAndStatus(interviewOffered, ApplicationStage.INTERVIEW, JobStatus.ACCEPTED);
+        contacts.set(0, withStages.withReplacedJobApplication(interviewOffered, accepted)
+                .withoutJobApplication(interviewPending));
+        assertEquals(List.of(), jobApplicationList.getApplicationsWith(null, JobStatus.OFFERED));
+        assertEquals(List.of(accepted), jobApplicationList.getApplicationsWith(ApplicationStage.INTERVIEW, null));
+    }
+
+    @Test
+    public void setContact_addedApplication_appendedAtEnd() {
+        JobApplication application = new JobApplication(organization, new JobTitle("Intern"), null, new Deadline());
+        contacts.set(0, organization.withJobApplication(application));
+        assertEquals(JOB_APPLICATIONS.length, jobApplicationList.indexOf(application));
+    }
+
+    @Test
+    public void setContact_applicationWithNewTitle_replacedInPlace() {
+        JobApplication oldApplication = titled("SRE");
+        int index = jobApplicationList.indexOf(oldApplication);
+        JobApplication newApplication = new JobApplication(oldApplication.getOrganizationId(),
+                new JobTitle("Intern"), null, oldApplication.getDeadline(),
+                oldApplication.getStatus(), oldApplication.getApplicationStage(), new LastUpdatedTime());
+        contacts.set(0, organization.withoutJobApplication(oldApplication).withJobApplication(newApplication));
+
+        assertEquals(-1, jobApplicationList.indexOf(oldApplication));
+        assertEquals(index, jobApplicationList.indexOf(newApplication));
+        assertEquals(newApplication, jobApplicationList.get(index));
+    }
+
+    @Test
+    public void setContact_unchangedApplications_untouched() {
+        JobApplication application = jobApplicationList.get(0);
+        Organization edited = organization.withoutJobApplication(titled("SRE"));
+        contacts.set(0, edited);
+        assertSame(application, jobApplicationList.get(0));
+        assertEquals(new ArrayList<>(edited.getJobApplications()), jobApplicationList.getApplications());
+    }
+
+    @Test
+    public void removeContact_organization_removesApplications() {
+        contacts.remove(organization);
+        assertEquals(List.of(), jobApplicationList.getApplications());
+        assertEquals(-1, jobApplicationList.indexOf(titled("SWE")));
+
+        contacts.add(NUS);
+        assertEquals(new ArrayList<>(NUS.getJobApplications()), jobApplicationList.getApplications());
+    }
+
+    @Test
+    public void setContact_nonAdjacentApplicationsRemoved_positionsUpdated() {
+        Organization edited = organization;
+        List<JobApplication> expected = new ArrayList<>();
+        List<JobApplication> applications = jobApplicationList.getApplications();
+        for (int i = 0; i < applications.size(); i++) {
+            if (i % 2 == 0) {
+                edited = edited.withoutJobApplication(applications.get(i));
+            } else {
+                expected.add(applications.get(i));
+            }
+        }
+        contacts.set(0, edited);
+
+        assertEquals(expected, jobApplicationList.getApplications());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, jobApplicationList.indexOf(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void setAllContacts_newOrganizations_listsTheirApplications() {
+        contacts.setAll(RICHARD, NUS, organization);
+        List<JobApplication> expected = new ArrayList<>(NUS.getJobApplications());
+        expected.addAll(organization.getJobApplications());
+        assertEquals(expected, jobApplicationList.getApplications());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, jobApplicationList.indexOf(expected.get(i)));
+        }
+    }
+
+    /**
+     * Returns the application of the organization with the given job title.
+     */
+    private JobApplication titled(String title) {
+        return organization.getJobApplication(new JobTitle(title));
+    }
+
+    /**
+     * Replaces the organization in the contacts with a copy having only the given applications, and returns the copy.
+     */
+    private Organization withOnlyApplications(JobApplication... applications) {
+        Organization edited = organization;
+        for (JobApplication application : organization.getJobApplications()) {
+            edited = edited.withoutJobApplication(application);
+        }
+        for (JobApplication application : applications) {
+            edited = edited.withJobApplication(application);
+        }
+        contacts.set(0, edited);
+        return edited;
+    }
+
+    /**
+     * Returns a copy of {@code application} with the given deadline and last updated time, where non-null.
+     */
+    private static JobApplication withDeadlineAndUpdate(JobApplication application, LocalDate deadline,
+                                                        LocalDateTime lastUpdatedTime) {
+        return new JobApplication(application.getOrganizationId(), application.getJobTitle(), null,
+                deadline == null ? application.getDeadline() : new Deadline(deadline),
+                application.getStatus(), application.getApplicationStage(),
+                lastUpdatedTime == null ? application.getLastUpdatedTime() : new LastUpdatedTime(lastUpdatedTime));
+    }
+
+    /**
+     * Returns a copy of {@code application} at the given stage and with the given status.
+     */
+    private static JobApplication withStageAndStatus(JobApplication application, ApplicationStage stage,
+                                                     JobStatus status) {
+        return new JobApplication(application.getOrganizationId(), application.getJobTitle(), null,
+                application.getDeadline(), status, stage, application.getLastUpdatedTime());
+    }
 }
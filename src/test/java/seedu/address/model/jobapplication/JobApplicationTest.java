@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalContacts.NTU;
 import static seedu.address.testutil.TypicalContacts.NUS;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -149,13 +150,13 @@ public class JobApplicationTest {
         JobApplication ja1 = new JobApplication(NUS, validTitle, validJobDescription, validDeadline, validStatus,
                 validApplicationStage);
         assertEquals(ja1.hashCode(), Objects.hash(
-                NUS.getId().toString(),
-                validTitle.toString(),
-                validJobDescription.toString(),
-                validDeadline.toString(),
-                ja1.getLastUpdatedTime().toString(),
-                validStatus.toString(),
-                validApplicationStage.toString()
+                NUS.getId(),
+                validTitle,
+                Optional.of(validJobDescription),
+                validDeadline,
+                ja1.getLastUpdatedTime(),
+                validStatus,
+                validApplicationStage
         ));
     }
 
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.IDA;
+import static seedu.address.testutil.TypicalContacts.SMU;
+import static seedu.address.testutil.TypicalContacts.TIKTOK;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookStorageTest {
+
+    /** Long enough that nothing is written in the background while a test runs. */
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BackgroundAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("jobby.json")), -1));
+    }
+
+    @Test
+    public void save_burstOfSaves_writesLatestOnce() throws Exception {
+        CountingStorage countingStorage = new CountingStorage(testFolder.resolve("jobby.json"));
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(countingStorage, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addContact(TIKTOK);
+        storage.saveAddressBook(addressBook);
+        addressBook.addContact(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, countingStorage.writeCount);
+
+        storage.flush();
+        assertEquals(1, countingStorage.writeCount);
+        assertEquals(addressBook, new AddressBook(countingStorage.lastWritten));
+    }
+
+    @Test
+    public void save_changedAfterSave_writesDataAsSaved() throws Exception {
+        CountingStorage countingStorage = new CountingStorage(testFolder.resolve("jobby.json"));
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(countingStorage, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removeContact(SMU);
+
+        storage.flush();
+        assertEquals(getTypicalAddressBook(), read(countingStorage));
+    }
+
+    @Test
+    public void close_pendingSave_writesBeforeReturning() throws Exception {
+        CountingStorage countingStorage = new CountingStorage(testFolder.resolve("jobby.json"));
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(countingStorage, LONG_DELAY_MILLIS);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        storage.close();
+        assertEquals(getTypicalAddressBook(), read(countingStorage));
+    }
+
+    @Test
+    public void read_pendingSave_readsDataSaved() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        BackgroundAddressBookStorage storage =
+                new BackgroundAddressBookStorage(new JsonAddressBookStorage(filePath), LONG_DELAY_MILLIS);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_writeFailed_failureReportedAndDataWrittenAgain() throws Exception {
+        CountingStorage countingStorage = new CountingStorage(testFolder.resolve("jobby.json"));
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(countingStorage, LONG_DELAY_MILLIS);
+        countingStorage.failuresLeft = 1;
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(AccessDeniedException.class, storage::flush);
+
+        // The failure is only reported once, and the data is written by the next write.
+        storage.flush();
+        assertEquals(2, countingStorage.writeCount);
+        assertEquals(getTypicalAddressBook(), read(countingStorage));
+    }
+
+    @Test
+    public void save_otherFile_writtenBeforeReturning() throws Exception {
+        Path otherFilePath = testFolder.resolve("export.json");
+        BackgroundAddressBookStorage storage = new BackgroundAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("jobby.json")), LONG_DELAY_MILLIS);
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertEquals(getTypicalAddressBook(), read(new JsonAddressBookStorage(otherFilePath)));
+    }
+
+    private static AddressBook read(AddressBookStorage storage) throws Exception {
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        return new AddressBook(readBack);
+    }
+
+    /**
+     * A json storage that counts the writes to its data file, and fails a given number of them.
+     */
+    private static class CountingStorage extends JsonAddressBookStorage {
+        private volatile int writeCount;
+        private volatile int failuresLeft;
+        private volatile ReadOnlyAddressBook lastWritten;
+
+        CountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            writeCount++;
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new AccessDeniedException(getAddressBookFilePath().toString());
+            }
+            super.saveAddressBook(addressBook);
+            lastWritten = addressBook;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.BenchmarkUtil.bestMillis;
+import static seedu.address.testutil.BenchmarkUtil.getOrganizationsWithApplications;
+import static seedu.address.testutil.BenchmarkUtil.report;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.testutil.BenchmarkUtil;
+
+/**
+ * Compares saving and loading a large address book as pretty JSON, compact JSON and binary.
+ */
+@Tag(BenchmarkUtil.TAG)
+public class BinaryAddressBookStorageBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final int RUNS = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAndRead_formats() throws Exception {
+        List<Contact> contacts = new ArrayList<>(getOrganizationsWithApplications(SIZE));
+        AddressBook addressBook = new AddressBook();
+        addressBook.setContacts(contacts);
+
+        Map<String, AddressBookStorage> storages = new LinkedHashMap<>();
+        storages.put("pretty JSON", new JsonAddressBookStorage(testFolder.resolve("pretty.json")));
+        storages.put("compact JSON", new JsonAddressBookStorage(testFolder.resolve("compact.json"), true));
+        storages.put("binary", new BinaryAddressBookStorage(testFolder.resolve("jobby.json")));
+
+        report("%,d organizations with 2 applications each, best of %d:", SIZE, RUNS);
+        for (Map.Entry<String, AddressBookStorage> entry : storages.entrySet()) {
+            AddressBookStorage storage = entry.getValue();
+            // Warm up, and check the format keeps every contact.
+            storage.saveAddressBook(addressBook);
+            assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+
+            double saveMillis = bestMillis(RUNS, () -> storage.saveAddressBook(addressBook));
+            double readMillis = bestMillis(RUNS, () -> storage.readAddressBook());
+            report("  %-13s save %,6.0f ms, load %,6.0f ms, %5.1f MB", entry.getKey() + ":", saveMillis,
+                    readMillis, Files.size(storage.getAddressBookFilePath()) / 1e6);
+        }
+
+        double setContactsMillis = bestMillis(RUNS, () -> new AddressBook().setContacts(contacts));
+        report("  building the address book from the decoded contacts, part of every load, takes %,.0f ms",
+                setContactsMillis);
+    }
+}
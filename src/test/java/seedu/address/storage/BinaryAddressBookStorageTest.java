@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.IDA;
+import static seedu.address.testutil.TypicalContacts.SMU;
+import static seedu.address.testutil.TypicalContacts.TIKTOK;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_jsonFilePath_dataFileNextToIt() {
+        assertEquals(testFolder.resolve("jobby.bin"),
+                new BinaryAddressBookStorage(testFolder.resolve("jobby.json")).getAddressBookFilePath());
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("jobby.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("jobby.json"));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, read(storage));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addContact(TIKTOK);
+        original.removeContact(SMU);
+        original.addContact(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, read(storage));
+        assertFalse(Files.exists(testFolder.resolve("jobby.json")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_recruiterBeforeOrganization_keepsOrder() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("jobby.json"));
+        AddressBook original = new AddressBook();
+        original.setContacts(List.of(IDA, TIKTOK));
+        storage.saveAddressBook(original);
+        assertEquals(original, read(storage));
+    }
+
+    @Test
+    public void read_noDataFile_importsJsonFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("jobby.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(jsonFilePath);
+        assertEquals(getTypicalAddressBook(), read(storage));
+
+        // Once the data file is written, the json file is no longer read.
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), read(storage));
+    }
+
+    @Test
+    public void saveAndRead_otherFile_usesJson() throws Exception {
+        Path otherFilePath = testFolder.resolve("export.json");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("jobby.json"));
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void save_typicalAddressBook_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("jobby.json");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(jsonFilePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath, true).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(storage.getAddressBookFilePath()) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void read_corruptedFile_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("jobby.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(storage.getAddressBookFilePath());
+        content[content.length / 2] ^= 1;
+        Files.write(storage.getAddressBookFilePath(), content);
+
+        assertReadFails(storage, BinaryAddressBookFormat.MESSAGE_CHECKSUM_MISMATCH);
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("jobby.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(storage.getAddressBookFilePath());
+        Files.write(storage.getAddressBookFilePath(), Arrays.copyOf(content, content.length - 1));
+
+        assertReadFails(storage, BinaryAddressBookFormat.MESSAGE_CHECKSUM_MISMATCH);
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("jobby.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(storage.getAddressBookFilePath());
+        ByteBuffer.wrap(content).putInt(Integer.BYTES, BinaryAddressBookFormat.VERSION + 1);
+        Files.write(storage.getAddressBookFilePath(), content);
+
+        assertReadFails(storage, String.format(BinaryAddressBookFormat.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookFormat.VERSION + 1));
+    }
+
+    @Test
+    public void read_jsonInDataFile_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("jobby.json"));
+        new JsonAddressBookStorage(testFolder.resolve("jobby.json")).saveAddressBook(getTypicalAddressBook(),
+                storage.getAddressBookFilePath());
+
+        assertReadFails(storage, BinaryAddressBookFormat.MESSAGE_NOT_BINARY);
+    }
+
+    private static AddressBook read(BinaryAddressBookStorage storage) throws Exception {
+        return new AddressBook(storage.readAddressBook().get());
+    }
+
+    private static void assertReadFails(BinaryAddressBookStorage storage, String expectedMessage) throws Exception {
+        byte[] content = Files.readAllBytes(storage.getAddressBookFilePath());
+        assertThrows(IllegalValueException.class, expectedMessage, () -> BinaryAddressBookFormat.read(content));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+}
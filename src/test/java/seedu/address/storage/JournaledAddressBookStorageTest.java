@@ -0,0 +1,274 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.IDA;
+import static seedu.address.testutil.TypicalContacts.NTU;
+import static seedu.address.testutil.TypicalContacts.REX;
+import static seedu.address.testutil.TypicalContacts.RICHARD;
+import static seedu.address.testutil.TypicalContacts.RYAN;
+import static seedu.address.testutil.TypicalContacts.SMU;
+import static seedu.address.testutil.TypicalContacts.TIKTOK;
+import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactListSnapshot;
+import seedu.address.model.contact.Recruiter;
+import seedu.address.testutil.OrganizationBuilder;
+import seedu.address.testutil.RecruiterBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_plainJsonFile_success() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), read(filePath));
+    }
+
+    @Test
+    public void save_changes_appendsToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        addressBook.addContact(TIKTOK);
+        addressBook.addContact(IDA);
+        addressBook.removeContact(SMU);
+        addressBook.setContact(NTU, new OrganizationBuilder(NTU).withPhone("12345678").build());
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, read(filePath));
+    }
+
+    @Test
+    public void save_contactsSwapPositions_replaysAsOneRecord() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // Trade the ids of two contacts, so that each id takes over the position of the other within one save.
+        Recruiter ryanMoved = new RecruiterBuilder(RYAN).withId("temporary").build();
+        Recruiter richardMoved = new RecruiterBuilder(RICHARD).withId(RYAN.getId().value).build();
+        addressBook.setContact(RYAN, ryanMoved);
+        addressBook.setContact(RICHARD, richardMoved);
+        addressBook.setContact(ryanMoved, new RecruiterBuilder(RYAN).withId(RICHARD.getId().value).build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, read(filePath));
+    }
+
+    @Test
+    public void save_sortedThenEdited_keepsOrder() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        List<Contact> sorted = new ArrayList<>(addressBook.getContactList());
+        sorted.sort(Comparator.comparing(contact -> contact.getName().fullName, Comparator.reverseOrder()));
+        addressBook.setContacts(sorted);
+        storage.saveAddressBook(addressBook);
+        addressBook.setContact(NTU, new OrganizationBuilder(NTU).withPhone("12345678").build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, read(filePath));
+    }
+
+    @Test
+    public void save_noChanges_writesNothing() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long journalSize = Files.size(storage.getJournalFilePath());
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(journalSize, Files.size(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void save_restoredContact_keepsPosition() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        ContactListSnapshot before = addressBook.snapshot();
+        addressBook.removeContact(NTU);
+        addressBook.removeContact(REX);
+        storage.saveAddressBook(addressBook);
+        addressBook.restore(before);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(getTypicalAddressBook(), read(filePath));
+    }
+
+    @Test
+    public void save_afterReadingJournal_foldsJournalFirst() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        addressBook.removeContact(SMU);
+        storage.saveAddressBook(addressBook);
+
+        // Continue from the data read, as the app does after restarting.
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(restartedStorage.readAddressBook().get());
+        readBack.addContact(TIKTOK);
+        restartedStorage.saveAddressBook(readBack);
+
+        assertEquals(2, Files.readAllLines(restartedStorage.getJournalFilePath()).size());
+        assertEquals(readBack, read(filePath));
+    }
+
+    @Test
+    public void close_journalWithChanges_foldsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removeContact(SMU);
+        storage.saveAddressBook(addressBook);
+
+        storage.close();
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void save_largeJournal_foldsInBackground() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        for (int i = 0; i < 1000; i++) {
+            addressBook.addContact(new OrganizationBuilder().withId("org-" + i).withName("Organization " + i).build());
+            storage.saveAddressBook(addressBook);
+        }
+
+        storage.close();
+        assertTrue(Files.size(storage.getJournalFilePath()) < Files.size(filePath));
+        assertEquals(addressBook, read(filePath));
+    }
+
+    @Test
+    public void read_snapshotChangedOutside_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removeContact(SMU);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook editedOutside = getTypicalAddressBook();
+        editedOutside.addContact(TIKTOK);
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        jsonStorage.saveAddressBook(editedOutside);
+        assertEquals(new AddressBook(jsonStorage.readAddressBook().get()), read(filePath));
+    }
+
+    @Test
+    public void read_incompleteLastRecord_dropsRecord() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removeContact(SMU);
+        storage.saveAddressBook(addressBook);
+
+        Files.write(storage.getJournalFilePath(), "{\"puts\":[{\"sequence\":7,\"cont".getBytes(UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(addressBook, read(filePath));
+    }
+
+    @Test
+    public void read_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.write(storage.getJournalFilePath(), "{\"puts\":[{\"sequence\":7}]}\n".getBytes(UTF_8),
+                StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> read(filePath));
+    }
+
+    @Test
+    public void read_foldInterruptedAfterSnapshotMoved_replaysNewJournal() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removeContact(SMU);
+        storage.saveAddressBook(addressBook);
+        List<String> oldJournal = Files.readAllLines(storage.getJournalFilePath());
+
+        storage.close();
+        addressBook.addContact(TIKTOK);
+        storage.saveAddressBook(addressBook);
+
+        // The new snapshot was moved into place, but the journal of the old one was not yet replaced.
+        Path journalPath = storage.getJournalFilePath();
+        Files.move(journalPath, journalPath.resolveSibling("jobby.json.journal.new"));
+        Files.write(journalPath, oldJournal);
+        assertEquals(addressBook, read(filePath));
+    }
+
+    @Test
+    public void saveAndRead_otherFile_usesPlainJson() throws Exception {
+        Path filePath = testFolder.resolve("jobby.json");
+        Path otherFilePath = testFolder.resolve("export.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void journalHeader_sequences_keptAsRuns() throws Exception {
+        long[] sequences = {0, 1, 2, 5, 6, 9};
+        JsonJournalHeader header = new JsonJournalHeader(42, sequences);
+        assertEquals(42, header.getSnapshotChecksum());
+        assertTrue(Arrays.equals(sequences, header.getSequences()));
+    }
+
+    private static AddressBook read(Path filePath) throws Exception {
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        return new AddressBook(readBack);
+    }
+}
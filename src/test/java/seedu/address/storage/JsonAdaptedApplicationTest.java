@@ -8,7 +8,6 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.contact.Id;
-import seedu.address.model.contact.Name;
 import seedu.address.model.jobapplication.ApplicationStage;
 import seedu.address.model.jobapplication.Deadline;
 import seedu.address.model.jobapplication.JobApplication;
@@ -20,7 +19,6 @@ import seedu.address.model.jobapplication.LastUpdatedTime;
 class JsonAdaptedApplicationTest {
 
     private static final String INVALID_OID = "    ";
-    private static final String INVALID_ORG_NAME = " extra whitespace? ";
     private static final String INVALID_TITLE = " ";
     private static final String INVALID_DESCRIPTION = "    ";
     private static final String INVALID_DEADLINE = "22-22-2222";
@@ -29,7 +27,6 @@ class JsonAdaptedApplicationTest {
     private static final String INVALID_UPDATED_TIME = "abcde";
 
     private static final String VALID_OID = "a1_234a";
-    private static final String VALID_ORG_NAME = "Google";
     private static final String VALID_TITLE = "SWE";
     private static final String VALID_DESCRIPTION = "Pay: $100";
     private static final String VALID_DEADLINE = "22-11-2022";
@@ -44,42 +41,41 @@ class JsonAdaptedApplicationTest {
         JsonAdaptedApplication application1 = new JsonAdaptedApplication(VALID_TITLE, VALID_DESCRIPTION,
                 VALID_UPDATED_TIME, VALID_DEADLINE, VALID_STATUS, VALID_STAGE
         );
-        assertThrows(IllegalValueException.class, Id.MESSAGE_CONSTRAINTS, () -> application1.toModelType(INVALID_OID,
-                VALID_ORG_NAME));
+        assertThrows(IllegalValueException.class, Id.MESSAGE_CONSTRAINTS, () -> application1.toModelType(INVALID_OID));
         // invalid title
         JsonAdaptedApplication application2 = new JsonAdaptedApplication(INVALID_TITLE, VALID_DESCRIPTION,
                 VALID_UPDATED_TIME, VALID_DEADLINE, VALID_STATUS, VALID_STAGE
         );
         assertThrows(IllegalValueException.class,
-                JobTitle.MESSAGE_CONSTRAINTS, () -> application2.toModelType(VALID_OID, VALID_ORG_NAME));
+                JobTitle.MESSAGE_CONSTRAINTS, () -> application2.toModelType(VALID_OID));
 
         // invalid description
         JsonAdaptedApplication application3 = new JsonAdaptedApplication(VALID_TITLE, INVALID_DESCRIPTION,
                 VALID_UPDATED_TIME, VALID_DEADLINE, VALID_STATUS, VALID_STAGE
         );
         assertThrows(IllegalValueException.class,
-                JobDescription.MESSAGE_CONSTRAINTS, () -> application3.toModelType(VALID_OID, VALID_ORG_NAME));
+                JobDescription.MESSAGE_CONSTRAINTS, () -> application3.toModelType(VALID_OID));
 
         // invalid last update time, special cuz this one doesn't have a planned err msg yet.
         // TODO: make err msg. Low priority since the last updated time can only be directly edited in the json.
         JsonAdaptedApplication application4 = new JsonAdaptedApplication(VALID_TITLE, VALID_DESCRIPTION,
                 INVALID_UPDATED_TIME, VALID_DEADLINE, VALID_STATUS, VALID_STAGE
         );
-        assertThrows(IllegalValueException.class, () -> application4.toModelType(VALID_OID, VALID_ORG_NAME));
+        assertThrows(IllegalValueException.class, () -> application4.toModelType(VALID_OID));
 
         // invalid deadline
         JsonAdaptedApplication application5 = new JsonAdaptedApplication(VALID_TITLE, VALID_DESCRIPTION,
                 VALID_UPDATED_TIME, INVALID_DEADLINE, VALID_STATUS, VALID_STAGE
         );
         assertThrows(IllegalValueException.class,
-                Deadline.MESSAGE_CONSTRAINTS, () -> application5.toModelType(VALID_OID, VALID_ORG_NAME));
+                Deadline.MESSAGE_CONSTRAINTS, () -> application5.toModelType(VALID_OID));
 
         // invalid status
         JsonAdaptedApplication application6 = new JsonAdaptedApplication(VALID_TITLE, VALID_DESCRIPTION,
                 VALID_UPDATED_TIME, VALID_DEADLINE, INVALID_STATUS, VALID_STAGE
         );
         assertThrows(IllegalValueException.class,
-                JobStatus.MESSAGE_CONSTRAINTS, () -> application6.toModelType(VALID_OID, VALID_ORG_NAME));
+                JobStatus.MESSAGE_CONSTRAINTS, () -> application6.toModelType(VALID_OID));
 
         // invalid stage
         JsonAdaptedApplication application7 = new JsonAdaptedApplication(VALID_TITLE, VALID_DESCRIPTION,
@@ -87,16 +83,7 @@ class JsonAdaptedApplicationTest {
         );
         assertThrows(
                 IllegalValueException.class,
-                ApplicationStage.MESSAGE_CONSTRAINTS, () -> application7.toModelType(VALID_OID, VALID_ORG_NAME)
-        );
-
-        // invalid organization name
-        JsonAdaptedApplication application8 = new JsonAdaptedApplication(VALID_TITLE, VALID_DESCRIPTION,
-                VALID_UPDATED_TIME, VALID_DEADLINE, VALID_STATUS, VALID_STAGE
-        );
-        assertThrows(
-                IllegalValueException.class,
-                Name.MESSAGE_CONSTRAINTS, () -> application8.toModelType(VALID_OID, INVALID_ORG_NAME)
+                ApplicationStage.MESSAGE_CONSTRAINTS, () -> application7.toModelType(VALID_OID)
         );
     }
 
@@ -119,9 +106,9 @@ class JsonAdaptedApplicationTest {
                 VALID_DESCRIPTION,
                 VALID_UPDATED_TIME, VALID_DEADLINE, VALID_STATUS, VALID_STAGE
         );
-        assertDoesNotThrow(() -> application1.toModelType(VALID_OID, VALID_ORG_NAME));
-        assertDoesNotThrow(() -> application2.toModelType(VALID_OID, VALID_ORG_NAME));
-        assertDoesNotThrow(() -> application2.toModelType(VALID_OID, VALID_ORG_NAME));
+        assertDoesNotThrow(() -> application1.toModelType(VALID_OID));
+        assertDoesNotThrow(() -> application2.toModelType(VALID_OID));
+        assertDoesNotThrow(() -> application2.toModelType(VALID_OID));
 
     }
 
@@ -129,7 +116,6 @@ class JsonAdaptedApplicationTest {
     public void toModelType_contactGiven_ableToConvertBackToSameContact() throws Exception {
         JobApplication jobApplication = new JobApplication(
                 new Id(VALID_OID),
-                new Name(VALID_ORG_NAME),
                 new JobTitle(VALID_TITLE),
                 new JobDescription(VALID_DESCRIPTION),
                 new Deadline(VALID_DEADLINE),
@@ -140,7 +126,6 @@ class JsonAdaptedApplicationTest {
 
         JsonAdaptedApplication jsonAdaptedApplication = new JsonAdaptedApplication(jobApplication);
 
-        assertEquals(jobApplication, jsonAdaptedApplication.toModelType(jobApplication.getOrganizationId().value,
-                jobApplication.getOrgName().fullName));
+        assertEquals(jobApplication, jsonAdaptedApplication.toModelType(jobApplication.getOrganizationId().value));
     }
 }
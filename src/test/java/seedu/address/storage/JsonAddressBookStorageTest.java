@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalContacts.TIKTOK;
 import static seedu.address.testutil.TypicalContacts.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
@@ -91,6 +92,16 @@ public class JsonAddressBookStorageTest {
         assertEquals(original, new AddressBook(readBack));
     }
 
+    @Test
+    public void readAndSaveAddressBook_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
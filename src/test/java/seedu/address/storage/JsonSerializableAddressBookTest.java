@@ -1,16 +1,27 @@
 package seedu.address.storage;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.contact.Contact;
 import seedu.address.testutil.TypicalContacts;
 
 public class JsonSerializableAddressBookTest {
@@ -57,4 +68,68 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void read_typicalContactsFile_success() throws Exception {
+        assertEquals(TypicalContacts.getTypicalAddressBook(), read(Files.readAllBytes(TYPICAL_PERSONS_FILE)));
+    }
+
+    @Test
+    public void read_invalidContactFile_throwsIllegalValueException() throws Exception {
+        byte[] data = Files.readAllBytes(INVALID_PERSON_FILE);
+        assertThrows(IllegalValueException.class, () -> read(data));
+    }
+
+    @Test
+    public void read_duplicateContacts_throwsIllegalValueException() throws Exception {
+        byte[] organizations = Files.readAllBytes(DUPLICATE_ORGANIZATION_FILE);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT, () ->
+                read(organizations));
+        byte[] recruiters = Files.readAllBytes(DUPLICATE_RECRUITERS_FILE);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT, () ->
+                read(recruiters));
+    }
+
+    @Test
+    public void read_noContactsList_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_INVALID_STRUCTURE, () ->
+                read("{\"persons\": []}".getBytes(UTF_8)));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_INVALID_STRUCTURE, () ->
+                read("[]".getBytes(UTF_8)));
+    }
+
+    @Test
+    public void read_recruitersBeforeOrganizations_keepsOrder() throws Exception {
+        List<JsonAdaptedContact> contacts = new ArrayList<>();
+        for (Contact contact : TypicalContacts.getTypicalContacts()) {
+            contacts.add(new JsonAdaptedContact(contact));
+        }
+        Collections.reverse(contacts);
+        JsonSerializableAddressBook reversed = new JsonSerializableAddressBook(contacts);
+
+        assertEquals(reversed.toModelType(), read(JsonUtil.toJsonString(reversed).getBytes(UTF_8)));
+    }
+
+    @Test
+    public void write_typicalContacts_sameAsDataBinding() throws Exception {
+        AddressBook addressBook = TypicalContacts.getTypicalAddressBook();
+        JsonSerializableAddressBook dataBound = new JsonSerializableAddressBook(addressBook);
+
+        assertEquals(JsonUtil.toJsonString(dataBound), write(addressBook, false));
+        assertEquals(JsonUtil.toCompactJsonString(dataBound), write(addressBook, true));
+    }
+
+    private static AddressBook read(byte[] data) throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(data))) {
+            return JsonSerializableAddressBook.read(parser);
+        }
+    }
+
+    private static String write(AddressBook addressBook, boolean isCompact) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            JsonSerializableAddressBook.write(addressBook, generator);
+        }
+        return out.toString(UTF_8.name());
+    }
+
 }
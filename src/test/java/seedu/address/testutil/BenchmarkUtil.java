@@ -0,0 +1,87 @@
+package seedu.address.testutil;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.contact.Address;
+import seedu.address.model.contact.Email;
+import seedu.address.model.contact.Id;
+import seedu.address.model.contact.Name;
+import seedu.address.model.contact.Organization;
+import seedu.address.model.contact.Phone;
+import seedu.address.model.contact.Url;
+import seedu.address.model.jobapplication.ApplicationStage;
+import seedu.address.model.jobapplication.Deadline;
+import seedu.address.model.jobapplication.JobApplication;
+import seedu.address.model.jobapplication.JobDescription;
+import seedu.address.model.jobapplication.JobStatus;
+import seedu.address.model.jobapplication.JobTitle;
+import seedu.address.model.jobapplication.LastUpdatedTime;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A utility class for benchmarks. Benchmarks are tagged with {@link #TAG}, which the default test task excludes;
+ * run them with {@code gradlew benchmark}.
+ */
+public class BenchmarkUtil {
+
+    public static final String TAG = "benchmark";
+
+    /** The number of distinct tags given to the generated organizations. */
+    public static final int TAG_COUNT = 30;
+
+    /**
+     * Work timed by a benchmark.
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    /**
+     * Runs {@code task} {@code runs} times and returns the shortest time it took, in milliseconds.
+     */
+    public static double bestMillis(int runs, Task task) throws Exception {
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            task.run();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+        return bestNanos / 1e6;
+    }
+
+    /**
+     * Prints a line of measurements, formatted as by {@link String#format}.
+     */
+    public static void report(String format, Object... args) {
+        System.out.println(String.format(format, args));
+    }
+
+    /**
+     * Returns {@code count} organizations with every field filled, each tagged with one of {@link #TAG_COUNT} tags
+     * and holding two applications of varied statuses and stages.
+     */
+    public static List<Organization> getOrganizationsWithApplications(int count) {
+        List<Organization> organizations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Id id = new Id("org-" + i);
+            List<JobApplication> applications = List.of(
+                    new JobApplication(id, new JobTitle("Engineer " + i), new JobDescription("Backend role"),
+                            new Deadline(LocalDate.of(2026, 1 + i % 12, 1 + i % 28)),
+                            JobStatus.values()[i % JobStatus.values().length],
+                            ApplicationStage.values()[i % ApplicationStage.values().length],
+                            new LastUpdatedTime(LocalDateTime.of(2026, 3, 1, 10, i % 60))),
+                    new JobApplication(id, new JobTitle("Analyst " + i), null,
+                            new Deadline(LocalDate.of(2026, 6, 1)), JobStatus.PENDING, ApplicationStage.RESUME,
+                            new LastUpdatedTime(LocalDateTime.of(2026, 3, 2, 9, 0))));
+            organizations.add(new Organization(new Name("Organization " + i), id, new Phone("6" + (1000000 + i)),
+                    new Email("org" + i + "@example.com"), new Url("www.org" + i + ".com"),
+                    new Address(i + " Main St"), Set.of(new Tag("tag" + i % TAG_COUNT)), applications));
+        }
+        return organizations;
+    }
+}
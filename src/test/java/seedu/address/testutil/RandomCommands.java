@@ -0,0 +1,67 @@
+package seedu.address.testutil;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AppParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.jobapplication.ApplicationStage;
+import seedu.address.model.jobapplication.JobStatus;
+
+/**
+ * A utility class to run random sequences of commands that add, edit and delete organizations and applications.
+ */
+public class RandomCommands {
+
+    private static final String[] TAGS = {"fintech", "bigtech", "startup"};
+
+    /**
+     * Runs {@code count} random commands on {@code model}, calling {@code check} with the text of each command
+     * after it is run. Invalid commands, e.g. applying to an organization that was deleted, are run too.
+     */
+    public static void run(Model model, long seed, int count, Consumer<String> check) {
+        AppParser parser = new AppParser();
+        Random random = new Random(seed);
+        for (int i = 0; i < count; i++) {
+            String commandText = randomCommandText(random);
+            try {
+                parser.parseCommand(commandText).execute(model);
+            } catch (ParseException | CommandException e) {
+                // Invalid commands are expected.
+            }
+            check.accept(commandText);
+        }
+    }
+
+    private static String randomCommandText(Random random) {
+        String orgId = "org-" + random.nextInt(6);
+        String tag = TAGS[random.nextInt(TAGS.length)];
+        String stage = ApplicationStage.values()[random.nextInt(ApplicationStage.values().length)].toString();
+        String status = JobStatus.values()[random.nextInt(JobStatus.values().length)].toString();
+        int applicationIndex = 1 + random.nextInt(8);
+
+        switch (random.nextInt(9)) {
+        case 0:
+            return "add --org --name Org --id " + orgId + " --tag " + tag;
+        case 1:
+            return "delete " + orgId + " --recursive";
+        case 2:
+            return "edit " + orgId + " --tag " + tag;
+        case 3:
+            return "edit " + orgId + " --id org-" + random.nextInt(6);
+        case 4:
+            return "edit --application " + applicationIndex + " --stage " + stage + " --status " + status;
+        case 5:
+            return "edit --application " + applicationIndex + " --title Job" + random.nextInt(4);
+        case 6:
+            return "delete --application " + applicationIndex;
+        case 7:
+            return random.nextInt(10) == 0 ? "clear" : "list";
+        default:
+            return "apply " + orgId + " --title Job" + random.nextInt(4) + " --stage " + stage
+                    + " --status " + status;
+        }
+    }
+}
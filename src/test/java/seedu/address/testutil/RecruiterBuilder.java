@@ -2,6 +2,7 @@ package seedu.address.testutil;
 
 import static seedu.address.testutil.TypicalContacts.NUS;
 
+import seedu.address.model.contact.Id;
 import seedu.address.model.contact.Organization;
 import seedu.address.model.contact.Recruiter;
 
@@ -12,14 +13,14 @@ public class RecruiterBuilder extends ContactBuilder {
 
     public static final Organization DEFAULT_ORGANIZATION = NUS;
 
-    private Organization organization;
+    private Id organizationId;
 
     /**
      * Creates a {@code RecruiterBuilder} with the default details.
      */
     public RecruiterBuilder() {
         super();
-        this.organization = DEFAULT_ORGANIZATION;
+        this.organizationId = DEFAULT_ORGANIZATION.getId();
     }
 
     /**
@@ -27,7 +28,7 @@ public class RecruiterBuilder extends ContactBuilder {
      */
     public RecruiterBuilder(Recruiter recruiterToCopy) {
         super(recruiterToCopy);
-        this.organization = recruiterToCopy.getOrganization().orElse(null);
+        this.organizationId = recruiterToCopy.getOrganizationId().orElse(null);
     }
 
     @Override
@@ -69,12 +70,12 @@ public class RecruiterBuilder extends ContactBuilder {
      * Sets the {@code organization} of the {@code Recruiter} that we are building.
      */
     public RecruiterBuilder withOrganization(Organization organization) {
-        this.organization = organization;
+        this.organizationId = organization == null ? null : organization.getId();
         return this;
     }
 
     @Override
     public Recruiter build() {
-        return new Recruiter(name, id, phone, email, url, address, tags, organization);
+        return new Recruiter(name, id, phone, email, url, address, tags, organizationId);
     }
 }